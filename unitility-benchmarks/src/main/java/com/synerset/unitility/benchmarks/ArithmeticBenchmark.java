@@ -0,0 +1,121 @@
+package com.synerset.unitility.benchmarks;
+
+import com.synerset.unitility.unitsystem.common.Distance;
+import com.synerset.unitility.unitsystem.geographic.Latitude;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures arithmetic and comparison on quantities expressed in different units:
+ * {@code CalculableQuantity.plus/minus(PhysicalQuantity)} and {@code PhysicalQuantity.compareTo}, and rounding with
+ * {@code CalculableQuantity.roundHalfEven(int)}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArithmeticBenchmark {
+
+    private Temperature temperatureInCelsius;
+    private Temperature temperatureInFahrenheit;
+    private Pressure pressureInKiloPascals;
+    private Pressure pressureInBars;
+    private Distance distanceInKilometers;
+    private Distance distanceInMiles;
+    private Latitude latitudeInDegrees;
+    private Latitude latitudeInRadians;
+
+    @Setup
+    public void setUp() {
+        temperatureInCelsius = Temperature.ofCelsius(21.5);
+        temperatureInFahrenheit = Temperature.ofFahrenheit(68.3);
+        pressureInKiloPascals = Pressure.ofKiloPascal(101.325);
+        pressureInBars = Pressure.ofBar(0.98);
+        distanceInKilometers = Distance.ofKilometers(12.75);
+        distanceInMiles = Distance.ofMiles(7.1);
+        latitudeInDegrees = Latitude.ofDegrees(52.2297);
+        latitudeInRadians = Latitude.ofRadians(0.9);
+    }
+
+    // plus / minus
+
+    @Benchmark
+    public Temperature temperaturePlus() {
+        return temperatureInCelsius.plus(temperatureInFahrenheit);
+    }
+
+    @Benchmark
+    public Temperature temperatureMinus() {
+        return temperatureInCelsius.minus(temperatureInFahrenheit);
+    }
+
+    @Benchmark
+    public Pressure pressurePlus() {
+        return pressureInKiloPascals.plus(pressureInBars);
+    }
+
+    @Benchmark
+    public Pressure pressureMinus() {
+        return pressureInKiloPascals.minus(pressureInBars);
+    }
+
+    @Benchmark
+    public Distance distancePlus() {
+        return distanceInKilometers.plus(distanceInMiles);
+    }
+
+    @Benchmark
+    public Distance distanceMinus() {
+        return distanceInKilometers.minus(distanceInMiles);
+    }
+
+    @Benchmark
+    public Latitude latitudePlus() {
+        return latitudeInDegrees.plus(latitudeInRadians);
+    }
+
+    @Benchmark
+    public Latitude latitudeMinus() {
+        return latitudeInDegrees.minus(latitudeInRadians);
+    }
+
+    // compareTo
+
+    @Benchmark
+    public int temperatureCompareTo() {
+        return temperatureInCelsius.compareTo(temperatureInFahrenheit);
+    }
+
+    @Benchmark
+    public int pressureCompareTo() {
+        return pressureInKiloPascals.compareTo(pressureInBars);
+    }
+
+    @Benchmark
+    public int distanceCompareTo() {
+        return distanceInKilometers.compareTo(distanceInMiles);
+    }
+
+    @Benchmark
+    public int latitudeCompareTo() {
+        return latitudeInDegrees.compareTo(latitudeInRadians);
+    }
+
+    // rounding
+
+    @Benchmark
+    public Temperature temperatureRoundHalfEven() {
+        return temperatureInFahrenheit.roundHalfEven(3);
+    }
+
+    @Benchmark
+    public Distance distanceRoundHalfEven() {
+        return distanceInMiles.roundHalfEven(3);
+    }
+
+}
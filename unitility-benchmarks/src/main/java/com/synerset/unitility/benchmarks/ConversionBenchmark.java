@@ -0,0 +1,121 @@
+package com.synerset.unitility.benchmarks;
+
+import com.synerset.unitility.unitsystem.UnitConverter;
+import com.synerset.unitility.unitsystem.common.AngleUnits;
+import com.synerset.unitility.unitsystem.common.Distance;
+import com.synerset.unitility.unitsystem.common.DistanceUnits;
+import com.synerset.unitility.unitsystem.geographic.Latitude;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.PressureUnits;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import com.synerset.unitility.unitsystem.thermodynamic.TemperatureUnit;
+import com.synerset.unitility.unitsystem.thermodynamic.TemperatureUnits;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures unit conversion paths: {@code PhysicalQuantity.toUnit}, {@code PhysicalQuantity.getInUnit} and
+ * precomputed {@link UnitConverter} for single values and bulk arrays.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConversionBenchmark {
+
+    private Temperature temperature;
+    private Pressure pressure;
+    private Distance distance;
+    private Latitude latitude;
+
+    @Param({"1024"})
+    private int arraySize;
+
+    private UnitConverter<TemperatureUnit> celsiusToFahrenheit;
+    private double[] valuesInCelsius;
+    private double[] valuesInFahrenheit;
+
+    @Setup
+    public void setUp() {
+        temperature = Temperature.ofCelsius(21.5);
+        pressure = Pressure.ofKiloPascal(101.325);
+        distance = Distance.ofKilometers(12.75);
+        latitude = Latitude.ofDegrees(52.2297);
+
+        celsiusToFahrenheit = TemperatureUnits.CELSIUS.converterTo(TemperatureUnits.FAHRENHEIT);
+        valuesInCelsius = new double[arraySize];
+        valuesInFahrenheit = new double[arraySize];
+        for (int i = 0; i < arraySize; i++) {
+            valuesInCelsius[i] = -20.0 + i * 0.05;
+        }
+    }
+
+    // toUnit
+
+    @Benchmark
+    public Temperature temperatureToUnit() {
+        return temperature.toUnit(TemperatureUnits.FAHRENHEIT);
+    }
+
+    @Benchmark
+    public Pressure pressureToUnit() {
+        return pressure.toUnit(PressureUnits.PSI);
+    }
+
+    @Benchmark
+    public Distance distanceToUnit() {
+        return distance.toUnit(DistanceUnits.MILE);
+    }
+
+    @Benchmark
+    public Latitude latitudeToUnit() {
+        return latitude.toUnit(AngleUnits.RADIANS);
+    }
+
+    // getInUnit
+
+    @Benchmark
+    public double temperatureGetInUnit() {
+        return temperature.getInUnit(TemperatureUnits.FAHRENHEIT);
+    }
+
+    @Benchmark
+    public double pressureGetInUnit() {
+        return pressure.getInUnit(PressureUnits.PSI);
+    }
+
+    @Benchmark
+    public double distanceGetInUnit() {
+        return distance.getInUnit(DistanceUnits.MILE);
+    }
+
+    @Benchmark
+    public double latitudeGetInUnit() {
+        return latitude.getInUnit(AngleUnits.RADIANS);
+    }
+
+    // UnitConverter
+
+    @Benchmark
+    public double temperatureConverterSingleValue() {
+        return celsiusToFahrenheit.convert(temperature.getValue());
+    }
+
+    @Benchmark
+    public double[] temperatureConverterArray() {
+        celsiusToFahrenheit.convert(valuesInCelsius, 0, valuesInFahrenheit, 0, arraySize);
+        return valuesInFahrenheit;
+    }
+
+    @Benchmark
+    public double[] temperatureToUnitArrayBaseline() {
+        for (int i = 0; i < arraySize; i++) {
+            valuesInFahrenheit[i] = Temperature.ofCelsius(valuesInCelsius[i]).getInFahrenheits();
+        }
+        return valuesInFahrenheit;
+    }
+
+}
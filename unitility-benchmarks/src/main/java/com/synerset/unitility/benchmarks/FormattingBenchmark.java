@@ -0,0 +1,72 @@
+package com.synerset.unitility.benchmarks;
+
+import com.synerset.unitility.unitsystem.common.Distance;
+import com.synerset.unitility.unitsystem.geographic.Latitude;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures console output formatting: {@code PhysicalQuantity.toEngineeringFormat(int)} and appending to a reused
+ * buffer with {@code PhysicalQuantity.appendTo(StringBuilder, int)}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FormattingBenchmark {
+
+    @Param({"3"})
+    private int relevantDigits;
+
+    private Temperature temperature;
+    private Pressure pressure;
+    private Distance distance;
+    private Latitude latitude;
+    private final StringBuilder buffer = new StringBuilder(64);
+
+    @Setup
+    public void setUp() {
+        temperature = Temperature.ofCelsius(21.123456789);
+        pressure = Pressure.ofPascal(101325.987654);
+        distance = Distance.ofKilometers(0.000123456);
+        latitude = Latitude.ofDegrees(52.229676);
+    }
+
+    @Benchmark
+    public String temperatureToEngineeringFormat() {
+        return temperature.toEngineeringFormat(relevantDigits);
+    }
+
+    @Benchmark
+    public String pressureToEngineeringFormat() {
+        return pressure.toEngineeringFormat(relevantDigits);
+    }
+
+    @Benchmark
+    public String distanceToEngineeringFormat() {
+        return distance.toEngineeringFormat(relevantDigits);
+    }
+
+    @Benchmark
+    public String latitudeToEngineeringFormat() {
+        return latitude.toEngineeringFormat(relevantDigits);
+    }
+
+    @Benchmark
+    public StringBuilder temperatureAppendTo() {
+        buffer.setLength(0);
+        return temperature.appendTo(buffer, relevantDigits);
+    }
+
+    @Benchmark
+    public StringBuilder latitudeAppendDMSFormat() {
+        buffer.setLength(0);
+        return latitude.appendDMSFormat(buffer, relevantDigits);
+    }
+
+}
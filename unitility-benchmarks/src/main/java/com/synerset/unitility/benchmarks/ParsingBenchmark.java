@@ -0,0 +1,208 @@
+package com.synerset.unitility.benchmarks;
+
+import com.synerset.unitility.unitsystem.common.AngleUnit;
+import com.synerset.unitility.unitsystem.common.AngleUnits;
+import com.synerset.unitility.unitsystem.common.Distance;
+import com.synerset.unitility.unitsystem.common.DistanceUnit;
+import com.synerset.unitility.unitsystem.common.DistanceUnits;
+import com.synerset.unitility.unitsystem.geographic.Latitude;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.PressureUnit;
+import com.synerset.unitility.unitsystem.thermodynamic.PressureUnits;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import com.synerset.unitility.unitsystem.thermodynamic.TemperatureUnit;
+import com.synerset.unitility.unitsystem.thermodynamic.TemperatureUnits;
+import com.synerset.unitility.unitsystem.PhysicalQuantity;
+import com.synerset.unitility.unitsystem.exceptions.UnitSystemParseException;
+import com.synerset.unitility.unitsystem.util.BulkParseResult;
+import com.synerset.unitility.unitsystem.util.ParseResult;
+import com.synerset.unitility.unitsystem.util.PhysicalQuantityBinaryCodec;
+import com.synerset.unitility.unitsystem.util.PhysicalQuantityParsingFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing paths: {@code PhysicalQuantityAbstractParsingFactory.parse} (including DMS notation for
+ * {@link Latitude}), symbol resolution through {@code XxxUnits.fromSymbol}, rejection of malformed input with and
+ * without exceptions, bulk parsing of a column of strings and binary decoding with {@link PhysicalQuantityBinaryCodec}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParsingBenchmark {
+
+    private PhysicalQuantityParsingFactory parsingFactory;
+
+    private String temperatureAsString;
+    private String pressureAsString;
+    private String distanceAsString;
+    private String latitudeAsString;
+    private String latitudeInDmsFormat;
+    private String plainValueAsString;
+    private String malformedPressureAsString;
+    private ByteBuffer pressureAsBytes;
+    private List<String> pressureColumn;
+
+    private String temperatureSymbol;
+    private String pressureSymbol;
+    private String distanceSymbol;
+    private String angleSymbol;
+
+    private PhysicalQuantityBinaryCodec binaryCodec;
+    private Temperature temperature;
+    private byte[] temperatureAsBytes;
+    private ByteBuffer binaryBuffer;
+
+    @Setup
+    public void setUp() {
+        parsingFactory = PhysicalQuantityParsingFactory.getDefaultParsingFactory();
+
+        temperatureAsString = "20.5 °C";
+        pressureAsString = "101.325kPa";
+        distanceAsString = "1.2 km";
+        latitudeAsString = "52.2297°";
+        latitudeInDmsFormat = "52°14'5.123\"N";
+        plainValueAsString = "293.15";
+        malformedPressureAsString = "101.325 kPaa";
+        pressureAsBytes = ByteBuffer.wrap(pressureAsString.getBytes(StandardCharsets.UTF_8));
+        pressureColumn = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            pressureColumn.add(i % 100 == 0 ? malformedPressureAsString : i + ".25 kPa");
+        }
+
+        temperatureSymbol = "°F";
+        pressureSymbol = "psi";
+        distanceSymbol = "nmi";
+        angleSymbol = "deg";
+
+        binaryCodec = PhysicalQuantityBinaryCodec.getDefaultCodec();
+        temperature = Temperature.ofCelsius(20.5);
+        temperatureAsBytes = binaryCodec.encode(temperature);
+        binaryBuffer = ByteBuffer.allocate(PhysicalQuantityBinaryCodec.MAX_ENCODED_SIZE);
+    }
+
+    // parse
+
+    @Benchmark
+    public Temperature parseTemperature() {
+        return parsingFactory.parse(Temperature.class, temperatureAsString);
+    }
+
+    @Benchmark
+    public Temperature parseTemperatureWithDefaultUnit() {
+        return parsingFactory.parse(Temperature.class, plainValueAsString);
+    }
+
+    @Benchmark
+    public Temperature parseValueWithDefaultUnit() {
+        return parsingFactory.parseValueWithDefaultUnit(Temperature.class, 293.15);
+    }
+
+    @Benchmark
+    public Pressure parsePressure() {
+        return parsingFactory.parse(Pressure.class, pressureAsString);
+    }
+
+    @Benchmark
+    public Pressure parsePressureFromBytes() {
+        return parsingFactory.parse(Pressure.class, pressureAsBytes);
+    }
+
+    @Benchmark
+    public Distance parseDistance() {
+        return parsingFactory.parse(Distance.class, distanceAsString);
+    }
+
+    @Benchmark
+    public Latitude parseLatitude() {
+        return parsingFactory.parse(Latitude.class, latitudeAsString);
+    }
+
+    @Benchmark
+    public Latitude parseLatitudeInDmsFormat() {
+        return parsingFactory.parse(Latitude.class, latitudeInDmsFormat);
+    }
+
+    @Benchmark
+    public PhysicalQuantity<?> parseAnyPressure() {
+        return parsingFactory.parseAny(pressureAsString);
+    }
+
+    @Benchmark
+    public ParseResult<Pressure> tryParseMalformedPressure() {
+        return parsingFactory.tryParse(Pressure.class, malformedPressureAsString);
+    }
+
+    @Benchmark
+    public Object parseMalformedPressure() {
+        try {
+            return parsingFactory.parse(Pressure.class, malformedPressureAsString);
+        } catch (UnitSystemParseException ex) {
+            return ex;
+        }
+    }
+
+    // bulk parse
+
+    @Benchmark
+    @OperationsPerInvocation(100_000)
+    public BulkParseResult<Pressure> parseAllPressures() {
+        return parsingFactory.parseAll(Pressure.class, pressureColumn);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(100_000)
+    public Pressure[] tryParsePressuresSequentially() {
+        Pressure[] pressures = new Pressure[pressureColumn.size()];
+        for (int i = 0; i < pressures.length; i++) {
+            pressures[i] = parsingFactory.tryParse(Pressure.class, pressureColumn.get(i)).orElse(null);
+        }
+        return pressures;
+    }
+
+    // fromSymbol
+
+    @Benchmark
+    public TemperatureUnit temperatureUnitFromSymbol() {
+        return TemperatureUnits.fromSymbol(temperatureSymbol);
+    }
+
+    @Benchmark
+    public PressureUnit pressureUnitFromSymbol() {
+        return PressureUnits.fromSymbol(pressureSymbol);
+    }
+
+    @Benchmark
+    public DistanceUnit distanceUnitFromSymbol() {
+        return DistanceUnits.fromSymbol(distanceSymbol);
+    }
+
+    @Benchmark
+    public AngleUnit angleUnitFromSymbol() {
+        return AngleUnits.fromSymbol(angleSymbol);
+    }
+
+    // binary codec
+
+    @Benchmark
+    public PhysicalQuantity<?> decodeTemperatureFromBytes() {
+        return binaryCodec.decode(temperatureAsBytes);
+    }
+
+    @Benchmark
+    public PhysicalQuantity<?> encodeAndDecodeTemperatureWithByteBuffer() {
+        binaryBuffer.clear();
+        binaryCodec.encode(temperature, binaryBuffer);
+        binaryBuffer.flip();
+        return binaryCodec.decode(binaryBuffer);
+    }
+
+}
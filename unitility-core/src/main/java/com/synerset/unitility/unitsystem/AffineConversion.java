@@ -0,0 +1,391 @@
+package com.synerset.unitility.unitsystem;
+
+import com.synerset.unitility.unitsystem.exceptions.UnitSystemArgumentException;
+
+import java.util.Arrays;
+
+/**
+ * Immutable descriptor of an affine unit conversion, where the value in the base unit is obtained as:
+ * {@code valueInBaseUnit = valueInThisUnit * factor + offset}. Each direction of the conversion is evaluated as a
+ * sequence of arithmetic steps in the same order in which the unit is defined, so that converted values are exact for
+ * such units, and for ie: 20 °C is converted to 68 °F, not to 67.99999999999999 °F:
+ * <ul>
+ *     <li>{@link #of(double, double)}: multiplies by the factor and adds the offset, conversion back subtracts the
+ *     offset and divides by the factor, e.g. 0.3048 m per foot, or 273.15 K added to °C,</li>
+ *     <li>{@link #ofDivisor(double)}: divides by the divisor, conversion back multiplies by it, e.g. 3600 s per hour,</li>
+ *     <li>{@link #ofFactors(double, double)}: multiplies by separate factors in both directions, e.g. degrees,</li>
+ *     <li>{@link #ofProduct(double, double...)}: multiplies by each factor in turn, conversion back divides by their
+ *     product, e.g. metre of water column, defined as rho * g * h,</li>
+ *     <li>{@link #ofOffsetFactors(double, double, double, double)}: subtracts the zero point of the unit, scales and
+ *     adds the zero point of the base unit, e.g. Fahrenheit,</li>
+ *     <li>{@link #thenDivide(double)}, {@link #thenMultiply(double)}: extend the scaling with further steps, e.g.
+ *     degrees per foot.</li>
+ * </ul>
+ * Folding the steps into a single multiply-add with precomputed factor and offset would round differently, therefore
+ * {@link #getFactor()} and {@link #getOffset()} describe the conversion, but are not used to convert values.
+ */
+public final class AffineConversion {
+
+    private static final AffineConversion IDENTITY = new AffineConversion(1.0, 0.0, Steps.NONE, Steps.NONE);
+
+    private final double factor;
+    private final double offset;
+    private final Steps toBaseSteps;
+    private final Steps fromBaseSteps;
+
+    private AffineConversion(double factor, double offset, Steps toBaseSteps, Steps fromBaseSteps) {
+        this.factor = factor;
+        this.offset = offset;
+        this.toBaseSteps = toBaseSteps;
+        this.fromBaseSteps = fromBaseSteps;
+    }
+
+    /**
+     * Get the multiplier applied to a value in this unit to obtain the value in the base unit. For units defined by
+     * a divisor, this is the reciprocal of the divisor.
+     *
+     * @return The conversion factor.
+     */
+    public double getFactor() {
+        return factor;
+    }
+
+    /**
+     * Get the offset added after scaling to obtain the value in the base unit.
+     *
+     * @return The conversion offset.
+     */
+    public double getOffset() {
+        return offset;
+    }
+
+    /**
+     * Convert a value in this unit to the base unit.
+     *
+     * @param valueInThisUnit The value to be converted, in this unit.
+     * @return The equivalent value in the base unit.
+     */
+    public double toBase(double valueInThisUnit) {
+        // Plain arithmetic on purpose: Math.fma rounds once instead of twice, which would shift converted values by
+        // one ulp compared to the unit definitions and break exact round trips and equality of quantities
+        return toBaseSteps.apply(valueInThisUnit);
+    }
+
+    /**
+     * Convert a value in the base unit to this unit.
+     *
+     * @param valueInBaseUnit The value to be converted, in the base unit.
+     * @return The equivalent value in this unit.
+     */
+    public double fromBase(double valueInBaseUnit) {
+        return fromBaseSteps.apply(valueInBaseUnit);
+    }
+
+    /**
+     * Checks if this conversion does not alter the value, which is true for the base unit.
+     *
+     * @return True if factor is equal to 1 and offset is equal to 0.
+     */
+    public boolean isIdentity() {
+        return factor == 1.0 && offset == 0.0;
+    }
+
+    /**
+     * Get the inverse conversion: from the base unit to this unit. Steps of both directions are swapped, so the
+     * inverse conversion gives the same values as {@link #fromBase(double)}.
+     *
+     * @return The inverse affine conversion.
+     */
+    public AffineConversion inverse() {
+        return new AffineConversion(1.0 / factor, -offset / factor, fromBaseSteps, toBaseSteps);
+    }
+
+    /**
+     * Extend this conversion with division by a divisor, applied after the existing scaling:
+     * {@code valueInBaseUnit = toBase(valueInThisUnit) / divisor}. Conversion back from the base unit multiplies by
+     * the divisor, e.g. degrees per foot are defined as degrees converted to radians and divided by 0.3048.
+     *
+     * @param divisor The conversion divisor, must be finite and different from 0.
+     * @return The extended affine conversion.
+     */
+    public AffineConversion thenDivide(double divisor) {
+        validate(divisor, offset);
+        validateNoOffset();
+        return new AffineConversion(factor / divisor, 0.0,
+                toBaseSteps.then(Steps.DIVIDE, divisor), fromBaseSteps.then(Steps.MULTIPLY, divisor));
+    }
+
+    /**
+     * Extend this conversion with multiplication by a multiplier, applied after the existing scaling:
+     * {@code valueInBaseUnit = toBase(valueInThisUnit) * multiplier}. Conversion back from the base unit divides by
+     * the multiplier.
+     *
+     * @param multiplier The conversion multiplier, must be finite and different from 0.
+     * @return The extended affine conversion.
+     */
+    public AffineConversion thenMultiply(double multiplier) {
+        validate(multiplier, offset);
+        validateNoOffset();
+        return new AffineConversion(factor * multiplier, 0.0,
+                toBaseSteps.then(Steps.MULTIPLY, multiplier), fromBaseSteps.then(Steps.DIVIDE, multiplier));
+    }
+
+    private void validateNoOffset() {
+        if (offset != 0.0) {
+            throw new UnitSystemArgumentException("Invalid affine conversion. Scaling can be extended only for " +
+                    "conversions without offset. Offset = " + offset);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AffineConversion that = (AffineConversion) o;
+        return Double.compare(factor, that.factor) == 0
+                && Double.compare(offset, that.offset) == 0
+                && toBaseSteps.equals(that.toBaseSteps)
+                && fromBaseSteps.equals(that.fromBaseSteps);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Double.hashCode(factor);
+        result = 31 * result + Double.hashCode(offset);
+        result = 31 * result + toBaseSteps.hashCode();
+        return 31 * result + fromBaseSteps.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "AffineConversion{" +
+                "factor=" + factor +
+                ", offset=" + offset +
+                '}';
+    }
+
+    // Static factory methods
+
+    /**
+     * Get the identity conversion, used by base units.
+     *
+     * @return The identity conversion.
+     */
+    public static AffineConversion identity() {
+        return IDENTITY;
+    }
+
+    /**
+     * Create a purely multiplicative conversion: {@code valueInBaseUnit = valueInThisUnit * factor}.
+     *
+     * @param factor The conversion factor, must be finite and different from 0.
+     * @return The affine conversion.
+     */
+    public static AffineConversion ofFactor(double factor) {
+        return of(factor, 0.0);
+    }
+
+    /**
+     * Create a conversion for units defined by a divisor: {@code valueInBaseUnit = valueInThisUnit / divisor}.
+     * Conversion back from the base unit multiplies by the divisor, so values are exact for such units, e.g. litres
+     * per hour with divisor 3600000.
+     *
+     * @param divisor The conversion divisor, must be finite and different from 0.
+     * @return The affine conversion.
+     */
+    public static AffineConversion ofDivisor(double divisor) {
+        if (divisor == 1.0) {
+            return IDENTITY;
+        }
+        return IDENTITY.thenDivide(divisor);
+    }
+
+    /**
+     * Create a purely multiplicative conversion with separate factors for both directions:
+     * {@code valueInBaseUnit = valueInThisUnit * toBaseFactor} and
+     * {@code valueInThisUnit = valueInBaseUnit * fromBaseFactor}, where the factors are reciprocal up to rounding,
+     * e.g. {@link Math#toRadians(double)} and {@link Math#toDegrees(double)}.
+     *
+     * @param toBaseFactor   The factor of conversion to the base unit, must be finite and different from 0.
+     * @param fromBaseFactor The factor of conversion from the base unit, must be finite and different from 0.
+     * @return The affine conversion.
+     */
+    public static AffineConversion ofFactors(double toBaseFactor, double fromBaseFactor) {
+        validate(toBaseFactor, 0.0);
+        validate(fromBaseFactor, 0.0);
+        if (toBaseFactor == 1.0 && fromBaseFactor == 1.0) {
+            return IDENTITY;
+        }
+        return new AffineConversion(toBaseFactor, 0.0, Steps.NONE.then(Steps.MULTIPLY, toBaseFactor),
+                Steps.NONE.then(Steps.MULTIPLY, fromBaseFactor));
+    }
+
+    /**
+     * Create a purely multiplicative conversion defined by a product of factors:
+     * {@code valueInBaseUnit = valueInThisUnit * firstFactor * otherFactors[0] * ...}, where the value is multiplied
+     * by each factor in turn. Conversion back from the base unit divides by the product of all factors, e.g. metre of
+     * water column, defined as density multiplied by gravitational acceleration.
+     *
+     * @param firstFactor  The first factor, must be finite and different from 0.
+     * @param otherFactors The following factors, each must be finite and different from 0.
+     * @return The affine conversion.
+     */
+    public static AffineConversion ofProduct(double firstFactor, double... otherFactors) {
+        validate(firstFactor, 0.0);
+        Steps toBaseSteps = Steps.NONE.then(Steps.MULTIPLY, firstFactor);
+        double product = firstFactor;
+        for (double otherFactor : otherFactors) {
+            validate(otherFactor, 0.0);
+            toBaseSteps = toBaseSteps.then(Steps.MULTIPLY, otherFactor);
+            product *= otherFactor;
+        }
+        validate(product, 0.0);
+        return new AffineConversion(product, 0.0, toBaseSteps, Steps.NONE.then(Steps.DIVIDE, product));
+    }
+
+    /**
+     * Create an affine conversion for units with a zero point different from the base unit, where the value is
+     * related to its zero point: {@code valueInBaseUnit = (valueInThisUnit - unitOffset) * toBaseFactor + baseOffset}
+     * and {@code valueInThisUnit = (valueInBaseUnit - baseOffset) * fromBaseFactor + unitOffset}, where the factors are
+     * reciprocal up to rounding, e.g. Fahrenheit with offsets 32 and 273.15 and factors 5/9 and 9/5.
+     *
+     * @param unitOffset     The value of the reference point in this unit, must be finite.
+     * @param toBaseFactor   The factor of conversion to the base unit, must be finite and different from 0.
+     * @param fromBaseFactor The factor of conversion from the base unit, must be finite and different from 0.
+     * @param baseOffset     The value of the reference point in the base unit, must be finite.
+     * @return The affine conversion.
+     */
+    public static AffineConversion ofOffsetFactors(double unitOffset, double toBaseFactor, double fromBaseFactor,
+                                                   double baseOffset) {
+        validate(toBaseFactor, unitOffset);
+        validate(fromBaseFactor, baseOffset);
+        Steps toBaseSteps = Steps.NONE.thenIfNonZero(Steps.SUBTRACT, unitOffset)
+                .then(Steps.MULTIPLY, toBaseFactor)
+                .thenIfNonZero(Steps.ADD, baseOffset);
+        Steps fromBaseSteps = Steps.NONE.thenIfNonZero(Steps.SUBTRACT, baseOffset)
+                .then(Steps.MULTIPLY, fromBaseFactor)
+                .thenIfNonZero(Steps.ADD, unitOffset);
+        return new AffineConversion(toBaseFactor, baseOffset - unitOffset * toBaseFactor, toBaseSteps, fromBaseSteps);
+    }
+
+    /**
+     * Create an affine conversion: {@code valueInBaseUnit = valueInThisUnit * factor + offset}. Conversion back from
+     * the base unit subtracts the offset and divides by the factor. Multiplication by factor equal to 1 and addition
+     * of offset equal to 0 are omitted.
+     *
+     * @param factor The conversion factor, must be finite and different from 0.
+     * @param offset The conversion offset, must be finite.
+     * @return The affine conversion.
+     */
+    public static AffineConversion of(double factor, double offset) {
+        validate(factor, offset);
+        if (factor == 1.0 && offset == 0.0) {
+            return IDENTITY;
+        }
+        Steps toBaseSteps = Steps.NONE.thenIfNotOne(Steps.MULTIPLY, factor).thenIfNonZero(Steps.ADD, offset);
+        Steps fromBaseSteps = Steps.NONE.thenIfNonZero(Steps.SUBTRACT, offset).thenIfNotOne(Steps.DIVIDE, factor);
+        return new AffineConversion(factor, offset, toBaseSteps, fromBaseSteps);
+    }
+
+    private static void validate(double factor, double offset) {
+        if (factor == 0.0 || !Double.isFinite(factor) || !Double.isFinite(offset)) {
+            throw new UnitSystemArgumentException("Invalid affine conversion. Factor must be finite and non-zero, " +
+                    "offset must be finite. Factor = " + factor + ", offset = " + offset);
+        }
+    }
+
+    /**
+     * Immutable sequence of arithmetic steps, applied in order. Sequences of a single multiplication or division,
+     * which are used by most units, are applied without iterating over the steps.
+     */
+    private static final class Steps {
+
+        private static final byte ADD = 0;
+        private static final byte SUBTRACT = 1;
+        private static final byte MULTIPLY = 2;
+        private static final byte DIVIDE = 3;
+        private static final byte GENERAL = 4;
+        private static final byte NO_STEPS = 5;
+
+        private static final Steps NONE = new Steps(new byte[0], new double[0]);
+
+        private final byte[] operations;
+        private final double[] operands;
+        private final byte kind;
+        private final double firstOperand;
+
+        private Steps(byte[] operations, double[] operands) {
+            this.operations = operations;
+            this.operands = operands;
+            if (operations.length == 0) {
+                this.kind = NO_STEPS;
+            } else if (operations.length == 1 && (operations[0] == MULTIPLY || operations[0] == DIVIDE)) {
+                this.kind = operations[0];
+            } else {
+                this.kind = GENERAL;
+            }
+            this.firstOperand = operands.length == 0 ? 0.0 : operands[0];
+        }
+
+        double apply(double value) {
+            switch (kind) {
+                case NO_STEPS:
+                    return value;
+                case MULTIPLY:
+                    return value * firstOperand;
+                case DIVIDE:
+                    return value / firstOperand;
+                default:
+                    double result = value;
+                    for (int i = 0; i < operations.length; i++) {
+                        result = apply(operations[i], result, operands[i]);
+                    }
+                    return result;
+            }
+        }
+
+        private static double apply(byte operation, double value, double operand) {
+            switch (operation) {
+                case ADD:
+                    return value + operand;
+                case SUBTRACT:
+                    return value - operand;
+                case MULTIPLY:
+                    return value * operand;
+                default:
+                    return value / operand;
+            }
+        }
+
+        Steps then(byte operation, double operand) {
+            byte[] extendedOperations = Arrays.copyOf(operations, operations.length + 1);
+            double[] extendedOperands = Arrays.copyOf(operands, operands.length + 1);
+            extendedOperations[operations.length] = operation;
+            extendedOperands[operands.length] = operand;
+            return new Steps(extendedOperations, extendedOperands);
+        }
+
+        Steps thenIfNonZero(byte operation, double operand) {
+            return operand == 0.0 ? this : then(operation, operand);
+        }
+
+        Steps thenIfNotOne(byte operation, double operand) {
+            return operand == 1.0 ? this : then(operation, operand);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Steps that = (Steps) o;
+            return Arrays.equals(operations, that.operations) && Arrays.equals(operands, that.operands);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Arrays.hashCode(operations) + Arrays.hashCode(operands);
+        }
+
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.synerset.unitility.unitsystem;
+
+import java.util.Objects;
+
+/**
+ * Converter for units described by {@link AffineConversion}. Each value is converted to the base unit with the
+ * conversion of the source unit and then to the target unit with the conversion of the target unit, in the same way as
+ * {@link PhysicalQuantity#toUnit}, so converted values are identical to values of converted quantities. Conversions
+ * of both units are resolved once, when the converter is created.
+ *
+ * @param <U> The unit type.
+ */
+final class AffineUnitConverter<U extends Unit> implements UnitConverter<U> {
+
+    private final U sourceUnit;
+    private final U targetUnit;
+    private final AffineConversion sourceConversion;
+    private final AffineConversion targetConversion;
+
+    AffineUnitConverter(U sourceUnit, U targetUnit, AffineConversion sourceConversion, AffineConversion targetConversion) {
+        this.sourceUnit = sourceUnit;
+        this.targetUnit = targetUnit;
+        this.sourceConversion = sourceConversion;
+        this.targetConversion = targetConversion;
+    }
+
+    @Override
+    public U getSourceUnit() {
+        return sourceUnit;
+    }
+
+    @Override
+    public U getTargetUnit() {
+        return targetUnit;
+    }
+
+    @Override
+    public double convert(double valueInSourceUnit) {
+        return targetConversion.fromBase(sourceConversion.toBase(valueInSourceUnit));
+    }
+
+    @Override
+    public void convert(double[] source, int sourceOffset, double[] target, int targetOffset, int length) {
+        Objects.checkFromIndexSize(sourceOffset, length, source.length);
+        Objects.checkFromIndexSize(targetOffset, length, target.length);
+        AffineConversion toBaseConversion = sourceConversion;
+        AffineConversion fromBaseConversion = targetConversion;
+        for (int i = 0; i < length; i++) {
+            target[targetOffset + i] = fromBaseConversion.fromBase(toBaseConversion.toBase(source[sourceOffset + i]));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "UnitConverter{" + sourceUnit.getSymbol() + " -> " + targetUnit.getSymbol() + '}';
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.synerset.unitility.unitsystem;
+
+import java.util.Objects;
+
+/**
+ * Fallback converter for custom units which do not provide {@link AffineConversion}. Each value is converted to the
+ * base unit and then to the target unit, using the unit conversion methods.
+ *
+ * @param <U> The unit type.
+ */
+final class BaseUnitConverter<U extends Unit> implements UnitConverter<U> {
+
+    private final U sourceUnit;
+    private final U targetUnit;
+
+    BaseUnitConverter(U sourceUnit, U targetUnit) {
+        this.sourceUnit = sourceUnit;
+        this.targetUnit = targetUnit;
+    }
+
+    @Override
+    public U getSourceUnit() {
+        return sourceUnit;
+    }
+
+    @Override
+    public U getTargetUnit() {
+        return targetUnit;
+    }
+
+    @Override
+    public double convert(double valueInSourceUnit) {
+        double valueInBaseUnit = sourceUnit.toValueInBaseUnit(valueInSourceUnit);
+        return targetUnit.fromValueInBaseUnit(valueInBaseUnit);
+    }
+
+    @Override
+    public void convert(double[] source, int sourceOffset, double[] target, int targetOffset, int length) {
+        Objects.checkFromIndexSize(sourceOffset, length, source.length);
+        Objects.checkFromIndexSize(targetOffset, length, target.length);
+        for (int i = 0; i < length; i++) {
+            target[targetOffset + i] = convert(source[sourceOffset + i]);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "UnitConverter{" + sourceUnit.getSymbol() + " -> " + targetUnit.getSymbol() + '}';
+    }
+
+}
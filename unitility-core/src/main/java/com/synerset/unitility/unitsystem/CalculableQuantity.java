@@ -1,7 +1,7 @@
 package com.synerset.unitility.unitsystem;
 
 import com.synerset.unitility.unitsystem.exceptions.UnitSystemArgumentException;
-import com.synerset.unitility.unitsystem.util.ValueFormatter;
+import com.synerset.unitility.unitsystem.util.ValueRounder;
 
 /**
  * Interface representing a calculable quantity with operations for basic arithmetics.
@@ -239,8 +239,7 @@ public interface CalculableQuantity<U extends Unit, Q extends CalculableQuantity
      * @return A new physical quantity with the value rounded to the specified number of relevant digits.
      */
     default Q roundHalfEven(int relevantDigits) {
-        String formattedValue = ValueFormatter.toStringWithRelevantDigits(getValue(), relevantDigits);
-        double newValue = Double.parseDouble(formattedValue);
+        double newValue = ValueRounder.roundHalfEven(getValue(), relevantDigits);
         return withValue(newValue);
     }
 
@@ -3,6 +3,7 @@ package com.synerset.unitility.unitsystem;
 import com.synerset.unitility.unitsystem.exceptions.UnitSystemParseException;
 import com.synerset.unitility.unitsystem.util.ValueFormatter;
 
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -109,7 +110,7 @@ public interface PhysicalQuantity<U extends Unit> extends Comparable<PhysicalQua
         if (Objects.isNull(quantity)) {
             return false;
         }
-        double condition = this.toBaseUnit().getValue() - quantity.toBaseUnit().getValue();
+        double condition = differenceInBaseUnit(quantity);
         return condition > 0.0;
     }
 
@@ -124,7 +125,7 @@ public interface PhysicalQuantity<U extends Unit> extends Comparable<PhysicalQua
         if (Objects.isNull(quantity)) {
             return false;
         }
-        double condition = this.toBaseUnit().getValue() - quantity.toBaseUnit().getValue();
+        double condition = differenceInBaseUnit(quantity);
         return condition >= 0.0;
     }
 
@@ -139,7 +140,7 @@ public interface PhysicalQuantity<U extends Unit> extends Comparable<PhysicalQua
         if (Objects.isNull(quantity)) {
             return false;
         }
-        double condition = this.toBaseUnit().getValue() - quantity.toBaseUnit().getValue();
+        double condition = differenceInBaseUnit(quantity);
         return condition < 0.0;
     }
 
@@ -154,7 +155,7 @@ public interface PhysicalQuantity<U extends Unit> extends Comparable<PhysicalQua
         if (Objects.isNull(quantity)) {
             return false;
         }
-        double condition = this.toBaseUnit().getValue() - quantity.toBaseUnit().getValue();
+        double condition = differenceInBaseUnit(quantity);
         return condition <= 0.0;
     }
 
@@ -173,14 +174,10 @@ public interface PhysicalQuantity<U extends Unit> extends Comparable<PhysicalQua
         if (quantity == null || getClass() != quantity.getClass()) {
             return false;
         }
-        PhysicalQuantity<U> thisInBaseUnit = this.toBaseUnit();
-        PhysicalQuantity<U> inputInBaseUnit = quantity.toBaseUnit();
-        if (thisInBaseUnit.getUnit() != inputInBaseUnit.getUnit()) {
+        if (this.getUnit().getBaseUnit() != quantity.getUnit().getBaseUnit()) {
             return false;
         }
-        double thisValue = thisInBaseUnit.getValue();
-        double inputValue = inputInBaseUnit.getValue();
-        return Math.abs(thisValue - inputValue) < epsilon;
+        return Math.abs(this.getBaseValue() - quantity.getBaseValue()) < epsilon;
     }
 
     /**
@@ -257,10 +254,7 @@ public interface PhysicalQuantity<U extends Unit> extends Comparable<PhysicalQua
      * @return The representation in engineering format.
      */
     default String toEngineeringFormat() {
-        if (getUnitSymbol().isBlank()) {
-            return String.valueOf(getValue());
-        }
-        return String.format("%s [%s]", getValue(), getUnitSymbol());
+        return appendTo(new StringBuilder(32)).toString();
     }
 
     /**
@@ -285,10 +279,7 @@ public interface PhysicalQuantity<U extends Unit> extends Comparable<PhysicalQua
      * @return The representation in engineering format.
      */
     default String toEngineeringFormat(int relevantDigits) {
-        if (getUnitSymbol().isBlank()) {
-            return ValueFormatter.toStringWithRelevantDigits(getValue(), relevantDigits);
-        }
-        return String.format("%s [%s]", ValueFormatter.toStringWithRelevantDigits(getValue(), relevantDigits), getUnitSymbol());
+        return appendTo(new StringBuilder(32), relevantDigits).toString();
     }
 
     /**
@@ -303,6 +294,64 @@ public interface PhysicalQuantity<U extends Unit> extends Comparable<PhysicalQua
         return variableName + " = " + toEngineeringFormat(relevantDigits);
     }
 
+    /**
+     * Appends the physical quantity in engineering format to the target buffer, for example, 20.123456789 [°C].
+     * The output is the same as of {@link #toEngineeringFormat()}, without creating intermediate strings.
+     *
+     * @param target The buffer to which the quantity is appended.
+     * @return The target buffer.
+     */
+    default StringBuilder appendTo(StringBuilder target) {
+        target.append(getValue());
+        return appendUnitSymbol(target);
+    }
+
+    /**
+     * Appends the physical quantity in engineering format to the target buffer, truncated to relevantDigits,
+     * for example: 120.123 [F]. The output is the same as of {@link #toEngineeringFormat(int)}.
+     *
+     * @param target         The buffer to which the quantity is appended.
+     * @param relevantDigits The number of rounded relevant digits to show.
+     * @return The target buffer.
+     */
+    default StringBuilder appendTo(StringBuilder target, int relevantDigits) {
+        ValueFormatter.appendWithRelevantDigits(target, getValue(), relevantDigits);
+        return appendUnitSymbol(target);
+    }
+
+    /**
+     * Appends the physical quantity in engineering format to the target appendable, for example, 20.123456789 [°C].
+     * The output is the same as of {@link #toEngineeringFormat()}.
+     *
+     * @param target The appendable to which the quantity is appended.
+     * @return The target appendable.
+     * @throws IOException if the target appendable fails.
+     */
+    default Appendable appendTo(Appendable target) throws IOException {
+        return ValueFormatter.appendTo(target, this::appendTo);
+    }
+
+    /**
+     * Appends the physical quantity in engineering format to the target appendable, truncated to relevantDigits,
+     * for example: 120.123 [F]. The output is the same as of {@link #toEngineeringFormat(int)}.
+     *
+     * @param target         The appendable to which the quantity is appended.
+     * @param relevantDigits The number of rounded relevant digits to show.
+     * @return The target appendable.
+     * @throws IOException if the target appendable fails.
+     */
+    default Appendable appendTo(Appendable target, int relevantDigits) throws IOException {
+        return ValueFormatter.appendTo(target, buffer -> appendTo(buffer, relevantDigits));
+    }
+
+    private StringBuilder appendUnitSymbol(StringBuilder target) {
+        String unitSymbol = getUnitSymbol();
+        if (unitSymbol.isBlank()) {
+            return target;
+        }
+        return target.append(" [").append(unitSymbol).append(']');
+    }
+
     /**
      * Returns quantity name derived from it class name by default, for ie: Temperature.class -> Temperature.
      *
@@ -321,6 +370,10 @@ public interface PhysicalQuantity<U extends Unit> extends Comparable<PhysicalQua
         if (this == other) {
             return 0;
         }
+        // Quantities of the same type keep their base values already, no conversion is required
+        if (this.getClass() == other.getClass()) {
+            return Double.compare(this.getBaseValue(), other.getBaseValue());
+        }
         // Convert both quantities to the same unit for comparison
         PhysicalQuantity<U> thisInOtherUnit = this.toUnit(other.getUnit());
 
@@ -331,4 +384,18 @@ public interface PhysicalQuantity<U extends Unit> extends Comparable<PhysicalQua
         return Double.compare(thisValue, otherValue);
     }
 
+    /**
+     * Calculates difference between this and provided quantity, expressed in base unit. For quantities of the same type,
+     * stored base values are used directly, without creating any intermediate quantity objects.
+     *
+     * @param quantity The other physical quantity.
+     * @return Difference: this - quantity in base unit.
+     */
+    private double differenceInBaseUnit(PhysicalQuantity<U> quantity) {
+        if (this.getClass() == quantity.getClass()) {
+            return this.getBaseValue() - quantity.getBaseValue();
+        }
+        return this.toBaseUnit().getValue() - quantity.toBaseUnit().getValue();
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,378 @@
+package com.synerset.unitility.unitsystem;
+
+import com.synerset.unitility.unitsystem.exceptions.UnitSystemArgumentException;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Columnar container of physical quantities of the same type, stored as primitive values in a single {@code double[]}
+ * with one shared unit. Quantity objects are created lazily, only when requested with {@link #get(int)} or during
+ * iteration, which makes this container suitable for large series of measurements. Bulk unit conversion and
+ * aggregations operate directly on primitive values.
+ * <p>
+ * Slices created with {@link #slice(int, int)} share the backing storage with the source array. Values can be modified
+ * with {@link #setValue(int, double)} or {@link #set(int, PhysicalQuantity)}, changes are visible in all views sharing
+ * the storage. This class is not thread-safe for concurrent modifications.
+ *
+ * @param <U> The unit type.
+ * @param <Q> The quantity type.
+ */
+public final class QuantityArray<U extends Unit, Q extends PhysicalQuantity<U>> implements Iterable<Q> {
+
+    private final double[] values;
+    private final int offset;
+    private final int length;
+    private final U unit;
+    private final QuantityFactory<U, Q> quantityFactory;
+
+    private QuantityArray(double[] values, int offset, int length, U unit, QuantityFactory<U, Q> quantityFactory) {
+        if (unit == null || quantityFactory == null) {
+            throw new UnitSystemArgumentException("QuantityArray: unit and quantity factory must not be null.");
+        }
+        Objects.checkFromIndexSize(offset, length, values.length);
+        this.values = values;
+        this.offset = offset;
+        this.length = length;
+        this.unit = unit;
+        this.quantityFactory = quantityFactory;
+    }
+
+    // Static factory methods
+
+    /**
+     * Create an array with a copy of provided values, expressed in the given unit.
+     *
+     * @param values          The values in the given unit.
+     * @param unit            The unit shared by all values.
+     * @param quantityFactory Factory of quantities, for ie: {@code Temperature::of}.
+     * @param <U>             The unit type.
+     * @param <Q>             The quantity type.
+     * @return The quantity array.
+     */
+    public static <U extends Unit, Q extends PhysicalQuantity<U>> QuantityArray<U, Q> of(double[] values, U unit,
+                                                                                          QuantityFactory<U, Q> quantityFactory) {
+        return new QuantityArray<>(values.clone(), 0, values.length, unit, quantityFactory);
+    }
+
+    /**
+     * Create an array backed directly by provided values, without copying. Changes to the provided array are visible in
+     * the quantity array and vice versa.
+     *
+     * @param values          The values in the given unit.
+     * @param unit            The unit shared by all values.
+     * @param quantityFactory Factory of quantities, for ie: {@code Temperature::of}.
+     * @param <U>             The unit type.
+     * @param <Q>             The quantity type.
+     * @return The quantity array.
+     */
+    public static <U extends Unit, Q extends PhysicalQuantity<U>> QuantityArray<U, Q> wrap(double[] values, U unit,
+                                                                                            QuantityFactory<U, Q> quantityFactory) {
+        return new QuantityArray<>(values, 0, values.length, unit, quantityFactory);
+    }
+
+    /**
+     * Create an array of a given size, with all values equal to zero.
+     *
+     * @param size            The number of elements.
+     * @param unit            The unit shared by all values.
+     * @param quantityFactory Factory of quantities, for ie: {@code Temperature::of}.
+     * @param <U>             The unit type.
+     * @param <Q>             The quantity type.
+     * @return The quantity array.
+     */
+    public static <U extends Unit, Q extends PhysicalQuantity<U>> QuantityArray<U, Q> ofSize(int size, U unit,
+                                                                                              QuantityFactory<U, Q> quantityFactory) {
+        return new QuantityArray<>(new double[size], 0, size, unit, quantityFactory);
+    }
+
+    /**
+     * Create an array from a collection of quantities. Each quantity is converted to the given unit.
+     *
+     * @param quantities      The quantities to be stored.
+     * @param unit            The unit shared by all values.
+     * @param quantityFactory Factory of quantities, for ie: {@code Temperature::of}.
+     * @param <U>             The unit type.
+     * @param <Q>             The quantity type.
+     * @return The quantity array.
+     */
+    public static <U extends Unit, Q extends PhysicalQuantity<U>> QuantityArray<U, Q> fromQuantities(Collection<? extends PhysicalQuantity<U>> quantities,
+                                                                                                      U unit, QuantityFactory<U, Q> quantityFactory) {
+        double[] values = new double[quantities.size()];
+        int index = 0;
+        for (PhysicalQuantity<U> quantity : quantities) {
+            values[index++] = UnitConverter.of(quantity.getUnit(), unit).convert(quantity.getValue());
+        }
+        return new QuantityArray<>(values, 0, values.length, unit, quantityFactory);
+    }
+
+    // Element access
+
+    /**
+     * Get the number of elements.
+     *
+     * @return The size of this array.
+     */
+    public int size() {
+        return length;
+    }
+
+    /**
+     * Check if this array has no elements.
+     *
+     * @return True if size is equal to 0.
+     */
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    /**
+     * Get the unit shared by all values.
+     *
+     * @return The unit of this array.
+     */
+    public U getUnit() {
+        return unit;
+    }
+
+    /**
+     * Get the quantity at a given index. A new quantity object is created on each call.
+     *
+     * @param index The element index.
+     * @return The quantity in the unit of this array.
+     */
+    public Q get(int index) {
+        return quantityFactory.create(getValue(index), unit);
+    }
+
+    /**
+     * Get the primitive value at a given index, expressed in the unit of this array.
+     *
+     * @param index The element index.
+     * @return The value in the unit of this array.
+     */
+    public double getValue(int index) {
+        return values[offset + Objects.checkIndex(index, length)];
+    }
+
+    /**
+     * Get the primitive value at a given index, expressed in the base unit.
+     *
+     * @param index The element index.
+     * @return The value in the base unit.
+     */
+    public double getBaseValue(int index) {
+        return unit.toValueInBaseUnit(getValue(index));
+    }
+
+    /**
+     * Set the primitive value at a given index, expressed in the unit of this array.
+     *
+     * @param index The element index.
+     * @param value The value in the unit of this array.
+     */
+    public void setValue(int index, double value) {
+        values[offset + Objects.checkIndex(index, length)] = value;
+    }
+
+    /**
+     * Set the quantity at a given index. The quantity is converted to the unit of this array.
+     *
+     * @param index    The element index.
+     * @param quantity The quantity to be stored.
+     */
+    public void set(int index, PhysicalQuantity<U> quantity) {
+        setValue(index, UnitConverter.of(quantity.getUnit(), unit).convert(quantity.getValue()));
+    }
+
+    /**
+     * Get a copy of values, expressed in the unit of this array.
+     *
+     * @return A new array of values.
+     */
+    public double[] toValuesArray() {
+        return Arrays.copyOfRange(values, offset, offset + length);
+    }
+
+    /**
+     * Get a copy of values, expressed in the base unit.
+     *
+     * @return A new array of values in the base unit.
+     */
+    public double[] toBaseValuesArray() {
+        double[] baseValues = new double[length];
+        baseUnitConverter().convert(values, offset, baseValues, 0, length);
+        return baseValues;
+    }
+
+    // Bulk operations
+
+    /**
+     * Create a view of a range of this array. The view shares the storage with this array, no values are copied.
+     *
+     * @param fromIndex The index of the first element, inclusive.
+     * @param toIndex   The index of the last element, exclusive.
+     * @return The view of a given range.
+     */
+    public QuantityArray<U, Q> slice(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, length);
+        return new QuantityArray<>(values, offset + fromIndex, toIndex - fromIndex, unit, quantityFactory);
+    }
+
+    /**
+     * Convert all values to a target unit into a new array. This array is not modified.
+     *
+     * @param targetUnit The target unit.
+     * @return A new array with values in the target unit.
+     */
+    public QuantityArray<U, Q> toUnit(U targetUnit) {
+        double[] convertedValues = new double[length];
+        UnitConverter.of(unit, targetUnit).convert(values, offset, convertedValues, 0, length);
+        return new QuantityArray<>(convertedValues, 0, length, targetUnit, quantityFactory);
+    }
+
+    /**
+     * Convert all values to a target unit in place. Values in the shared storage are overwritten and a view with the
+     * target unit is returned. This array and other views sharing the same range should not be used afterward, as
+     * their unit no longer matches the stored values.
+     *
+     * @param targetUnit The target unit.
+     * @return The view over the same storage, with values in the target unit.
+     */
+    public QuantityArray<U, Q> toUnitInPlace(U targetUnit) {
+        UnitConverter.of(unit, targetUnit).convert(values, offset, values, offset, length);
+        return new QuantityArray<>(values, offset, length, targetUnit, quantityFactory);
+    }
+
+    // Aggregations in base unit
+
+    /**
+     * Calculate the sum of all values in the base unit. Sum of an empty array is zero.
+     *
+     * @return The sum as quantity in the base unit.
+     */
+    public Q sum() {
+        UnitConverter<U> toBase = baseUnitConverter();
+        double sum = 0.0;
+        for (int i = offset; i < offset + length; i++) {
+            sum += toBase.convert(values[i]);
+        }
+        return quantityFactory.create(sum, toBase.getTargetUnit());
+    }
+
+    /**
+     * Calculate the arithmetic mean of all values in the base unit.
+     *
+     * @return The mean as quantity in the base unit.
+     * @throws UnitSystemArgumentException if the array is empty.
+     */
+    public Q mean() {
+        requireNotEmpty("mean");
+        Q sum = sum();
+        return quantityFactory.create(sum.getValue() / length, sum.getUnit());
+    }
+
+    /**
+     * Find the minimum value in the base unit.
+     *
+     * @return The minimum as quantity in the base unit.
+     * @throws UnitSystemArgumentException if the array is empty.
+     */
+    public Q min() {
+        requireNotEmpty("min");
+        UnitConverter<U> toBase = baseUnitConverter();
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = offset; i < offset + length; i++) {
+            min = Math.min(min, toBase.convert(values[i]));
+        }
+        return quantityFactory.create(min, toBase.getTargetUnit());
+    }
+
+    /**
+     * Find the maximum value in the base unit.
+     *
+     * @return The maximum as quantity in the base unit.
+     * @throws UnitSystemArgumentException if the array is empty.
+     */
+    public Q max() {
+        requireNotEmpty("max");
+        UnitConverter<U> toBase = baseUnitConverter();
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = offset; i < offset + length; i++) {
+            max = Math.max(max, toBase.convert(values[i]));
+        }
+        return quantityFactory.create(max, toBase.getTargetUnit());
+    }
+
+    @Override
+    public Iterator<Q> iterator() {
+        return new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < length;
+            }
+
+            @Override
+            public Q next() {
+                if (index >= length) {
+                    throw new NoSuchElementException();
+                }
+                return get(index++);
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        QuantityArray<?, ?> that = (QuantityArray<?, ?>) o;
+        return unit == that.unit && Arrays.equals(values, offset, offset + length, that.values, that.offset, that.offset + that.length);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = unit.hashCode();
+        for (int i = offset; i < offset + length; i++) {
+            result = 31 * result + Double.hashCode(values[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "QuantityArray{" +
+                "size=" + length +
+                ", unit=" + unit.getSymbol() +
+                '}';
+    }
+
+    @SuppressWarnings("unchecked")
+    private UnitConverter<U> baseUnitConverter() {
+        return UnitConverter.of(unit, (U) unit.getBaseUnit());
+    }
+
+    private void requireNotEmpty(String operationName) {
+        if (length == 0) {
+            throw new UnitSystemArgumentException("QuantityArray: cannot calculate " + operationName + " of an empty array.");
+        }
+    }
+
+    /**
+     * Factory of quantities from primitive value and unit. Typically, a reference to static factory method of
+     * quantity class, for ie: {@code Temperature::of}.
+     *
+     * @param <U> The unit type.
+     * @param <Q> The quantity type.
+     */
+    @FunctionalInterface
+    public interface QuantityFactory<U, Q> {
+        Q create(double value, U unit);
+    }
+
+}
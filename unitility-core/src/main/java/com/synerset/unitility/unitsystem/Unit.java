@@ -5,6 +5,8 @@
  */
 package com.synerset.unitility.unitsystem;
 
+import com.synerset.unitility.unitsystem.util.UnitSymbolIndex;
+
 public interface Unit {
     /**
      * Get the symbol representing the unit.
@@ -36,4 +38,27 @@ public interface Unit {
      */
     double fromValueInBaseUnit(double valueInBaseUnit);
 
-}
\ No newline at end of file
+    /**
+     * Get the affine descriptor of this unit: valueInBaseUnit = valueInThisUnit * factor + offset. All built-in units
+     * provide it. Custom units with conversion which cannot be expressed this way should return null (default), in
+     * which case conversions are carried out through {@link #toValueInBaseUnit(double)} and
+     * {@link #fromValueInBaseUnit(double)}.
+     *
+     * @return The affine conversion to the base unit, or null if not available.
+     */
+    default AffineConversion getAffineConversion() {
+        return null;
+    }
+
+    /**
+     * Get the index of all units of this unit type by normalized symbols, including aliases. All built-in units
+     * provide it, so that parsers can resolve symbols of the quantity directly. Custom units may return null (default),
+     * in which case symbols are resolved through the parsing registry.
+     *
+     * @return The symbol index of this unit type, or null if not available.
+     */
+    default UnitSymbolIndex<? extends Unit> getSymbolIndex() {
+        return null;
+    }
+
+}
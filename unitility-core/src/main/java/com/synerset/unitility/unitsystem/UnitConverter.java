@@ -0,0 +1,121 @@
+package com.synerset.unitility.unitsystem;
+
+import com.synerset.unitility.unitsystem.exceptions.UnitSystemArgumentException;
+
+import java.nio.BufferOverflowException;
+import java.nio.DoubleBuffer;
+import java.nio.ReadOnlyBufferException;
+
+/**
+ * Converter of plain values between two units of the same quantity type, resolved once and reused for any number of
+ * values. Values are converted through the base unit, in the same way as {@link PhysicalQuantity#toUnit}, so that
+ * converted values are identical to values of converted quantities. For built-in units, conversions of both units are
+ * resolved once, when the converter is created. Converters are immutable and thread-safe. Converters between units of
+ * the same enum are cached per unit pair, so obtaining the same converter repeatedly is cheap. Use {@link #of(Unit, Unit)} or
+ * {@code converterTo} method of the unit type, i.e. {@code TemperatureUnit.converterTo(TemperatureUnit)}, which accepts
+ * only units of the same quantity type, to get an instance.
+ *
+ * @param <U> The unit type.
+ */
+public interface UnitConverter<U extends Unit> {
+
+    /**
+     * Get the unit in which input values are expressed.
+     *
+     * @return The source unit.
+     */
+    U getSourceUnit();
+
+    /**
+     * Get the unit in which converted values are expressed.
+     *
+     * @return The target unit.
+     */
+    U getTargetUnit();
+
+    /**
+     * Convert a single value from the source unit to the target unit.
+     *
+     * @param valueInSourceUnit The value in the source unit.
+     * @return The value in the target unit.
+     */
+    double convert(double valueInSourceUnit);
+
+    /**
+     * Convert a range of values from the source array, writing results to the target array. Source and target may be
+     * the same array, which converts the values in place.
+     *
+     * @param source       The array of values in the source unit.
+     * @param sourceOffset The index of the first value to convert.
+     * @param target       The array to which converted values are written.
+     * @param targetOffset The index at which the first converted value is written.
+     * @param length       The number of values to convert.
+     * @throws IndexOutOfBoundsException if any of the ranges is out of array bounds.
+     */
+    void convert(double[] source, int sourceOffset, double[] target, int targetOffset, int length);
+
+    /**
+     * Convert all values, returning results in a new array. Input array is not modified.
+     *
+     * @param valuesInSourceUnit The values in the source unit.
+     * @return A new array with values in the target unit.
+     */
+    default double[] convert(double[] valuesInSourceUnit) {
+        double[] valuesInTargetUnit = new double[valuesInSourceUnit.length];
+        convert(valuesInSourceUnit, 0, valuesInTargetUnit, 0, valuesInSourceUnit.length);
+        return valuesInTargetUnit;
+    }
+
+    /**
+     * Convert all values of the provided array in place.
+     *
+     * @param values The values in the source unit, replaced with values in the target unit.
+     */
+    default void convertInPlace(double[] values) {
+        convert(values, 0, values, 0, values.length);
+    }
+
+    /**
+     * Convert all remaining values of the source buffer and put them into the target buffer. Positions of both buffers
+     * are advanced by the number of converted values. Heap buffers are converted directly on their backing arrays.
+     *
+     * @param source The buffer with values in the source unit.
+     * @param target The buffer to which values in the target unit are put.
+     * @throws BufferOverflowException if there is insufficient space remaining in the target buffer.
+     * @throws ReadOnlyBufferException if the target buffer is read-only.
+     */
+    default void convert(DoubleBuffer source, DoubleBuffer target) {
+        int length = source.remaining();
+        if (target.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        if (target.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        if (source.hasArray() && target.hasArray()) {
+            convert(source.array(), source.arrayOffset() + source.position(),
+                    target.array(), target.arrayOffset() + target.position(), length);
+            source.position(source.position() + length);
+            target.position(target.position() + length);
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            target.put(convert(source.get()));
+        }
+    }
+
+    /**
+     * Get the converter between two units of the same quantity type. Converters between units of the same enum are
+     * cached per unit pair.
+     *
+     * @param sourceUnit The unit in which input values are expressed.
+     * @param targetUnit The unit in which converted values are expressed.
+     * @param <U>        The unit type.
+     * @return The unit converter.
+     * @throws UnitSystemArgumentException if any of the units is null, or if units do not share the same base unit.
+     */
+    static <U extends Unit> UnitConverter<U> of(U sourceUnit, U targetUnit) {
+        return UnitConverterCache.getConverter(sourceUnit, targetUnit);
+    }
+
+}
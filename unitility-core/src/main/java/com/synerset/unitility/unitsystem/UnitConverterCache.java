@@ -0,0 +1,76 @@
+package com.synerset.unitility.unitsystem;
+
+import com.synerset.unitility.unitsystem.exceptions.UnitSystemArgumentException;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free cache of {@link UnitConverter} instances between units of the same enum. Converters are stored in a table
+ * per enum class, indexed by ordinals of the source and target unit, so the cache is bounded by the number of enum
+ * constants and lookups do not allocate. Converters for other units, i.e. custom non-enum units or units from two
+ * different enums, are created on each request, as they are cheap to create and could otherwise grow the cache
+ * without bound.
+ */
+final class UnitConverterCache {
+
+    private static final ClassValue<ConverterTable> CONVERTERS = new ClassValue<>() {
+        @Override
+        protected ConverterTable computeValue(Class<?> enumClass) {
+            return new ConverterTable(enumClass.getEnumConstants().length);
+        }
+    };
+
+    private UnitConverterCache() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    @SuppressWarnings("unchecked")
+    static <U extends Unit> UnitConverter<U> getConverter(U sourceUnit, U targetUnit) {
+        if (sourceUnit == null || targetUnit == null) {
+            throw new UnitSystemArgumentException("Source and target unit must not be null. Source unit = "
+                    + sourceUnit + ", target unit = " + targetUnit);
+        }
+        if (!(sourceUnit instanceof Enum<?> sourceEnum) || !(targetUnit instanceof Enum<?> targetEnum)
+                || sourceEnum.getDeclaringClass() != targetEnum.getDeclaringClass()) {
+            return createConverter(sourceUnit, targetUnit);
+        }
+        ConverterTable converterTable = CONVERTERS.get(sourceEnum.getDeclaringClass());
+        AtomicReferenceArray<UnitConverter<?>> converters = converterTable.converters;
+        int index = sourceEnum.ordinal() * converterTable.unitCount + targetEnum.ordinal();
+        UnitConverter<?> converter = converters.get(index);
+        if (converter == null) {
+            UnitConverter<U> createdConverter = createConverter(sourceUnit, targetUnit);
+            converter = converters.compareAndExchange(index, null, createdConverter);
+            if (converter == null) {
+                converter = createdConverter;
+            }
+        }
+        return (UnitConverter<U>) converter;
+    }
+
+    private static <U extends Unit> UnitConverter<U> createConverter(U sourceUnit, U targetUnit) {
+        if (sourceUnit.getBaseUnit() != targetUnit.getBaseUnit()) {
+            throw new UnitSystemArgumentException("Incompatible units, conversion is not possible from: "
+                    + sourceUnit + " [" + sourceUnit.getSymbol() + "] to: " + targetUnit + " [" + targetUnit.getSymbol() + "].");
+        }
+        AffineConversion sourceConversion = sourceUnit.getAffineConversion();
+        AffineConversion targetConversion = targetUnit.getAffineConversion();
+        if (sourceConversion == null || targetConversion == null) {
+            return new BaseUnitConverter<>(sourceUnit, targetUnit);
+        }
+        return new AffineUnitConverter<>(sourceUnit, targetUnit, sourceConversion, targetConversion);
+    }
+
+    private static final class ConverterTable {
+
+        private final int unitCount;
+        private final AtomicReferenceArray<UnitConverter<?>> converters;
+
+        private ConverterTable(int unitCount) {
+            this.unitCount = unitCount;
+            this.converters = new AtomicReferenceArray<>(unitCount * unitCount);
+        }
+
+    }
+
+}
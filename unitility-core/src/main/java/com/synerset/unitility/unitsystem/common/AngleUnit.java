@@ -1,9 +1,14 @@
 package com.synerset.unitility.unitsystem.common;
 
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.UnitConverter;
 
 public interface AngleUnit extends Unit {
     @Override
     AngleUnit getBaseUnit();
 
+    default UnitConverter<AngleUnit> converterTo(AngleUnit targetUnit) {
+        return UnitConverter.of(this, targetUnit);
+    }
+
 }
\ No newline at end of file
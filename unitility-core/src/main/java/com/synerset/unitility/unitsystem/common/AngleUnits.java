@@ -1,23 +1,36 @@
 package com.synerset.unitility.unitsystem.common;
 
+import com.synerset.unitility.unitsystem.AffineConversion;
 import com.synerset.unitility.unitsystem.exceptions.UnitSystemParseException;
-import com.synerset.unitility.unitsystem.util.StringTransformer;
+import com.synerset.unitility.unitsystem.util.SymbolNormalizer;
+import com.synerset.unitility.unitsystem.util.UnitSymbolIndex;
 
-import java.util.function.DoubleUnaryOperator;
+import java.util.Optional;
 
 public enum AngleUnits implements AngleUnit {
 
-    RADIANS("rad", val -> val, val -> val),
-    DEGREES("°", Math::toRadians, Math::toDegrees);
+    RADIANS("rad", 1.0),
+    DEGREES("°", AffineConversion.ofFactors(Math.PI / 180.0, 180.0 / Math.PI));
+
+    private static final SymbolNormalizer SYMBOL_NORMALIZER = SymbolNormalizer.builder()
+            .trimLowerAndClean()
+            .unifySymbolsOfAngle()
+            .build();
+    private static final UnitSymbolIndex<AngleUnits> SYMBOL_INDEX = UnitSymbolIndex.<AngleUnits>builder(SYMBOL_NORMALIZER)
+            .addAll(values())
+            .addAliases(DEGREES, "deg", "o")
+            .build();
 
     private final String symbol;
-    private final DoubleUnaryOperator toBaseConverter;
-    private final DoubleUnaryOperator fromBaseToUnitConverter;
+    private final AffineConversion affineConversion;
+
+    AngleUnits(String symbol, double factor) {
+        this(symbol, AffineConversion.ofFactor(factor));
+    }
 
-    AngleUnits(String symbol, DoubleUnaryOperator toBaseConverter, DoubleUnaryOperator fromBaseToUnitConverter) {
+    AngleUnits(String symbol, AffineConversion affineConversion) {
         this.symbol = symbol;
-        this.toBaseConverter = toBaseConverter;
-        this.fromBaseToUnitConverter = fromBaseToUnitConverter;
+        this.affineConversion = affineConversion;
     }
 
     @Override
@@ -32,34 +45,56 @@ public enum AngleUnits implements AngleUnit {
 
     @Override
     public double toValueInBaseUnit(double valueInThisUnit) {
-        return toBaseConverter.applyAsDouble(valueInThisUnit);
+        return affineConversion.toBase(valueInThisUnit);
     }
 
     @Override
     public double fromValueInBaseUnit(double valueInBaseUnit) {
-        return fromBaseToUnitConverter.applyAsDouble(valueInBaseUnit);
+        return affineConversion.fromBase(valueInBaseUnit);
+    }
+
+    @Override
+    public AffineConversion getAffineConversion() {
+        return affineConversion;
+    }
+
+    @Override
+    public UnitSymbolIndex<AngleUnits> getSymbolIndex() {
+        return SYMBOL_INDEX;
     }
 
     public static AngleUnit fromSymbol(String rawSymbol) {
         if (rawSymbol == null || rawSymbol.isBlank()) {
             return RADIANS;
         }
-        String requestedSymbol = unifySymbol(rawSymbol);
-        for (AngleUnit unit : values()) {
-            String currentSymbol = unifySymbol(unit.getSymbol());
-            if (currentSymbol.equalsIgnoreCase(requestedSymbol)) {
-                return unit;
-            }
+        AngleUnit unit = SYMBOL_INDEX.find(rawSymbol);
+        if (unit == null) {
+            throw new UnitSystemParseException(() -> "Unsupported unit symbol: " + "{" + rawSymbol + "}." + " Target class: "
+                    + AngleUnits.class.getSimpleName());
+        }
+        return unit;
+    }
+
+    /**
+     * Finds a unit by raw symbol, without throwing an exception for unsupported symbols.
+     *
+     * @param rawSymbol The raw symbol. Null or blank symbol resolves to the default unit.
+     * @return The matching unit, or an empty Optional if the symbol is not supported.
+     */
+    public static Optional<AngleUnit> tryFromSymbol(String rawSymbol) {
+        if (rawSymbol == null || rawSymbol.isBlank()) {
+            return Optional.of(RADIANS);
         }
-        throw new UnitSystemParseException("Unsupported unit symbol: " + "{" + rawSymbol + "}." + " Target class: "
-                + AngleUnits.class.getSimpleName());
+        return Optional.ofNullable(SYMBOL_INDEX.find(rawSymbol));
     }
 
-    private static String unifySymbol(String inputString) {
-        return StringTransformer.of(inputString)
-                .trimLowerAndClean()
-                .unifySymbolsOfAngle()
-                .toString();
+    /**
+     * Get the index of units by normalized symbols, including aliases.
+     *
+     * @return The symbol index of AngleUnits.
+     */
+    public static UnitSymbolIndex<AngleUnits> symbolIndex() {
+        return SYMBOL_INDEX;
     }
 
 }
\ No newline at end of file
@@ -1,8 +1,13 @@
 package com.synerset.unitility.unitsystem.common;
 
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.UnitConverter;
 
 public interface AngularVelocityUnit extends Unit {
     @Override
     AngularVelocityUnit getBaseUnit();
+
+    default UnitConverter<AngularVelocityUnit> converterTo(AngularVelocityUnit targetUnit) {
+        return UnitConverter.of(this, targetUnit);
+    }
 }
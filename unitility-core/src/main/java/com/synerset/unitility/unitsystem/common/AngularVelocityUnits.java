@@ -1,24 +1,36 @@
 package com.synerset.unitility.unitsystem.common;
 
+import com.synerset.unitility.unitsystem.AffineConversion;
 import com.synerset.unitility.unitsystem.exceptions.UnitSystemParseException;
-import com.synerset.unitility.unitsystem.util.StringTransformer;
+import com.synerset.unitility.unitsystem.util.SymbolNormalizer;
+import com.synerset.unitility.unitsystem.util.UnitSymbolIndex;
 
-import java.util.function.DoubleUnaryOperator;
+import java.util.Optional;
 
 public enum AngularVelocityUnits implements AngularVelocityUnit {
 
-    RADIANS_PER_SECOND("rad/s", val -> val, val -> val),
-    REVOLUTIONS_PER_SECOND("rps", val -> val / (1.0 / 2.0 / Math.PI), val -> val * (1.0 / 2.0 / Math.PI)),
-    REVOLUTIONS_PER_MINUTE("rpm", val -> val / (60.0 / 2.0 / Math.PI), val -> val * (60.0 / 2.0 / Math.PI)),
-    DEGREES_PER_SECOND("°/s", val -> val / (360.0 / 2.0 / Math.PI), val -> val * (360.0 / 2.0 / Math.PI));
+    RADIANS_PER_SECOND("rad/s", 1.0),
+    REVOLUTIONS_PER_SECOND("rps", AffineConversion.ofDivisor(1.0 / 2.0 / Math.PI)),
+    REVOLUTIONS_PER_MINUTE("rpm", AffineConversion.ofDivisor(60.0 / 2.0 / Math.PI)),
+    DEGREES_PER_SECOND("°/s", AffineConversion.ofDivisor(360.0 / 2.0 / Math.PI));
+
+    private static final SymbolNormalizer SYMBOL_NORMALIZER = SymbolNormalizer.builder()
+            .trimLowerAndClean()
+            .unifySymbolsOfAngle()
+            .unifyMultiAndDiv()
+            .build();
+    private static final UnitSymbolIndex<AngularVelocityUnits> SYMBOL_INDEX = UnitSymbolIndex.of(SYMBOL_NORMALIZER, values());
+
     private final String symbol;
-    private final DoubleUnaryOperator toBaseConverter;
-    private final DoubleUnaryOperator fromBaseToUnitConverter;
+    private final AffineConversion affineConversion;
+
+    AngularVelocityUnits(String symbol, double factor) {
+        this(symbol, AffineConversion.ofFactor(factor));
+    }
 
-    AngularVelocityUnits(String symbol, DoubleUnaryOperator toBaseConverter, DoubleUnaryOperator fromBaseToUnitConverter) {
+    AngularVelocityUnits(String symbol, AffineConversion affineConversion) {
         this.symbol = symbol;
-        this.toBaseConverter = toBaseConverter;
-        this.fromBaseToUnitConverter = fromBaseToUnitConverter;
+        this.affineConversion = affineConversion;
     }
 
     @Override
@@ -33,36 +45,56 @@ public enum AngularVelocityUnits implements AngularVelocityUnit {
 
     @Override
     public double toValueInBaseUnit(double valueInThisUnit) {
-        return toBaseConverter.applyAsDouble(valueInThisUnit);
+        return affineConversion.toBase(valueInThisUnit);
     }
 
     @Override
     public double fromValueInBaseUnit(double valueInBaseUnit) {
-        return fromBaseToUnitConverter.applyAsDouble(valueInBaseUnit);
+        return affineConversion.fromBase(valueInBaseUnit);
+    }
+
+    @Override
+    public AffineConversion getAffineConversion() {
+        return affineConversion;
+    }
+
+    @Override
+    public UnitSymbolIndex<AngularVelocityUnits> getSymbolIndex() {
+        return SYMBOL_INDEX;
     }
 
     public static AngularVelocityUnit fromSymbol(String rawSymbol) {
         if (rawSymbol == null || rawSymbol.isBlank()) {
             return AngularVelocityUnits.RADIANS_PER_SECOND;
         }
-        String requestedSymbol = unifySymbol(rawSymbol);
-        for (AngularVelocityUnit unit : values()) {
-            String currentSymbol = unifySymbol(unit.getSymbol());
-            if (currentSymbol.equalsIgnoreCase(requestedSymbol)) {
-                return unit;
-            }
+        AngularVelocityUnit unit = SYMBOL_INDEX.find(rawSymbol);
+        if (unit == null) {
+            throw new UnitSystemParseException(() -> "Unsupported unit symbol: " + "{" + rawSymbol + "}." + " Target class: "
+                    + AngularVelocityUnits.class.getSimpleName());
         }
-        throw new UnitSystemParseException("Unsupported unit symbol: " + "{" + rawSymbol + "}." + " Target class: "
-                + AngularVelocityUnits.class.getSimpleName());
+        return unit;
     }
 
-    private static String unifySymbol(String inputString) {
-        return StringTransformer.of(inputString)
-                .trimLowerAndClean()
-                .unifySymbolsOfAngle()
-                .unifyMultiAndDiv()
-                .toString();
+    /**
+     * Finds a unit by raw symbol, without throwing an exception for unsupported symbols.
+     *
+     * @param rawSymbol The raw symbol. Null or blank symbol resolves to the default unit.
+     * @return The matching unit, or an empty Optional if the symbol is not supported.
+     */
+    public static Optional<AngularVelocityUnit> tryFromSymbol(String rawSymbol) {
+        if (rawSymbol == null || rawSymbol.isBlank()) {
+            return Optional.of(AngularVelocityUnits.RADIANS_PER_SECOND);
+        }
+        return Optional.ofNullable(SYMBOL_INDEX.find(rawSymbol));
     }
 
+    /**
+     * Get the index of units by normalized symbols, including aliases.
+     *
+     * @return The symbol index of AngularVelocityUnits.
+     */
+    public static UnitSymbolIndex<AngularVelocityUnits> symbolIndex() {
+        return SYMBOL_INDEX;
+    }
 
 }
@@ -1,8 +1,13 @@
 package com.synerset.unitility.unitsystem.common;
 
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.UnitConverter;
 
 public interface AreaUnit extends Unit {
     @Override
     AreaUnit getBaseUnit();
+
+    default UnitConverter<AreaUnit> converterTo(AreaUnit targetUnit) {
+        return UnitConverter.of(this, targetUnit);
+    }
 }
@@ -1,32 +1,42 @@
 package com.synerset.unitility.unitsystem.common;
 
+import com.synerset.unitility.unitsystem.AffineConversion;
 import com.synerset.unitility.unitsystem.exceptions.UnitSystemParseException;
-import com.synerset.unitility.unitsystem.util.StringTransformer;
+import com.synerset.unitility.unitsystem.util.SymbolNormalizer;
+import com.synerset.unitility.unitsystem.util.UnitSymbolIndex;
 
-import java.util.function.DoubleUnaryOperator;
+import java.util.Optional;
 
 public enum AreaUnits implements AreaUnit {
 
-    SQUARE_METER("m²", val -> val, val -> val),
-    SQUARE_KILOMETER("km²", val -> val * 1_000_000, val -> val / 1_000_000),
-    SQUARE_CENTIMETER("cm²", val -> val / 10_000, val -> val * 10_000),
-    SQUARE_MILLIMETER("mm²", val -> val / 1_000_000, val -> val * 1_000_000),
-    ARE("a", val -> val * 100, val -> val / 100),
-    HECTARE("ha", val -> val * 10_000, val -> val / 10_000),
-    SQUARE_INCH("in²", val -> val * 0.00064516, val -> val / 0.00064516),
-    SQUARE_FOOT("ft²", val -> val * 0.09290304, val -> val / 0.09290304),
-    SQUARE_YARD("yd²", val -> val * 0.83612736, val -> val / 0.83612736),
-    ACRE("ac", val -> val * 4046.8564224, val -> val / 4046.8564224),
-    SQUARE_MILE("mi²", val -> val * 2589988.110336, val -> val / 2589988.110336);
+    SQUARE_METER("m²", 1.0),
+    SQUARE_KILOMETER("km²", 1_000_000.0),
+    SQUARE_CENTIMETER("cm²", AffineConversion.ofDivisor(10_000.0)),
+    SQUARE_MILLIMETER("mm²", AffineConversion.ofDivisor(1_000_000.0)),
+    ARE("a", 100.0),
+    HECTARE("ha", 10_000.0),
+    SQUARE_INCH("in²", 0.00064516),
+    SQUARE_FOOT("ft²", 0.09290304),
+    SQUARE_YARD("yd²", 0.83612736),
+    ACRE("ac", 4046.8564224),
+    SQUARE_MILE("mi²", 2589988.110336);
+
+    private static final SymbolNormalizer SYMBOL_NORMALIZER = SymbolNormalizer.builder()
+            .trimLowerAndClean()
+            .unifyAerialAndVol()
+            .build();
+    private static final UnitSymbolIndex<AreaUnits> SYMBOL_INDEX = UnitSymbolIndex.of(SYMBOL_NORMALIZER, values());
 
     private final String symbol;
-    private final DoubleUnaryOperator toBaseConverter;
-    private final DoubleUnaryOperator fromBaseToUnitConverter;
+    private final AffineConversion affineConversion;
+
+    AreaUnits(String symbol, double factor) {
+        this(symbol, AffineConversion.ofFactor(factor));
+    }
 
-    AreaUnits(String symbol, DoubleUnaryOperator toBaseConverter, DoubleUnaryOperator fromBaseToUnitConverter) {
+    AreaUnits(String symbol, AffineConversion affineConversion) {
         this.symbol = symbol;
-        this.toBaseConverter = toBaseConverter;
-        this.fromBaseToUnitConverter = fromBaseToUnitConverter;
+        this.affineConversion = affineConversion;
     }
 
     @Override
@@ -41,35 +51,56 @@ public enum AreaUnits implements AreaUnit {
 
     @Override
     public double toValueInBaseUnit(double valueInThisUnit) {
-        return toBaseConverter.applyAsDouble(valueInThisUnit);
+        return affineConversion.toBase(valueInThisUnit);
     }
 
     @Override
     public double fromValueInBaseUnit(double valueInBaseUnit) {
-        return fromBaseToUnitConverter.applyAsDouble(valueInBaseUnit);
+        return affineConversion.fromBase(valueInBaseUnit);
+    }
+
+    @Override
+    public AffineConversion getAffineConversion() {
+        return affineConversion;
+    }
+
+    @Override
+    public UnitSymbolIndex<AreaUnits> getSymbolIndex() {
+        return SYMBOL_INDEX;
     }
 
     public static AreaUnit fromSymbol(String rawSymbol) {
         if (rawSymbol == null || rawSymbol.isBlank()) {
             return SQUARE_METER;
         }
-        String requestedSymbol = unifySymbol(rawSymbol);
-        for (AreaUnit unit : values()) {
-            String currentSymbol = unifySymbol(unit.getSymbol());
-            if (currentSymbol.equalsIgnoreCase(requestedSymbol)) {
-                return unit;
-            }
+        AreaUnit unit = SYMBOL_INDEX.find(rawSymbol);
+        if (unit == null) {
+            throw new UnitSystemParseException(() -> "Unsupported unit symbol: " + "{" + rawSymbol + "}." + " Target class: "
+                    + AreaUnits.class.getSimpleName());
         }
-        throw new UnitSystemParseException("Unsupported unit symbol: " + "{" + rawSymbol + "}." + " Target class: "
-                + AreaUnits.class.getSimpleName());
+        return unit;
     }
 
-    private static String unifySymbol(String inputString) {
-        return StringTransformer.of(inputString)
-                .trimLowerAndClean()
-                .unifyAerialAndVol()
-                .toString();
+    /**
+     * Finds a unit by raw symbol, without throwing an exception for unsupported symbols.
+     *
+     * @param rawSymbol The raw symbol. Null or blank symbol resolves to the default unit.
+     * @return The matching unit, or an empty Optional if the symbol is not supported.
+     */
+    public static Optional<AreaUnit> tryFromSymbol(String rawSymbol) {
+        if (rawSymbol == null || rawSymbol.isBlank()) {
+            return Optional.of(SQUARE_METER);
+        }
+        return Optional.ofNullable(SYMBOL_INDEX.find(rawSymbol));
     }
 
+    /**
+     * Get the index of units by normalized symbols, including aliases.
+     *
+     * @return The symbol index of AreaUnits.
+     */
+    public static UnitSymbolIndex<AreaUnits> symbolIndex() {
+        return SYMBOL_INDEX;
+    }
 
 }
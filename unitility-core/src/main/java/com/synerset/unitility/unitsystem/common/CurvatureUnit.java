@@ -1,9 +1,14 @@
 package com.synerset.unitility.unitsystem.common;
 
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.UnitConverter;
 
 public interface CurvatureUnit extends Unit {
     @Override
     CurvatureUnit getBaseUnit();
 
+    default UnitConverter<CurvatureUnit> converterTo(CurvatureUnit targetUnit) {
+        return UnitConverter.of(this, targetUnit);
+    }
+
 }
\ No newline at end of file
@@ -1,29 +1,39 @@
 package com.synerset.unitility.unitsystem.common;
 
+import com.synerset.unitility.unitsystem.AffineConversion;
 import com.synerset.unitility.unitsystem.exceptions.UnitSystemParseException;
-import com.synerset.unitility.unitsystem.util.StringTransformer;
+import com.synerset.unitility.unitsystem.util.SymbolNormalizer;
+import com.synerset.unitility.unitsystem.util.UnitSymbolIndex;
 
-import java.util.function.DoubleUnaryOperator;
-
-import static java.lang.Math.toDegrees;
-import static java.lang.Math.toRadians;
+import java.util.Optional;
 
 public enum CurvatureUnits implements CurvatureUnit {
 
-    RADIANS_PER_METER("rad/m", val -> val, val -> val),
-    RADIANS_PER_FOOT("rad/ft", val -> val / 0.3048, val -> val * 0.3048),
-    DEGREES_PER_METER("°/m", Math::toRadians, Math::toDegrees),
-    DEGREES_PER_FOOT("°/ft", val -> toRadians(val) / 0.3048, val -> toDegrees(val) * 0.3048),
-    DEGREES_PER_HUNDRED_FEET("°/100ft", val -> toRadians(val) / 0.3048 * 100.0, val -> toDegrees(val) * 0.3048 /100.0);
+    RADIANS_PER_METER("rad/m", 1.0),
+    RADIANS_PER_FOOT("rad/ft", AffineConversion.ofDivisor(0.3048)),
+    DEGREES_PER_METER("°/m", AffineConversion.ofFactors(Math.PI / 180.0, 180.0 / Math.PI)),
+    DEGREES_PER_FOOT("°/ft", AffineConversion.ofFactors(Math.PI / 180.0, 180.0 / Math.PI)
+            .thenDivide(0.3048)),
+    DEGREES_PER_HUNDRED_FEET("°/100ft", AffineConversion.ofFactors(Math.PI / 180.0, 180.0 / Math.PI)
+            .thenDivide(0.3048).thenMultiply(100.0));
+
+    private static final SymbolNormalizer SYMBOL_NORMALIZER = SymbolNormalizer.builder()
+            .trimLowerAndClean()
+            .unifySymbolsOfAngle()
+            .unifyMultiAndDiv()
+            .build();
+    private static final UnitSymbolIndex<CurvatureUnits> SYMBOL_INDEX = UnitSymbolIndex.of(SYMBOL_NORMALIZER, values());
 
     private final String symbol;
-    private final DoubleUnaryOperator toBaseConverter;
-    private final DoubleUnaryOperator fromBaseToUnitConverter;
+    private final AffineConversion affineConversion;
+
+    CurvatureUnits(String symbol, double factor) {
+        this(symbol, AffineConversion.ofFactor(factor));
+    }
 
-    CurvatureUnits(String symbol, DoubleUnaryOperator toBaseConverter, DoubleUnaryOperator fromBaseToUnitConverter) {
+    CurvatureUnits(String symbol, AffineConversion affineConversion) {
         this.symbol = symbol;
-        this.toBaseConverter = toBaseConverter;
-        this.fromBaseToUnitConverter = fromBaseToUnitConverter;
+        this.affineConversion = affineConversion;
     }
 
     @Override
@@ -38,34 +48,55 @@ public enum CurvatureUnits implements CurvatureUnit {
 
     @Override
     public double toValueInBaseUnit(double valueInThisUnit) {
-        return toBaseConverter.applyAsDouble(valueInThisUnit);
+        return affineConversion.toBase(valueInThisUnit);
     }
 
     @Override
     public double fromValueInBaseUnit(double valueInBaseUnit) {
-        return fromBaseToUnitConverter.applyAsDouble(valueInBaseUnit);
+        return affineConversion.fromBase(valueInBaseUnit);
+    }
+
+    @Override
+    public AffineConversion getAffineConversion() {
+        return affineConversion;
+    }
+
+    @Override
+    public UnitSymbolIndex<CurvatureUnits> getSymbolIndex() {
+        return SYMBOL_INDEX;
     }
 
     public static CurvatureUnits fromSymbol(String rawSymbol) {
         if (rawSymbol == null || rawSymbol.isBlank()) {
             return RADIANS_PER_METER;
         }
-        String requestedSymbol = unifySymbol(rawSymbol);
-        for (CurvatureUnits unit : values()) {
-            String currentSymbol = unifySymbol(unit.getSymbol());
-            if (currentSymbol.equalsIgnoreCase(requestedSymbol)) {
-                return unit;
-            }
+        CurvatureUnits unit = SYMBOL_INDEX.find(rawSymbol);
+        if (unit == null) {
+            throw new UnitSystemParseException(() -> "Unsupported unit symbol: " + "{" + rawSymbol + "}." + " Target class: "
+                    + CurvatureUnits.class.getSimpleName());
+        }
+        return unit;
+    }
+
+    /**
+     * Finds a unit by raw symbol, without throwing an exception for unsupported symbols.
+     *
+     * @param rawSymbol The raw symbol. Null or blank symbol resolves to the default unit.
+     * @return The matching unit, or an empty Optional if the symbol is not supported.
+     */
+    public static Optional<CurvatureUnits> tryFromSymbol(String rawSymbol) {
+        if (rawSymbol == null || rawSymbol.isBlank()) {
+            return Optional.of(RADIANS_PER_METER);
         }
-        throw new UnitSystemParseException("Unsupported unit symbol: " + "{" + rawSymbol + "}." + " Target class: "
-                + CurvatureUnits.class.getSimpleName());
+        return Optional.ofNullable(SYMBOL_INDEX.find(rawSymbol));
     }
 
-    private static String unifySymbol(String inputString) {
-        return StringTransformer.of(inputString)
-                .trimLowerAndClean()
-                .unifySymbolsOfAngle()
-                .unifyMultiAndDiv()
-                .toString();
+    /**
+     * Get the index of units by normalized symbols, including aliases.
+     *
+     * @return The symbol index of CurvatureUnits.
+     */
+    public static UnitSymbolIndex<CurvatureUnits> symbolIndex() {
+        return SYMBOL_INDEX;
     }
 }
\ No newline at end of file
@@ -1,8 +1,13 @@
 package com.synerset.unitility.unitsystem.common;
 
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.UnitConverter;
 
 public interface DistanceUnit extends Unit {
     @Override
     DistanceUnit getBaseUnit();
+
+    default UnitConverter<DistanceUnit> converterTo(DistanceUnit targetUnit) {
+        return UnitConverter.of(this, targetUnit);
+    }
 }
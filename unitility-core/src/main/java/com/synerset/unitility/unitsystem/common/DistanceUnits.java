@@ -1,29 +1,38 @@
 package com.synerset.unitility.unitsystem.common;
 
+import com.synerset.unitility.unitsystem.AffineConversion;
 import com.synerset.unitility.unitsystem.exceptions.UnitSystemParseException;
-import com.synerset.unitility.unitsystem.util.StringTransformer;
+import com.synerset.unitility.unitsystem.util.SymbolNormalizer;
+import com.synerset.unitility.unitsystem.util.UnitSymbolIndex;
 
-import java.util.function.DoubleUnaryOperator;
+import java.util.Optional;
 
 public enum DistanceUnits implements DistanceUnit {
 
-    METER("m", val -> val, val -> val),
-    CENTIMETER("cm", val -> val / 100, val -> val * 100),
-    MILLIMETER("mm", val -> val / 1000, val -> val * 1000),
-    KILOMETER("km", val -> val * 1000, val -> val / 1000),
-    MILE("mi", val -> val * 1609.344, val -> val / 1609.344),
-    NAUTICAL_MILE("nmi", val -> val * 1852, val -> val / 1852),
-    FEET("ft", val -> val * 0.3048, val -> val / 0.3048),
-    INCH("in", val -> val * 0.0254, val -> val / 0.0254);
+    METER("m", 1.0),
+    CENTIMETER("cm", AffineConversion.ofDivisor(100.0)),
+    MILLIMETER("mm", AffineConversion.ofDivisor(1000.0)),
+    KILOMETER("km", 1000.0),
+    MILE("mi", 1609.344),
+    NAUTICAL_MILE("nmi", 1852.0),
+    FEET("ft", 0.3048),
+    INCH("in", 0.0254);
+
+    private static final SymbolNormalizer SYMBOL_NORMALIZER = SymbolNormalizer.builder()
+            .trimLowerAndClean()
+            .build();
+    private static final UnitSymbolIndex<DistanceUnits> SYMBOL_INDEX = UnitSymbolIndex.of(SYMBOL_NORMALIZER, values());
 
     private final String symbol;
-    private final DoubleUnaryOperator toBaseConverter;
-    private final DoubleUnaryOperator fromBaseToUnitConverter;
+    private final AffineConversion affineConversion;
+
+    DistanceUnits(String symbol, double factor) {
+        this(symbol, AffineConversion.ofFactor(factor));
+    }
 
-    DistanceUnits(String symbol, DoubleUnaryOperator toBaseConverter, DoubleUnaryOperator fromBaseToUnitConverter) {
+    DistanceUnits(String symbol, AffineConversion affineConversion) {
         this.symbol = symbol;
-        this.toBaseConverter = toBaseConverter;
-        this.fromBaseToUnitConverter = fromBaseToUnitConverter;
+        this.affineConversion = affineConversion;
     }
 
     @Override
@@ -38,34 +47,56 @@ public enum DistanceUnits implements DistanceUnit {
 
     @Override
     public double toValueInBaseUnit(double valueInThisUnit) {
-        return toBaseConverter.applyAsDouble(valueInThisUnit);
+        return affineConversion.toBase(valueInThisUnit);
     }
 
     @Override
     public double fromValueInBaseUnit(double valueInBaseUnit) {
-        return fromBaseToUnitConverter.applyAsDouble(valueInBaseUnit);
+        return affineConversion.fromBase(valueInBaseUnit);
+    }
+
+    @Override
+    public AffineConversion getAffineConversion() {
+        return affineConversion;
+    }
+
+    @Override
+    public UnitSymbolIndex<DistanceUnits> getSymbolIndex() {
+        return SYMBOL_INDEX;
     }
 
     public static DistanceUnit fromSymbol(String rawSymbol) {
         if (rawSymbol == null || rawSymbol.isBlank()) {
             return METER;
         }
-        String requestedSymbol = unifySymbol(rawSymbol);
-        for (DistanceUnit unit : values()) {
-            String currentSymbol = unifySymbol(unit.getSymbol());
-            if (currentSymbol.equalsIgnoreCase(requestedSymbol)) {
-                return unit;
-            }
+        DistanceUnit unit = SYMBOL_INDEX.find(rawSymbol);
+        if (unit == null) {
+            throw new UnitSystemParseException(() -> "Unsupported unit symbol: " + "{" + rawSymbol + "}." + " Target class: "
+                    + DistanceUnits.class.getSimpleName());
         }
-        throw new UnitSystemParseException("Unsupported unit symbol: " + "{" + rawSymbol + "}." + " Target class: "
-                + DistanceUnits.class.getSimpleName());
+        return unit;
     }
 
-    private static String unifySymbol(String inputString) {
-        return StringTransformer.of(inputString)
-                .trimLowerAndClean()
-                .toString();
+    /**
+     * Finds a unit by raw symbol, without throwing an exception for unsupported symbols.
+     *
+     * @param rawSymbol The raw symbol. Null or blank symbol resolves to the default unit.
+     * @return The matching unit, or an empty Optional if the symbol is not supported.
+     */
+    public static Optional<DistanceUnit> tryFromSymbol(String rawSymbol) {
+        if (rawSymbol == null || rawSymbol.isBlank()) {
+            return Optional.of(METER);
+        }
+        return Optional.ofNullable(SYMBOL_INDEX.find(rawSymbol));
     }
 
+    /**
+     * Get the index of units by normalized symbols, including aliases.
+     *
+     * @return The symbol index of DistanceUnits.
+     */
+    public static UnitSymbolIndex<DistanceUnits> symbolIndex() {
+        return SYMBOL_INDEX;
+    }
 
 }
@@ -1,8 +1,13 @@
 package com.synerset.unitility.unitsystem.common;
 
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.UnitConverter;
 
 public interface LinearMassDensityUnit extends Unit {
     @Override
     LinearMassDensityUnit getBaseUnit();
+
+    default UnitConverter<LinearMassDensityUnit> converterTo(LinearMassDensityUnit targetUnit) {
+        return UnitConverter.of(this, targetUnit);
+    }
 }
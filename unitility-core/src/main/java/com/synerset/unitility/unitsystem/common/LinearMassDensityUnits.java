@@ -1,25 +1,31 @@
 package com.synerset.unitility.unitsystem.common;
 
+import com.synerset.unitility.unitsystem.AffineConversion;
 import com.synerset.unitility.unitsystem.exceptions.UnitSystemParseException;
-import com.synerset.unitility.unitsystem.util.StringTransformer;
+import com.synerset.unitility.unitsystem.util.SymbolNormalizer;
+import com.synerset.unitility.unitsystem.util.UnitSymbolIndex;
 
-import java.util.function.DoubleUnaryOperator;
+import java.util.Optional;
 
 public enum LinearMassDensityUnits implements LinearMassDensityUnit {
 
-    KILOGRAM_PER_METER("kg/m", val -> val, val -> val),
-    TONNE_PER_METER("t/m", val -> val * 1000.0, val -> val / 1000.0),
-    OUNCE_PER_FOOT("oz/ft", val -> val * (0.028349523125 / 0.3048), val -> val / (0.028349523125 / 0.3048)),
-    POUND_PER_FOOT("lb/ft", val -> val * (0.45359237 / 0.3048), val -> val / (0.45359237 / 0.3048));
+    KILOGRAM_PER_METER("kg/m", 1.0),
+    TONNE_PER_METER("t/m", 1000.0),
+    OUNCE_PER_FOOT("oz/ft", 0.028349523125 / 0.3048),
+    POUND_PER_FOOT("lb/ft", 0.45359237 / 0.3048);
+
+    private static final SymbolNormalizer SYMBOL_NORMALIZER = SymbolNormalizer.builder()
+            .trimLowerAndClean()
+            .unifyMultiAndDiv()
+            .build();
+    private static final UnitSymbolIndex<LinearMassDensityUnits> SYMBOL_INDEX = UnitSymbolIndex.of(SYMBOL_NORMALIZER, values());
 
     private final String symbol;
-    private final DoubleUnaryOperator toBaseConverter;
-    private final DoubleUnaryOperator fromBaseToUnitConverter;
+    private final AffineConversion affineConversion;
 
-    LinearMassDensityUnits(String symbol, DoubleUnaryOperator toBaseConverter, DoubleUnaryOperator fromBaseToUnitConverter) {
+    LinearMassDensityUnits(String symbol, double factor) {
         this.symbol = symbol;
-        this.toBaseConverter = toBaseConverter;
-        this.fromBaseToUnitConverter = fromBaseToUnitConverter;
+        this.affineConversion = AffineConversion.ofFactor(factor);
     }
 
     @Override
@@ -34,35 +40,56 @@ public enum LinearMassDensityUnits implements LinearMassDensityUnit {
 
     @Override
     public double toValueInBaseUnit(double valueInThisUnit) {
-        return toBaseConverter.applyAsDouble(valueInThisUnit);
+        return affineConversion.toBase(valueInThisUnit);
     }
 
     @Override
     public double fromValueInBaseUnit(double valueInBaseUnit) {
-        return fromBaseToUnitConverter.applyAsDouble(valueInBaseUnit);
+        return affineConversion.fromBase(valueInBaseUnit);
+    }
+
+    @Override
+    public AffineConversion getAffineConversion() {
+        return affineConversion;
+    }
+
+    @Override
+    public UnitSymbolIndex<LinearMassDensityUnits> getSymbolIndex() {
+        return SYMBOL_INDEX;
     }
 
     public static LinearMassDensityUnit fromSymbol(String rawSymbol) {
         if (rawSymbol == null || rawSymbol.isBlank()) {
             return KILOGRAM_PER_METER;
         }
-        String requestedSymbol = unifySymbol(rawSymbol);
-        for (LinearMassDensityUnit unit : values()) {
-            String currentSymbol = unifySymbol(unit.getSymbol());
-            if (currentSymbol.equalsIgnoreCase(requestedSymbol)) {
-                return unit;
-            }
+        LinearMassDensityUnit unit = SYMBOL_INDEX.find(rawSymbol);
+        if (unit == null) {
+            throw new UnitSystemParseException(() -> "Unsupported unit symbol: " + "{" + rawSymbol + "}." + " Target class: "
+                                               + LinearMassDensityUnits.class.getSimpleName());
         }
-        throw new UnitSystemParseException("Unsupported unit symbol: " + "{" + rawSymbol + "}." + " Target class: "
-                                           + LinearMassDensityUnits.class.getSimpleName());
+        return unit;
     }
 
-    private static String unifySymbol(String inputString) {
-        return StringTransformer.of(inputString)
-                .trimLowerAndClean()
-                .unifyMultiAndDiv()
-                .toString();
+    /**
+     * Finds a unit by raw symbol, without throwing an exception for unsupported symbols.
+     *
+     * @param rawSymbol The raw symbol. Null or blank symbol resolves to the default unit.
+     * @return The matching unit, or an empty Optional if the symbol is not supported.
+     */
+    public static Optional<LinearMassDensityUnit> tryFromSymbol(String rawSymbol) {
+        if (rawSymbol == null || rawSymbol.isBlank()) {
+            return Optional.of(KILOGRAM_PER_METER);
+        }
+        return Optional.ofNullable(SYMBOL_INDEX.find(rawSymbol));
     }
 
+    /**
+     * Get the index of units by normalized symbols, including aliases.
+     *
+     * @return The symbol index of LinearMassDensityUnits.
+     */
+    public static UnitSymbolIndex<LinearMassDensityUnits> symbolIndex() {
+        return SYMBOL_INDEX;
+    }
 
 }
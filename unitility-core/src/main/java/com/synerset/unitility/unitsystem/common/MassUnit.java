@@ -1,8 +1,13 @@
 package com.synerset.unitility.unitsystem.common;
 
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.UnitConverter;
 
 public interface MassUnit extends Unit {
     @Override
     MassUnit getBaseUnit();
+
+    default UnitConverter<MassUnit> converterTo(MassUnit targetUnit) {
+        return UnitConverter.of(this, targetUnit);
+    }
 }
@@ -1,27 +1,32 @@
 package com.synerset.unitility.unitsystem.common;
 
+import com.synerset.unitility.unitsystem.AffineConversion;
 import com.synerset.unitility.unitsystem.exceptions.UnitSystemParseException;
-import com.synerset.unitility.unitsystem.util.StringTransformer;
+import com.synerset.unitility.unitsystem.util.SymbolNormalizer;
+import com.synerset.unitility.unitsystem.util.UnitSymbolIndex;
 
-import java.util.function.DoubleUnaryOperator;
+import java.util.Optional;
 
 public enum MassUnits implements MassUnit {
 
-    KILOGRAM("kg", val -> val, val -> val),
-    GRAM("g", val -> val * 0.001, val -> val / 0.001),
-    MILLIGRAM("mg", val -> val * 0.000001, val -> val / 0.000001),
-    TONNE_SI("t", val -> val * 1000.0, val -> val / 1000.0),
-    OUNCE("oz", val -> val * 0.028349523125, val -> val / 0.028349523125),
-    POUND("lb", val -> val * 0.45359237, val -> val / 0.45359237);
+    KILOGRAM("kg", 1.0),
+    GRAM("g", 0.001),
+    MILLIGRAM("mg", 0.000001),
+    TONNE_SI("t", 1000.0),
+    OUNCE("oz", 0.028349523125),
+    POUND("lb", 0.45359237);
+
+    private static final SymbolNormalizer SYMBOL_NORMALIZER = SymbolNormalizer.builder()
+            .trimLowerAndClean()
+            .build();
+    private static final UnitSymbolIndex<MassUnits> SYMBOL_INDEX = UnitSymbolIndex.of(SYMBOL_NORMALIZER, values());
 
     private final String symbol;
-    private final DoubleUnaryOperator toBaseConverter;
-    private final DoubleUnaryOperator fromBaseToUnitConverter;
+    private final AffineConversion affineConversion;
 
-    MassUnits(String symbol, DoubleUnaryOperator toBaseConverter, DoubleUnaryOperator fromBaseToUnitConverter) {
+    MassUnits(String symbol, double factor) {
         this.symbol = symbol;
-        this.toBaseConverter = toBaseConverter;
-        this.fromBaseToUnitConverter = fromBaseToUnitConverter;
+        this.affineConversion = AffineConversion.ofFactor(factor);
     }
 
     @Override
@@ -36,35 +41,56 @@ public enum MassUnits implements MassUnit {
 
     @Override
     public double toValueInBaseUnit(double valueInThisUnit) {
-        return toBaseConverter.applyAsDouble(valueInThisUnit);
+        return affineConversion.toBase(valueInThisUnit);
     }
 
     @Override
     public double fromValueInBaseUnit(double valueInBaseUnit) {
-        return fromBaseToUnitConverter.applyAsDouble(valueInBaseUnit);
+        return affineConversion.fromBase(valueInBaseUnit);
+    }
+
+    @Override
+    public AffineConversion getAffineConversion() {
+        return affineConversion;
+    }
+
+    @Override
+    public UnitSymbolIndex<MassUnits> getSymbolIndex() {
+        return SYMBOL_INDEX;
     }
 
     public static MassUnit fromSymbol(String rawSymbol) {
         if (rawSymbol == null || rawSymbol.isBlank()) {
             return KILOGRAM;
         }
-        String requestedSymbol = unifySymbol(rawSymbol);
-        for (MassUnit unit : values()) {
-            String currentSymbol = unifySymbol(unit.getSymbol());
-            if (currentSymbol.equalsIgnoreCase(requestedSymbol)) {
-                return unit;
-            }
+        MassUnit unit = SYMBOL_INDEX.find(rawSymbol);
+        if (unit == null) {
+            throw new UnitSystemParseException(() -> "Unsupported unit symbol: " + "{" + rawSymbol + "}." + " Target class: "
+                    + MassUnits.class.getSimpleName());
         }
-        throw new UnitSystemParseException("Unsupported unit symbol: " + "{" + rawSymbol + "}." + " Target class: "
-                + MassUnits.class.getSimpleName());
+        return unit;
     }
 
-    private static String unifySymbol(String inputString) {
-        return StringTransformer.of(inputString)
-                .trimLowerAndClean()
-                .toString();
+    /**
+     * Finds a unit by raw symbol, without throwing an exception for unsupported symbols.
+     *
+     * @param rawSymbol The raw symbol. Null or blank symbol resolves to the default unit.
+     * @return The matching unit, or an empty Optional if the symbol is not supported.
+     */
+    public static Optional<MassUnit> tryFromSymbol(String rawSymbol) {
+        if (rawSymbol == null || rawSymbol.isBlank()) {
+            return Optional.of(KILOGRAM);
+        }
+        return Optional.ofNullable(SYMBOL_INDEX.find(rawSymbol));
     }
 
-
+    /**
+     * Get the index of units by normalized symbols, including aliases.
+     *
+     * @return The symbol index of MassUnits.
+     */
+    public static UnitSymbolIndex<MassUnits> symbolIndex() {
+        return SYMBOL_INDEX;
+    }
 
 }
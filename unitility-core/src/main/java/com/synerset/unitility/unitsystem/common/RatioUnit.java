@@ -1,8 +1,13 @@
 package com.synerset.unitility.unitsystem.common;
 
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.UnitConverter;
 
 public interface RatioUnit extends Unit {
     @Override
     RatioUnit getBaseUnit();
+
+    default UnitConverter<RatioUnit> converterTo(RatioUnit targetUnit) {
+        return UnitConverter.of(this, targetUnit);
+    }
 }
@@ -1,8 +1,13 @@
 package com.synerset.unitility.unitsystem.common;
 
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.UnitConverter;
 
 public interface VelocityUnit extends Unit {
     @Override
     VelocityUnit getBaseUnit();
+
+    default UnitConverter<VelocityUnit> converterTo(VelocityUnit targetUnit) {
+        return UnitConverter.of(this, targetUnit);
+    }
 }
@@ -1,30 +1,40 @@
 package com.synerset.unitility.unitsystem.common;
 
+import com.synerset.unitility.unitsystem.AffineConversion;
 import com.synerset.unitility.unitsystem.exceptions.UnitSystemParseException;
-import com.synerset.unitility.unitsystem.util.StringTransformer;
+import com.synerset.unitility.unitsystem.util.SymbolNormalizer;
+import com.synerset.unitility.unitsystem.util.UnitSymbolIndex;
 
-import java.util.function.DoubleUnaryOperator;
+import java.util.Optional;
 
 public enum VelocityUnits implements VelocityUnit {
 
-    METER_PER_SECOND("m/s", val -> val, val -> val),
-    CENTIMETER_PER_SECOND("cm/s", val -> val / 100.0, val -> val * 100.0),
-    KILOMETER_PER_HOUR("km/h", val -> val / 3.6, val -> val * 3.6),
-    INCH_PER_SECOND("in/s", val -> val * 0.0254, val -> val / 0.0254),
-    FEET_PER_SECOND("ft/s", val -> val * 0.3048, val -> val / 0.3048),
-    FEET_PER_MINUTE("ft/min", val -> val * 0.00508, val -> val / 0.00508),
-    MILES_PER_HOUR("mph", val -> val * 0.44704, val -> val / 0.44704),
-    KNOT("kn", val -> val * 0.514444444444444, val -> val / 0.514444444444444),
-    MACH("Mach", val -> val * 340.29, val -> val / 340.29);
+    METER_PER_SECOND("m/s", 1.0),
+    CENTIMETER_PER_SECOND("cm/s", AffineConversion.ofDivisor(100.0)),
+    KILOMETER_PER_HOUR("km/h", AffineConversion.ofDivisor(3.6)),
+    INCH_PER_SECOND("in/s", 0.0254),
+    FEET_PER_SECOND("ft/s", 0.3048),
+    FEET_PER_MINUTE("ft/min", 0.00508),
+    MILES_PER_HOUR("mph", 0.44704),
+    KNOT("kn", 0.514444444444444),
+    MACH("Mach", 340.29);
+
+    private static final SymbolNormalizer SYMBOL_NORMALIZER = SymbolNormalizer.builder()
+            .trimLowerAndClean()
+            .unifyMultiAndDiv()
+            .build();
+    private static final UnitSymbolIndex<VelocityUnits> SYMBOL_INDEX = UnitSymbolIndex.of(SYMBOL_NORMALIZER, values());
 
     private final String symbol;
-    private final DoubleUnaryOperator toBaseConverter;
-    private final DoubleUnaryOperator fromBaseToUnitConverter;
+    private final AffineConversion affineConversion;
+
+    VelocityUnits(String symbol, double factor) {
+        this(symbol, AffineConversion.ofFactor(factor));
+    }
 
-    VelocityUnits(String symbol, DoubleUnaryOperator toBaseConverter, DoubleUnaryOperator fromBaseToUnitConverter) {
+    VelocityUnits(String symbol, AffineConversion affineConversion) {
         this.symbol = symbol;
-        this.toBaseConverter = toBaseConverter;
-        this.fromBaseToUnitConverter = fromBaseToUnitConverter;
+        this.affineConversion = affineConversion;
     }
 
     @Override
@@ -39,35 +49,56 @@ public enum VelocityUnits implements VelocityUnit {
 
     @Override
     public double toValueInBaseUnit(double valueInThisUnit) {
-        return toBaseConverter.applyAsDouble(valueInThisUnit);
+        return affineConversion.toBase(valueInThisUnit);
     }
 
     @Override
     public double fromValueInBaseUnit(double valueInBaseUnit) {
-        return fromBaseToUnitConverter.applyAsDouble(valueInBaseUnit);
+        return affineConversion.fromBase(valueInBaseUnit);
+    }
+
+    @Override
+    public AffineConversion getAffineConversion() {
+        return affineConversion;
+    }
+
+    @Override
+    public UnitSymbolIndex<VelocityUnits> getSymbolIndex() {
+        return SYMBOL_INDEX;
     }
 
     public static VelocityUnit fromSymbol(String rawSymbol) {
         if (rawSymbol == null || rawSymbol.isBlank()) {
             return METER_PER_SECOND;
         }
-        String requestedSymbol = unifySymbol(rawSymbol);
-        for (VelocityUnit unit : values()) {
-            String currentSymbol = unifySymbol(unit.getSymbol());
-            if (currentSymbol.equalsIgnoreCase(requestedSymbol)) {
-                return unit;
-            }
+        VelocityUnit unit = SYMBOL_INDEX.find(rawSymbol);
+        if (unit == null) {
+            throw new UnitSystemParseException(() -> "Unsupported unit symbol: " + "{" + rawSymbol + "}." + " Target class: "
+                    + VelocityUnits.class.getSimpleName());
         }
-        throw new UnitSystemParseException("Unsupported unit symbol: " + "{" + rawSymbol + "}." + " Target class: "
-                + VelocityUnits.class.getSimpleName());
+        return unit;
     }
 
-    private static String unifySymbol(String inputString) {
-        return StringTransformer.of(inputString)
-                .trimLowerAndClean()
-                .unifyMultiAndDiv()
-                .toString();
+    /**
+     * Finds a unit by raw symbol, without throwing an exception for unsupported symbols.
+     *
+     * @param rawSymbol The raw symbol. Null or blank symbol resolves to the default unit.
+     * @return The matching unit, or an empty Optional if the symbol is not supported.
+     */
+    public static Optional<VelocityUnit> tryFromSymbol(String rawSymbol) {
+        if (rawSymbol == null || rawSymbol.isBlank()) {
+            return Optional.of(METER_PER_SECOND);
+        }
+        return Optional.ofNullable(SYMBOL_INDEX.find(rawSymbol));
     }
 
+    /**
+     * Get the index of units by normalized symbols, including aliases.
+     *
+     * @return The symbol index of VelocityUnits.
+     */
+    public static UnitSymbolIndex<VelocityUnits> symbolIndex() {
+        return SYMBOL_INDEX;
+    }
 
 }
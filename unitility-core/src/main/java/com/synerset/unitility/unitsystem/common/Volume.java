@@ -207,13 +207,13 @@ public class Volume implements CalculableQuantity<VolumeUnit, Volume> {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Volume inputQuantity = (Volume) o;
-        return Double.compare(inputQuantity.toBaseUnit().getValue(), baseValue) == 0
+        return Double.compare(inputQuantity.getBaseValue(), baseValue) == 0
                && Objects.equals(unitType.getBaseUnit(), inputQuantity.getUnit().getBaseUnit());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(baseValue, unitType.getBaseUnit());
+        return 31 * Double.hashCode(baseValue) + unitType.getBaseUnit().hashCode();
     }
 
     @Override
@@ -1,8 +1,13 @@
 package com.synerset.unitility.unitsystem.common;
 
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.UnitConverter;
 
 public interface VolumeUnit extends Unit {
     @Override
     VolumeUnit getBaseUnit();
+
+    default UnitConverter<VolumeUnit> converterTo(VolumeUnit targetUnit) {
+        return UnitConverter.of(this, targetUnit);
+    }
 }
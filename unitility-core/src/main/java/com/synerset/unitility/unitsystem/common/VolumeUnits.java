@@ -1,34 +1,48 @@
 package com.synerset.unitility.unitsystem.common;
 
+import com.synerset.unitility.unitsystem.AffineConversion;
 import com.synerset.unitility.unitsystem.exceptions.UnitSystemParseException;
-import com.synerset.unitility.unitsystem.util.StringTransformer;
+import com.synerset.unitility.unitsystem.util.SymbolNormalizer;
+import com.synerset.unitility.unitsystem.util.UnitSymbolIndex;
 
-import java.util.function.DoubleUnaryOperator;
+import java.util.Optional;
 
 public enum VolumeUnits implements VolumeUnit {
 
-    CUBIC_METER("m³", val -> val, val -> val),
-    CUBIC_CENTIMETER("cm³", val -> val * 0.000001, val -> val * 1000000.0),
-    CUBIC_DECIMETER("dm³", val -> val * 0.001, val -> val * 1000.0),
+    CUBIC_METER("m³", 1.0),
+    CUBIC_CENTIMETER("cm³", AffineConversion.ofFactors(0.000001, 1000000.0)),
+    CUBIC_DECIMETER("dm³", AffineConversion.ofFactors(0.001, 1000.0)),
     @Deprecated(forRemoval = true)
-    CUBIC_FEET("ft³", val -> val * 0.0283168466, val -> val / 0.0283168466),
-    CUBIC_FOOT("ft³", val -> val * 0.0283168466, val -> val / 0.0283168466),
-    LITRE("l", val -> val * 0.001, val -> val * 1000.0),
-    HECTOLITRE("hl", val -> val * 0.1, val -> val * 10.0),
-    MILLILITRE("ml", val -> val * 0.000001, val -> val * 1000000.0),
-    OUNCE("fl.oz", val -> val * 0.0000295735295625, val -> val / 0.0000295735295625),
-    PINT("pt", val -> val * 0.000473176473, val -> val / 0.000473176473),
-    GALLON_US("gal_US", val -> val * 0.003785411784, val -> val / 0.003785411784),
-    GALLON_UK("gal_UK", val -> val * 0.00454608999999, val -> val / 0.00454608999999);
+    CUBIC_FEET("ft³", 0.0283168466),
+    CUBIC_FOOT("ft³", 0.0283168466),
+    LITRE("l", AffineConversion.ofFactors(0.001, 1000.0)),
+    HECTOLITRE("hl", AffineConversion.ofFactors(0.1, 10.0)),
+    MILLILITRE("ml", AffineConversion.ofFactors(0.000001, 1000000.0)),
+    OUNCE("fl.oz", 0.0000295735295625),
+    PINT("pt", 0.000473176473),
+    GALLON_US("gal_US", 0.003785411784),
+    GALLON_UK("gal_UK", 0.00454608999999);
+
+    private static final SymbolNormalizer SYMBOL_NORMALIZER = SymbolNormalizer.builder()
+            .trimLowerAndClean()
+            .unifyMultiAndDiv()
+            .unifyAerialAndVol()
+            .build();
+    private static final UnitSymbolIndex<VolumeUnits> SYMBOL_INDEX = UnitSymbolIndex.<VolumeUnits>builder(SYMBOL_NORMALIZER)
+            .addAll(values())
+            .addAliases(GALLON_UK, "gal")
+            .build();
 
     private final String symbol;
-    private final DoubleUnaryOperator toBaseConverter;
-    private final DoubleUnaryOperator fromBaseToUnitConverter;
+    private final AffineConversion affineConversion;
+
+    VolumeUnits(String symbol, double factor) {
+        this(symbol, AffineConversion.ofFactor(factor));
+    }
 
-    VolumeUnits(String symbol, DoubleUnaryOperator toBaseConverter, DoubleUnaryOperator fromBaseToUnitConverter) {
+    VolumeUnits(String symbol, AffineConversion affineConversion) {
         this.symbol = symbol;
-        this.toBaseConverter = toBaseConverter;
-        this.fromBaseToUnitConverter = fromBaseToUnitConverter;
+        this.affineConversion = affineConversion;
     }
 
     @Override
@@ -43,43 +57,56 @@ public enum VolumeUnits implements VolumeUnit {
 
     @Override
     public double toValueInBaseUnit(double valueInThisUnit) {
-        return toBaseConverter.applyAsDouble(valueInThisUnit);
+        return affineConversion.toBase(valueInThisUnit);
     }
 
     @Override
     public double fromValueInBaseUnit(double valueInBaseUnit) {
-        return fromBaseToUnitConverter.applyAsDouble(valueInBaseUnit);
+        return affineConversion.fromBase(valueInBaseUnit);
+    }
+
+    @Override
+    public AffineConversion getAffineConversion() {
+        return affineConversion;
+    }
+
+    @Override
+    public UnitSymbolIndex<VolumeUnits> getSymbolIndex() {
+        return SYMBOL_INDEX;
     }
 
     public static VolumeUnit fromSymbol(String rawSymbol) {
         if (rawSymbol == null || rawSymbol.isBlank()) {
             return CUBIC_METER;
         }
-        String requestedSymbol = unifySymbol(rawSymbol);
-        for (VolumeUnit unit : values()) {
-            if (hasMatchBeenFound(unit, requestedSymbol)) {
-                return unit;
-            }
+        VolumeUnit unit = SYMBOL_INDEX.find(rawSymbol);
+        if (unit == null) {
+            throw new UnitSystemParseException(() -> "Unsupported unit symbol: " + "{" + rawSymbol + "}." + " Target class: "
+                                               + VolumeUnits.class.getSimpleName());
         }
-        throw new UnitSystemParseException("Unsupported unit symbol: " + "{" + rawSymbol + "}." + " Target class: "
-                                           + VolumeUnits.class.getSimpleName());
+        return unit;
     }
 
-    private static String unifySymbol(String inputString) {
-        return StringTransformer.of(inputString)
-                .trimLowerAndClean()
-                .unifyMultiAndDiv()
-                .unifyAerialAndVol()
-                .toString();
+    /**
+     * Finds a unit by raw symbol, without throwing an exception for unsupported symbols.
+     *
+     * @param rawSymbol The raw symbol. Null or blank symbol resolves to the default unit.
+     * @return The matching unit, or an empty Optional if the symbol is not supported.
+     */
+    public static Optional<VolumeUnit> tryFromSymbol(String rawSymbol) {
+        if (rawSymbol == null || rawSymbol.isBlank()) {
+            return Optional.of(CUBIC_METER);
+        }
+        return Optional.ofNullable(SYMBOL_INDEX.find(rawSymbol));
     }
 
-    private static boolean hasMatchBeenFound(VolumeUnit currentUnit, String requestedSymbol) {
-        String currentSymbol = unifySymbol(currentUnit.getSymbol());
-        if (currentUnit == VolumeUnits.GALLON_UK) {
-            String truncatedSymbol = currentSymbol.replace("uk", "");
-            return truncatedSymbol.equalsIgnoreCase(requestedSymbol) || currentSymbol.equalsIgnoreCase(requestedSymbol);
-        }
-        return currentSymbol.equalsIgnoreCase(requestedSymbol);
+    /**
+     * Get the index of units by normalized symbols, including aliases.
+     *
+     * @return The symbol index of VolumeUnits.
+     */
+    public static UnitSymbolIndex<VolumeUnits> symbolIndex() {
+        return SYMBOL_INDEX;
     }
 
 }
@@ -2,8 +2,6 @@ package com.synerset.unitility.unitsystem.dimensionless;
 
 import com.synerset.unitility.unitsystem.CalculableQuantity;
 
-import java.util.Objects;
-
 public class BypassFactor implements CalculableQuantity<BypassFactorUnit, BypassFactor> {
 
     public static final BypassFactor BF_PHYSICAL_MIN = BypassFactor.of(0);
@@ -75,7 +73,7 @@ public class BypassFactor implements CalculableQuantity<BypassFactorUnit, Bypass
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return Double.hashCode(value);
     }
 
 }
@@ -1,8 +1,13 @@
 package com.synerset.unitility.unitsystem.dimensionless;
 
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.UnitConverter;
 
 public interface BypassFactorUnit extends Unit {
     @Override
     BypassFactorUnit getBaseUnit();
+
+    default UnitConverter<BypassFactorUnit> converterTo(BypassFactorUnit targetUnit) {
+        return UnitConverter.of(this, targetUnit);
+    }
 }
@@ -1,20 +1,17 @@
 package com.synerset.unitility.unitsystem.dimensionless;
 
-
-import java.util.function.DoubleUnaryOperator;
+import com.synerset.unitility.unitsystem.AffineConversion;
 
 public enum BypassFactorUnits implements BypassFactorUnit {
 
-    DIMENSIONLESS("", val -> val, val -> val);
+    DIMENSIONLESS("", 1.0);
 
     private final String symbol;
-    private final DoubleUnaryOperator toBaseConverter;
-    private final DoubleUnaryOperator fromBaseToUnitConverter;
+    private final AffineConversion affineConversion;
 
-    BypassFactorUnits(String symbol, DoubleUnaryOperator toBaseConverter, DoubleUnaryOperator fromBaseToUnitConverter) {
+    BypassFactorUnits(String symbol, double factor) {
         this.symbol = symbol;
-        this.toBaseConverter = toBaseConverter;
-        this.fromBaseToUnitConverter = fromBaseToUnitConverter;
+        this.affineConversion = AffineConversion.ofFactor(factor);
     }
 
     @Override
@@ -29,12 +26,17 @@ public enum BypassFactorUnits implements BypassFactorUnit {
 
     @Override
     public double toValueInBaseUnit(double valueInThisUnit) {
-        return toBaseConverter.applyAsDouble(valueInThisUnit);
+        return affineConversion.toBase(valueInThisUnit);
     }
 
     @Override
     public double fromValueInBaseUnit(double valueInBaseUnit) {
-        return fromBaseToUnitConverter.applyAsDouble(valueInBaseUnit);
+        return affineConversion.fromBase(valueInBaseUnit);
+    }
+
+    @Override
+    public AffineConversion getAffineConversion() {
+        return affineConversion;
     }
 
 }
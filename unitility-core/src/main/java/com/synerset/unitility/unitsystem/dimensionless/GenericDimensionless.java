@@ -2,8 +2,6 @@ package com.synerset.unitility.unitsystem.dimensionless;
 
 import com.synerset.unitility.unitsystem.CalculableQuantity;
 
-import java.util.Objects;
-
 public class GenericDimensionless implements CalculableQuantity<GenericDimensionlessUnit, GenericDimensionless> {
 
     private final double value;
@@ -71,7 +69,7 @@ public class GenericDimensionless implements CalculableQuantity<GenericDimension
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return Double.hashCode(value);
     }
 
 }
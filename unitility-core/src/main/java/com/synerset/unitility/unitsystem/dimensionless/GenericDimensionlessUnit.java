@@ -1,8 +1,13 @@
 package com.synerset.unitility.unitsystem.dimensionless;
 
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.UnitConverter;
 
 public interface GenericDimensionlessUnit extends Unit {
     @Override
     GenericDimensionlessUnit getBaseUnit();
+
+    default UnitConverter<GenericDimensionlessUnit> converterTo(GenericDimensionlessUnit targetUnit) {
+        return UnitConverter.of(this, targetUnit);
+    }
 }
@@ -2,8 +2,6 @@ package com.synerset.unitility.unitsystem.dimensionless;
 
 import com.synerset.unitility.unitsystem.CalculableQuantity;
 
-import java.util.Objects;
-
 public class GrashofNumber implements CalculableQuantity<GrashofNumberUnit, GrashofNumber> {
     private final double value;
     private final double baseValue;
@@ -70,7 +68,7 @@ public class GrashofNumber implements CalculableQuantity<GrashofNumberUnit, Gras
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return Double.hashCode(value);
     }
 
 }
@@ -1,8 +1,13 @@
 package com.synerset.unitility.unitsystem.dimensionless;
 
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.UnitConverter;
 
 public interface GrashofNumberUnit extends Unit {
     @Override
     GrashofNumberUnit getBaseUnit();
+
+    default UnitConverter<GrashofNumberUnit> converterTo(GrashofNumberUnit targetUnit) {
+        return UnitConverter.of(this, targetUnit);
+    }
 }
@@ -1,8 +1,13 @@
 package com.synerset.unitility.unitsystem.dimensionless;
 
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.UnitConverter;
 
 public interface PrandtlNumberUnit extends Unit {
     @Override
     PrandtlNumberUnit getBaseUnit();
+
+    default UnitConverter<PrandtlNumberUnit> converterTo(PrandtlNumberUnit targetUnit) {
+        return UnitConverter.of(this, targetUnit);
+    }
 }
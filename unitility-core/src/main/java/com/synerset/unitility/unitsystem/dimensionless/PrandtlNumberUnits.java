@@ -1,20 +1,17 @@
 package com.synerset.unitility.unitsystem.dimensionless;
 
-
-import java.util.function.DoubleUnaryOperator;
+import com.synerset.unitility.unitsystem.AffineConversion;
 
 public enum PrandtlNumberUnits implements PrandtlNumberUnit {
 
-    DIMENSIONLESS("", val -> val, val -> val);
+    DIMENSIONLESS("", 1.0);
 
     private final String symbol;
-    private final DoubleUnaryOperator toBaseConverter;
-    private final DoubleUnaryOperator fromBaseToUnitConverter;
+    private final AffineConversion affineConversion;
 
-    PrandtlNumberUnits(String symbol, DoubleUnaryOperator toBaseConverter, DoubleUnaryOperator fromBaseToUnitConverter) {
+    PrandtlNumberUnits(String symbol, double factor) {
         this.symbol = symbol;
-        this.toBaseConverter = toBaseConverter;
-        this.fromBaseToUnitConverter = fromBaseToUnitConverter;
+        this.affineConversion = AffineConversion.ofFactor(factor);
     }
 
     @Override
@@ -29,11 +26,16 @@ public enum PrandtlNumberUnits implements PrandtlNumberUnit {
 
     @Override
     public double toValueInBaseUnit(double valueInThisUnit) {
-        return toBaseConverter.applyAsDouble(valueInThisUnit);
+        return affineConversion.toBase(valueInThisUnit);
     }
 
     @Override
     public double fromValueInBaseUnit(double valueInBaseUnit) {
-        return fromBaseToUnitConverter.applyAsDouble(valueInBaseUnit);
+        return affineConversion.fromBase(valueInBaseUnit);
+    }
+
+    @Override
+    public AffineConversion getAffineConversion() {
+        return affineConversion;
     }
 }
@@ -2,8 +2,6 @@ package com.synerset.unitility.unitsystem.dimensionless;
 
 import com.synerset.unitility.unitsystem.CalculableQuantity;
 
-import java.util.Objects;
-
 public class ReynoldsNumber implements CalculableQuantity<ReynoldsNumberUnit, ReynoldsNumber> {
 
     public static final ReynoldsNumber PIPE_TURBULENT_THRESHOLD = ReynoldsNumber.of(2300);
@@ -74,7 +72,7 @@ public class ReynoldsNumber implements CalculableQuantity<ReynoldsNumberUnit, Re
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return Double.hashCode(value);
     }
 
 }
@@ -1,8 +1,13 @@
 package com.synerset.unitility.unitsystem.dimensionless;
 
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.UnitConverter;
 
 public interface ReynoldsNumberUnit extends Unit {
     @Override
     ReynoldsNumberUnit getBaseUnit();
+
+    default UnitConverter<ReynoldsNumberUnit> converterTo(ReynoldsNumberUnit targetUnit) {
+        return UnitConverter.of(this, targetUnit);
+    }
 }
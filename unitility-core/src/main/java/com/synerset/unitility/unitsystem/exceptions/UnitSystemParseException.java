@@ -1,8 +1,88 @@
 package com.synerset.unitility.unitsystem.exceptions;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.function.Supplier;
+
+/**
+ * Thrown when input cannot be parsed to a quantity or unit. To keep rejection of malformed input cheap, the message can
+ * be provided lazily, and capturing of stack traces can be disabled globally with system property
+ * {@code unitility.exceptions.stackless=true}.
+ */
 public class UnitSystemParseException extends RuntimeException {
+
+    static final String STACKLESS_PROPERTY = "unitility.exceptions.stackless";
+    private static final boolean STACKLESS = readStacklessProperty();
+    private static final StackTraceElement[] NO_STACK_TRACE = new StackTraceElement[0];
+
+    private transient Supplier<String> messageSupplier;
+    private String message;
+
     public UnitSystemParseException(String message) {
+        this(message, STACKLESS);
+    }
+
+    /**
+     * Creates an exception with a message which is built only when it is requested for the first time.
+     *
+     * @param messageSupplier The supplier of exception message.
+     */
+    public UnitSystemParseException(Supplier<String> messageSupplier) {
+        this(messageSupplier, STACKLESS);
+    }
+
+    // Cause is left unset, so that it can still be initialized with initCause
+    UnitSystemParseException(String message, boolean stackless) {
         super(message);
+        this.message = message;
+        if (stackless) {
+            setStackTrace(NO_STACK_TRACE);
+        }
+    }
+
+    UnitSystemParseException(Supplier<String> messageSupplier, boolean stackless) {
+        super();
+        this.messageSupplier = messageSupplier;
+        if (stackless) {
+            setStackTrace(NO_STACK_TRACE);
+        }
+    }
+
+    /**
+     * Captures the stack trace, unless stack traces of parse exceptions are disabled globally.
+     *
+     * @return This exception.
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return STACKLESS ? this : super.fillInStackTrace();
+    }
+
+    @Override
+    public synchronized String getMessage() {
+        if (messageSupplier != null) {
+            message = messageSupplier.get();
+            messageSupplier = null;
+        }
+        return message;
+    }
+
+    private synchronized void writeObject(ObjectOutputStream outputStream) throws IOException {
+        getMessage();
+        outputStream.defaultWriteObject();
+    }
+
+    /**
+     * Checks if stack traces of parse exceptions are disabled.
+     *
+     * @return True if parse exceptions are created without stack traces.
+     */
+    public static boolean isStackless() {
+        return STACKLESS;
+    }
+
+    static boolean readStacklessProperty() {
+        return Boolean.getBoolean(STACKLESS_PROPERTY);
     }
 
 }
@@ -1,8 +1,13 @@
 package com.synerset.unitility.unitsystem.flow;
 
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.UnitConverter;
 
 public interface MassFlowUnit extends Unit {
     @Override
     MassFlowUnit getBaseUnit();
+
+    default UnitConverter<MassFlowUnit> converterTo(MassFlowUnit targetUnit) {
+        return UnitConverter.of(this, targetUnit);
+    }
 }
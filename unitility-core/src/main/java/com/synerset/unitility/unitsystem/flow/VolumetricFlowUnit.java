@@ -1,8 +1,13 @@
 package com.synerset.unitility.unitsystem.flow;
 
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.UnitConverter;
 
 public interface VolumetricFlowUnit extends Unit {
     @Override
     VolumetricFlowUnit getBaseUnit();
+
+    default UnitConverter<VolumetricFlowUnit> converterTo(VolumetricFlowUnit targetUnit) {
+        return UnitConverter.of(this, targetUnit);
+    }
 }
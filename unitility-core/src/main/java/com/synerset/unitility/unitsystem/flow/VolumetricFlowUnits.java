@@ -1,34 +1,51 @@
 package com.synerset.unitility.unitsystem.flow;
 
+import com.synerset.unitility.unitsystem.AffineConversion;
 import com.synerset.unitility.unitsystem.exceptions.UnitSystemParseException;
-import com.synerset.unitility.unitsystem.util.StringTransformer;
+import com.synerset.unitility.unitsystem.util.SymbolNormalizer;
+import com.synerset.unitility.unitsystem.util.UnitSymbolIndex;
 
-import java.util.function.DoubleUnaryOperator;
+import java.util.Optional;
 
 public enum VolumetricFlowUnits implements VolumetricFlowUnit {
 
-    CUBIC_METERS_PER_SECOND("m³/s", val -> val, val -> val),
-    CUBIC_METERS_PER_MINUTE("m³/min", val -> val / 60.0, val -> val * 60.0),
-    CUBIC_METERS_PER_HOUR("m³/h", val -> val / 3600.0, val -> val * 3600.0),
-    CUBIC_FEET_PER_MINUTE("ft³/min", val -> val / 2118.880003289315415, val -> val * 2118.880003289315415),
-    LITRE_PER_SECOND("l/s", val -> val / 1000.0, val -> val * 1000.0),
-    LITRE_PER_MINUTE("l/min", val -> val / 60000.0, val -> val * 60000.0),
-    LITRE_PER_HOUR("l/h", val -> val / 3600000.0, val -> val * 3600000.0),
-    GALLONS_PER_SECOND_US("gal/s_US", val -> val / 264.17205236, val -> val * 264.17205236),
-    GALLONS_PER_MINUTE_US("gal/min_US", val -> val / 15850.323141, val -> val * 15850.323141),
-    GALLONS_PER_HOUR_US("gal/h_US", val -> val / 951019.38849, val -> val * 951019.38849),
-    GALLONS_PER_SECOND_UK("gal/s_UK", val -> val / 219.9692483, val -> val * 219.9692483),
-    GALLONS_PER_MINUTE_UK("gal/min_UK", val -> val / 13198.154898, val -> val * 13198.154898),
-    GALLONS_PER_HOUR_UK("gal/h_UK", val -> val / 791889.29388, val -> val * 791889.29388);
+    CUBIC_METERS_PER_SECOND("m³/s", 1.0),
+    CUBIC_METERS_PER_MINUTE("m³/min", AffineConversion.ofDivisor(60.0)),
+    CUBIC_METERS_PER_HOUR("m³/h", AffineConversion.ofDivisor(3600.0)),
+    CUBIC_FEET_PER_MINUTE("ft³/min", AffineConversion.ofDivisor(2118.880003289315415)),
+    LITRE_PER_SECOND("l/s", AffineConversion.ofDivisor(1000.0)),
+    LITRE_PER_MINUTE("l/min", AffineConversion.ofDivisor(60000.0)),
+    LITRE_PER_HOUR("l/h", AffineConversion.ofDivisor(3600000.0)),
+    GALLONS_PER_SECOND_US("gal/s_US", AffineConversion.ofDivisor(264.17205236)),
+    GALLONS_PER_MINUTE_US("gal/min_US", AffineConversion.ofDivisor(15850.323141)),
+    GALLONS_PER_HOUR_US("gal/h_US", AffineConversion.ofDivisor(951019.38849)),
+    GALLONS_PER_SECOND_UK("gal/s_UK", AffineConversion.ofDivisor(219.9692483)),
+    GALLONS_PER_MINUTE_UK("gal/min_UK", AffineConversion.ofDivisor(13198.154898)),
+    GALLONS_PER_HOUR_UK("gal/h_UK", AffineConversion.ofDivisor(791889.29388));
+
+    private static final SymbolNormalizer SYMBOL_NORMALIZER = SymbolNormalizer.builder()
+            .trimLowerAndClean()
+            .unifyMultiAndDiv()
+            .unifyAerialAndVol()
+            .replace("cfm", "ft3pmin")
+            .build();
+    private static final UnitSymbolIndex<VolumetricFlowUnits> SYMBOL_INDEX = UnitSymbolIndex.<VolumetricFlowUnits>builder(SYMBOL_NORMALIZER)
+            .addAll(values())
+            .addAliases(GALLONS_PER_SECOND_UK, "gal/s")
+            .addAliases(GALLONS_PER_MINUTE_UK, "gal/min")
+            .addAliases(GALLONS_PER_HOUR_UK, "gal/h")
+            .build();
 
     private final String symbol;
-    private final DoubleUnaryOperator toBaseConverter;
-    private final DoubleUnaryOperator fromBaseToUnitConverter;
+    private final AffineConversion affineConversion;
 
-    VolumetricFlowUnits(String symbol, DoubleUnaryOperator toBaseConverter, DoubleUnaryOperator fromBaseToUnitConverter) {
+    VolumetricFlowUnits(String symbol, double factor) {
+        this(symbol, AffineConversion.ofFactor(factor));
+    }
+
+    VolumetricFlowUnits(String symbol, AffineConversion affineConversion) {
         this.symbol = symbol;
-        this.toBaseConverter = toBaseConverter;
-        this.fromBaseToUnitConverter = fromBaseToUnitConverter;
+        this.affineConversion = affineConversion;
     }
 
     @Override
@@ -43,12 +60,22 @@ public enum VolumetricFlowUnits implements VolumetricFlowUnit {
 
     @Override
     public double toValueInBaseUnit(double valueInThisUnit) {
-        return toBaseConverter.applyAsDouble(valueInThisUnit);
+        return affineConversion.toBase(valueInThisUnit);
     }
 
     @Override
     public double fromValueInBaseUnit(double valueInBaseUnit) {
-        return fromBaseToUnitConverter.applyAsDouble(valueInBaseUnit);
+        return affineConversion.fromBase(valueInBaseUnit);
+    }
+
+    @Override
+    public AffineConversion getAffineConversion() {
+        return affineConversion;
+    }
+
+    @Override
+    public UnitSymbolIndex<VolumetricFlowUnits> getSymbolIndex() {
+        return SYMBOL_INDEX;
     }
 
     public static VolumetricFlowUnit fromSymbol(String rawSymbol) {
@@ -56,34 +83,34 @@ public enum VolumetricFlowUnits implements VolumetricFlowUnit {
             return CUBIC_METERS_PER_SECOND;
         }
 
-        String requestedSymbol = unifySymbol(rawSymbol);
-        for (VolumetricFlowUnit unit : values()) {
-            if (hasMatchBeenFound(unit, requestedSymbol)) {
-                return unit;
-            }
+        VolumetricFlowUnit unit = SYMBOL_INDEX.find(rawSymbol);
+        if (unit == null) {
+            throw new UnitSystemParseException(() -> "Unsupported unit symbol: " + "{" + rawSymbol + "}." + " Target class: "
+                                               + VolumetricFlowUnits.class.getSimpleName());
         }
-        throw new UnitSystemParseException("Unsupported unit symbol: " + "{" + rawSymbol + "}." + " Target class: "
-                                           + VolumetricFlowUnits.class.getSimpleName());
-    }
-
-    private static String unifySymbol(String inputString) {
-        return StringTransformer.of(inputString)
-                .trimLowerAndClean()
-                .unifyMultiAndDiv()
-                .unifyAerialAndVol()
-                .replace("cfm", "ft3pmin")
-                .toString();
+        return unit;
     }
 
-    private static boolean hasMatchBeenFound(VolumetricFlowUnit currentUnit, String requestedSymbol) {
-        String currentSymbol = unifySymbol(currentUnit.getSymbol());
-        if (currentUnit == VolumetricFlowUnits.GALLONS_PER_HOUR_UK || currentUnit == VolumetricFlowUnits.GALLONS_PER_MINUTE_UK
-            || currentUnit == VolumetricFlowUnits.GALLONS_PER_SECOND_UK) {
-            String truncatedSymbol = currentSymbol.replace("uk", "");
-            return truncatedSymbol.equalsIgnoreCase(requestedSymbol) || currentSymbol.equalsIgnoreCase(requestedSymbol);
+    /**
+     * Finds a unit by raw symbol, without throwing an exception for unsupported symbols.
+     *
+     * @param rawSymbol The raw symbol. Null or blank symbol resolves to the default unit.
+     * @return The matching unit, or an empty Optional if the symbol is not supported.
+     */
+    public static Optional<VolumetricFlowUnit> tryFromSymbol(String rawSymbol) {
+        if (rawSymbol == null || rawSymbol.isBlank()) {
+            return Optional.of(CUBIC_METERS_PER_SECOND);
         }
-        return currentSymbol.equalsIgnoreCase(requestedSymbol);
+        return Optional.ofNullable(SYMBOL_INDEX.find(rawSymbol));
     }
 
+    /**
+     * Get the index of units by normalized symbols, including aliases.
+     *
+     * @return The symbol index of VolumetricFlowUnits.
+     */
+    public static UnitSymbolIndex<VolumetricFlowUnits> symbolIndex() {
+        return SYMBOL_INDEX;
+    }
 
 }
@@ -6,8 +6,6 @@ import com.synerset.unitility.unitsystem.common.AngleUnit;
 import com.synerset.unitility.unitsystem.common.AngleUnits;
 import com.synerset.unitility.unitsystem.exceptions.UnitSystemArgumentException;
 
-import java.util.Objects;
-
 /**
  * Represents a bearing angle, which can be either a true bearing (0 to 360 degrees)
  * or a signed bearing (-180 to +180 degrees).
@@ -299,12 +297,12 @@ public class Bearing implements TrigonometricQuantity<Bearing> {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Bearing inputQuantity = (Bearing) o;
-        return Double.compare(inputQuantity.getInDegrees(), this.getInDegrees()) == 0;
+        return Double.compare(inputQuantity.getBaseValue(), baseValue) == 0;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(baseValue, unitType.getBaseUnit());
+        return 31 * Double.hashCode(baseValue) + unitType.getBaseUnit().hashCode();
     }
 
     @Override
@@ -0,0 +1,44 @@
+package com.synerset.unitility.unitsystem.geographic;
+
+/**
+ * Components of a geographic coordinate in degrees-minutes-seconds notation, for ie: 52°14'5.123"N.
+ *
+ * @param isNegative True if the degrees were preceded by a minus sign.
+ * @param degrees    The degrees part, without sign.
+ * @param minutes    The minutes part, 0 if not provided.
+ * @param seconds    The seconds part, 0 if not provided.
+ * @param hemisphere The hemisphere direction, null if not provided.
+ */
+public record DMSCoordinate(boolean isNegative, int degrees, int minutes, double seconds, PrimaryDirection hemisphere) {
+
+    /**
+     * Converts the coordinate to decimal degrees. The result is negative if the degrees were preceded by a minus sign,
+     * or if the hemisphere is south or west.
+     *
+     * @return The coordinate in decimal degrees.
+     */
+    public double toDegrees() {
+        double valueInDegrees = HaversineEquations.dmsToDegrees(degrees, minutes, seconds);
+        boolean isSouthOrWest = hemisphere == PrimaryDirection.SOUTH || hemisphere == PrimaryDirection.WEST;
+        return isNegative || isSouthOrWest ? -valueInDegrees : valueInDegrees;
+    }
+
+    /**
+     * Checks if the hemisphere is valid for latitude. Coordinates without hemisphere are valid.
+     *
+     * @return True if hemisphere is not provided, north or south.
+     */
+    public boolean isValidLatitude() {
+        return hemisphere != PrimaryDirection.EAST && hemisphere != PrimaryDirection.WEST;
+    }
+
+    /**
+     * Checks if the hemisphere is valid for longitude. Coordinates without hemisphere are valid.
+     *
+     * @return True if hemisphere is not provided, east or west.
+     */
+    public boolean isValidLongitude() {
+        return hemisphere != PrimaryDirection.NORTH && hemisphere != PrimaryDirection.SOUTH;
+    }
+
+}
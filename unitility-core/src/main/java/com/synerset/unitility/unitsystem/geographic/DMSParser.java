@@ -0,0 +1,177 @@
+package com.synerset.unitility.unitsystem.geographic;
+
+import com.synerset.unitility.unitsystem.exceptions.UnitSystemParseException;
+import com.synerset.unitility.unitsystem.util.FastDoubleParser;
+
+import java.util.Objects;
+
+/**
+ * Single-pass parser of geographic coordinates in degrees-minutes-seconds notation. The input is validated and
+ * its components are extracted in one scan, without regular expressions or intermediate strings.
+ * <p>
+ * Accepted format: optional minus sign, 1-3 digits of degrees followed by "°", "o" or "deg", optionally followed by
+ * 1-2 digits of minutes with "'", "min" or "m", optionally followed by seconds with up to 2 integer digits and optional
+ * fraction, with "\"", "sec" or "s", and finally an optional hemisphere letter: N, S, E or W (case-insensitive).
+ * Spaces are not allowed, the input should be normalized beforehand, for ie: "52°14'5.123\"N" or "21deg4min3.986sw".
+ */
+public final class DMSParser {
+
+    private DMSParser() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Checks if the input is in valid degrees-minutes-seconds format.
+     *
+     * @param input The input to check.
+     * @return True if the input is in valid DMS format, false otherwise.
+     */
+    public static boolean isValidDMSFormat(CharSequence input) {
+        return input != null && tryParse(input, 0, input.length()) != null;
+    }
+
+    /**
+     * Parses the input in degrees-minutes-seconds format.
+     *
+     * @param input The input to be parsed.
+     * @return The coordinate components.
+     * @throws UnitSystemParseException if the input is not in valid DMS format.
+     */
+    public static DMSCoordinate parse(CharSequence input) {
+        DMSCoordinate coordinate = input == null ? null : tryParse(input, 0, input.length());
+        if (coordinate == null) {
+            throw new UnitSystemParseException("Geo DMS parser: Input string could not be parsed: input = " + input);
+        }
+        return coordinate;
+    }
+
+    /**
+     * Parses a range of the input in degrees-minutes-seconds format.
+     *
+     * @param input The input containing the coordinate.
+     * @param start The start index of the coordinate, inclusive.
+     * @param end   The end index of the coordinate, exclusive.
+     * @return The coordinate components, or null if the range is not in valid DMS format.
+     */
+    public static DMSCoordinate tryParse(CharSequence input, int start, int end) {
+        Objects.checkFromToIndex(start, end, input.length());
+        int index = start;
+        boolean isNegative = false;
+        if (index < end && input.charAt(index) == '-') {
+            isNegative = true;
+            index++;
+        }
+
+        // Degrees
+        int digitsEnd = scanDigits(input, index, end, 3);
+        if (digitsEnd == index) {
+            return null;
+        }
+        int degrees = toInt(input, index, digitsEnd);
+        index = matchMarker(input, digitsEnd, end, '°', "deg", 'o');
+        if (index < 0) {
+            return null;
+        }
+
+        // Minutes
+        int minutes = 0;
+        double seconds = 0;
+        if (index < end && isDigit(input.charAt(index))) {
+            digitsEnd = scanDigits(input, index, end, 2);
+            minutes = toInt(input, index, digitsEnd);
+            index = matchMarker(input, digitsEnd, end, '\'', "min", 'm');
+            if (index < 0) {
+                return null;
+            }
+
+            // Seconds
+            if (index < end && isDigit(input.charAt(index))) {
+                int secondsStart = index;
+                index = scanDigits(input, index, end, 2);
+                if (index < end && input.charAt(index) == '.') {
+                    int fractionEnd = scanDigits(input, index + 1, end, Integer.MAX_VALUE);
+                    if (fractionEnd == index + 1) {
+                        return null;
+                    }
+                    index = fractionEnd;
+                }
+                seconds = FastDoubleParser.parseDouble(input, secondsStart, index);
+                index = matchMarker(input, index, end, '"', "sec", 's');
+                if (index < 0) {
+                    return null;
+                }
+            }
+        }
+
+        // Hemisphere
+        PrimaryDirection hemisphere = null;
+        if (index < end) {
+            hemisphere = toHemisphere(input.charAt(index));
+            if (hemisphere == null) {
+                return null;
+            }
+            index++;
+        }
+
+        return index == end ? new DMSCoordinate(isNegative, degrees, minutes, seconds, hemisphere) : null;
+    }
+
+    // Returns end index of up to maxCount digits starting at index
+    private static int scanDigits(CharSequence input, int index, int end, int maxCount) {
+        int limit = (int) Math.min(end, (long) index + maxCount);
+        while (index < limit && isDigit(input.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    // Returns index after the marker, or -1 if none of the markers is present. Word marker takes precedence.
+    private static int matchMarker(CharSequence input, int index, int end, char symbolMarker, String wordMarker, char letterMarker) {
+        if (index >= end) {
+            return -1;
+        }
+        char character = input.charAt(index);
+        if (character == symbolMarker) {
+            return index + 1;
+        }
+        if (startsWith(input, index, end, wordMarker)) {
+            return index + wordMarker.length();
+        }
+        return character == letterMarker ? index + 1 : -1;
+    }
+
+    private static boolean startsWith(CharSequence input, int index, int end, String prefix) {
+        if (end - index < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (input.charAt(index + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int toInt(CharSequence input, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            value = 10 * value + (input.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    private static PrimaryDirection toHemisphere(char character) {
+        return switch (character) {
+            case 'n', 'N' -> PrimaryDirection.NORTH;
+            case 's', 'S' -> PrimaryDirection.SOUTH;
+            case 'e', 'E' -> PrimaryDirection.EAST;
+            case 'w', 'W' -> PrimaryDirection.WEST;
+            default -> null;
+        };
+    }
+
+    private static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+
+}
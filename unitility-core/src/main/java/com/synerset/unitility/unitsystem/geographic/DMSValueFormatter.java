@@ -10,18 +10,26 @@ class DMSValueFormatter {
 
     // DMS format helpers
     static String latitudeToDmsFormat(Latitude latitude, int relevantDigits) {
+        return appendLatitudeDmsFormat(new StringBuilder(24), latitude, relevantDigits).toString();
+    }
+
+    static String longitudeToDmsFormat(Longitude longitude, int relevantDigits) {
+        return appendLongitudeDmsFormat(new StringBuilder(24), longitude, relevantDigits).toString();
+    }
+
+    static StringBuilder appendLatitudeDmsFormat(StringBuilder target, Latitude latitude, int relevantDigits) {
         double latitudeInDegrees = latitude.getInDegrees();
         char directionSymbol = (latitudeInDegrees < 0) ? 'S' : 'N';
-        return createDMSNotation(latitudeInDegrees, directionSymbol, relevantDigits);
+        return appendDMSNotation(target, latitudeInDegrees, directionSymbol, relevantDigits);
     }
 
-    static String longitudeToDmsFormat(Longitude longitude, int relevantDigits) {
+    static StringBuilder appendLongitudeDmsFormat(StringBuilder target, Longitude longitude, int relevantDigits) {
         double longitudeInDegrees = longitude.getInDegrees();
         char directionSymbol = (longitudeInDegrees < 0) ? 'W' : 'E';
-        return createDMSNotation(longitudeInDegrees, directionSymbol, relevantDigits);
+        return appendDMSNotation(target, longitudeInDegrees, directionSymbol, relevantDigits);
     }
 
-    private static String createDMSNotation(double coordinateInDegrees, char directionSymbol, int relevantDigits) {
+    private static StringBuilder appendDMSNotation(StringBuilder target, double coordinateInDegrees, char directionSymbol, int relevantDigits) {
         coordinateInDegrees = Math.abs(coordinateInDegrees);
 
         int degrees = (int) coordinateInDegrees;
@@ -29,11 +37,13 @@ class DMSValueFormatter {
         int minutes = (int) minutesAndSeconds;
         double seconds = (minutesAndSeconds - minutes) * 60;
 
-        String secondsWithRelDigits = relevantDigits > 0
-                ? ValueFormatter.toStringWithRelevantDigits(seconds, relevantDigits)
-                : String.valueOf(seconds);
-
-        return String.format("%d°%d'%s\"%c", degrees, minutes, secondsWithRelDigits, directionSymbol);
+        target.append(degrees).append('°').append(minutes).append('\'');
+        if (relevantDigits > 0) {
+            ValueFormatter.appendWithRelevantDigits(target, seconds, relevantDigits);
+        } else {
+            target.append(seconds);
+        }
+        return target.append('"').append(directionSymbol);
     }
 
-}
\ No newline at end of file
+}
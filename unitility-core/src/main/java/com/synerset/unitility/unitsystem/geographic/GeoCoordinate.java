@@ -3,6 +3,7 @@ package com.synerset.unitility.unitsystem.geographic;
 import com.synerset.unitility.unitsystem.exceptions.UnitSystemArgumentException;
 import com.synerset.unitility.unitsystem.util.ValueFormatter;
 
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -51,7 +52,7 @@ public record GeoCoordinate(Latitude latitude, Longitude longitude, String name)
      * @return The geographic coordinate in DMS format (latitude, longitude).
      */
     public String toDMSFormat() {
-        return latitude.toDMSFormat() + ", " + longitude.toDMSFormat();
+        return appendDMSFormat(new StringBuilder(48)).toString();
     }
 
     /**
@@ -73,7 +74,7 @@ public record GeoCoordinate(Latitude latitude, Longitude longitude, String name)
      * @return The geographic coordinate in DMS format with the specified number of relevant digits.
      */
     public String toDMSFormat(int relevantDigits) {
-        return latitude.toDMSFormat(relevantDigits) + ", " + longitude.toDMSFormat(relevantDigits);
+        return appendDMSFormat(new StringBuilder(48), relevantDigits).toString();
     }
 
     /**
@@ -88,6 +89,56 @@ public record GeoCoordinate(Latitude latitude, Longitude longitude, String name)
         return variableName + " = " + toDMSFormat(relevantDigits);
     }
 
+    /**
+     * Appends the geographic coordinate in Degrees, Minutes, Seconds (DMS) format to the target buffer.
+     * The output is the same as of {@link #toDMSFormat()}.
+     *
+     * @param target The buffer to which the coordinate is appended.
+     * @return The target buffer.
+     */
+    public StringBuilder appendDMSFormat(StringBuilder target) {
+        latitude.appendDMSFormat(target).append(", ");
+        return longitude.appendDMSFormat(target);
+    }
+
+    /**
+     * Appends the geographic coordinate in Degrees, Minutes, Seconds (DMS) format with a specified number of relevant
+     * digits to the target buffer. The output is the same as of {@link #toDMSFormat(int)}.
+     *
+     * @param target         The buffer to which the coordinate is appended.
+     * @param relevantDigits The number of relevant digits to include in the output.
+     * @return The target buffer.
+     */
+    public StringBuilder appendDMSFormat(StringBuilder target, int relevantDigits) {
+        latitude.appendDMSFormat(target, relevantDigits).append(", ");
+        return longitude.appendDMSFormat(target, relevantDigits);
+    }
+
+    /**
+     * Appends the geographic coordinate in Degrees, Minutes, Seconds (DMS) format to the target appendable.
+     * The output is the same as of {@link #toDMSFormat()}.
+     *
+     * @param target The appendable to which the coordinate is appended.
+     * @return The target appendable.
+     * @throws IOException if the target appendable fails.
+     */
+    public Appendable appendDMSFormat(Appendable target) throws IOException {
+        return ValueFormatter.appendTo(target, this::appendDMSFormat);
+    }
+
+    /**
+     * Appends the geographic coordinate in Degrees, Minutes, Seconds (DMS) format with a specified number of relevant
+     * digits to the target appendable. The output is the same as of {@link #toDMSFormat(int)}.
+     *
+     * @param target         The appendable to which the coordinate is appended.
+     * @param relevantDigits The number of relevant digits to include in the output.
+     * @return The target appendable.
+     * @throws IOException if the target appendable fails.
+     */
+    public Appendable appendDMSFormat(Appendable target, int relevantDigits) throws IOException {
+        return ValueFormatter.appendTo(target, buffer -> appendDMSFormat(buffer, relevantDigits));
+    }
+
     // Console output in decimal degrees format, Google Maps outputs coords this way\
 
     /**
@@ -98,7 +149,7 @@ public record GeoCoordinate(Latitude latitude, Longitude longitude, String name)
      * @return The geographic coordinate in decimal degrees format (latitude, longitude).
      */
     public String toDecimalDegrees() {
-        return latitude.getInDegrees() + ", " + longitude.getInDegrees();
+        return appendDecimalDegrees(new StringBuilder(48)).toString();
     }
 
     /**
@@ -120,8 +171,7 @@ public record GeoCoordinate(Latitude latitude, Longitude longitude, String name)
      * @return The geographic coordinate in decimal degrees format with the specified number of relevant digits.
      */
     public String toDecimalDegrees(int relevantDigits) {
-        return ValueFormatter.toStringWithRelevantDigits(latitude.getInDegrees(), relevantDigits) + ", " +
-                ValueFormatter.toStringWithRelevantDigits(longitude.getInDegrees(), relevantDigits);
+        return appendDecimalDegrees(new StringBuilder(48), relevantDigits).toString();
     }
 
     /**
@@ -136,6 +186,55 @@ public record GeoCoordinate(Latitude latitude, Longitude longitude, String name)
         return variableName + " = " + toDecimalDegrees(relevantDigits);
     }
 
+    /**
+     * Appends the geographic coordinate in decimal degrees format to the target buffer.
+     * The output is the same as of {@link #toDecimalDegrees()}.
+     *
+     * @param target The buffer to which the coordinate is appended.
+     * @return The target buffer.
+     */
+    public StringBuilder appendDecimalDegrees(StringBuilder target) {
+        return target.append(latitude.getInDegrees()).append(", ").append(longitude.getInDegrees());
+    }
+
+    /**
+     * Appends the geographic coordinate in decimal degrees format with a specified number of relevant digits to the
+     * target buffer. The output is the same as of {@link #toDecimalDegrees(int)}.
+     *
+     * @param target         The buffer to which the coordinate is appended.
+     * @param relevantDigits The number of relevant digits to include in the output.
+     * @return The target buffer.
+     */
+    public StringBuilder appendDecimalDegrees(StringBuilder target, int relevantDigits) {
+        ValueFormatter.appendWithRelevantDigits(target, latitude.getInDegrees(), relevantDigits).append(", ");
+        return ValueFormatter.appendWithRelevantDigits(target, longitude.getInDegrees(), relevantDigits);
+    }
+
+    /**
+     * Appends the geographic coordinate in decimal degrees format to the target appendable.
+     * The output is the same as of {@link #toDecimalDegrees()}.
+     *
+     * @param target The appendable to which the coordinate is appended.
+     * @return The target appendable.
+     * @throws IOException if the target appendable fails.
+     */
+    public Appendable appendDecimalDegrees(Appendable target) throws IOException {
+        return ValueFormatter.appendTo(target, this::appendDecimalDegrees);
+    }
+
+    /**
+     * Appends the geographic coordinate in decimal degrees format with a specified number of relevant digits to the
+     * target appendable. The output is the same as of {@link #toDecimalDegrees(int)}.
+     *
+     * @param target         The appendable to which the coordinate is appended.
+     * @param relevantDigits The number of relevant digits to include in the output.
+     * @return The target appendable.
+     * @throws IOException if the target appendable fails.
+     */
+    public Appendable appendDecimalDegrees(Appendable target, int relevantDigits) throws IOException {
+        return ValueFormatter.appendTo(target, buffer -> appendDecimalDegrees(buffer, relevantDigits));
+    }
+
     // Console output in engineering format
     public String toEngineeringFormat() {
         return latitude.toEngineeringFormat() + ", " + longitude.toEngineeringFormat();
@@ -192,14 +291,16 @@ public record GeoCoordinate(Latitude latitude, Longitude longitude, String name)
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         GeoCoordinate that = (GeoCoordinate) o;
-        return Objects.equals(latitude.toBaseUnit(), that.latitude.toBaseUnit())
-                && Objects.equals(longitude.toBaseUnit(), that.longitude.toBaseUnit())
+        return Double.compare(latitude.getBaseValue(), that.latitude.getBaseValue()) == 0
+                && Double.compare(longitude.getBaseValue(), that.longitude.getBaseValue()) == 0
                 && Objects.equals(this.name, that.name);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(latitude.toBaseUnit(), longitude.toBaseUnit(), name);
+        int result = latitude.hashCode();
+        result = 31 * result + longitude.hashCode();
+        return 31 * result + Objects.hashCode(name);
     }
 
 }
\ No newline at end of file
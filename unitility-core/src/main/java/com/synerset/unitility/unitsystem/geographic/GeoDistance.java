@@ -287,7 +287,9 @@ public class GeoDistance implements CalculableQuantity<DistanceUnit, GeoDistance
 
     @Override
     public int hashCode() {
-        return Objects.hash(unitType.getBaseUnit(), startCoordinate.toBaseUnit(), targetCoordinate.toBaseUnit());
+        int result = unitType.getBaseUnit().hashCode();
+        result = 31 * result + startCoordinate.hashCode();
+        return 31 * result + targetCoordinate.hashCode();
     }
 
     @Override
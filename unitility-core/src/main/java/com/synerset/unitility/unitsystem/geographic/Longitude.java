@@ -4,7 +4,9 @@ import com.synerset.unitility.unitsystem.CalculableQuantity;
 import com.synerset.unitility.unitsystem.common.Angle;
 import com.synerset.unitility.unitsystem.common.AngleUnit;
 import com.synerset.unitility.unitsystem.common.AngleUnits;
+import com.synerset.unitility.unitsystem.util.ValueFormatter;
 
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -113,6 +115,23 @@ public class Longitude implements CalculableQuantity<AngleUnit, Longitude> {
         return variableName + " = " + toDMSFormat(relevantDigits);
     }
 
+    // Output in DMS format to reused buffers
+    public StringBuilder appendDMSFormat(StringBuilder target) {
+        return DMSValueFormatter.appendLongitudeDmsFormat(target, this, -1);
+    }
+
+    public StringBuilder appendDMSFormat(StringBuilder target, int relevantDigits) {
+        return DMSValueFormatter.appendLongitudeDmsFormat(target, this, relevantDigits);
+    }
+
+    public Appendable appendDMSFormat(Appendable target) throws IOException {
+        return ValueFormatter.appendTo(target, this::appendDMSFormat);
+    }
+
+    public Appendable appendDMSFormat(Appendable target, int relevantDigits) throws IOException {
+        return ValueFormatter.appendTo(target, buffer -> appendDMSFormat(buffer, relevantDigits));
+    }
+
     // Convert to target unit
     public Longitude toRadians() {
         return toUnit(AngleUnits.RADIANS);
@@ -136,12 +155,12 @@ public class Longitude implements CalculableQuantity<AngleUnit, Longitude> {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Longitude inputQuantity = (Longitude) o;
-        return Double.compare(inputQuantity.getInDegrees(), this.getInDegrees()) == 0 && Objects.equals(unitType.getBaseUnit(), inputQuantity.getUnit().getBaseUnit());
+        return Double.compare(inputQuantity.getBaseValue(), baseValue) == 0 && Objects.equals(unitType.getBaseUnit(), inputQuantity.getUnit().getBaseUnit());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(baseValue, unitType.getBaseUnit());
+        return 31 * Double.hashCode(baseValue) + unitType.getBaseUnit().hashCode();
     }
 
     @Override
@@ -1,8 +1,13 @@
 package com.synerset.unitility.unitsystem.humidity;
 
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.UnitConverter;
 
 public interface HumidityRatioUnit extends Unit {
     @Override
     HumidityRatioUnit getBaseUnit();
+
+    default UnitConverter<HumidityRatioUnit> converterTo(HumidityRatioUnit targetUnit) {
+        return UnitConverter.of(this, targetUnit);
+    }
 }
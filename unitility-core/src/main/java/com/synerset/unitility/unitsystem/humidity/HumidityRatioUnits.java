@@ -1,24 +1,35 @@
 package com.synerset.unitility.unitsystem.humidity;
 
+import com.synerset.unitility.unitsystem.AffineConversion;
 import com.synerset.unitility.unitsystem.exceptions.UnitSystemParseException;
-import com.synerset.unitility.unitsystem.util.StringTransformer;
+import com.synerset.unitility.unitsystem.util.SymbolNormalizer;
+import com.synerset.unitility.unitsystem.util.UnitSymbolIndex;
 
-import java.util.function.DoubleUnaryOperator;
+import java.util.Optional;
 
 public enum HumidityRatioUnits implements HumidityRatioUnit {
 
-    KILOGRAM_PER_KILOGRAM("kg/kg", val -> val, val -> val),
-    GRAM_PER_KILOGRAM("g/kg", val -> val / 1000, val -> val * 1000),
-    POUND_PER_POUND("lb/lb", val -> val / 2.20462262184878, val -> val * 2.20462262184878);
+    KILOGRAM_PER_KILOGRAM("kg/kg", 1.0),
+    GRAM_PER_KILOGRAM("g/kg", AffineConversion.ofDivisor(1000.0)),
+    POUND_PER_POUND("lb/lb", AffineConversion.ofDivisor(2.20462262184878));
+
+    private static final SymbolNormalizer SYMBOL_NORMALIZER = SymbolNormalizer.builder()
+            .trimLowerAndClean()
+            .dropWvAndDaSuffixes()
+            .unifyMultiAndDiv()
+            .build();
+    private static final UnitSymbolIndex<HumidityRatioUnits> SYMBOL_INDEX = UnitSymbolIndex.of(SYMBOL_NORMALIZER, values());
 
     private final String symbol;
-    private final DoubleUnaryOperator toBaseConverter;
-    private final DoubleUnaryOperator fromBaseToUnitConverter;
+    private final AffineConversion affineConversion;
+
+    HumidityRatioUnits(String symbol, double factor) {
+        this(symbol, AffineConversion.ofFactor(factor));
+    }
 
-    HumidityRatioUnits(String symbol, DoubleUnaryOperator toBaseConverter, DoubleUnaryOperator fromBaseToUnitConverter) {
+    HumidityRatioUnits(String symbol, AffineConversion affineConversion) {
         this.symbol = symbol;
-        this.toBaseConverter = toBaseConverter;
-        this.fromBaseToUnitConverter = fromBaseToUnitConverter;
+        this.affineConversion = affineConversion;
     }
 
     @Override
@@ -33,35 +44,56 @@ public enum HumidityRatioUnits implements HumidityRatioUnit {
 
     @Override
     public double toValueInBaseUnit(double valueInThisUnit) {
-        return toBaseConverter.applyAsDouble(valueInThisUnit);
+        return affineConversion.toBase(valueInThisUnit);
     }
 
     @Override
     public double fromValueInBaseUnit(double valueInBaseUnit) {
-        return fromBaseToUnitConverter.applyAsDouble(valueInBaseUnit);
+        return affineConversion.fromBase(valueInBaseUnit);
+    }
+
+    @Override
+    public AffineConversion getAffineConversion() {
+        return affineConversion;
+    }
+
+    @Override
+    public UnitSymbolIndex<HumidityRatioUnits> getSymbolIndex() {
+        return SYMBOL_INDEX;
     }
 
     public static HumidityRatioUnit fromSymbol(String rawSymbol) {
         if (rawSymbol == null || rawSymbol.isBlank()) {
             return KILOGRAM_PER_KILOGRAM;
         }
-        String requestedSymbol = unifySymbol(rawSymbol);
-        for (HumidityRatioUnit unit : values()) {
-            String currentSymbol = unifySymbol(unit.getSymbol());
-            if (currentSymbol.equalsIgnoreCase(requestedSymbol)) {
-                return unit;
-            }
+        HumidityRatioUnit unit = SYMBOL_INDEX.find(rawSymbol);
+        if (unit == null) {
+            throw new UnitSystemParseException(() -> "Unsupported unit symbol: " + "{" + rawSymbol + "}." + " Target class: "
+                    + HumidityRatioUnits.class.getSimpleName());
+        }
+        return unit;
+    }
+
+    /**
+     * Finds a unit by raw symbol, without throwing an exception for unsupported symbols.
+     *
+     * @param rawSymbol The raw symbol. Null or blank symbol resolves to the default unit.
+     * @return The matching unit, or an empty Optional if the symbol is not supported.
+     */
+    public static Optional<HumidityRatioUnit> tryFromSymbol(String rawSymbol) {
+        if (rawSymbol == null || rawSymbol.isBlank()) {
+            return Optional.of(KILOGRAM_PER_KILOGRAM);
         }
-        throw new UnitSystemParseException("Unsupported unit symbol: " + "{" + rawSymbol + "}." + " Target class: "
-                + HumidityRatioUnits.class.getSimpleName());
+        return Optional.ofNullable(SYMBOL_INDEX.find(rawSymbol));
     }
 
-    private static String unifySymbol(String inputString) {
-        return StringTransformer.of(inputString)
-                .trimLowerAndClean()
-                .dropWvAndDaSuffixes()
-                .unifyMultiAndDiv()
-                .toString();
+    /**
+     * Get the index of units by normalized symbols, including aliases.
+     *
+     * @return The symbol index of HumidityRatioUnits.
+     */
+    public static UnitSymbolIndex<HumidityRatioUnits> symbolIndex() {
+        return SYMBOL_INDEX;
     }
 
 }
@@ -1,8 +1,13 @@
 package com.synerset.unitility.unitsystem.humidity;
 
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.UnitConverter;
 
 public interface RelativeHumidityUnit extends Unit {
     @Override
     RelativeHumidityUnit getBaseUnit();
+
+    default UnitConverter<RelativeHumidityUnit> converterTo(RelativeHumidityUnit targetUnit) {
+        return UnitConverter.of(this, targetUnit);
+    }
 }
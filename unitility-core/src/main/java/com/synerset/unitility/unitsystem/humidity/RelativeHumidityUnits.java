@@ -1,23 +1,33 @@
 package com.synerset.unitility.unitsystem.humidity;
 
+import com.synerset.unitility.unitsystem.AffineConversion;
 import com.synerset.unitility.unitsystem.exceptions.UnitSystemParseException;
-import com.synerset.unitility.unitsystem.util.StringTransformer;
+import com.synerset.unitility.unitsystem.util.SymbolNormalizer;
+import com.synerset.unitility.unitsystem.util.UnitSymbolIndex;
 
-import java.util.function.DoubleUnaryOperator;
+import java.util.Optional;
 
 public enum RelativeHumidityUnits implements RelativeHumidityUnit {
 
-    DECIMAL("", val -> val, val -> val),
-    PERCENT("%", val -> val / 100, val -> val * 100);
+    DECIMAL("", 1.0),
+    PERCENT("%", AffineConversion.ofDivisor(100.0));
+
+    private static final SymbolNormalizer SYMBOL_NORMALIZER = SymbolNormalizer.builder()
+            .trimLowerAndClean()
+            .dropHyphens()
+            .build();
+    private static final UnitSymbolIndex<RelativeHumidityUnits> SYMBOL_INDEX = UnitSymbolIndex.of(SYMBOL_NORMALIZER, values());
 
     private final String symbol;
-    private final DoubleUnaryOperator toBaseConverter;
-    private final DoubleUnaryOperator fromBaseToUnitConverter;
+    private final AffineConversion affineConversion;
+
+    RelativeHumidityUnits(String symbol, double factor) {
+        this(symbol, AffineConversion.ofFactor(factor));
+    }
 
-    RelativeHumidityUnits(String symbol, DoubleUnaryOperator toBaseConverter, DoubleUnaryOperator fromBaseToUnitConverter) {
+    RelativeHumidityUnits(String symbol, AffineConversion affineConversion) {
         this.symbol = symbol;
-        this.toBaseConverter = toBaseConverter;
-        this.fromBaseToUnitConverter = fromBaseToUnitConverter;
+        this.affineConversion = affineConversion;
     }
 
     @Override
@@ -32,34 +42,56 @@ public enum RelativeHumidityUnits implements RelativeHumidityUnit {
 
     @Override
     public double toValueInBaseUnit(double valueInThisUnit) {
-        return toBaseConverter.applyAsDouble(valueInThisUnit);
+        return affineConversion.toBase(valueInThisUnit);
     }
 
     @Override
     public double fromValueInBaseUnit(double valueInBaseUnit) {
-        return fromBaseToUnitConverter.applyAsDouble(valueInBaseUnit);
+        return affineConversion.fromBase(valueInBaseUnit);
+    }
+
+    @Override
+    public AffineConversion getAffineConversion() {
+        return affineConversion;
+    }
+
+    @Override
+    public UnitSymbolIndex<RelativeHumidityUnits> getSymbolIndex() {
+        return SYMBOL_INDEX;
     }
 
     public static RelativeHumidityUnit fromSymbol(String rawSymbol) {
         if (rawSymbol == null || rawSymbol.isBlank()) {
             return DECIMAL;
         }
-        String requestedSymbol = unifySymbol(rawSymbol);
-        for (RelativeHumidityUnit unit : values()) {
-            String currentSymbol = unifySymbol(unit.getSymbol());
-            if (currentSymbol.equalsIgnoreCase(requestedSymbol)) {
-                return unit;
-            }
+        RelativeHumidityUnit unit = SYMBOL_INDEX.find(rawSymbol);
+        if (unit == null) {
+            throw new UnitSystemParseException(() -> "Unsupported unit symbol: " + "{" + rawSymbol + "}." + " Target class: "
+                    + HumidityRatioUnits.class.getSimpleName());
+        }
+        return unit;
+    }
+
+    /**
+     * Finds a unit by raw symbol, without throwing an exception for unsupported symbols.
+     *
+     * @param rawSymbol The raw symbol. Null or blank symbol resolves to the default unit.
+     * @return The matching unit, or an empty Optional if the symbol is not supported.
+     */
+    public static Optional<RelativeHumidityUnit> tryFromSymbol(String rawSymbol) {
+        if (rawSymbol == null || rawSymbol.isBlank()) {
+            return Optional.of(DECIMAL);
         }
-        throw new UnitSystemParseException("Unsupported unit symbol: " + "{" + rawSymbol + "}." + " Target class: "
-                + HumidityRatioUnits.class.getSimpleName());
+        return Optional.ofNullable(SYMBOL_INDEX.find(rawSymbol));
     }
 
-    private static String unifySymbol(String inputString) {
-        return StringTransformer.of(inputString)
-                .trimLowerAndClean()
-                .dropHyphens()
-                .toString();
+    /**
+     * Get the index of units by normalized symbols, including aliases.
+     *
+     * @return The symbol index of RelativeHumidityUnits.
+     */
+    public static UnitSymbolIndex<RelativeHumidityUnits> symbolIndex() {
+        return SYMBOL_INDEX;
     }
 
 }
\ No newline at end of file
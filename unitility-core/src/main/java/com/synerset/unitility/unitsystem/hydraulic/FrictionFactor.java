@@ -2,8 +2,6 @@ package com.synerset.unitility.unitsystem.hydraulic;
 
 import com.synerset.unitility.unitsystem.CalculableQuantity;
 
-import java.util.Objects;
-
 public class FrictionFactor implements CalculableQuantity<FrictionFactorUnit, FrictionFactor> {
 
     private final double value;
@@ -71,7 +69,7 @@ public class FrictionFactor implements CalculableQuantity<FrictionFactorUnit, Fr
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return Double.hashCode(value);
     }
 
 }
@@ -1,8 +1,13 @@
 package com.synerset.unitility.unitsystem.hydraulic;
 
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.UnitConverter;
 
 public interface FrictionFactorUnit extends Unit {
     @Override
     FrictionFactorUnit getBaseUnit();
+
+    default UnitConverter<FrictionFactorUnit> converterTo(FrictionFactorUnit targetUnit) {
+        return UnitConverter.of(this, targetUnit);
+    }
 }
@@ -1,8 +1,13 @@
 package com.synerset.unitility.unitsystem.hydraulic;
 
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.UnitConverter;
 
 public interface LinearResistanceUnit extends Unit {
     @Override
     LinearResistanceUnit getBaseUnit();
+
+    default UnitConverter<LinearResistanceUnit> converterTo(LinearResistanceUnit targetUnit) {
+        return UnitConverter.of(this, targetUnit);
+    }
 }
\ No newline at end of file
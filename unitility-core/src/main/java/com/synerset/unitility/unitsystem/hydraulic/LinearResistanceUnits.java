@@ -1,24 +1,31 @@
 package com.synerset.unitility.unitsystem.hydraulic;
 
+import com.synerset.unitility.unitsystem.AffineConversion;
 import com.synerset.unitility.unitsystem.exceptions.UnitSystemParseException;
-import com.synerset.unitility.unitsystem.util.StringTransformer;
+import com.synerset.unitility.unitsystem.util.SymbolNormalizer;
+import com.synerset.unitility.unitsystem.util.UnitSymbolIndex;
 
-import java.util.function.DoubleUnaryOperator;
+import java.util.Optional;
 
 public enum LinearResistanceUnits implements LinearResistanceUnit {
 
-    PASCAL_PER_METER("Pa/m", val -> val, val -> val),
-    INCH_OF_WATER_PER_100_FEET("inH₂O/100ft", val -> val * 8.16722, val -> val / 8.16722),
-    INCH_OF_MERCURY_PER_100_FEET("inHg/100ft", val -> val * 111.10166332193331, val -> val / 111.10166332193331);
+    PASCAL_PER_METER("Pa/m", 1.0),
+    INCH_OF_WATER_PER_100_FEET("inH₂O/100ft", 8.16722),
+    INCH_OF_MERCURY_PER_100_FEET("inHg/100ft", 111.10166332193331);
+
+    private static final SymbolNormalizer SYMBOL_NORMALIZER = SymbolNormalizer.builder()
+            .trimLowerAndClean()
+            .unifyAerialAndVol()
+            .unifyMultiAndDiv()
+            .build();
+    private static final UnitSymbolIndex<LinearResistanceUnits> SYMBOL_INDEX = UnitSymbolIndex.of(SYMBOL_NORMALIZER, values());
 
     private final String symbol;
-    private final DoubleUnaryOperator toBaseConverter;
-    private final DoubleUnaryOperator fromBaseToUnitConverter;
+    private final AffineConversion affineConversion;
 
-    LinearResistanceUnits(String symbol, DoubleUnaryOperator toBaseConverter, DoubleUnaryOperator fromBaseToUnitConverter) {
+    LinearResistanceUnits(String symbol, double factor) {
         this.symbol = symbol;
-        this.toBaseConverter = toBaseConverter;
-        this.fromBaseToUnitConverter = fromBaseToUnitConverter;
+        this.affineConversion = AffineConversion.ofFactor(factor);
     }
 
     @Override
@@ -33,35 +40,56 @@ public enum LinearResistanceUnits implements LinearResistanceUnit {
 
     @Override
     public double toValueInBaseUnit(double valueInThisUnit) {
-        return toBaseConverter.applyAsDouble(valueInThisUnit);
+        return affineConversion.toBase(valueInThisUnit);
     }
 
     @Override
     public double fromValueInBaseUnit(double valueInBaseUnit) {
-        return fromBaseToUnitConverter.applyAsDouble(valueInBaseUnit);
+        return affineConversion.fromBase(valueInBaseUnit);
+    }
+
+    @Override
+    public AffineConversion getAffineConversion() {
+        return affineConversion;
+    }
+
+    @Override
+    public UnitSymbolIndex<LinearResistanceUnits> getSymbolIndex() {
+        return SYMBOL_INDEX;
     }
 
     public static LinearResistanceUnit fromSymbol(String rawSymbol) {
         if (rawSymbol == null || rawSymbol.isBlank()) {
             return PASCAL_PER_METER;
         }
-        String requestedSymbol = unifySymbol(rawSymbol);
-        for (LinearResistanceUnit unit : values()) {
-            String currentSymbol = unifySymbol(unit.getSymbol());
-            if (currentSymbol.equalsIgnoreCase(requestedSymbol)) {
-                return unit;
-            }
+        LinearResistanceUnit unit = SYMBOL_INDEX.find(rawSymbol);
+        if (unit == null) {
+            throw new UnitSystemParseException(() -> "Unsupported unit symbol: " + "{" + rawSymbol + "}." + " Target class: "
+                                               + LinearResistanceUnits.class.getSimpleName());
+        }
+        return unit;
+    }
+
+    /**
+     * Finds a unit by raw symbol, without throwing an exception for unsupported symbols.
+     *
+     * @param rawSymbol The raw symbol. Null or blank symbol resolves to the default unit.
+     * @return The matching unit, or an empty Optional if the symbol is not supported.
+     */
+    public static Optional<LinearResistanceUnit> tryFromSymbol(String rawSymbol) {
+        if (rawSymbol == null || rawSymbol.isBlank()) {
+            return Optional.of(PASCAL_PER_METER);
         }
-        throw new UnitSystemParseException("Unsupported unit symbol: " + "{" + rawSymbol + "}." + " Target class: "
-                                           + LinearResistanceUnits.class.getSimpleName());
+        return Optional.ofNullable(SYMBOL_INDEX.find(rawSymbol));
     }
 
-    private static String unifySymbol(String inputString) {
-        return StringTransformer.of(inputString)
-                .trimLowerAndClean()
-                .unifyAerialAndVol()
-                .unifyMultiAndDiv()
-                .toString();
+    /**
+     * Get the index of units by normalized symbols, including aliases.
+     *
+     * @return The symbol index of LinearResistanceUnits.
+     */
+    public static UnitSymbolIndex<LinearResistanceUnits> symbolIndex() {
+        return SYMBOL_INDEX;
     }
 
 }
@@ -2,8 +2,6 @@ package com.synerset.unitility.unitsystem.hydraulic;
 
 import com.synerset.unitility.unitsystem.CalculableQuantity;
 
-import java.util.Objects;
-
 public class LocalLossFactor implements CalculableQuantity<LocalLossFactorUnit, LocalLossFactor> {
 
     public static final LocalLossFactor LLF_PHYSICAL_MIN = LocalLossFactor.of(0);
@@ -73,7 +71,7 @@ public class LocalLossFactor implements CalculableQuantity<LocalLossFactorUnit,
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return Double.hashCode(value);
     }
 
 }
@@ -1,8 +1,13 @@
 package com.synerset.unitility.unitsystem.hydraulic;
 
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.UnitConverter;
 
 public interface LocalLossFactorUnit extends Unit {
     @Override
     LocalLossFactorUnit getBaseUnit();
+
+    default UnitConverter<LocalLossFactorUnit> converterTo(LocalLossFactorUnit targetUnit) {
+        return UnitConverter.of(this, targetUnit);
+    }
 }
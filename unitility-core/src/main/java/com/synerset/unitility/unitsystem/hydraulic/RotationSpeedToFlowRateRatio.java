@@ -102,12 +102,12 @@ public class RotationSpeedToFlowRateRatio implements CalculableQuantity<Rotation
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         RotationSpeedToFlowRateRatio that = (RotationSpeedToFlowRateRatio) o;
-        return Double.compare(that.toBaseUnit().getValue(), baseValue) == 0 && Objects.equals(unitType.getBaseUnit(), that.getUnit().getBaseUnit());
+        return Double.compare(that.getBaseValue(), baseValue) == 0 && Objects.equals(unitType.getBaseUnit(), that.getUnit().getBaseUnit());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(baseValue, unitType.getBaseUnit());
+        return 31 * Double.hashCode(baseValue) + unitType.getBaseUnit().hashCode();
     }
 
     @Override
@@ -1,8 +1,13 @@
 package com.synerset.unitility.unitsystem.hydraulic;
 
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.UnitConverter;
 
 public interface RotationSpeedToFlowRateRatioUnit extends Unit {
     @Override
     RotationSpeedToFlowRateRatioUnit getBaseUnit();
+
+    default UnitConverter<RotationSpeedToFlowRateRatioUnit> converterTo(RotationSpeedToFlowRateRatioUnit targetUnit) {
+        return UnitConverter.of(this, targetUnit);
+    }
 }
\ No newline at end of file
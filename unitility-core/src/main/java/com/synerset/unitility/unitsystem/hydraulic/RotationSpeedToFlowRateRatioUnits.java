@@ -1,23 +1,34 @@
 package com.synerset.unitility.unitsystem.hydraulic;
 
+import com.synerset.unitility.unitsystem.AffineConversion;
 import com.synerset.unitility.unitsystem.exceptions.UnitSystemParseException;
-import com.synerset.unitility.unitsystem.util.StringTransformer;
+import com.synerset.unitility.unitsystem.util.SymbolNormalizer;
+import com.synerset.unitility.unitsystem.util.UnitSymbolIndex;
 
-import java.util.function.DoubleUnaryOperator;
+import java.util.Optional;
 
 public enum RotationSpeedToFlowRateRatioUnits implements RotationSpeedToFlowRateRatioUnit {
 
-    RADIAN_PER_SECOND_PER_CUBIC_METER_PER_SECOND("rad·s⁻¹/m³·s⁻¹", val -> val, val -> val),
-    RPM_PER_GPM("rpm/gpm", val -> val * (2 * Math.PI / 0.003785411784), val -> val / (2 * Math.PI / 0.003785411784));
+    RADIAN_PER_SECOND_PER_CUBIC_METER_PER_SECOND("rad·s⁻¹/m³·s⁻¹", 1.0),
+    RPM_PER_GPM("rpm/gpm", 2 * Math.PI / 0.003785411784);
+
+    private static final SymbolNormalizer SYMBOL_NORMALIZER = SymbolNormalizer.builder()
+            .trimLowerAndClean()
+            .replace("1/s", "s-1")
+            .replace("1ps", "s-1")
+            .unifyAerialAndVol()
+            .dropParentheses()
+            .unifyNegativeExponents()
+            .unifyMultiAndDiv()
+            .build();
+    private static final UnitSymbolIndex<RotationSpeedToFlowRateRatioUnits> SYMBOL_INDEX = UnitSymbolIndex.of(SYMBOL_NORMALIZER, values());
 
     private final String symbol;
-    private final DoubleUnaryOperator toBaseConverter;
-    private final DoubleUnaryOperator fromBaseToUnitConverter;
+    private final AffineConversion affineConversion;
 
-    RotationSpeedToFlowRateRatioUnits(String symbol, DoubleUnaryOperator toBaseConverter, DoubleUnaryOperator fromBaseToUnitConverter) {
+    RotationSpeedToFlowRateRatioUnits(String symbol, double factor) {
         this.symbol = symbol;
-        this.toBaseConverter = toBaseConverter;
-        this.fromBaseToUnitConverter = fromBaseToUnitConverter;
+        this.affineConversion = AffineConversion.ofFactor(factor);
     }
 
     @Override
@@ -32,38 +43,55 @@ public enum RotationSpeedToFlowRateRatioUnits implements RotationSpeedToFlowRate
 
     @Override
     public double toValueInBaseUnit(double valueInThisUnit) {
-        return toBaseConverter.applyAsDouble(valueInThisUnit);
+        return affineConversion.toBase(valueInThisUnit);
     }
 
     @Override
     public double fromValueInBaseUnit(double valueInBaseUnit) {
-        return fromBaseToUnitConverter.applyAsDouble(valueInBaseUnit);
+        return affineConversion.fromBase(valueInBaseUnit);
+    }
+
+    @Override
+    public AffineConversion getAffineConversion() {
+        return affineConversion;
+    }
+
+    @Override
+    public UnitSymbolIndex<RotationSpeedToFlowRateRatioUnits> getSymbolIndex() {
+        return SYMBOL_INDEX;
     }
 
     public static RotationSpeedToFlowRateRatioUnit fromSymbol(String rawSymbol) {
         if (rawSymbol == null || rawSymbol.isBlank()) {
             return RotationSpeedToFlowRateRatioUnits.RADIAN_PER_SECOND_PER_CUBIC_METER_PER_SECOND;
         }
-        String requestedSymbol = unifySymbol(rawSymbol);
-        for (RotationSpeedToFlowRateRatioUnit unit : values()) {
-            String currentSymbol = unifySymbol(unit.getSymbol());
-            if (currentSymbol.equalsIgnoreCase(requestedSymbol)) {
-                return unit;
-            }
+        RotationSpeedToFlowRateRatioUnit unit = SYMBOL_INDEX.find(rawSymbol);
+        if (unit == null) {
+            throw new UnitSystemParseException(() -> "Unsupported unit symbol: " + "{" + rawSymbol + "}." + " Target class: "
+                    + RotationSpeedToFlowRateRatioUnits.class.getSimpleName());
+        }
+        return unit;
+    }
+
+    /**
+     * Finds a unit by raw symbol, without throwing an exception for unsupported symbols.
+     *
+     * @param rawSymbol The raw symbol. Null or blank symbol resolves to the default unit.
+     * @return The matching unit, or an empty Optional if the symbol is not supported.
+     */
+    public static Optional<RotationSpeedToFlowRateRatioUnit> tryFromSymbol(String rawSymbol) {
+        if (rawSymbol == null || rawSymbol.isBlank()) {
+            return Optional.of(RotationSpeedToFlowRateRatioUnits.RADIAN_PER_SECOND_PER_CUBIC_METER_PER_SECOND);
         }
-        throw new UnitSystemParseException("Unsupported unit symbol: " + "{" + rawSymbol + "}." + " Target class: "
-                + RotationSpeedToFlowRateRatioUnits.class.getSimpleName());
+        return Optional.ofNullable(SYMBOL_INDEX.find(rawSymbol));
     }
 
-    private static String unifySymbol(String inputString) {
-        return StringTransformer.of(inputString)
-                .trimLowerAndClean()
-                .replace("1/s", "s-1")
-                .replace("1ps", "s-1")
-                .unifyAerialAndVol()
-                .dropParentheses()
-                .unifyNegativeExponents()
-                .unifyMultiAndDiv()
-                .toString();
+    /**
+     * Get the index of units by normalized symbols, including aliases.
+     *
+     * @return The symbol index of RotationSpeedToFlowRateRatioUnits.
+     */
+    public static UnitSymbolIndex<RotationSpeedToFlowRateRatioUnits> symbolIndex() {
+        return SYMBOL_INDEX;
     }
 }
\ No newline at end of file
@@ -1,8 +1,13 @@
 package com.synerset.unitility.unitsystem.mechanical;
 
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.UnitConverter;
 
 public interface ForceUnit extends Unit {
     @Override
     ForceUnit getBaseUnit();
+
+    default UnitConverter<ForceUnit> converterTo(ForceUnit targetUnit) {
+        return UnitConverter.of(this, targetUnit);
+    }
 }
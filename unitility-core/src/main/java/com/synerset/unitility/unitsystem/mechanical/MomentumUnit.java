@@ -1,8 +1,13 @@
 package com.synerset.unitility.unitsystem.mechanical;
 
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.UnitConverter;
 
 public interface MomentumUnit extends Unit {
     @Override
     MomentumUnit getBaseUnit();
+
+    default UnitConverter<MomentumUnit> converterTo(MomentumUnit targetUnit) {
+        return UnitConverter.of(this, targetUnit);
+    }
 }
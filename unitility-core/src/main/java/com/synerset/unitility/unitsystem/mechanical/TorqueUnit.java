@@ -1,8 +1,13 @@
 package com.synerset.unitility.unitsystem.mechanical;
 
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.UnitConverter;
 
 public interface TorqueUnit extends Unit {
     @Override
     TorqueUnit getBaseUnit();
+
+    default UnitConverter<TorqueUnit> converterTo(TorqueUnit targetUnit) {
+        return UnitConverter.of(this, targetUnit);
+    }
 }
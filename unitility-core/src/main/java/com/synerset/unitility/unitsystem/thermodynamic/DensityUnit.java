@@ -1,8 +1,13 @@
 package com.synerset.unitility.unitsystem.thermodynamic;
 
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.UnitConverter;
 
 public interface DensityUnit extends Unit {
     @Override
     DensityUnit getBaseUnit();
+
+    default UnitConverter<DensityUnit> converterTo(DensityUnit targetUnit) {
+        return UnitConverter.of(this, targetUnit);
+    }
 }
\ No newline at end of file
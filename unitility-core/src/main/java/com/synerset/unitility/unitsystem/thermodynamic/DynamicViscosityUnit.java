@@ -1,8 +1,13 @@
 package com.synerset.unitility.unitsystem.thermodynamic;
 
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.UnitConverter;
 
 public interface DynamicViscosityUnit extends Unit {
     @Override
     DynamicViscosityUnit getBaseUnit();
+
+    default UnitConverter<DynamicViscosityUnit> converterTo(DynamicViscosityUnit targetUnit) {
+        return UnitConverter.of(this, targetUnit);
+    }
 }
\ No newline at end of file
@@ -1,8 +1,13 @@
 package com.synerset.unitility.unitsystem.thermodynamic;
 
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.UnitConverter;
 
 public interface PowerUnit extends Unit {
     @Override
     PowerUnit getBaseUnit();
+
+    default UnitConverter<PowerUnit> converterTo(PowerUnit targetUnit) {
+        return UnitConverter.of(this, targetUnit);
+    }
 }
\ No newline at end of file
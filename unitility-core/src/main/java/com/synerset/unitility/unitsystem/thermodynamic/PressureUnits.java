@@ -1,36 +1,50 @@
 package com.synerset.unitility.unitsystem.thermodynamic;
 
+import com.synerset.unitility.unitsystem.AffineConversion;
 import com.synerset.unitility.unitsystem.exceptions.UnitSystemParseException;
-import com.synerset.unitility.unitsystem.util.StringTransformer;
+import com.synerset.unitility.unitsystem.util.SymbolNormalizer;
+import com.synerset.unitility.unitsystem.util.UnitSymbolIndex;
 
-import java.util.function.DoubleUnaryOperator;
+import java.util.Optional;
 
 public enum PressureUnits implements PressureUnit {
 
-    PASCAL("Pa", val -> val, val -> val),
-    HECTOPASCAL("hPa", val -> val * 1.0E2, val -> val / 1.0E2),
-    KILOPASCAL("kPa", val -> val * 1.0E3, val -> val / 1.0E3),
-    MEGAPASCAL("MPa", val -> val * 1.0E6, val -> val / 1.0E6),
-    BAR("bar", val -> val * 1.0E5, val -> val / 1.0E5),
-    MILLIBAR("mbar", val -> val * 100, val -> val / 100),
-    TORR("Torr", val -> val * 133.322368421053, val -> val / 133.322368421053),
-    PSI("psi", val -> val * 6894.757293168, val -> val / 6894.757293168),
+    PASCAL("Pa", 1.0),
+    HECTOPASCAL("hPa", 1.0E2),
+    KILOPASCAL("kPa", 1.0E3),
+    MEGAPASCAL("MPa", 1.0E6),
+    BAR("bar", 1.0E5),
+    MILLIBAR("mbar", 100.0),
+    TORR("Torr", 133.322368421053),
+    PSI("psi", 6894.757293168),
     // Pressure units based on formula P = rho * g * h
-    METRE_OF_WATER_10("mH₂O_10", val -> val * 999.5457000320766 * 9.80665, val -> val / (999.5457000320766 * 9.80665)),
-    METRE_OF_WATER_60("mH₂O_60", val -> val * 982.6716124974598 * 9.80665, val -> val / (982.6716124974598 * 9.80665)),
-    METRE_OF_WATER_95("mH₂O_95", val -> val * 961.269058775685 * 9.80665, val -> val / (961.269058775685 * 9.80665)),
-    MILLIMETRE_OF_MERCURY_10("mmHg_10", val -> val * 13570 * 9.80665 * 0.001, val -> val / (13570 * 9.80665 * 0.001)),
-    MILLIMETRE_OF_MERCURY_60("mmHg_60", val -> val * 13448 * 9.80665 * 0.001, val -> val / (13448 * 9.80665 * 0.001)),
-    MILLIMETRE_OF_MERCURY_95("mmHg_95", val -> val * 13364 * 9.80665 * 0.001, val -> val / (13364 * 9.80665 * 0.001));
+    METRE_OF_WATER_10("mH₂O_10", AffineConversion.ofProduct(999.5457000320766, 9.80665)),
+    METRE_OF_WATER_60("mH₂O_60", AffineConversion.ofProduct(982.6716124974598, 9.80665)),
+    METRE_OF_WATER_95("mH₂O_95", AffineConversion.ofProduct(961.269058775685, 9.80665)),
+    MILLIMETRE_OF_MERCURY_10("mmHg_10", AffineConversion.ofProduct(13570, 9.80665, 0.001)),
+    MILLIMETRE_OF_MERCURY_60("mmHg_60", AffineConversion.ofProduct(13448, 9.80665, 0.001)),
+    MILLIMETRE_OF_MERCURY_95("mmHg_95", AffineConversion.ofProduct(13364, 9.80665, 0.001));
+
+    private static final SymbolNormalizer SYMBOL_NORMALIZER = SymbolNormalizer.builder()
+            .trimLowerAndClean()
+            .unifyAerialAndVol()
+            .build();
+    private static final UnitSymbolIndex<PressureUnits> SYMBOL_INDEX = UnitSymbolIndex.<PressureUnits>builder(SYMBOL_NORMALIZER)
+            .addAll(values())
+            .addAliases(METRE_OF_WATER_10, "mH₂O")
+            .addAliases(MILLIMETRE_OF_MERCURY_10, "mmHg")
+            .build();
 
     private final String symbol;
-    private final DoubleUnaryOperator toBaseConverter;
-    private final DoubleUnaryOperator fromBaseToUnitConverter;
+    private final AffineConversion affineConversion;
+
+    PressureUnits(String symbol, double factor) {
+        this(symbol, AffineConversion.ofFactor(factor));
+    }
 
-    PressureUnits(String symbol, DoubleUnaryOperator toBaseConverter, DoubleUnaryOperator fromBaseToUnitConverter) {
+    PressureUnits(String symbol, AffineConversion affineConversion) {
         this.symbol = symbol;
-        this.toBaseConverter = toBaseConverter;
-        this.fromBaseToUnitConverter = fromBaseToUnitConverter;
+        this.affineConversion = affineConversion;
     }
 
     @Override
@@ -45,42 +59,56 @@ public enum PressureUnits implements PressureUnit {
 
     @Override
     public double toValueInBaseUnit(double valueInThisUnit) {
-        return toBaseConverter.applyAsDouble(valueInThisUnit);
+        return affineConversion.toBase(valueInThisUnit);
     }
 
     @Override
     public double fromValueInBaseUnit(double valueInBaseUnit) {
-        return fromBaseToUnitConverter.applyAsDouble(valueInBaseUnit);
+        return affineConversion.fromBase(valueInBaseUnit);
+    }
+
+    @Override
+    public AffineConversion getAffineConversion() {
+        return affineConversion;
+    }
+
+    @Override
+    public UnitSymbolIndex<PressureUnits> getSymbolIndex() {
+        return SYMBOL_INDEX;
     }
 
     public static PressureUnit fromSymbol(String rawSymbol) {
         if (rawSymbol == null || rawSymbol.isBlank()) {
             return PASCAL;
         }
-        String requestedSymbol = unifySymbol(rawSymbol);
-        for (PressureUnit unit : values()) {
-            if (hasMatchBeenFound(unit, requestedSymbol)) {
-                return unit;
-            }
+        PressureUnit unit = SYMBOL_INDEX.find(rawSymbol);
+        if (unit == null) {
+            throw new UnitSystemParseException(() -> "Unsupported unit symbol: " + "{" + rawSymbol + "}." + " Target class: "
+                                               + PressureUnits.class.getSimpleName());
         }
-        throw new UnitSystemParseException("Unsupported unit symbol: " + "{" + rawSymbol + "}." + " Target class: "
-                                           + PressureUnits.class.getSimpleName());
+        return unit;
     }
 
-    private static String unifySymbol(String inputString) {
-        return StringTransformer.of(inputString)
-                .trimLowerAndClean()
-                .unifyAerialAndVol()
-                .toString();
+    /**
+     * Finds a unit by raw symbol, without throwing an exception for unsupported symbols.
+     *
+     * @param rawSymbol The raw symbol. Null or blank symbol resolves to the default unit.
+     * @return The matching unit, or an empty Optional if the symbol is not supported.
+     */
+    public static Optional<PressureUnit> tryFromSymbol(String rawSymbol) {
+        if (rawSymbol == null || rawSymbol.isBlank()) {
+            return Optional.of(PASCAL);
+        }
+        return Optional.ofNullable(SYMBOL_INDEX.find(rawSymbol));
     }
 
-    private static boolean hasMatchBeenFound(PressureUnit currentUnit, String requestedSymbol) {
-        String currentSymbol = unifySymbol(currentUnit.getSymbol());
-        if(currentUnit == PressureUnits.METRE_OF_WATER_10 || currentUnit == PressureUnits.MILLIMETRE_OF_MERCURY_10){
-            String truncatedSymbol = currentSymbol.replace("10", "");
-            return truncatedSymbol.equalsIgnoreCase(requestedSymbol) || currentSymbol.equalsIgnoreCase(requestedSymbol);
-        }
-        return currentSymbol.equalsIgnoreCase(requestedSymbol);
+    /**
+     * Get the index of units by normalized symbols, including aliases.
+     *
+     * @return The symbol index of PressureUnits.
+     */
+    public static UnitSymbolIndex<PressureUnits> symbolIndex() {
+        return SYMBOL_INDEX;
     }
 
 }
\ No newline at end of file
@@ -1,8 +1,13 @@
 package com.synerset.unitility.unitsystem.thermodynamic;
 
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.UnitConverter;
 
 public interface TemperatureUnit extends Unit {
     @Override
     TemperatureUnit getBaseUnit();
+
+    default UnitConverter<TemperatureUnit> converterTo(TemperatureUnit targetUnit) {
+        return UnitConverter.of(this, targetUnit);
+    }
 }
\ No newline at end of file
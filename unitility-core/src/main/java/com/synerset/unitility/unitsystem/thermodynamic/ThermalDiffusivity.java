@@ -99,12 +99,12 @@ public class ThermalDiffusivity implements CalculableQuantity<ThermalDiffusivity
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         ThermalDiffusivity inputQuantity = (ThermalDiffusivity) o;
-        return Double.compare(inputQuantity.toBaseUnit().getValue(), baseValue) == 0 && Objects.equals(unitType.getBaseUnit(), inputQuantity.getUnit().getBaseUnit());
+        return Double.compare(inputQuantity.getBaseValue(), baseValue) == 0 && Objects.equals(unitType.getBaseUnit(), inputQuantity.getUnit().getBaseUnit());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(baseValue, unitType.getBaseUnit());
+        return 31 * Double.hashCode(baseValue) + unitType.getBaseUnit().hashCode();
     }
 
     @Override
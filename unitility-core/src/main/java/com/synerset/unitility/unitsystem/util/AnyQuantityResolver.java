@@ -0,0 +1,183 @@
+package com.synerset.unitility.unitsystem.util;
+
+import com.synerset.unitility.unitsystem.PhysicalQuantity;
+import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.common.AngleUnit;
+import com.synerset.unitility.unitsystem.common.AngleUnits;
+import com.synerset.unitility.unitsystem.exceptions.UnitSystemParseException;
+import com.synerset.unitility.unitsystem.geographic.DMSCoordinate;
+import com.synerset.unitility.unitsystem.geographic.DMSParser;
+import com.synerset.unitility.unitsystem.geographic.Latitude;
+import com.synerset.unitility.unitsystem.geographic.Longitude;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Resolves quantity type from a unit, for quantities registered in a parsing factory. Each unit is assigned to exactly
+ * one quantity class: the first class using this unit, in order of {@link SupportedQuantitiesRegistry} registration,
+ * followed by other registered classes ordered by their names. Therefore, general quantities take precedence over
+ * specialized ones sharing the same units, for ie: {@code Distance} over {@code Length} and {@code Angle} over
+ * {@code Latitude}. Quantities are created from prototypes resolved once, so resolution does not involve any parsing.
+ * <p>
+ * Candidate units are found by the unit symbol of the input, in the index of units of all classes registered in the
+ * parsing factory, including custom ones, see {@link GlobalUnitSymbolIndex#resolveUnits}. Symbols are matched
+ * case-sensitively first, so that SI prefixes are not confused, for ie: "MW" and "mW". Resolvers are created once per
+ * parsing factory, as registries of parsing factories are immutable.
+ */
+final class AnyQuantityResolver {
+
+    private static final String DROPPED_CHARACTERS = " _()[]{}<>";
+    private static final Map<PhysicalQuantityParsingFactory, AnyQuantityResolver> RESOLVERS_BY_FACTORY =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final GlobalUnitSymbolIndex symbolIndex;
+    private final Map<Unit, PhysicalQuantity<Unit>> prototypesByUnit;
+
+    private AnyQuantityResolver(GlobalUnitSymbolIndex symbolIndex, Map<Unit, PhysicalQuantity<Unit>> prototypesByUnit) {
+        this.symbolIndex = symbolIndex;
+        this.prototypesByUnit = prototypesByUnit;
+    }
+
+    /**
+     * Creates a quantity in engineering format, without knowing its class. The input is scanned once: the extracted
+     * value is applied to the prototype of the first candidate unit assigned to a registered quantity class.
+     *
+     * @param parsingFactory   The parsing factory for which this resolver was created.
+     * @param quantityAsString The string representation of the quantity with unit symbol, i.e.: 3.5 m³/h
+     * @return A new instance of the detected physical quantity.
+     * @throws UnitSystemParseException If the input is blank, has no symbol, the symbol is ambiguous or quantity type
+     *                                  cannot be determined.
+     */
+    PhysicalQuantity<?> parse(PhysicalQuantityParsingFactory parsingFactory, String quantityAsString) {
+        Candidates candidates = findCandidates(quantityAsString);
+        if (candidates.geoClass() != null) {
+            return parsingFactory.parseValueAndSymbol(candidates.geoClass(), candidates.value(), AngleUnits.DEGREES.getSymbol());
+        }
+        List<Unit> candidateUnits = candidates.units();
+        for (int i = 0; i < candidateUnits.size(); i++) {
+            PhysicalQuantity<Unit> prototype = prototypesByUnit.get(candidateUnits.get(i));
+            if (prototype != null) {
+                return prototype.withValue(candidates.value());
+            }
+        }
+        throw new UnitSystemParseException(() -> "Quantity type could not be determined from unit symbol. Input: " + quantityAsString);
+    }
+
+    private Candidates findCandidates(String quantityAsString) {
+        if (quantityAsString == null || quantityAsString.isBlank()) {
+            throw new UnitSystemParseException("Invalid input. Quantity to parse cannot be null or blank.");
+        }
+
+        String preparedInput = PhysicalQuantityAbstractParsingFactory.INPUT_NORMALIZER.normalize(quantityAsString);
+        int inputLength = preparedInput.length();
+
+        DMSCoordinate dmsCoordinate = DMSParser.tryParse(preparedInput, 0, inputLength);
+        if (dmsCoordinate != null) {
+            Class<? extends PhysicalQuantity<AngleUnit>> geoClass = null;
+            if (dmsCoordinate.hemisphere() != null) {
+                geoClass = dmsCoordinate.isValidLatitude() ? Latitude.class : Longitude.class;
+            }
+            return new Candidates(dmsCoordinate.toDegrees(), List.of(AngleUnits.DEGREES), geoClass);
+        }
+
+        int symbolStart = ParsingHelpers.findEndOfValue(preparedInput);
+        if (symbolStart == inputLength) {
+            throw new UnitSystemParseException(() -> "Quantity type cannot be determined without unit symbol. Input: " + quantityAsString);
+        }
+        double value = ParsingHelpers.parseToDouble(preparedInput, 0, symbolStart);
+        // Symbol is taken from the raw input, as normalized input is lowercase
+        int rawSymbolStart = findRawSymbolStart(quantityAsString, symbolStart);
+        List<Unit> candidateUnits = symbolIndex.resolve(quantityAsString, rawSymbolStart, quantityAsString.length());
+        return new Candidates(value, candidateUnits, null);
+    }
+
+    /**
+     * Get the resolver of a parsing factory, created on first use.
+     *
+     * @param parsingFactory The parsing factory with registered quantity classes.
+     * @return The resolver of the parsing factory.
+     */
+    static AnyQuantityResolver forFactory(PhysicalQuantityParsingFactory parsingFactory) {
+        AnyQuantityResolver resolver = RESOLVERS_BY_FACTORY.get(parsingFactory);
+        if (resolver == null) {
+            resolver = of(parsingFactory);
+            RESOLVERS_BY_FACTORY.put(parsingFactory, resolver);
+        }
+        return resolver;
+    }
+
+    static AnyQuantityResolver of(PhysicalQuantityParsingFactory parsingFactory) {
+        Map<Unit, PhysicalQuantity<Unit>> prototypesByUnit = new LinkedHashMap<>();
+        for (Class<?> quantityClass : findClassesInPrecedenceOrder(parsingFactory)) {
+            Unit defaultUnit = parsingFactory.getDefaultUnitRegistry().get(quantityClass);
+            if (defaultUnit == null) {
+                continue;
+            }
+            PhysicalQuantity<Unit> defaultQuantity = createDefaultQuantity(parsingFactory, quantityClass);
+            for (Unit unit : findAllUnitsOfType(defaultUnit)) {
+                if (!prototypesByUnit.containsKey(unit)) {
+                    prototypesByUnit.put(unit, defaultQuantity.toUnit(unit).withValue(0));
+                }
+            }
+        }
+        GlobalUnitSymbolIndex symbolIndex = GlobalUnitSymbolIndex.of(prototypesByUnit.keySet());
+        return new AnyQuantityResolver(symbolIndex, Collections.unmodifiableMap(prototypesByUnit));
+    }
+
+    private static Set<Class<?>> findClassesInPrecedenceOrder(PhysicalQuantityParsingFactory parsingFactory) {
+        Set<Class<?>> orderedClasses = new LinkedHashSet<>();
+        for (Class<?> quantityClass : SupportedQuantitiesRegistry.getInstance().findAllRegisteredClasses()) {
+            if (parsingFactory.containsClass(quantityClass)) {
+                orderedClasses.add(quantityClass);
+            }
+        }
+        List<Class<?>> otherClasses = new ArrayList<>(parsingFactory.getClassRegistry().keySet());
+        otherClasses.removeAll(orderedClasses);
+        otherClasses.sort(Comparator.comparing(Class::getName));
+        orderedClasses.addAll(otherClasses);
+        return orderedClasses;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static PhysicalQuantity<Unit> createDefaultQuantity(PhysicalQuantityParsingFactory parsingFactory, Class<?> quantityClass) {
+        Class<? extends PhysicalQuantity<Unit>> castedClass = (Class<? extends PhysicalQuantity<Unit>>) quantityClass;
+        return parsingFactory.parseValueWithDefaultUnit(castedClass, 0);
+    }
+
+    // Value consists of ASCII characters only, therefore it has the same length in raw input, except for characters
+    // dropped by input normalization
+    private static int findRawSymbolStart(String rawInput, int preparedValueLength) {
+        int index = 0;
+        int valueLength = 0;
+        while (index < rawInput.length() && valueLength < preparedValueLength) {
+            char character = rawInput.charAt(index++);
+            if (!Character.isWhitespace(character) && DROPPED_CHARACTERS.indexOf(character) < 0) {
+                valueLength++;
+            }
+        }
+        return index;
+    }
+
+    private static Unit[] findAllUnitsOfType(Unit unit) {
+        if (unit instanceof Enum<?> enumUnit && enumUnit.getDeclaringClass().getEnumConstants() instanceof Unit[] units) {
+            return units;
+        }
+        return new Unit[]{unit};
+    }
+
+    /**
+     * Value of a quantity with candidate units, in order of precedence. Geographic class is determined only for DMS
+     * coordinates with hemisphere.
+     */
+    private record Candidates(double value, List<Unit> units, Class<? extends PhysicalQuantity<AngleUnit>> geoClass) {
+    }
+
+}
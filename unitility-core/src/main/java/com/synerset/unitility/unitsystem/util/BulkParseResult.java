@@ -0,0 +1,106 @@
+package com.synerset.unitility.unitsystem.util;
+
+import com.synerset.unitility.unitsystem.exceptions.UnitSystemParseException;
+
+import java.util.Arrays;
+
+/**
+ * Result of bulk parsing, holding parsed quantities and error codes at indices of the inputs. Failed inputs do not
+ * interrupt parsing of the others, and are represented by null quantity and an error code at their index.
+ *
+ * @param <Q> The type of physical quantity.
+ */
+public final class BulkParseResult<Q> {
+
+    private final Q[] quantities;
+    private final ParseErrorCode[] errorCodes;
+    private final int errorCount;
+
+    BulkParseResult(Q[] quantities, ParseErrorCode[] errorCodes, int errorCount) {
+        this.quantities = quantities;
+        this.errorCodes = errorCodes;
+        this.errorCount = errorCount;
+    }
+
+    public int size() {
+        return quantities.length;
+    }
+
+    /**
+     * Get the quantity parsed from input at given index.
+     *
+     * @param index The index of input.
+     * @return The parsed quantity, or null if parsing of this input has failed.
+     */
+    public Q get(int index) {
+        return quantities[index];
+    }
+
+    /**
+     * Get the quantity parsed from input at given index, failing if parsing of this input has failed.
+     *
+     * @param index The index of input.
+     * @return The parsed quantity.
+     * @throws UnitSystemParseException If parsing of this input has failed.
+     */
+    public Q getOrThrow(int index) {
+        ParseErrorCode errorCode = errorCodes[index];
+        if (errorCode != null) {
+            throw new UnitSystemParseException(() -> "Bulk parser: input at index " + index + " could not be parsed, error: " + errorCode);
+        }
+        return quantities[index];
+    }
+
+    /**
+     * Get the reason of failure for input at given index.
+     *
+     * @param index The index of input.
+     * @return The error code, or null if parsing of this input has succeeded.
+     */
+    public ParseErrorCode getErrorCode(int index) {
+        return errorCodes[index];
+    }
+
+    public boolean isSuccess(int index) {
+        return errorCodes[index] == null;
+    }
+
+    public boolean hasErrors() {
+        return errorCount > 0;
+    }
+
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * Get indices of inputs, which could not be parsed.
+     *
+     * @return The ascending indices of failed inputs.
+     */
+    public int[] getFailedIndices() {
+        int[] failedIndices = new int[errorCount];
+        int position = 0;
+        for (int i = 0; i < errorCodes.length && position < errorCount; i++) {
+            if (errorCodes[i] != null) {
+                failedIndices[position++] = i;
+            }
+        }
+        return failedIndices;
+    }
+
+    /**
+     * Get a copy of all parsed quantities, with nulls at indices of failed inputs.
+     *
+     * @return The array of parsed quantities.
+     */
+    public Q[] toArray() {
+        return Arrays.copyOf(quantities, quantities.length);
+    }
+
+    @Override
+    public String toString() {
+        return "BulkParseResult{size=" + quantities.length + ", errorCount=" + errorCount + "}";
+    }
+
+}
@@ -0,0 +1,246 @@
+package com.synerset.unitility.unitsystem.util;
+
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * Allocation-free parser of decimal floating-point numbers, operating directly on a range of {@link CharSequence}.
+ * Plain decimal inputs with up to 19 significant digits, for ie: "-12.5", "101.325" or "1.2345E-5", are converted with
+ * the Clinger fast path when both the significand and the power of ten are exactly representable, and otherwise with
+ * the Eisel-Lemire algorithm using 128-bit approximations of powers of five. Both give correctly rounded results.
+ * <p>
+ * All other inputs, including those for which the Eisel-Lemire algorithm cannot prove correct rounding, are delegated
+ * to {@link Double#parseDouble(String)}. Therefore, results and accepted syntax are always identical to
+ * {@link Double#parseDouble(String)} applied to the same range of characters.
+ */
+public final class FastDoubleParser {
+
+    // Up to 19 decimal digits always fit into unsigned 64-bit significand
+    private static final int MAX_SIGNIFICANT_DIGITS = 19;
+    private static final int MAX_EXPONENT_DIGITS_VALUE = 100_000;
+    private static final int SMALLEST_POWER_OF_TEN = -342;
+    private static final int LARGEST_POWER_OF_TEN = 308;
+    private static final long MAX_EXACT_SIGNIFICAND = (1L << 53) - 1;
+
+    private static final double[] EXACT_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    // High and low 64 bits of 128-bit approximations of 5^q for q in [-342, 308], normalized to the most significant bit.
+    private static final long[] POWER_OF_FIVE_HIGH = new long[LARGEST_POWER_OF_TEN - SMALLEST_POWER_OF_TEN + 1];
+    private static final long[] POWER_OF_FIVE_LOW = new long[LARGEST_POWER_OF_TEN - SMALLEST_POWER_OF_TEN + 1];
+
+    static {
+        BigInteger twoPow128 = BigInteger.ONE.shiftLeft(128);
+        BigInteger twoPow127 = BigInteger.ONE.shiftLeft(127);
+        BigInteger mask64 = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+        for (int q = SMALLEST_POWER_OF_TEN; q <= LARGEST_POWER_OF_TEN; q++) {
+            BigInteger approximation;
+            if (q < 0) {
+                BigInteger powerOfFive = BigInteger.valueOf(5).pow(-q);
+                int z = powerOfFive.subtract(BigInteger.ONE).bitLength();
+                int shift = q >= -27 ? z + 127 : 2 * z + 128;
+                approximation = BigInteger.ONE.shiftLeft(shift).divide(powerOfFive).add(BigInteger.ONE);
+                if (approximation.bitLength() > 128) {
+                    approximation = approximation.shiftRight(approximation.bitLength() - 128);
+                }
+            } else {
+                approximation = BigInteger.valueOf(5).pow(q);
+                if (approximation.compareTo(twoPow127) < 0) {
+                    approximation = approximation.shiftLeft(128 - approximation.bitLength());
+                } else if (approximation.compareTo(twoPow128) >= 0) {
+                    approximation = approximation.shiftRight(approximation.bitLength() - 128);
+                }
+            }
+            int index = q - SMALLEST_POWER_OF_TEN;
+            POWER_OF_FIVE_HIGH[index] = approximation.shiftRight(64).longValue();
+            POWER_OF_FIVE_LOW[index] = approximation.and(mask64).longValue();
+        }
+    }
+
+    private FastDoubleParser() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Parses the whole input to a double value.
+     *
+     * @param input The input to be parsed.
+     * @return The parsed value.
+     * @throws NumberFormatException if the input is not a valid representation of a double.
+     */
+    public static double parseDouble(CharSequence input) {
+        return parseDouble(input, 0, input.length());
+    }
+
+    /**
+     * Parses a range of the input to a double value.
+     *
+     * @param input The input containing the number.
+     * @param start The start index of the number, inclusive.
+     * @param end   The end index of the number, exclusive.
+     * @return The parsed value.
+     * @throws NumberFormatException if the range is not a valid representation of a double.
+     */
+    public static double parseDouble(CharSequence input, int start, int end) {
+        Objects.checkFromToIndex(start, end, input.length());
+        int index = start;
+        boolean isNegative = false;
+        if (index < end) {
+            char sign = input.charAt(index);
+            if (sign == '-' || sign == '+') {
+                isNegative = sign == '-';
+                index++;
+            }
+        }
+
+        long significand = 0;
+        int significantDigitCount = 0;
+        int digitCount = 0;
+        int powerOfTen = 0;
+        char character;
+
+        // Integer part
+        while (index < end && isDigit(character = input.charAt(index))) {
+            if (significand != 0 || character != '0') {
+                if (++significantDigitCount > MAX_SIGNIFICANT_DIGITS) {
+                    return fallback(input, start, end);
+                }
+                significand = 10 * significand + (character - '0');
+            }
+            digitCount++;
+            index++;
+        }
+
+        // Fraction part
+        if (index < end && input.charAt(index) == '.') {
+            index++;
+            while (index < end && isDigit(character = input.charAt(index))) {
+                if (significand != 0 || character != '0') {
+                    if (++significantDigitCount > MAX_SIGNIFICANT_DIGITS) {
+                        return fallback(input, start, end);
+                    }
+                    significand = 10 * significand + (character - '0');
+                }
+                powerOfTen--;
+                digitCount++;
+                index++;
+            }
+        }
+
+        if (digitCount == 0) {
+            return fallback(input, start, end);
+        }
+
+        // Exponent part
+        if (index < end && (input.charAt(index) == 'e' || input.charAt(index) == 'E')) {
+            index++;
+            boolean isExponentNegative = false;
+            if (index < end && (input.charAt(index) == '-' || input.charAt(index) == '+')) {
+                isExponentNegative = input.charAt(index) == '-';
+                index++;
+            }
+            int exponentStart = index;
+            int exponent = 0;
+            while (index < end && isDigit(character = input.charAt(index))) {
+                if (exponent < MAX_EXPONENT_DIGITS_VALUE) {
+                    exponent = 10 * exponent + (character - '0');
+                }
+                index++;
+            }
+            if (index == exponentStart) {
+                return fallback(input, start, end);
+            }
+            powerOfTen += isExponentNegative ? -exponent : exponent;
+        }
+
+        if (index != end) {
+            return fallback(input, start, end);
+        }
+
+        double value = toDouble(isNegative, significand, powerOfTen);
+        return Double.isNaN(value) ? fallback(input, start, end) : value;
+    }
+
+    // Returns NaN if the result cannot be determined with certainty.
+    private static double toDouble(boolean isNegative, long significand, int powerOfTen) {
+        if (significand == 0 || powerOfTen < SMALLEST_POWER_OF_TEN) {
+            return isNegative ? -0.0 : 0.0;
+        }
+        if (powerOfTen > LARGEST_POWER_OF_TEN) {
+            return isNegative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        }
+
+        // Clinger fast path: significand and power of ten are exact, therefore a single operation is correctly rounded
+        if (powerOfTen >= -22 && powerOfTen <= 22 && Long.compareUnsigned(significand, MAX_EXACT_SIGNIFICAND) <= 0) {
+            double value = powerOfTen < 0
+                    ? significand / EXACT_POWERS_OF_TEN[-powerOfTen]
+                    : significand * EXACT_POWERS_OF_TEN[powerOfTen];
+            return isNegative ? -value : value;
+        }
+
+        // Eisel-Lemire algorithm
+        long exponent = (((152170L + 65536L) * powerOfTen) >> 16) + 1024 + 63;
+        int leadingZeros = Long.numberOfLeadingZeros(significand);
+        long shiftedSignificand = significand << leadingZeros;
+        int tableIndex = powerOfTen - SMALLEST_POWER_OF_TEN;
+        long factorHigh = POWER_OF_FIVE_HIGH[tableIndex];
+        long upper = unsignedMultiplyHigh(shiftedSignificand, factorHigh);
+        long lower = shiftedSignificand * factorHigh;
+
+        if ((upper & 0x1FF) == 0x1FF && Long.compareUnsigned(lower + shiftedSignificand, lower) < 0) {
+            long factorLow = POWER_OF_FIVE_LOW[tableIndex];
+            long productLow = shiftedSignificand * factorLow;
+            long productMiddle = lower + unsignedMultiplyHigh(shiftedSignificand, factorLow);
+            long productHigh = upper;
+            if (Long.compareUnsigned(productMiddle, lower) < 0) {
+                productHigh++;
+            }
+            if (productMiddle + 1 == 0 && (productHigh & 0x1FF) == 0x1FF
+                    && Long.compareUnsigned(productLow + shiftedSignificand, productLow) < 0) {
+                return Double.NaN;
+            }
+            upper = productHigh;
+            lower = productMiddle;
+        }
+
+        long upperBit = upper >>> 63;
+        long mantissa = upper >>> (upperBit + 9);
+        leadingZeros += (int) (1 ^ upperBit);
+
+        // Possibly exactly halfway between two doubles, round-to-even cannot be decided here
+        if (lower == 0 && (upper & 0x1FF) == 0 && (mantissa & 3) == 1) {
+            return Double.NaN;
+        }
+
+        mantissa += 1;
+        mantissa >>>= 1;
+        if (mantissa >= (1L << 53)) {
+            mantissa = 1L << 52;
+            leadingZeros--;
+        }
+        mantissa &= ~(1L << 52);
+
+        long realExponent = exponent - leadingZeros;
+        // Subnormal and overflowing results are left to the fallback
+        if (realExponent < 1 || realExponent > 2046) {
+            return Double.NaN;
+        }
+        long bits = mantissa | realExponent << 52 | (isNegative ? 1L << 63 : 0L);
+        return Double.longBitsToDouble(bits);
+    }
+
+    private static long unsignedMultiplyHigh(long first, long second) {
+        return Math.multiplyHigh(first, second) + ((first >> 63) & second) + ((second >> 63) & first);
+    }
+
+    private static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+
+    private static double fallback(CharSequence input, int start, int end) {
+        return Double.parseDouble(input.subSequence(start, end).toString());
+    }
+
+}
@@ -0,0 +1,252 @@
+package com.synerset.unitility.unitsystem.util;
+
+import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.exceptions.UnitSystemParseException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * Immutable index of units of all supported quantities by their symbols, built once on first use from symbol indexes of
+ * units of all quantities registered in {@link SupportedQuantitiesRegistry}, including aliases. Units without symbol
+ * index are indexed by their own symbols. Since different quantities use different symbol normalizations, symbols in
+ * this index are normalized with a common, quantity-independent normalizer. The same symbol can represent units of
+ * several quantities, for ie: "%" is a unit of both ratio and relative humidity, therefore all matching units are
+ * returned, in registration order. Symbols are stored in {@link SymbolHashTable}s, therefore a lookup requires a single
+ * normalization pass and a hash table probe.
+ * <p>
+ * Normalized symbols are lowercase, therefore units which differ only in case of their symbols, for ie: "kN" and "kn"
+ * or "MW" and "mW", share the same normalized symbol. Such units are distinguished by {@link #resolveUnits}, which
+ * matches symbols exactly as they were defined first. Brackets and parentheses are ignored in both cases, so that
+ * symbols written in engineering format, for ie: "[kPa]" or "(°C)", are found as well.
+ */
+public final class GlobalUnitSymbolIndex {
+
+    private static final SymbolNormalizer SYMBOL_NORMALIZER = SymbolNormalizer.builder()
+            .trimLowerAndClean()
+            .unifyMultiAndDiv()
+            .unifyAerialAndVol()
+            .dropParentheses()
+            .build();
+
+    private static final String DROPPED_CHARACTERS = "()[]{}<>";
+    private static final ThreadLocal<StringBuilder> THREAD_BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(32));
+    private static final GlobalUnitSymbolIndex SUPPORTED_UNITS_INDEX = of(findSupportedUnits());
+
+    private final Map<String, List<Unit>> unitsBySymbol;
+    private final SymbolHashTable<List<Unit>> unitsByNormalizedSymbol;
+    private final SymbolHashTable<List<Unit>> unitsByExactSymbol;
+    private final SymbolHashTable<String> leadingCharactersBySymbol;
+
+    private GlobalUnitSymbolIndex(Map<String, List<Unit>> unitsBySymbol,
+                                  Map<String, List<Unit>> unitsByExactSymbol,
+                                  Map<String, String> leadingCharactersBySymbol) {
+        this.unitsBySymbol = unitsBySymbol;
+        this.unitsByNormalizedSymbol = new SymbolHashTable<>(unitsBySymbol);
+        this.unitsByExactSymbol = new SymbolHashTable<>(unitsByExactSymbol);
+        this.leadingCharactersBySymbol = new SymbolHashTable<>(leadingCharactersBySymbol);
+    }
+
+    /**
+     * Creates an index of provided units. Units providing {@link Unit#getSymbolIndex()} are indexed with all symbols and
+     * aliases of their symbol index, other units with their own symbols.
+     *
+     * @param units The units, in order of precedence.
+     * @return The index of units by symbols.
+     */
+    static GlobalUnitSymbolIndex of(Collection<? extends Unit> units) {
+        List<UnitSymbolIndex.SymbolEntry<Unit>> symbolEntries = new ArrayList<>();
+        Set<UnitSymbolIndex<?>> visitedIndexes = new HashSet<>();
+        for (Unit unit : units) {
+            UnitSymbolIndex<? extends Unit> unitIndex = unit.getSymbolIndex();
+            if (unitIndex == null) {
+                symbolEntries.add(new UnitSymbolIndex.SymbolEntry<>(unit.getSymbol(), unit));
+            } else if (visitedIndexes.add(unitIndex)) {
+                for (UnitSymbolIndex.SymbolEntry<? extends Unit> entry : unitIndex.getRawSymbols()) {
+                    symbolEntries.add(new UnitSymbolIndex.SymbolEntry<>(entry.symbol(), entry.unit()));
+                }
+            }
+        }
+        return new GlobalUnitSymbolIndex(
+                buildUnitsBySymbol(symbolEntries, SYMBOL_NORMALIZER::normalize),
+                buildUnitsBySymbol(symbolEntries, GlobalUnitSymbolIndex::stripSymbol),
+                buildLeadingCharactersBySymbol(symbolEntries)
+        );
+    }
+
+    /**
+     * Finds units of all supported quantities matching the raw symbol.
+     *
+     * @param rawSymbol The raw symbol, for ie: "kPa" or "m³/h".
+     * @return Unmodifiable list of matching units, empty if there is no unit with such symbol.
+     */
+    public static List<Unit> findUnits(CharSequence rawSymbol) {
+        return findUnits(rawSymbol, 0, rawSymbol.length());
+    }
+
+    /**
+     * Finds units of all supported quantities matching the raw symbol located within a range of the input.
+     *
+     * @param input The input containing the raw symbol.
+     * @param start The start index of the symbol, inclusive.
+     * @param end   The end index of the symbol, exclusive.
+     * @return Unmodifiable list of matching units, empty if there is no unit with such symbol.
+     */
+    public static List<Unit> findUnits(CharSequence input, int start, int end) {
+        return SUPPORTED_UNITS_INDEX.find(input, start, end);
+    }
+
+    /**
+     * Resolves units of all supported quantities matching the raw symbol located within a range of the input. The
+     * symbol is matched case-sensitively first, ignoring whitespaces, brackets and parentheses only. If there is no
+     * exact match, units are found by the normalized symbol, which is accepted only if it matches a single unit. A
+     * symbol written in mixed or upper case must additionally start with the same character as the matched symbol,
+     * since the leading character usually carries the prefix, for ie: "mW" is not resolved as megawatt, while "kpa" is
+     * resolved as kilopascal.
+     *
+     * @param input The input containing the raw symbol.
+     * @param start The start index of the symbol, inclusive.
+     * @param end   The end index of the symbol, exclusive.
+     * @return Unmodifiable list of matching units, empty if there is no unit with such symbol.
+     * @throws UnitSystemParseException If the normalized symbol matches several units, for ie: "KN" matches both
+     *                                  kilonewton and knot.
+     */
+    public static List<Unit> resolveUnits(CharSequence input, int start, int end) {
+        return SUPPORTED_UNITS_INDEX.resolve(input, start, end);
+    }
+
+    /**
+     * Finds the first unit of a given type matching the raw symbol.
+     *
+     * @param rawSymbol The raw symbol, for ie: "kPa" or "m³/h".
+     * @param unitType  The expected unit type, for ie: {@code PressureUnit.class}.
+     * @param <U>       The unit type.
+     * @return The matching unit, or null if there is no unit of a given type with such symbol.
+     */
+    public static <U extends Unit> U findUnit(CharSequence rawSymbol, Class<U> unitType) {
+        for (Unit unit : findUnits(rawSymbol)) {
+            if (unitType.isInstance(unit)) {
+                return unitType.cast(unit);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get all indexed entries.
+     *
+     * @return Unmodifiable map of units by normalized symbols and aliases.
+     */
+    public static Map<String, List<Unit>> asMap() {
+        return SUPPORTED_UNITS_INDEX.unitsBySymbol;
+    }
+
+    List<Unit> find(CharSequence input, int start, int end) {
+        StringBuilder buffer = THREAD_BUFFER.get();
+        buffer.setLength(0);
+        SYMBOL_NORMALIZER.normalize(input, start, end, buffer);
+        List<Unit> units = unitsByNormalizedSymbol.get(buffer);
+        return units == null ? Collections.emptyList() : units;
+    }
+
+    // See resolveUnits
+    List<Unit> resolve(CharSequence input, int start, int end) {
+        StringBuilder buffer = THREAD_BUFFER.get();
+        buffer.setLength(0);
+        for (int i = start; i < end; i++) {
+            char character = input.charAt(i);
+            if (!isDropped(character)) {
+                buffer.append(character);
+            }
+        }
+        List<Unit> exactUnits = unitsByExactSymbol.get(buffer);
+        if (exactUnits != null) {
+            return exactUnits;
+        }
+        char leadingCharacter = buffer.length() == 0 ? 0 : buffer.charAt(0);
+        boolean hasUpperCase = containsUpperCase(buffer);
+        List<Unit> units = find(input, start, end);
+        if (units.size() > 1) {
+            String ambiguousSymbol = input.subSequence(start, end).toString().trim();
+            throw new UnitSystemParseException(() -> "Ambiguous unit symbol: " + ambiguousSymbol
+                    + ", matching units: " + units + ". Use exact symbol of the unit.");
+        }
+        if (units.isEmpty() || !hasUpperCase) {
+            return units;
+        }
+        // The buffer holds the normalized symbol at this point, as filled by find
+        String leadingCharacters = leadingCharactersBySymbol.get(buffer);
+        if (leadingCharacters == null || leadingCharacters.indexOf(leadingCharacter) < 0) {
+            String mismatchedSymbol = input.subSequence(start, end).toString().trim();
+            throw new UnitSystemParseException(() -> "Unit symbol: " + mismatchedSymbol
+                    + " differs in case from symbol of unit: " + units.get(0) + ". Use exact symbol of the unit.");
+        }
+        return units;
+    }
+
+    private static Set<Unit> findSupportedUnits() {
+        SupportedQuantitiesRegistry quantitiesRegistry = SupportedQuantitiesRegistry.getInstance();
+        Set<Unit> supportedUnits = new LinkedHashSet<>();
+        for (Class<?> quantityClass : quantitiesRegistry.findAllRegisteredClasses()) {
+            supportedUnits.addAll(quantitiesRegistry.findUnitsByClass(quantityClass));
+        }
+        return supportedUnits;
+    }
+
+    private static boolean isDropped(char character) {
+        return Character.isWhitespace(character) || DROPPED_CHARACTERS.indexOf(character) >= 0;
+    }
+
+    private static String stripSymbol(String symbol) {
+        StringBuilder strippedSymbol = new StringBuilder(symbol.length());
+        for (int i = 0; i < symbol.length(); i++) {
+            char character = symbol.charAt(i);
+            if (!isDropped(character)) {
+                strippedSymbol.append(character);
+            }
+        }
+        return strippedSymbol.toString();
+    }
+
+    private static boolean containsUpperCase(CharSequence symbol) {
+        for (int i = 0; i < symbol.length(); i++) {
+            if (Character.isUpperCase(symbol.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Map<String, String> buildLeadingCharactersBySymbol(List<UnitSymbolIndex.SymbolEntry<Unit>> symbolEntries) {
+        Map<String, String> leadingCharactersBySymbol = new LinkedHashMap<>();
+        for (UnitSymbolIndex.SymbolEntry<Unit> entry : symbolEntries) {
+            String symbol = stripSymbol(entry.symbol());
+            if (!symbol.isEmpty()) {
+                leadingCharactersBySymbol.merge(SYMBOL_NORMALIZER.normalize(symbol), symbol.substring(0, 1), String::concat);
+            }
+        }
+        return leadingCharactersBySymbol;
+    }
+
+    private static Map<String, List<Unit>> buildUnitsBySymbol(List<UnitSymbolIndex.SymbolEntry<Unit>> symbolEntries,
+                                                              UnaryOperator<String> symbolKeyMapper) {
+        Map<String, List<Unit>> unitsBySymbol = new LinkedHashMap<>();
+        for (UnitSymbolIndex.SymbolEntry<Unit> entry : symbolEntries) {
+            List<Unit> units = unitsBySymbol.computeIfAbsent(symbolKeyMapper.apply(entry.symbol()), key -> new ArrayList<>());
+            if (!units.contains(entry.unit())) {
+                units.add(entry.unit());
+            }
+        }
+        unitsBySymbol.replaceAll((symbol, units) -> List.copyOf(units));
+        return Collections.unmodifiableMap(unitsBySymbol);
+    }
+
+}
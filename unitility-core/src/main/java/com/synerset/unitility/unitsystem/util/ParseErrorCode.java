@@ -0,0 +1,33 @@
+package com.synerset.unitility.unitsystem.util;
+
+/**
+ * Reasons of failed parsing attempts, reported by {@link ParseResult} instead of exceptions.
+ */
+public enum ParseErrorCode {
+
+    /**
+     * Input is null or blank.
+     */
+    BLANK_INPUT,
+
+    /**
+     * Input does not start with a valid number.
+     */
+    INVALID_NUMBER,
+
+    /**
+     * Unit symbol is not supported by the target quantity.
+     */
+    UNSUPPORTED_SYMBOL,
+
+    /**
+     * Hemisphere of DMS coordinate does not match the target quantity, for ie: "E" for latitude.
+     */
+    INVALID_HEMISPHERE,
+
+    /**
+     * Target quantity class is not registered in the parsing factory.
+     */
+    CLASS_NOT_SUPPORTED
+
+}
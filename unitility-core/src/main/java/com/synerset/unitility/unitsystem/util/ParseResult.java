@@ -0,0 +1,104 @@
+package com.synerset.unitility.unitsystem.util;
+
+import com.synerset.unitility.unitsystem.exceptions.UnitSystemArgumentException;
+import com.synerset.unitility.unitsystem.exceptions.UnitSystemParseException;
+
+import java.util.Optional;
+
+/**
+ * Result of a parsing attempt, holding either a parsed value or an error code. Failed attempts do not create
+ * exceptions or messages, and failures are shared instances per error code, so rejecting malformed input does not
+ * allocate at all.
+ *
+ * @param <T> The type of parsed value.
+ */
+public final class ParseResult<T> {
+
+    private static final ParseResult<?>[] FAILURES = createFailures();
+
+    private final T value;
+    private final ParseErrorCode errorCode;
+
+    private ParseResult(T value, ParseErrorCode errorCode) {
+        this.value = value;
+        this.errorCode = errorCode;
+    }
+
+    /**
+     * Creates a successful result.
+     *
+     * @param value The parsed value, must not be null.
+     * @param <T>   The type of parsed value.
+     * @return The successful result.
+     * @throws UnitSystemArgumentException If the value is null.
+     */
+    public static <T> ParseResult<T> success(T value) {
+        if (value == null) {
+            throw new UnitSystemArgumentException("Parse result: value of successful result cannot be null.");
+        }
+        return new ParseResult<>(value, null);
+    }
+
+    /**
+     * Get a failed result for given error code.
+     *
+     * @param errorCode The reason of failure.
+     * @param <T>       The type of parsed value.
+     * @return The shared failed result.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ParseResult<T> failure(ParseErrorCode errorCode) {
+        return (ParseResult<T>) FAILURES[errorCode.ordinal()];
+    }
+
+    public boolean isSuccess() {
+        return errorCode == null;
+    }
+
+    /**
+     * Get the parsed value.
+     *
+     * @return The parsed value.
+     * @throws UnitSystemParseException If parsing has failed.
+     */
+    public T getValue() {
+        if (errorCode != null) {
+            throw new UnitSystemParseException(() -> "Parse result: no value, parsing failed with error: " + errorCode);
+        }
+        return value;
+    }
+
+    /**
+     * Get the reason of failure.
+     *
+     * @return The error code, or null if parsing has succeeded.
+     */
+    public ParseErrorCode getErrorCode() {
+        return errorCode;
+    }
+
+    public Optional<T> toOptional() {
+        return Optional.ofNullable(value);
+    }
+
+    public T orElse(T other) {
+        return errorCode == null ? value : other;
+    }
+
+    @Override
+    public String toString() {
+        return errorCode == null
+                ? "ParseResult{value=" + value + "}"
+                : "ParseResult{errorCode=" + errorCode + "}";
+    }
+
+    private static ParseResult<?>[] createFailures() {
+        ParseErrorCode[] errorCodes = ParseErrorCode.values();
+        ParseResult<?>[] failures = new ParseResult<?>[errorCodes.length];
+        for (ParseErrorCode errorCode : errorCodes) {
+            failures[errorCode.ordinal()] = new ParseResult<>(null, errorCode);
+        }
+        return failures;
+    }
+
+}
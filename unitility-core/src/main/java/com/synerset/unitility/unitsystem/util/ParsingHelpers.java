@@ -18,11 +18,9 @@ public class ParsingHelpers {
      * @return True if the string contains any non-digit characters, false otherwise
      */
     public static boolean containsNonDigitChars(String inputString) {
-        String preparedString = inputString.toLowerCase()
-                .replace("-", "")
-                .replace("e", "");
-        for (char nextChar : preparedString.toCharArray()) {
-            if (Character.isAlphabetic(nextChar)) {
+        for (int i = 0; i < inputString.length(); i++) {
+            char nextChar = inputString.charAt(i);
+            if (nextChar != 'e' && nextChar != 'E' && Character.isAlphabetic(nextChar)) {
                 return true;
             }
         }
@@ -40,11 +38,32 @@ public class ParsingHelpers {
      *                                  double, an exception is thrown with a descriptive error message
      */
     public static double parseToDouble(String doubleAsString, String addedMessage) {
+        return parseToDouble(doubleAsString, 0, doubleAsString.length(), addedMessage);
+    }
+
+    /**
+     * Parses a range of the specified input to a double value, without creating intermediate strings for valid inputs.
+     *
+     * @param input The input containing the double
+     * @param start The start index of the double, inclusive
+     * @param end   The end index of the double, exclusive
+     * @return The parsed double value
+     * @throws UnitSystemParseException If the range cannot be parsed to a double, an exception is thrown with a
+     *                                  descriptive error message
+     */
+    public static double parseToDouble(CharSequence input, int start, int end) {
+        return parseToDouble(input, start, end, "");
+    }
+
+    private static double parseToDouble(CharSequence input, int start, int end, String addedMessage) {
         try {
-            return Double.parseDouble(doubleAsString);
+            return FastDoubleParser.parseDouble(input, start, end);
         } catch (NumberFormatException ex) {
-            throw new UnitSystemParseException(addedMessage + "Invalid input, could not parse to double, input = "
-                    + doubleAsString);
+            // Mutable inputs, for ie: reused buffers, are copied before they are captured by a lazy message
+            CharSequence invalidInput = input instanceof String ? input : input.subSequence(start, end).toString();
+            int offset = input instanceof String ? start : 0;
+            throw new UnitSystemParseException(() -> addedMessage + "Invalid input, could not parse to double, input = "
+                    + invalidInput.subSequence(offset, offset + end - start));
         }
     }
 
@@ -98,4 +117,38 @@ public class ParsingHelpers {
 
         return sign * HaversineEquations.dmsToDegrees(degrees, minutes, seconds);
     }
-}
\ No newline at end of file
+
+    // Calculates where the value ends in the input string: [sign] digits [. digits] [e [sign] digits]. The "e" is a part
+    // of the value only if it is followed by exponent digits, for ie: -1.12345e-5, so symbols starting with "e" are kept.
+    static int findEndOfValue(CharSequence preparedInput) {
+        int inputLength = preparedInput.length();
+        int index = skipSign(preparedInput, 0, inputLength);
+        index = skipDigits(preparedInput, index, inputLength);
+        if (index < inputLength && preparedInput.charAt(index) == '.') {
+            index = skipDigits(preparedInput, index + 1, inputLength);
+        }
+        if (index < inputLength && preparedInput.charAt(index) == 'e') {
+            int exponentStart = skipSign(preparedInput, index + 1, inputLength);
+            int exponentEnd = skipDigits(preparedInput, exponentStart, inputLength);
+            if (exponentEnd > exponentStart) {
+                index = exponentEnd;
+            }
+        }
+        return index;
+    }
+
+    private static int skipSign(CharSequence input, int index, int end) {
+        if (index < end && (input.charAt(index) == '-' || input.charAt(index) == '+')) {
+            return index + 1;
+        }
+        return index;
+    }
+
+    private static int skipDigits(CharSequence input, int index, int end) {
+        while (index < end && Character.isDigit(input.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+}
@@ -5,36 +5,134 @@ import com.synerset.unitility.unitsystem.Unit;
 import com.synerset.unitility.unitsystem.common.AngleUnits;
 import com.synerset.unitility.unitsystem.exceptions.UnitSystemClassNotSupportedException;
 import com.synerset.unitility.unitsystem.exceptions.UnitSystemParseException;
-import com.synerset.unitility.unitsystem.geographic.DMSValidator;
+import com.synerset.unitility.unitsystem.geographic.DMSCoordinate;
+import com.synerset.unitility.unitsystem.geographic.DMSParser;
 import com.synerset.unitility.unitsystem.geographic.Latitude;
 import com.synerset.unitility.unitsystem.geographic.Longitude;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleFunction;
 
 public abstract class PhysicalQuantityAbstractParsingFactory implements PhysicalQuantityParsingFactory {
 
+    static final SymbolNormalizer INPUT_NORMALIZER = SymbolNormalizer.builder()
+            .trimLowerAndClean()
+            .replaceCommaForDot()
+            .dropParentheses()
+            .build();
+
+    private static final ThreadLocal<StringBuilder> INPUT_BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(32));
+
+    private static final ThreadLocal<StringBuilder> DECODING_BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(32));
+
+    private final Map<Class<?>, DoubleFunction<? extends PhysicalQuantity<?>>> defaultUnitFactoryCache = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, QuantitySymbolResolver> symbolResolverCache = new ConcurrentHashMap<>();
+
+    private volatile AnyQuantityResolver anyQuantityResolver;
+
     public <U extends Unit, Q extends PhysicalQuantity<U>> Q parse(Class<Q> targetClass, String quantityAsString) {
+        return parse(targetClass, quantityAsString, 0, quantityAsString.length());
+    }
+
+    @Override
+    public <U extends Unit, Q extends PhysicalQuantity<U>> Q parse(Class<Q> targetClass, CharSequence input, int start, int end) {
+
+        // Input is normalized into a reusable buffer, so that no intermediate strings are created for valid inputs
+        StringBuilder preparedInput = normalizeToBuffer(input, start, end);
+        int inputLength = preparedInput.length();
+
+        if (isGeoQuantity(targetClass)) {
+            DMSCoordinate dmsCoordinate = DMSParser.tryParse(preparedInput, 0, inputLength);
+            if (dmsCoordinate != null) {
+                Pair extractedPair = extractValueAndSymbolFromDMSFormat(targetClass, dmsCoordinate, preparedInput);
+                return parseValueAndSymbol(targetClass, extractedPair.value, extractedPair.symbol);
+            }
+        }
+
+        // Value and symbol are split in a single scan, value is parsed in place
+        int symbolStart = ParsingHelpers.findEndOfValue(preparedInput);
+        double value = ParsingHelpers.parseToDouble(preparedInput, 0, symbolStart);
+        if (isBlank(preparedInput, symbolStart, inputLength)) {
+            return parseValueWithDefaultUnit(targetClass, value);
+        }
+
+        // Symbol is matched against the index of symbols and aliases of the target quantity units. Unmatched symbols are
+        // resolved by the registry, which reports unsupported symbols.
+        PhysicalQuantity<Unit> quantity = findSymbolResolver(targetClass).resolve(preparedInput, symbolStart, inputLength, value);
+        if (quantity != null) {
+            return targetClass.cast(quantity);
+        }
+        return parseValueAndSymbol(targetClass, value, preparedInput.substring(symbolStart));
+    }
+
+    @Override
+    public <U extends Unit, Q extends PhysicalQuantity<U>> Q parse(Class<Q> targetClass, ByteBuffer source) {
+        StringBuilder decodedInput = DECODING_BUFFER.get();
+        decodedInput.setLength(0);
+        Utf8Decoder.decode(source, source.position(), source.limit(), decodedInput);
+        return parse(targetClass, decodedInput, 0, decodedInput.length());
+    }
 
-        String preparedInput = StringTransformer.of(quantityAsString)
-                .trimLowerAndClean()
-                .replaceCommaForDot()
-                .dropParentheses()
-                .toString();
+    @Override
+    public <U extends Unit, Q extends PhysicalQuantity<U>> ParseResult<Q> tryParse(Class<Q> targetClass, String quantityAsString) {
+        if (quantityAsString == null || quantityAsString.isBlank()) {
+            return ParseResult.failure(ParseErrorCode.BLANK_INPUT);
+        }
+        if (!containsClass(targetClass)) {
+            return ParseResult.failure(ParseErrorCode.CLASS_NOT_SUPPORTED);
+        }
+
+        StringBuilder preparedInput = normalizeToBuffer(quantityAsString, 0, quantityAsString.length());
+        int inputLength = preparedInput.length();
 
-        Pair extractedPair;
+        if (isGeoQuantity(targetClass)) {
+            DMSCoordinate dmsCoordinate = DMSParser.tryParse(preparedInput, 0, inputLength);
+            if (dmsCoordinate != null) {
+                if (!isValidHemisphere(targetClass, dmsCoordinate)) {
+                    return ParseResult.failure(ParseErrorCode.INVALID_HEMISPHERE);
+                }
+                return ParseResult.success(parseValueAndSymbol(targetClass, dmsCoordinate.toDegrees(), AngleUnits.DEGREES.getSymbol()));
+            }
+        }
+
+        // The value accepted by findEndOfValue is always parsable if it has at least one digit before the exponent
+        int symbolStart = ParsingHelpers.findEndOfValue(preparedInput);
+        if (!containsMantissaDigit(preparedInput, symbolStart)) {
+            return ParseResult.failure(ParseErrorCode.INVALID_NUMBER);
+        }
+        double value = ParsingHelpers.parseToDouble(preparedInput, 0, symbolStart);
+        if (isBlank(preparedInput, symbolStart, inputLength)) {
+            return ParseResult.success(parseValueWithDefaultUnit(targetClass, value));
+        }
 
-        if (isGeoQuantity(targetClass) && DMSValidator.isValidDMSFormat(preparedInput)) {
-            extractedPair = extractValueAndSymbolFromDMSFormat(targetClass, preparedInput);
-        } else{
-            extractedPair = extractValueAndSymbol(preparedInput);
+        QuantitySymbolResolver symbolResolver = findSymbolResolver(targetClass);
+        if (symbolResolver != QuantitySymbolResolver.UNSUPPORTED) {
+            PhysicalQuantity<Unit> quantity = symbolResolver.resolve(preparedInput, symbolStart, inputLength, value);
+            return quantity == null
+                    ? ParseResult.failure(ParseErrorCode.UNSUPPORTED_SYMBOL)
+                    : ParseResult.success(targetClass.cast(quantity));
         }
 
-        return extractedPair.symbol == null || extractedPair.symbol.isBlank()
-                ? parseValueWithDefaultUnit(targetClass, extractedPair.value)
-                : parseValueAndSymbol(targetClass, extractedPair.value, extractedPair.symbol);
+        // Custom units without symbol index can only be validated by the registry
+        try {
+            return ParseResult.success(parseValueAndSymbol(targetClass, value, preparedInput.substring(symbolStart)));
+        } catch (UnitSystemParseException ex) {
+            return ParseResult.failure(ParseErrorCode.UNSUPPORTED_SYMBOL);
+        }
+    }
+
+    @Override
+    public PhysicalQuantity<?> parseAny(String quantityAsString) {
+        return getAnyQuantityResolver().parse(this, quantityAsString);
     }
 
     public <U extends Unit, Q extends PhysicalQuantity<U>> Q parseValueAndSymbol(Class<Q> targetClass,
@@ -45,28 +143,12 @@ public abstract class PhysicalQuantityAbstractParsingFactory implements Physical
     }
 
     public <U extends Unit, Q extends PhysicalQuantity<U>> Q parseValueWithDefaultUnit(Class<Q> targetClass, double value) {
-        validateIfClassIsRegistered(targetClass);
-
-        U defaultUnit = getDefaultUnit(targetClass);
-
-        Constructor<?>[] constructors = targetClass.getConstructors();
-
-        for (Constructor<?> constructor : constructors) {
-            Class<?>[] paramTypes = constructor.getParameterTypes();
-            if (paramTypes.length == 2
-                    && paramTypes[0] == double.class
-                    && paramTypes[1].isAssignableFrom(defaultUnit.getClass())) {
-                try {
-                    @SuppressWarnings("unchecked")
-                    Constructor<Q> typedConstructor = (Constructor<Q>) constructor;
-                    return typedConstructor.newInstance(value, defaultUnit);
-                } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-                    throw new RuntimeException("Failed to instantiate quantity: " + e.getMessage(), e);
-                }
-            }
+        DoubleFunction<? extends PhysicalQuantity<?>> defaultUnitFactory = defaultUnitFactoryCache.get(targetClass);
+        if (defaultUnitFactory == null) {
+            validateIfClassIsRegistered(targetClass);
+            defaultUnitFactory = defaultUnitFactoryCache.computeIfAbsent(targetClass, this::createDefaultUnitFactory);
         }
-
-        throw new RuntimeException("No suitable constructor found for: " + targetClass.getSimpleName());
+        return targetClass.cast(defaultUnitFactory.apply(value));
     }
 
     @Override
@@ -95,40 +177,110 @@ public abstract class PhysicalQuantityAbstractParsingFactory implements Physical
         return defaultUnit;
     }
 
-    private boolean isGeoQuantity(Class<?> targetClass){
-        return Latitude.class.isAssignableFrom(targetClass) || Longitude.class.isAssignableFrom(targetClass);
+    // Resolves the (double, unit) constructor once and binds it to the default unit, so that subsequent calls
+    // do not have to scan constructors or use reflective instantiation.
+    private DoubleFunction<? extends PhysicalQuantity<?>> createDefaultUnitFactory(Class<?> targetClass) {
+        Unit defaultUnit = getDefaultUnitRegistry().get(targetClass);
+        if (defaultUnit == null) {
+            throw new UnitSystemClassNotSupportedException("Default unit not found in the registry: " + targetClass.getSimpleName());
+        }
+
+        for (Constructor<?> constructor : targetClass.getConstructors()) {
+            Class<?>[] paramTypes = constructor.getParameterTypes();
+            if (paramTypes.length == 2
+                    && paramTypes[0] == double.class
+                    && paramTypes[1].isAssignableFrom(defaultUnit.getClass())) {
+                MethodHandle constructorHandle;
+                try {
+                    constructorHandle = MethodHandles.publicLookup().unreflectConstructor(constructor);
+                } catch (IllegalAccessException e) {
+                    throw new RuntimeException("Failed to access constructor of: " + targetClass.getSimpleName(), e);
+                }
+                MethodHandle boundHandle = MethodHandles.insertArguments(constructorHandle, 1, defaultUnit)
+                        .asType(MethodType.methodType(PhysicalQuantity.class, double.class));
+                return value -> instantiate(boundHandle, value);
+            }
+        }
+
+        throw new RuntimeException("No suitable constructor found for: " + targetClass.getSimpleName());
     }
 
-    private Pair extractValueAndSymbol(String preparedInput){
-        int indexOfLastDigit = 0;
+    private static PhysicalQuantity<?> instantiate(MethodHandle boundHandle, double value) {
+        try {
+            return (PhysicalQuantity<?>) boundHandle.invokeExact(value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to instantiate quantity: " + e.getMessage(), e);
+        }
+    }
+
+    private static StringBuilder normalizeToBuffer(CharSequence input, int start, int end) {
+        StringBuilder buffer = INPUT_BUFFER.get();
+        buffer.setLength(0);
+        return INPUT_NORMALIZER.normalize(input, start, end, buffer);
+    }
+
+    private QuantitySymbolResolver findSymbolResolver(Class<?> targetClass) {
+        QuantitySymbolResolver symbolResolver = symbolResolverCache.get(targetClass);
+        if (symbolResolver == null) {
+            if (!containsClass(targetClass)) {
+                return QuantitySymbolResolver.UNSUPPORTED;
+            }
+            symbolResolver = symbolResolverCache.computeIfAbsent(targetClass, quantityClass -> QuantitySymbolResolver.of(this, quantityClass));
+        }
+        return symbolResolver;
+    }
 
-        // Calculates where the value ends in the input string. The "e" is for case of scientific notation: -1.12345E-5
-        for (char letter : preparedInput.toCharArray()) {
-            if (Character.isDigit(letter) || letter == '.' || letter == '-' || letter == 'e') {
-                indexOfLastDigit++;
-            } else break;
+    private AnyQuantityResolver getAnyQuantityResolver() {
+        AnyQuantityResolver resolver = anyQuantityResolver;
+        if (resolver == null) {
+            resolver = AnyQuantityResolver.of(this);
+            anyQuantityResolver = resolver;
         }
+        return resolver;
+    }
 
-        String valuePart = preparedInput.substring(0, indexOfLastDigit);
-        String symbolPart = preparedInput.substring(indexOfLastDigit);
-        double value = ParsingHelpers.parseToDouble(valuePart);
+    private boolean isGeoQuantity(Class<?> targetClass){
+        return Latitude.class.isAssignableFrom(targetClass) || Longitude.class.isAssignableFrom(targetClass);
+    }
 
-        return new Pair(value, symbolPart);
+    private static boolean containsMantissaDigit(CharSequence input, int endOfValue) {
+        for (int i = 0; i < endOfValue && input.charAt(i) != 'e'; i++) {
+            if (Character.isDigit(input.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    private Pair extractValueAndSymbolFromDMSFormat(Class<?> targetClass, String partiallyPreparedInput){
-        String preparedInput = StringTransformer.of(partiallyPreparedInput)
-                .unifyDMSNotationSymbols()
-                .toString();
+    private static boolean isBlank(CharSequence input, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!Character.isWhitespace(input.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-        if (Latitude.class.isAssignableFrom(targetClass) && (preparedInput.contains("e") || preparedInput.contains("w"))) {
-            throw new UnitSystemParseException("Invalid latitude direction. Expected: N or S. Input: " + preparedInput);
-        } else if (Longitude.class.isAssignableFrom(targetClass) && (preparedInput.contains("n") || preparedInput.contains("s"))) {
-            throw new UnitSystemParseException("Invalid longitude direction. Expected: W or E. Input: " + preparedInput);
+    // Prepared input may be a reused buffer, therefore it is copied before it is captured by a lazy message
+    private Pair extractValueAndSymbolFromDMSFormat(Class<?> targetClass, DMSCoordinate dmsCoordinate, CharSequence preparedInput){
+        if (Latitude.class.isAssignableFrom(targetClass) && !dmsCoordinate.isValidLatitude()) {
+            String invalidInput = preparedInput.toString();
+            throw new UnitSystemParseException(() -> "Invalid latitude direction. Expected: N or S. Input: " + invalidInput);
+        } else if (Longitude.class.isAssignableFrom(targetClass) && !dmsCoordinate.isValidLongitude()) {
+            String invalidInput = preparedInput.toString();
+            throw new UnitSystemParseException(() -> "Invalid longitude direction. Expected: W or E. Input: " + invalidInput);
         }
 
-        double valueInDegrees = ParsingHelpers.extractDegreesFromDMSFormat(preparedInput);
-        return new Pair(valueInDegrees, AngleUnits.DEGREES.getSymbol());
+        return new Pair(dmsCoordinate.toDegrees(), AngleUnits.DEGREES.getSymbol());
+    }
+
+    private static boolean isValidHemisphere(Class<?> targetClass, DMSCoordinate dmsCoordinate) {
+        if (Latitude.class.isAssignableFrom(targetClass)) {
+            return dmsCoordinate.isValidLatitude();
+        }
+        return !Longitude.class.isAssignableFrom(targetClass) || dmsCoordinate.isValidLongitude();
     }
 
     record Pair(Double value, String symbol) {}
@@ -0,0 +1,353 @@
+package com.synerset.unitility.unitsystem.util;
+
+import com.synerset.unitility.unitsystem.PhysicalQuantity;
+import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.exceptions.UnitSystemArgumentException;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary codec for {@link PhysicalQuantity} instances. Each quantity is encoded as an unsigned varint id, which
+ * identifies both quantity class and unit, followed by 8-byte IEEE 754 value in big-endian byte order. Decoding does
+ * not involve any string parsing, quantities are created from prototypes resolved once, when codec is created.
+ * <p>
+ * Ids are permanent and taken from a checked-in table of quantity classes and units, which only grows by appending new
+ * ids. Therefore, encoded data stays readable after units are added, renamed or reordered, and regardless of the order
+ * in which classes are registered in the parsing factory. Codec supports classes from the table, which are registered
+ * in the parsing factory. Ids which are not assigned to such class are rejected on decoding.
+ */
+public final class PhysicalQuantityBinaryCodec {
+
+    /**
+     * Maximum number of bytes of a single encoded quantity: 5 bytes of varint id and 8 bytes of value.
+     */
+    public static final int MAX_ENCODED_SIZE = 13;
+
+    private static final VarHandle LONG_BIG_ENDIAN = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private final PhysicalQuantity<?>[] prototypesById;
+    private final Map<Class<?>, ClassIds> idsByClass;
+
+    private PhysicalQuantityBinaryCodec(PhysicalQuantity<?>[] prototypesById, Map<Class<?>, ClassIds> idsByClass) {
+        this.prototypesById = prototypesById;
+        this.idsByClass = idsByClass;
+    }
+
+    /**
+     * Returns binary id of a given quantity class and unit.
+     *
+     * @param quantityClass The quantity class, for ie: Temperature.class.
+     * @param unit          The unit of quantity, for ie: TemperatureUnits.CELSIUS.
+     * @return binary id of quantity class and unit.
+     * @throws UnitSystemArgumentException if quantity class or unit is not supported by this codec.
+     */
+    public int getId(Class<?> quantityClass, Unit unit) {
+        ClassIds classIds = idsByClass.get(quantityClass);
+        if (classIds == null) {
+            throw new UnitSystemArgumentException("Quantity class not supported by binary codec: " + quantityClass);
+        }
+        int id = classIds.findId(unit);
+        if (id < 0) {
+            throw new UnitSystemArgumentException("Unit not supported by binary codec: " + unit + " of " + quantityClass.getSimpleName());
+        }
+        return id;
+    }
+
+    /**
+     * @return number of assigned ids.
+     */
+    public int size() {
+        int size = 0;
+        for (PhysicalQuantity<?> prototype : prototypesById) {
+            if (prototype != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns number of bytes required to encode provided quantity.
+     *
+     * @param quantity The quantity to be encoded.
+     * @return encoded size in bytes.
+     */
+    public int encodedSize(PhysicalQuantity<?> quantity) {
+        return varIntSize(findId(quantity)) + Double.BYTES;
+    }
+
+    /**
+     * Encodes provided quantity into a new byte array.
+     *
+     * @param quantity The quantity to be encoded.
+     * @return a byte array with encoded quantity.
+     */
+    public byte[] encode(PhysicalQuantity<?> quantity) {
+        int id = findId(quantity);
+        byte[] target = new byte[varIntSize(id) + Double.BYTES];
+        writeToArray(id, quantity.getValue(), target, 0);
+        return target;
+    }
+
+    /**
+     * Encodes provided quantity into a byte array, starting from provided offset.
+     *
+     * @param quantity The quantity to be encoded.
+     * @param target   The target byte array.
+     * @param offset   The offset of the first byte to be written.
+     * @return offset after the last written byte.
+     * @throws IndexOutOfBoundsException if there is not enough space in target array.
+     */
+    public int encode(PhysicalQuantity<?> quantity, byte[] target, int offset) {
+        int id = findId(quantity);
+        int endOffset = offset + varIntSize(id) + Double.BYTES;
+        if (offset < 0 || endOffset > target.length) {
+            throw new IndexOutOfBoundsException("Not enough space to encode quantity at offset: " + offset);
+        }
+        return writeToArray(id, quantity.getValue(), target, offset);
+    }
+
+    /**
+     * Encodes provided quantity into a byte buffer, at its current position. Value is always written in big-endian
+     * order, regardless of the buffer byte order.
+     *
+     * @param quantity The quantity to be encoded.
+     * @param target   The target buffer.
+     * @return the target buffer.
+     * @throws java.nio.BufferOverflowException if there is not enough space remaining in the buffer.
+     */
+    public ByteBuffer encode(PhysicalQuantity<?> quantity, ByteBuffer target) {
+        int id = findId(quantity);
+        while ((id & ~0x7F) != 0) {
+            target.put((byte) ((id & 0x7F) | 0x80));
+            id >>>= 7;
+        }
+        target.put((byte) id);
+        long bits = Double.doubleToRawLongBits(quantity.getValue());
+        target.putLong(target.order() == ByteOrder.BIG_ENDIAN ? bits : Long.reverseBytes(bits));
+        return target;
+    }
+
+    /**
+     * Encodes provided quantity into a data output.
+     *
+     * @param quantity The quantity to be encoded.
+     * @param output   The target data output.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void encode(PhysicalQuantity<?> quantity, DataOutput output) throws IOException {
+        int id = findId(quantity);
+        while ((id & ~0x7F) != 0) {
+            output.writeByte((id & 0x7F) | 0x80);
+            id >>>= 7;
+        }
+        output.writeByte(id);
+        output.writeDouble(quantity.getValue());
+    }
+
+    /**
+     * Decodes a quantity from a byte array.
+     *
+     * @param source The source byte array.
+     * @return decoded quantity.
+     */
+    public PhysicalQuantity<?> decode(byte[] source) {
+        return decode(source, 0);
+    }
+
+    /**
+     * Decodes a quantity from a byte array, starting from provided offset. Number of bytes read can be determined
+     * with {@link #encodedSize(PhysicalQuantity)} of the returned quantity.
+     *
+     * @param source The source byte array.
+     * @param offset The offset of the first byte to be read.
+     * @return decoded quantity.
+     * @throws IndexOutOfBoundsException if source array ends before quantity is fully read.
+     */
+    public PhysicalQuantity<?> decode(byte[] source, int offset) {
+        int id = 0;
+        int shift = 0;
+        int position = offset;
+        byte current;
+        do {
+            checkVarIntLength(shift);
+            current = source[position++];
+            id |= (current & 0x7F) << shift;
+            shift += 7;
+        } while (current < 0);
+        if (position + Double.BYTES > source.length) {
+            throw new IndexOutOfBoundsException("Not enough bytes to decode quantity value at offset: " + position);
+        }
+        double value = Double.longBitsToDouble((long) LONG_BIG_ENDIAN.get(source, position));
+        return createQuantity(id, value);
+    }
+
+    /**
+     * Decodes a quantity from a byte buffer, starting from its current position. Value is always read in big-endian
+     * order, regardless of the buffer byte order.
+     *
+     * @param source The source buffer.
+     * @return decoded quantity.
+     * @throws java.nio.BufferUnderflowException if buffer ends before quantity is fully read.
+     */
+    public PhysicalQuantity<?> decode(ByteBuffer source) {
+        int id = 0;
+        int shift = 0;
+        byte current;
+        do {
+            checkVarIntLength(shift);
+            current = source.get();
+            id |= (current & 0x7F) << shift;
+            shift += 7;
+        } while (current < 0);
+        long bits = source.getLong();
+        double value = Double.longBitsToDouble(source.order() == ByteOrder.BIG_ENDIAN ? bits : Long.reverseBytes(bits));
+        return createQuantity(id, value);
+    }
+
+    /**
+     * Decodes a quantity from a data input.
+     *
+     * @param input The source data input.
+     * @return decoded quantity.
+     * @throws IOException if an I/O error occurs, or input ends before quantity is fully read.
+     */
+    public PhysicalQuantity<?> decode(DataInput input) throws IOException {
+        int id = 0;
+        int shift = 0;
+        byte current;
+        do {
+            checkVarIntLength(shift);
+            current = input.readByte();
+            id |= (current & 0x7F) << shift;
+            shift += 7;
+        } while (current < 0);
+        return createQuantity(id, input.readDouble());
+    }
+
+    /**
+     * Decodes a quantity of expected class from a byte buffer.
+     *
+     * @param targetClass The expected quantity class.
+     * @param source      The source buffer.
+     * @param <Q>         The quantity type.
+     * @return decoded quantity.
+     * @throws UnitSystemArgumentException if decoded quantity is not an instance of expected class.
+     */
+    public <Q extends PhysicalQuantity<?>> Q decode(Class<Q> targetClass, ByteBuffer source) {
+        PhysicalQuantity<?> quantity = decode(source);
+        if (!targetClass.isInstance(quantity)) {
+            throw new UnitSystemArgumentException("Decoded quantity: " + quantity.getClass().getSimpleName()
+                    + " is not an instance of: " + targetClass.getSimpleName());
+        }
+        return targetClass.cast(quantity);
+    }
+
+    /**
+     * Creates a binary codec for all classes registered in provided parsing factory.
+     *
+     * @param parsingFactory The parsing factory with registered quantity classes.
+     * @return a new PhysicalQuantityBinaryCodec instance.
+     */
+    public static PhysicalQuantityBinaryCodec of(PhysicalQuantityParsingFactory parsingFactory) {
+        Map<Class<?>, PhysicalQuantity<Unit>> defaultQuantities = new HashMap<>();
+        for (Class<?> quantityClass : parsingFactory.getClassRegistry().keySet()) {
+            defaultQuantities.put(quantityClass, createDefaultQuantity(parsingFactory, quantityClass));
+        }
+
+        List<PhysicalQuantityBinaryIds.Entry> entries = PhysicalQuantityBinaryIds.entries();
+        int maxId = -1;
+        for (PhysicalQuantityBinaryIds.Entry entry : entries) {
+            maxId = Math.max(maxId, entry.id());
+        }
+        PhysicalQuantity<?>[] prototypesById = new PhysicalQuantity<?>[maxId + 1];
+        Map<Class<?>, ClassIds> idsByClass = new HashMap<>();
+        for (PhysicalQuantityBinaryIds.Entry entry : entries) {
+            PhysicalQuantity<Unit> defaultQuantity = defaultQuantities.get(entry.quantityClass());
+            if (defaultQuantity == null) {
+                continue;
+            }
+            if (prototypesById[entry.id()] != null) {
+                throw new UnitSystemArgumentException("Duplicated binary quantity id: " + entry.id());
+            }
+            prototypesById[entry.id()] = defaultQuantity.toUnit(entry.unit()).withValue(0);
+            idsByClass.computeIfAbsent(entry.quantityClass(), quantityClass -> new ClassIds(new HashMap<>()))
+                    .idsByUnit().put(entry.unit(), entry.id());
+        }
+        idsByClass.replaceAll((quantityClass, classIds) -> new ClassIds(Map.copyOf(classIds.idsByUnit())));
+        return new PhysicalQuantityBinaryCodec(prototypesById, Map.copyOf(idsByClass));
+    }
+
+    /**
+     * @return binary codec for quantities of the default parsing factory.
+     */
+    public static PhysicalQuantityBinaryCodec getDefaultCodec() {
+        return DefaultCodecHolder.DEFAULT_CODEC;
+    }
+
+    private int findId(PhysicalQuantity<?> quantity) {
+        return getId(quantity.getClass(), quantity.getUnit());
+    }
+
+    private PhysicalQuantity<?> createQuantity(int id, double value) {
+        if (id < 0 || id >= prototypesById.length || prototypesById[id] == null) {
+            throw new UnitSystemArgumentException("Unknown binary quantity id: " + id);
+        }
+        return prototypesById[id].withValue(value);
+    }
+
+    private static int writeToArray(int id, double value, byte[] target, int offset) {
+        int position = offset;
+        while ((id & ~0x7F) != 0) {
+            target[position++] = (byte) ((id & 0x7F) | 0x80);
+            id >>>= 7;
+        }
+        target[position++] = (byte) id;
+        LONG_BIG_ENDIAN.set(target, position, Double.doubleToRawLongBits(value));
+        return position + Double.BYTES;
+    }
+
+    private static int varIntSize(int id) {
+        int size = 1;
+        while ((id & ~0x7F) != 0) {
+            id >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    private static void checkVarIntLength(int shift) {
+        if (shift > 28) {
+            throw new UnitSystemArgumentException("Malformed binary quantity id: varint is too long.");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static PhysicalQuantity<Unit> createDefaultQuantity(PhysicalQuantityParsingFactory parsingFactory, Class<?> quantityClass) {
+        Class<? extends PhysicalQuantity<Unit>> castedClass = (Class<? extends PhysicalQuantity<Unit>>) quantityClass;
+        return parsingFactory.parseValueWithDefaultUnit(castedClass, 0);
+    }
+
+    private record ClassIds(Map<Unit, Integer> idsByUnit) {
+
+        private int findId(Unit unit) {
+            Integer id = idsByUnit.get(unit);
+            return id == null ? -1 : id;
+        }
+
+    }
+
+    private static final class DefaultCodecHolder {
+        private static final PhysicalQuantityBinaryCodec DEFAULT_CODEC = of(PhysicalQuantityParsingFactory.getDefaultParsingFactory());
+    }
+
+}
@@ -0,0 +1,448 @@
+package com.synerset.unitility.unitsystem.util;
+
+import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.common.Angle;
+import com.synerset.unitility.unitsystem.common.AngleUnits;
+import com.synerset.unitility.unitsystem.common.AngularVelocity;
+import com.synerset.unitility.unitsystem.common.AngularVelocityUnits;
+import com.synerset.unitility.unitsystem.common.Area;
+import com.synerset.unitility.unitsystem.common.AreaUnits;
+import com.synerset.unitility.unitsystem.common.Curvature;
+import com.synerset.unitility.unitsystem.common.CurvatureUnits;
+import com.synerset.unitility.unitsystem.common.Diameter;
+import com.synerset.unitility.unitsystem.common.Distance;
+import com.synerset.unitility.unitsystem.common.DistanceUnits;
+import com.synerset.unitility.unitsystem.common.Height;
+import com.synerset.unitility.unitsystem.common.Length;
+import com.synerset.unitility.unitsystem.common.LinearMassDensity;
+import com.synerset.unitility.unitsystem.common.LinearMassDensityUnits;
+import com.synerset.unitility.unitsystem.common.Mass;
+import com.synerset.unitility.unitsystem.common.MassUnits;
+import com.synerset.unitility.unitsystem.common.Perimeter;
+import com.synerset.unitility.unitsystem.common.Ratio;
+import com.synerset.unitility.unitsystem.common.RatioUnits;
+import com.synerset.unitility.unitsystem.common.Thickness;
+import com.synerset.unitility.unitsystem.common.Velocity;
+import com.synerset.unitility.unitsystem.common.VelocityUnits;
+import com.synerset.unitility.unitsystem.common.Volume;
+import com.synerset.unitility.unitsystem.common.VolumeUnits;
+import com.synerset.unitility.unitsystem.common.Width;
+import com.synerset.unitility.unitsystem.dimensionless.BypassFactor;
+import com.synerset.unitility.unitsystem.dimensionless.BypassFactorUnits;
+import com.synerset.unitility.unitsystem.dimensionless.GenericDimensionless;
+import com.synerset.unitility.unitsystem.dimensionless.GenericDimensionlessUnits;
+import com.synerset.unitility.unitsystem.dimensionless.GrashofNumber;
+import com.synerset.unitility.unitsystem.dimensionless.GrashofNumberUnits;
+import com.synerset.unitility.unitsystem.dimensionless.PrandtlNumber;
+import com.synerset.unitility.unitsystem.dimensionless.PrandtlNumberUnits;
+import com.synerset.unitility.unitsystem.dimensionless.ReynoldsNumber;
+import com.synerset.unitility.unitsystem.dimensionless.ReynoldsNumberUnits;
+import com.synerset.unitility.unitsystem.flow.MassFlow;
+import com.synerset.unitility.unitsystem.flow.MassFlowUnits;
+import com.synerset.unitility.unitsystem.flow.VolumetricFlow;
+import com.synerset.unitility.unitsystem.flow.VolumetricFlowUnits;
+import com.synerset.unitility.unitsystem.geographic.Bearing;
+import com.synerset.unitility.unitsystem.geographic.Latitude;
+import com.synerset.unitility.unitsystem.geographic.Longitude;
+import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
+import com.synerset.unitility.unitsystem.humidity.HumidityRatioUnits;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidityUnits;
+import com.synerset.unitility.unitsystem.hydraulic.AbsoluteRoughness;
+import com.synerset.unitility.unitsystem.hydraulic.FrictionFactor;
+import com.synerset.unitility.unitsystem.hydraulic.FrictionFactorUnits;
+import com.synerset.unitility.unitsystem.hydraulic.LinearResistance;
+import com.synerset.unitility.unitsystem.hydraulic.LinearResistanceUnits;
+import com.synerset.unitility.unitsystem.hydraulic.LocalLossFactor;
+import com.synerset.unitility.unitsystem.hydraulic.LocalLossFactorUnits;
+import com.synerset.unitility.unitsystem.hydraulic.RotationSpeedToFlowRateRatio;
+import com.synerset.unitility.unitsystem.hydraulic.RotationSpeedToFlowRateRatioUnits;
+import com.synerset.unitility.unitsystem.hydraulic.SDR;
+import com.synerset.unitility.unitsystem.mechanical.Force;
+import com.synerset.unitility.unitsystem.mechanical.ForceUnits;
+import com.synerset.unitility.unitsystem.mechanical.Momentum;
+import com.synerset.unitility.unitsystem.mechanical.MomentumUnits;
+import com.synerset.unitility.unitsystem.mechanical.Torque;
+import com.synerset.unitility.unitsystem.mechanical.TorqueUnits;
+import com.synerset.unitility.unitsystem.thermodynamic.Density;
+import com.synerset.unitility.unitsystem.thermodynamic.DensityUnits;
+import com.synerset.unitility.unitsystem.thermodynamic.DynamicViscosity;
+import com.synerset.unitility.unitsystem.thermodynamic.DynamicViscosityUnits;
+import com.synerset.unitility.unitsystem.thermodynamic.Energy;
+import com.synerset.unitility.unitsystem.thermodynamic.EnergyUnits;
+import com.synerset.unitility.unitsystem.thermodynamic.KinematicViscosity;
+import com.synerset.unitility.unitsystem.thermodynamic.KinematicViscosityUnits;
+import com.synerset.unitility.unitsystem.thermodynamic.Power;
+import com.synerset.unitility.unitsystem.thermodynamic.PowerUnits;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.PressureUnits;
+import com.synerset.unitility.unitsystem.thermodynamic.SpecificEnthalpy;
+import com.synerset.unitility.unitsystem.thermodynamic.SpecificEnthalpyUnits;
+import com.synerset.unitility.unitsystem.thermodynamic.SpecificHeat;
+import com.synerset.unitility.unitsystem.thermodynamic.SpecificHeatUnits;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import com.synerset.unitility.unitsystem.thermodynamic.TemperatureUnits;
+import com.synerset.unitility.unitsystem.thermodynamic.ThermalConductivity;
+import com.synerset.unitility.unitsystem.thermodynamic.ThermalConductivityUnits;
+import com.synerset.unitility.unitsystem.thermodynamic.ThermalDiffusivity;
+import com.synerset.unitility.unitsystem.thermodynamic.ThermalDiffusivityUnits;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checked-in table of permanent binary ids of quantity classes and their units, used by
+ * {@link PhysicalQuantityBinaryCodec}. Ids are part of the binary format: once assigned, an id must never be changed,
+ * removed or reused, even if a unit is renamed, reordered or deprecated. New quantities and units are appended at the
+ * end of the table with next free ids.
+ */
+final class PhysicalQuantityBinaryIds {
+
+    private PhysicalQuantityBinaryIds() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * @return all entries of the table, in order of their ids.
+     */
+    @SuppressWarnings("removal")
+    static List<Entry> entries() {
+        EntryTable table = new EntryTable();
+        // Angle
+        table.add(0, Angle.class, AngleUnits.RADIANS);
+        table.add(1, Angle.class, AngleUnits.DEGREES);
+
+        // AngularVelocity
+        table.add(2, AngularVelocity.class, AngularVelocityUnits.RADIANS_PER_SECOND);
+        table.add(3, AngularVelocity.class, AngularVelocityUnits.REVOLUTIONS_PER_SECOND);
+        table.add(4, AngularVelocity.class, AngularVelocityUnits.REVOLUTIONS_PER_MINUTE);
+        table.add(5, AngularVelocity.class, AngularVelocityUnits.DEGREES_PER_SECOND);
+
+        // Area
+        table.add(6, Area.class, AreaUnits.SQUARE_METER);
+        table.add(7, Area.class, AreaUnits.SQUARE_KILOMETER);
+        table.add(8, Area.class, AreaUnits.SQUARE_CENTIMETER);
+        table.add(9, Area.class, AreaUnits.SQUARE_MILLIMETER);
+        table.add(10, Area.class, AreaUnits.ARE);
+        table.add(11, Area.class, AreaUnits.HECTARE);
+        table.add(12, Area.class, AreaUnits.SQUARE_INCH);
+        table.add(13, Area.class, AreaUnits.SQUARE_FOOT);
+        table.add(14, Area.class, AreaUnits.SQUARE_YARD);
+        table.add(15, Area.class, AreaUnits.ACRE);
+        table.add(16, Area.class, AreaUnits.SQUARE_MILE);
+
+        // Curvature
+        table.add(17, Curvature.class, CurvatureUnits.RADIANS_PER_METER);
+        table.add(18, Curvature.class, CurvatureUnits.RADIANS_PER_FOOT);
+        table.add(19, Curvature.class, CurvatureUnits.DEGREES_PER_METER);
+        table.add(20, Curvature.class, CurvatureUnits.DEGREES_PER_FOOT);
+        table.add(21, Curvature.class, CurvatureUnits.DEGREES_PER_HUNDRED_FEET);
+
+        // Diameter
+        table.add(22, Diameter.class, DistanceUnits.METER);
+        table.add(23, Diameter.class, DistanceUnits.CENTIMETER);
+        table.add(24, Diameter.class, DistanceUnits.MILLIMETER);
+        table.add(25, Diameter.class, DistanceUnits.KILOMETER);
+        table.add(26, Diameter.class, DistanceUnits.MILE);
+        table.add(27, Diameter.class, DistanceUnits.NAUTICAL_MILE);
+        table.add(28, Diameter.class, DistanceUnits.FEET);
+        table.add(29, Diameter.class, DistanceUnits.INCH);
+
+        // Distance
+        table.add(30, Distance.class, DistanceUnits.METER);
+        table.add(31, Distance.class, DistanceUnits.CENTIMETER);
+        table.add(32, Distance.class, DistanceUnits.MILLIMETER);
+        table.add(33, Distance.class, DistanceUnits.KILOMETER);
+        table.add(34, Distance.class, DistanceUnits.MILE);
+        table.add(35, Distance.class, DistanceUnits.NAUTICAL_MILE);
+        table.add(36, Distance.class, DistanceUnits.FEET);
+        table.add(37, Distance.class, DistanceUnits.INCH);
+
+        // Height
+        table.add(38, Height.class, DistanceUnits.METER);
+        table.add(39, Height.class, DistanceUnits.CENTIMETER);
+        table.add(40, Height.class, DistanceUnits.MILLIMETER);
+        table.add(41, Height.class, DistanceUnits.KILOMETER);
+        table.add(42, Height.class, DistanceUnits.MILE);
+        table.add(43, Height.class, DistanceUnits.NAUTICAL_MILE);
+        table.add(44, Height.class, DistanceUnits.FEET);
+        table.add(45, Height.class, DistanceUnits.INCH);
+
+        // Length
+        table.add(46, Length.class, DistanceUnits.METER);
+        table.add(47, Length.class, DistanceUnits.CENTIMETER);
+        table.add(48, Length.class, DistanceUnits.MILLIMETER);
+        table.add(49, Length.class, DistanceUnits.KILOMETER);
+        table.add(50, Length.class, DistanceUnits.MILE);
+        table.add(51, Length.class, DistanceUnits.NAUTICAL_MILE);
+        table.add(52, Length.class, DistanceUnits.FEET);
+        table.add(53, Length.class, DistanceUnits.INCH);
+
+        // LinearMassDensity
+        table.add(54, LinearMassDensity.class, LinearMassDensityUnits.KILOGRAM_PER_METER);
+        table.add(55, LinearMassDensity.class, LinearMassDensityUnits.TONNE_PER_METER);
+        table.add(56, LinearMassDensity.class, LinearMassDensityUnits.OUNCE_PER_FOOT);
+        table.add(57, LinearMassDensity.class, LinearMassDensityUnits.POUND_PER_FOOT);
+
+        // Mass
+        table.add(58, Mass.class, MassUnits.KILOGRAM);
+        table.add(59, Mass.class, MassUnits.GRAM);
+        table.add(60, Mass.class, MassUnits.MILLIGRAM);
+        table.add(61, Mass.class, MassUnits.TONNE_SI);
+        table.add(62, Mass.class, MassUnits.OUNCE);
+        table.add(63, Mass.class, MassUnits.POUND);
+
+        // Perimeter
+        table.add(64, Perimeter.class, DistanceUnits.METER);
+        table.add(65, Perimeter.class, DistanceUnits.CENTIMETER);
+        table.add(66, Perimeter.class, DistanceUnits.MILLIMETER);
+        table.add(67, Perimeter.class, DistanceUnits.KILOMETER);
+        table.add(68, Perimeter.class, DistanceUnits.MILE);
+        table.add(69, Perimeter.class, DistanceUnits.NAUTICAL_MILE);
+        table.add(70, Perimeter.class, DistanceUnits.FEET);
+        table.add(71, Perimeter.class, DistanceUnits.INCH);
+
+        // Ratio
+        table.add(72, Ratio.class, RatioUnits.PERCENT);
+        table.add(73, Ratio.class, RatioUnits.DECIMAL);
+
+        // Thickness
+        table.add(74, Thickness.class, DistanceUnits.METER);
+        table.add(75, Thickness.class, DistanceUnits.CENTIMETER);
+        table.add(76, Thickness.class, DistanceUnits.MILLIMETER);
+        table.add(77, Thickness.class, DistanceUnits.KILOMETER);
+        table.add(78, Thickness.class, DistanceUnits.MILE);
+        table.add(79, Thickness.class, DistanceUnits.NAUTICAL_MILE);
+        table.add(80, Thickness.class, DistanceUnits.FEET);
+        table.add(81, Thickness.class, DistanceUnits.INCH);
+
+        // Velocity
+        table.add(82, Velocity.class, VelocityUnits.METER_PER_SECOND);
+        table.add(83, Velocity.class, VelocityUnits.CENTIMETER_PER_SECOND);
+        table.add(84, Velocity.class, VelocityUnits.KILOMETER_PER_HOUR);
+        table.add(85, Velocity.class, VelocityUnits.INCH_PER_SECOND);
+        table.add(86, Velocity.class, VelocityUnits.FEET_PER_SECOND);
+        table.add(87, Velocity.class, VelocityUnits.FEET_PER_MINUTE);
+        table.add(88, Velocity.class, VelocityUnits.MILES_PER_HOUR);
+        table.add(89, Velocity.class, VelocityUnits.KNOT);
+        table.add(90, Velocity.class, VelocityUnits.MACH);
+
+        // Volume
+        table.add(91, Volume.class, VolumeUnits.CUBIC_METER);
+        table.add(92, Volume.class, VolumeUnits.CUBIC_CENTIMETER);
+        table.add(93, Volume.class, VolumeUnits.CUBIC_DECIMETER);
+        table.add(94, Volume.class, VolumeUnits.CUBIC_FEET);
+        table.add(95, Volume.class, VolumeUnits.CUBIC_FOOT);
+        table.add(96, Volume.class, VolumeUnits.LITRE);
+        table.add(97, Volume.class, VolumeUnits.HECTOLITRE);
+        table.add(98, Volume.class, VolumeUnits.MILLILITRE);
+        table.add(99, Volume.class, VolumeUnits.OUNCE);
+        table.add(100, Volume.class, VolumeUnits.PINT);
+        table.add(101, Volume.class, VolumeUnits.GALLON_US);
+        table.add(102, Volume.class, VolumeUnits.GALLON_UK);
+
+        // Width
+        table.add(103, Width.class, DistanceUnits.METER);
+        table.add(104, Width.class, DistanceUnits.CENTIMETER);
+        table.add(105, Width.class, DistanceUnits.MILLIMETER);
+        table.add(106, Width.class, DistanceUnits.KILOMETER);
+        table.add(107, Width.class, DistanceUnits.MILE);
+        table.add(108, Width.class, DistanceUnits.NAUTICAL_MILE);
+        table.add(109, Width.class, DistanceUnits.FEET);
+        table.add(110, Width.class, DistanceUnits.INCH);
+
+        // BypassFactor
+        table.add(111, BypassFactor.class, BypassFactorUnits.DIMENSIONLESS);
+
+        // GenericDimensionless
+        table.add(112, GenericDimensionless.class, GenericDimensionlessUnits.DIMENSIONLESS);
+
+        // GrashofNumber
+        table.add(113, GrashofNumber.class, GrashofNumberUnits.DIMENSIONLESS);
+
+        // PrandtlNumber
+        table.add(114, PrandtlNumber.class, PrandtlNumberUnits.DIMENSIONLESS);
+
+        // ReynoldsNumber
+        table.add(115, ReynoldsNumber.class, ReynoldsNumberUnits.DIMENSIONLESS);
+
+        // MassFlow
+        table.add(116, MassFlow.class, MassFlowUnits.KILOGRAM_PER_SECOND);
+        table.add(117, MassFlow.class, MassFlowUnits.KILOGRAM_PER_HOUR);
+        table.add(118, MassFlow.class, MassFlowUnits.TONNE_PER_HOUR);
+        table.add(119, MassFlow.class, MassFlowUnits.POUND_PER_SECOND);
+
+        // VolumetricFlow
+        table.add(120, VolumetricFlow.class, VolumetricFlowUnits.CUBIC_METERS_PER_SECOND);
+        table.add(121, VolumetricFlow.class, VolumetricFlowUnits.CUBIC_METERS_PER_MINUTE);
+        table.add(122, VolumetricFlow.class, VolumetricFlowUnits.CUBIC_METERS_PER_HOUR);
+        table.add(123, VolumetricFlow.class, VolumetricFlowUnits.CUBIC_FEET_PER_MINUTE);
+        table.add(124, VolumetricFlow.class, VolumetricFlowUnits.LITRE_PER_SECOND);
+        table.add(125, VolumetricFlow.class, VolumetricFlowUnits.LITRE_PER_MINUTE);
+        table.add(126, VolumetricFlow.class, VolumetricFlowUnits.LITRE_PER_HOUR);
+        table.add(127, VolumetricFlow.class, VolumetricFlowUnits.GALLONS_PER_SECOND_US);
+        table.add(128, VolumetricFlow.class, VolumetricFlowUnits.GALLONS_PER_MINUTE_US);
+        table.add(129, VolumetricFlow.class, VolumetricFlowUnits.GALLONS_PER_HOUR_US);
+        table.add(130, VolumetricFlow.class, VolumetricFlowUnits.GALLONS_PER_SECOND_UK);
+        table.add(131, VolumetricFlow.class, VolumetricFlowUnits.GALLONS_PER_MINUTE_UK);
+        table.add(132, VolumetricFlow.class, VolumetricFlowUnits.GALLONS_PER_HOUR_UK);
+
+        // Bearing
+        table.add(133, Bearing.class, AngleUnits.RADIANS);
+        table.add(134, Bearing.class, AngleUnits.DEGREES);
+
+        // Latitude
+        table.add(135, Latitude.class, AngleUnits.RADIANS);
+        table.add(136, Latitude.class, AngleUnits.DEGREES);
+
+        // Longitude
+        table.add(137, Longitude.class, AngleUnits.RADIANS);
+        table.add(138, Longitude.class, AngleUnits.DEGREES);
+
+        // HumidityRatio
+        table.add(139, HumidityRatio.class, HumidityRatioUnits.KILOGRAM_PER_KILOGRAM);
+        table.add(140, HumidityRatio.class, HumidityRatioUnits.GRAM_PER_KILOGRAM);
+        table.add(141, HumidityRatio.class, HumidityRatioUnits.POUND_PER_POUND);
+
+        // RelativeHumidity
+        table.add(142, RelativeHumidity.class, RelativeHumidityUnits.DECIMAL);
+        table.add(143, RelativeHumidity.class, RelativeHumidityUnits.PERCENT);
+
+        // AbsoluteRoughness
+        table.add(144, AbsoluteRoughness.class, DistanceUnits.METER);
+        table.add(145, AbsoluteRoughness.class, DistanceUnits.CENTIMETER);
+        table.add(146, AbsoluteRoughness.class, DistanceUnits.MILLIMETER);
+        table.add(147, AbsoluteRoughness.class, DistanceUnits.KILOMETER);
+        table.add(148, AbsoluteRoughness.class, DistanceUnits.MILE);
+        table.add(149, AbsoluteRoughness.class, DistanceUnits.NAUTICAL_MILE);
+        table.add(150, AbsoluteRoughness.class, DistanceUnits.FEET);
+        table.add(151, AbsoluteRoughness.class, DistanceUnits.INCH);
+
+        // FrictionFactor
+        table.add(152, FrictionFactor.class, FrictionFactorUnits.DIMENSIONLESS);
+
+        // LinearResistance
+        table.add(153, LinearResistance.class, LinearResistanceUnits.PASCAL_PER_METER);
+        table.add(154, LinearResistance.class, LinearResistanceUnits.INCH_OF_WATER_PER_100_FEET);
+        table.add(155, LinearResistance.class, LinearResistanceUnits.INCH_OF_MERCURY_PER_100_FEET);
+
+        // LocalLossFactor
+        table.add(156, LocalLossFactor.class, LocalLossFactorUnits.DIMENSIONLESS);
+
+        // RotationSpeedToFlowRateRatio
+        table.add(157, RotationSpeedToFlowRateRatio.class, RotationSpeedToFlowRateRatioUnits.RADIAN_PER_SECOND_PER_CUBIC_METER_PER_SECOND);
+        table.add(158, RotationSpeedToFlowRateRatio.class, RotationSpeedToFlowRateRatioUnits.RPM_PER_GPM);
+
+        // SDR
+        table.add(159, SDR.class, RatioUnits.PERCENT);
+        table.add(160, SDR.class, RatioUnits.DECIMAL);
+
+        // Force
+        table.add(161, Force.class, ForceUnits.NEWTON);
+        table.add(162, Force.class, ForceUnits.KILONEWTON);
+        table.add(163, Force.class, ForceUnits.KILOPOND);
+        table.add(164, Force.class, ForceUnits.DYNE);
+        table.add(165, Force.class, ForceUnits.POUND_FORCE);
+        table.add(166, Force.class, ForceUnits.POUNDAL);
+
+        // Momentum
+        table.add(167, Momentum.class, MomentumUnits.KILOGRAM_METER_PER_SECOND);
+        table.add(168, Momentum.class, MomentumUnits.POUND_FEET_PER_SECOND);
+        table.add(169, Momentum.class, MomentumUnits.GRAM_CENTIMETRE_PER_SECOND);
+
+        // Torque
+        table.add(170, Torque.class, TorqueUnits.NEWTON_METER);
+        table.add(171, Torque.class, TorqueUnits.MILLINEWTON_METER);
+        table.add(172, Torque.class, TorqueUnits.KILOPOND_METER);
+        table.add(173, Torque.class, TorqueUnits.FOOT_POUND);
+        table.add(174, Torque.class, TorqueUnits.INCH_POUND);
+
+        // Density
+        table.add(175, Density.class, DensityUnits.KILOGRAM_PER_CUBIC_METER);
+        table.add(176, Density.class, DensityUnits.POUND_PER_CUBIC_FOOT);
+        table.add(177, Density.class, DensityUnits.POUND_PER_CUBIC_INCH);
+        table.add(178, Density.class, DensityUnits.POUND_PER_GALLON_US);
+
+        // DynamicViscosity
+        table.add(179, DynamicViscosity.class, DynamicViscosityUnits.KILOGRAM_PER_METER_SECOND);
+        table.add(180, DynamicViscosity.class, DynamicViscosityUnits.PASCAL_SECOND);
+        table.add(181, DynamicViscosity.class, DynamicViscosityUnits.POISE);
+
+        // Energy
+        table.add(182, Energy.class, EnergyUnits.JOULE);
+        table.add(183, Energy.class, EnergyUnits.MILLIJOULE);
+        table.add(184, Energy.class, EnergyUnits.KILOJOULE);
+        table.add(185, Energy.class, EnergyUnits.MEGAJOULE);
+        table.add(186, Energy.class, EnergyUnits.BTU);
+        table.add(187, Energy.class, EnergyUnits.CALORIE);
+        table.add(188, Energy.class, EnergyUnits.KILOCALORIE);
+        table.add(189, Energy.class, EnergyUnits.WATT_HOUR);
+        table.add(190, Energy.class, EnergyUnits.KILOWATT_HOUR);
+
+        // KinematicViscosity
+        table.add(191, KinematicViscosity.class, KinematicViscosityUnits.SQUARE_METER_PER_SECOND);
+        table.add(192, KinematicViscosity.class, KinematicViscosityUnits.SQUARE_FOOT_PER_SECOND);
+
+        // Power
+        table.add(193, Power.class, PowerUnits.WATT);
+        table.add(194, Power.class, PowerUnits.KILOWATT);
+        table.add(195, Power.class, PowerUnits.MEGAWATT);
+        table.add(196, Power.class, PowerUnits.BTU_PER_HOUR);
+        table.add(197, Power.class, PowerUnits.HORSE_POWER);
+
+        // Pressure
+        table.add(198, Pressure.class, PressureUnits.PASCAL);
+        table.add(199, Pressure.class, PressureUnits.HECTOPASCAL);
+        table.add(200, Pressure.class, PressureUnits.KILOPASCAL);
+        table.add(201, Pressure.class, PressureUnits.MEGAPASCAL);
+        table.add(202, Pressure.class, PressureUnits.BAR);
+        table.add(203, Pressure.class, PressureUnits.MILLIBAR);
+        table.add(204, Pressure.class, PressureUnits.TORR);
+        table.add(205, Pressure.class, PressureUnits.PSI);
+        table.add(206, Pressure.class, PressureUnits.METRE_OF_WATER_10);
+        table.add(207, Pressure.class, PressureUnits.METRE_OF_WATER_60);
+        table.add(208, Pressure.class, PressureUnits.METRE_OF_WATER_95);
+        table.add(209, Pressure.class, PressureUnits.MILLIMETRE_OF_MERCURY_10);
+        table.add(210, Pressure.class, PressureUnits.MILLIMETRE_OF_MERCURY_60);
+        table.add(211, Pressure.class, PressureUnits.MILLIMETRE_OF_MERCURY_95);
+
+        // SpecificEnthalpy
+        table.add(212, SpecificEnthalpy.class, SpecificEnthalpyUnits.JOULE_PER_KILOGRAM);
+        table.add(213, SpecificEnthalpy.class, SpecificEnthalpyUnits.KILOJOULE_PER_KILOGRAM);
+        table.add(214, SpecificEnthalpy.class, SpecificEnthalpyUnits.BTU_PER_POUND);
+
+        // SpecificHeat
+        table.add(215, SpecificHeat.class, SpecificHeatUnits.JOULES_PER_KILOGRAM_KELVIN);
+        table.add(216, SpecificHeat.class, SpecificHeatUnits.KILOJOULES_PER_KILOGRAM_KELVIN);
+        table.add(217, SpecificHeat.class, SpecificHeatUnits.BTU_PER_POUND_FAHRENHEIT);
+
+        // Temperature
+        table.add(218, Temperature.class, TemperatureUnits.KELVIN);
+        table.add(219, Temperature.class, TemperatureUnits.CELSIUS);
+        table.add(220, Temperature.class, TemperatureUnits.FAHRENHEIT);
+
+        // ThermalConductivity
+        table.add(221, ThermalConductivity.class, ThermalConductivityUnits.WATTS_PER_METER_KELVIN);
+        table.add(222, ThermalConductivity.class, ThermalConductivityUnits.KILOWATTS_PER_METER_KELVIN);
+        table.add(223, ThermalConductivity.class, ThermalConductivityUnits.BTU_PER_HOUR_FOOT_FAHRENHEIT);
+
+        // ThermalDiffusivity
+        table.add(224, ThermalDiffusivity.class, ThermalDiffusivityUnits.SQUARE_METER_PER_SECOND);
+        table.add(225, ThermalDiffusivity.class, ThermalDiffusivityUnits.SQUARE_FEET_PER_SECOND);
+        return table.entries;
+    }
+
+    record Entry(int id, Class<?> quantityClass, Unit unit) {
+    }
+
+    private static final class EntryTable {
+
+        private final List<Entry> entries = new ArrayList<>();
+
+        private void add(int id, Class<?> quantityClass, Unit unit) {
+            entries.add(new Entry(id, quantityClass, unit));
+        }
+
+    }
+
+}
@@ -0,0 +1,163 @@
+package com.synerset.unitility.unitsystem.util;
+
+import com.synerset.unitility.unitsystem.PhysicalQuantity;
+import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.exceptions.UnitSystemArgumentException;
+import com.synerset.unitility.unitsystem.exceptions.UnitSystemClassNotSupportedException;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Parses large batches of strings, for ie: CSV columns, with any {@link PhysicalQuantityParsingFactory}. Inputs are
+ * parsed with {@link PhysicalQuantityParsingFactory#tryParse(Class, String)}, therefore invalid inputs are reported as
+ * error codes at their indices instead of exceptions. Batches with at least threshold inputs are split into ranges
+ * parsed in parallel in a ForkJoin pool, smaller batches are parsed sequentially in the calling thread. Each range is
+ * parsed by a single thread, so per-thread parsing buffers of the factory are reused for all inputs of the range.
+ */
+public final class PhysicalQuantityBulkParser {
+
+    /**
+     * Default minimal number of inputs, for which parsing is split across the pool.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 4096;
+
+    // Number of ranges per worker, allowing work stealing to balance uneven ranges
+    private static final int RANGES_PER_WORKER = 4;
+
+    private final PhysicalQuantityParsingFactory parsingFactory;
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+
+    private PhysicalQuantityBulkParser(PhysicalQuantityParsingFactory parsingFactory, ForkJoinPool pool, int parallelThreshold) {
+        if (parsingFactory == null) {
+            throw new UnitSystemArgumentException("Bulk parser: parsing factory must not be null.");
+        }
+        if (pool == null) {
+            throw new UnitSystemArgumentException("Bulk parser: pool must not be null.");
+        }
+        if (parallelThreshold < 1) {
+            throw new UnitSystemArgumentException("Bulk parser: parallel threshold must be positive, threshold = " + parallelThreshold);
+        }
+        this.parsingFactory = parsingFactory;
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Creates a bulk parser using the common ForkJoin pool and the default parallel threshold.
+     *
+     * @param parsingFactory The parsing factory used to parse each input.
+     * @return The bulk parser.
+     */
+    public static PhysicalQuantityBulkParser of(PhysicalQuantityParsingFactory parsingFactory) {
+        return new PhysicalQuantityBulkParser(parsingFactory, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Creates a bulk parser.
+     *
+     * @param parsingFactory    The parsing factory used to parse each input.
+     * @param pool              The pool in which large batches are parsed.
+     * @param parallelThreshold The minimal number of inputs, for which parsing is split across the pool.
+     * @return The bulk parser.
+     */
+    public static PhysicalQuantityBulkParser of(PhysicalQuantityParsingFactory parsingFactory, ForkJoinPool pool, int parallelThreshold) {
+        return new PhysicalQuantityBulkParser(parsingFactory, pool, parallelThreshold);
+    }
+
+    /**
+     * Parses all inputs to quantities of the target class.
+     *
+     * @param targetClass The class of the physical quantity.
+     * @param inputs      The strings in engineering format, i.e.: 20.0[C]. Null elements are reported as blank input.
+     * @param <U>         The type of unit associated with the physical quantity.
+     * @param <Q>         The type of physical quantity.
+     * @return The result holding parsed quantities and error codes at indices of the inputs.
+     * @throws UnitSystemClassNotSupportedException If the target class is not registered in the parsing factory.
+     */
+    public <U extends Unit, Q extends PhysicalQuantity<U>> BulkParseResult<Q> parseAll(Class<Q> targetClass, List<String> inputs) {
+        if (!parsingFactory.containsClass(targetClass)) {
+            throw new UnitSystemClassNotSupportedException("Class not found in the registry: " + targetClass.getSimpleName());
+        }
+        List<String> indexedInputs = inputs instanceof RandomAccess ? inputs : new ArrayList<>(inputs);
+        int size = indexedInputs.size();
+        @SuppressWarnings("unchecked")
+        Q[] quantities = (Q[]) Array.newInstance(targetClass, size);
+        ParseErrorCode[] errorCodes = new ParseErrorCode[size];
+
+        int errorCount;
+        if (size < parallelThreshold || pool.getParallelism() < 2) {
+            errorCount = parseRange(targetClass, indexedInputs, quantities, errorCodes, 0, size);
+        } else {
+            int rangeSize = Math.max(1, size / (pool.getParallelism() * RANGES_PER_WORKER));
+            errorCount = pool.invoke(new ParseRangeTask<>(targetClass, indexedInputs, quantities, errorCodes, 0, size, rangeSize));
+        }
+        return new BulkParseResult<>(quantities, errorCodes, errorCount);
+    }
+
+    public PhysicalQuantityParsingFactory getParsingFactory() {
+        return parsingFactory;
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    private <U extends Unit, Q extends PhysicalQuantity<U>> int parseRange(Class<Q> targetClass, List<String> inputs,
+                                                                           Q[] quantities, ParseErrorCode[] errorCodes,
+                                                                           int start, int end) {
+        int errorCount = 0;
+        for (int i = start; i < end; i++) {
+            ParseResult<Q> parseResult = parsingFactory.tryParse(targetClass, inputs.get(i));
+            if (parseResult.isSuccess()) {
+                quantities[i] = parseResult.getValue();
+            } else {
+                errorCodes[i] = parseResult.getErrorCode();
+                errorCount++;
+            }
+        }
+        return errorCount;
+    }
+
+    // Each task writes only to its own range of result arrays, joining tasks makes the writes visible to the caller
+    private final class ParseRangeTask<U extends Unit, Q extends PhysicalQuantity<U>> extends RecursiveTask<Integer> {
+
+        private final Class<Q> targetClass;
+        private final List<String> inputs;
+        private final Q[] quantities;
+        private final ParseErrorCode[] errorCodes;
+        private final int start;
+        private final int end;
+        private final int rangeSize;
+
+        private ParseRangeTask(Class<Q> targetClass, List<String> inputs, Q[] quantities, ParseErrorCode[] errorCodes,
+                               int start, int end, int rangeSize) {
+            this.targetClass = targetClass;
+            this.inputs = inputs;
+            this.quantities = quantities;
+            this.errorCodes = errorCodes;
+            this.start = start;
+            this.end = end;
+            this.rangeSize = rangeSize;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (end - start <= rangeSize) {
+                return parseRange(targetClass, inputs, quantities, errorCodes, start, end);
+            }
+            int middle = (start + end) >>> 1;
+            ParseRangeTask<U, Q> rightTask = new ParseRangeTask<>(targetClass, inputs, quantities, errorCodes, middle, end, rangeSize);
+            rightTask.fork();
+            int leftErrorCount = new ParseRangeTask<>(targetClass, inputs, quantities, errorCodes, start, middle, rangeSize).compute();
+            return leftErrorCount + rightTask.join();
+        }
+
+    }
+
+}
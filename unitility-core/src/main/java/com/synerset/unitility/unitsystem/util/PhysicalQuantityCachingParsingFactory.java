@@ -0,0 +1,275 @@
+package com.synerset.unitility.unitsystem.util;
+
+import com.synerset.unitility.unitsystem.PhysicalQuantity;
+import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.exceptions.UnitSystemArgumentException;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * Opt-in caching decorator of {@link PhysicalQuantityParsingFactory}. Results of {@link #parse(Class, String)} and
+ * successful results of {@link #tryParse(Class, String)} are cached by target class and raw input string, therefore
+ * repeated inputs are not normalized, split and resolved again. Since physical quantities are immutable, cached
+ * instances are returned directly. All other operations are delegated.
+ * <p>
+ * The cache is bounded and evicts the least recently used entries. To avoid a global lock, entries are distributed
+ * over independently locked segments, each holding its own LRU order, so the eviction order is approximate across
+ * segments. Hits, misses and evictions are counted with low contention counters. Failed parsing attempts are not cached.
+ */
+public final class PhysicalQuantityCachingParsingFactory implements PhysicalQuantityParsingFactory {
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private final PhysicalQuantityParsingFactory delegate;
+    private final Segment[] segments;
+    private final int segmentMask;
+    private final int maximumSize;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    private PhysicalQuantityCachingParsingFactory(PhysicalQuantityParsingFactory delegate, int maximumSize) {
+        if (delegate == null) {
+            throw new UnitSystemArgumentException("Caching parsing factory: delegate factory must not be null.");
+        }
+        if (maximumSize < 1) {
+            throw new UnitSystemArgumentException("Caching parsing factory: maximum size must be positive, size = " + maximumSize);
+        }
+        int segmentCount = Integer.highestOneBit(Math.min(MAX_SEGMENTS, maximumSize));
+        int segmentCapacity = (maximumSize + segmentCount - 1) / segmentCount;
+        this.delegate = delegate;
+        this.maximumSize = segmentCapacity * segmentCount;
+        this.segments = new Segment[segmentCount];
+        this.segmentMask = segmentCount - 1;
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(segmentCapacity, evictionCount);
+        }
+    }
+
+    /**
+     * Creates a caching decorator of the provided parsing factory.
+     *
+     * @param delegate    The parsing factory to which cache misses and all other operations are delegated.
+     * @param maximumSize The maximum number of cached quantities. Rounded up to a multiple of internal segment count.
+     * @return The caching parsing factory.
+     */
+    public static PhysicalQuantityCachingParsingFactory of(PhysicalQuantityParsingFactory delegate, int maximumSize) {
+        return new PhysicalQuantityCachingParsingFactory(delegate, maximumSize);
+    }
+
+    @Override
+    public <U extends Unit, Q extends PhysicalQuantity<U>> Q parse(Class<Q> targetClass, String quantityInEngFormat) {
+        if (targetClass == null || quantityInEngFormat == null) {
+            return delegate.parse(targetClass, quantityInEngFormat);
+        }
+        CacheKey key = new CacheKey(targetClass, quantityInEngFormat);
+        Segment segment = segmentFor(key);
+        PhysicalQuantity<?> cachedQuantity = segment.get(key);
+        if (cachedQuantity != null) {
+            hitCount.increment();
+            return targetClass.cast(cachedQuantity);
+        }
+        missCount.increment();
+        Q parsedQuantity = delegate.parse(targetClass, quantityInEngFormat);
+        if (parsedQuantity != null) {
+            segment.put(key, parsedQuantity);
+        }
+        return parsedQuantity;
+    }
+
+    /**
+     * Parses a range of the input without caching, since a cache key would require creating a string.
+     */
+    @Override
+    public <U extends Unit, Q extends PhysicalQuantity<U>> Q parse(Class<Q> targetClass, CharSequence input, int start, int end) {
+        return delegate.parse(targetClass, input, start, end);
+    }
+
+    /**
+     * Parses encoded bytes without caching, since a cache key would require creating a string.
+     */
+    @Override
+    public <U extends Unit, Q extends PhysicalQuantity<U>> Q parse(Class<Q> targetClass, ByteBuffer source) {
+        return delegate.parse(targetClass, source);
+    }
+
+    @Override
+    public <U extends Unit, Q extends PhysicalQuantity<U>> ParseResult<Q> tryParse(Class<Q> targetClass, String quantityInEngFormat) {
+        if (targetClass == null || quantityInEngFormat == null) {
+            return delegate.tryParse(targetClass, quantityInEngFormat);
+        }
+        CacheKey key = new CacheKey(targetClass, quantityInEngFormat);
+        Segment segment = segmentFor(key);
+        PhysicalQuantity<?> cachedQuantity = segment.get(key);
+        if (cachedQuantity != null) {
+            hitCount.increment();
+            return ParseResult.success(targetClass.cast(cachedQuantity));
+        }
+        missCount.increment();
+        ParseResult<Q> parseResult = delegate.tryParse(targetClass, quantityInEngFormat);
+        if (parseResult.isSuccess()) {
+            segment.put(key, parseResult.getValue());
+        }
+        return parseResult;
+    }
+
+    @Override
+    public Map<Class<?>, BiFunction<Double, String, ? extends PhysicalQuantity<?>>> getClassRegistry() {
+        return delegate.getClassRegistry();
+    }
+
+    @Override
+    public PhysicalQuantity<?> parseAny(String quantityAsString) {
+        return delegate.parseAny(quantityAsString);
+    }
+
+    @Override
+    public <U extends Unit, Q extends PhysicalQuantity<U>> Q parseValueAndSymbol(Class<Q> targetClass, double value, String symbolAsString) {
+        return delegate.parseValueAndSymbol(targetClass, value, symbolAsString);
+    }
+
+    @Override
+    public <U extends Unit, Q extends PhysicalQuantity<U>> U getDefaultUnit(Class<Q> targetClass) {
+        return delegate.getDefaultUnit(targetClass);
+    }
+
+    @Override
+    public <U extends Unit, Q extends PhysicalQuantity<U>> Q parseValueWithDefaultUnit(Class<Q> targetClass, double value) {
+        return delegate.parseValueWithDefaultUnit(targetClass, value);
+    }
+
+    @Override
+    public boolean containsClass(Class<?> targetClass) {
+        return delegate.containsClass(targetClass);
+    }
+
+    @Override
+    public <U extends Unit, Q extends PhysicalQuantity<U>> Set<Class<Q>> findAllRegisteredClasses() {
+        return delegate.findAllRegisteredClasses();
+    }
+
+    @Override
+    public Map<Class<?>, Unit> getDefaultUnitRegistry() {
+        return delegate.getDefaultUnitRegistry();
+    }
+
+    /**
+     * Get the decorated parsing factory.
+     *
+     * @return The delegate factory.
+     */
+    public PhysicalQuantityParsingFactory getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Get the maximum number of cached quantities.
+     *
+     * @return The maximum cache size.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Get the current number of cached quantities.
+     *
+     * @return The cache size.
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Get a snapshot of cache counters.
+     *
+     * @return The cache statistics.
+     */
+    public CacheStats getStats() {
+        return new CacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum(), size());
+    }
+
+    /**
+     * Removes all cached quantities. Counters are not reset.
+     */
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    private Segment segmentFor(CacheKey key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & segmentMask];
+    }
+
+    /**
+     * Snapshot of cache counters.
+     *
+     * @param hitCount      The number of parse requests served from the cache.
+     * @param missCount     The number of parse requests delegated to the decorated factory.
+     * @param evictionCount The number of entries evicted due to the size limit.
+     * @param size          The number of cached quantities.
+     */
+    public record CacheStats(long hitCount, long missCount, long evictionCount, int size) {
+
+        /**
+         * Get the ratio of hits to all requests.
+         *
+         * @return The hit rate, or 0 if there were no requests.
+         */
+        public double hitRate() {
+            long requestCount = hitCount + missCount;
+            return requestCount == 0 ? 0.0 : (double) hitCount / requestCount;
+        }
+
+    }
+
+    private record CacheKey(Class<?> targetClass, String input) {
+    }
+
+    private static final class Segment {
+
+        private final LinkedHashMap<CacheKey, PhysicalQuantity<?>> entries;
+
+        private Segment(int capacity, LongAdder evictionCount) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<CacheKey, PhysicalQuantity<?>> eldest) {
+                    if (size() > capacity) {
+                        evictionCount.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        private synchronized PhysicalQuantity<?> get(CacheKey key) {
+            return entries.get(key);
+        }
+
+        private synchronized void put(CacheKey key, PhysicalQuantity<?> quantity) {
+            entries.put(key, quantity);
+        }
+
+        private synchronized int size() {
+            return entries.size();
+        }
+
+        private synchronized void clear() {
+            entries.clear();
+        }
+
+    }
+
+}
@@ -2,9 +2,12 @@ package com.synerset.unitility.unitsystem.util;
 
 import com.synerset.unitility.unitsystem.PhysicalQuantity;
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.exceptions.UnitSystemArgumentException;
 import com.synerset.unitility.unitsystem.exceptions.UnitSystemClassNotSupportedException;
 import com.synerset.unitility.unitsystem.exceptions.UnitSystemParseException;
 
+import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiFunction;
@@ -29,6 +32,108 @@ public interface PhysicalQuantityParsingFactory {
      */
     <U extends Unit, Q extends PhysicalQuantity<U>> Q parse(Class<Q> targetClass, String quantityInEngFormat);
 
+    /**
+     * Creates a PhysicalQuantity instance from a range of the input in engineering format (20.0[C]), for ie: when parsing
+     * from a char buffer of a JSON parser or a line of a large text buffer. The input is read only during this call.
+     * By default, the range is copied to a string and parsed with {@link #parse(Class, String)}, while the default
+     * parsing factory parses the range in place, without creating intermediate strings.
+     *
+     * @param targetClass The class of the physical quantity.
+     * @param input       The input containing the quantity in engineering format, i.e.: 20.0[C]
+     * @param start       The start index of the quantity, inclusive.
+     * @param end         The end index of the quantity, exclusive.
+     * @param <U>         The type of unit associated with the physical quantity.
+     * @param <Q>         The type of physical quantity.
+     * @return A new instance of the specified physical quantity.
+     * @throws UnitSystemParseException If parsing the English format fails.
+     * @throws IndexOutOfBoundsException If the range is out of input bounds.
+     */
+    default <U extends Unit, Q extends PhysicalQuantity<U>> Q parse(Class<Q> targetClass, CharSequence input, int start, int end) {
+        return parse(targetClass, input.subSequence(start, end).toString());
+    }
+
+    /**
+     * Creates a PhysicalQuantity instance from ASCII or UTF-8 encoded bytes in engineering format (20.0[C]), located
+     * between position and limit of the source buffer. The position of the source buffer is not changed. By default,
+     * bytes are decoded to a string and parsed with {@link #parse(Class, String)}, while the default parsing factory
+     * decodes bytes into a reusable buffer, without creating intermediate strings.
+     *
+     * @param targetClass The class of the physical quantity.
+     * @param source      The buffer containing encoded quantity, i.e.: 20.0[C]
+     * @param <U>         The type of unit associated with the physical quantity.
+     * @param <Q>         The type of physical quantity.
+     * @return A new instance of the specified physical quantity.
+     * @throws UnitSystemParseException If the bytes are not valid UTF-8 or parsing the English format fails.
+     */
+    default <U extends Unit, Q extends PhysicalQuantity<U>> Q parse(Class<Q> targetClass, ByteBuffer source) {
+        StringBuilder decodedInput = Utf8Decoder.decode(source, source.position(), source.limit(), new StringBuilder(source.remaining()));
+        return parse(targetClass, decodedInput.toString());
+    }
+
+    /**
+     * Attempts to create a PhysicalQuantity instance from the provided class and a string engineering format (20.0[C]),
+     * without throwing exceptions for invalid input. Intended for validation of large volumes of input, where
+     * rejected values are expected and should not pay for exception construction.
+     * By default, exceptions thrown by {@link #parse(Class, String)} are mapped to error codes; implementations should
+     * override this method to validate input without creating exceptions.
+     *
+     * @param targetClass         The class of the physical quantity.
+     * @param quantityInEngFormat The string representation of the quantity in engineering format, i.e.: 20.0[C]
+     * @param <U>                 The type of unit associated with the physical quantity.
+     * @param <Q>                 The type of physical quantity.
+     * @return The result holding a new instance of the specified physical quantity, or an error code if parsing fails.
+     */
+    default <U extends Unit, Q extends PhysicalQuantity<U>> ParseResult<Q> tryParse(Class<Q> targetClass, String quantityInEngFormat) {
+        if (quantityInEngFormat == null || quantityInEngFormat.isBlank()) {
+            return ParseResult.failure(ParseErrorCode.BLANK_INPUT);
+        }
+        try {
+            return ParseResult.success(parse(targetClass, quantityInEngFormat));
+        } catch (UnitSystemClassNotSupportedException ex) {
+            return ParseResult.failure(ParseErrorCode.CLASS_NOT_SUPPORTED);
+        } catch (UnitSystemParseException | UnitSystemArgumentException | NumberFormatException ex) {
+            return ParseResult.failure(startsWithNumber(quantityInEngFormat)
+                    ? ParseErrorCode.UNSUPPORTED_SYMBOL
+                    : ParseErrorCode.INVALID_NUMBER);
+        }
+    }
+
+    /**
+     * Parses a batch of strings in engineering format (20.0[C]) to quantities of the provided class, without throwing
+     * exceptions for invalid inputs. Large batches are parsed in parallel in the common ForkJoin pool, see
+     * {@link PhysicalQuantityBulkParser} for other pools and thresholds.
+     *
+     * @param targetClass The class of the physical quantity.
+     * @param inputs      The strings in engineering format, i.e.: 20.0[C]
+     * @param <U>         The type of unit associated with the physical quantity.
+     * @param <Q>         The type of physical quantity.
+     * @return The result holding parsed quantities and error codes at indices of the inputs.
+     * @throws UnitSystemClassNotSupportedException If the provided class is not registered in the registry.
+     */
+    default <U extends Unit, Q extends PhysicalQuantity<U>> BulkParseResult<Q> parseAll(Class<Q> targetClass, List<String> inputs) {
+        return PhysicalQuantityBulkParser.of(this).parseAll(targetClass, inputs);
+    }
+
+    /**
+     * Creates a PhysicalQuantity instance from a string in engineering format (12 kPa), without providing its class.
+     * Quantity type is determined by the unit symbol, matched case-sensitively first, so that "5 kN" is a force and
+     * "5 kn" is a velocity. Symbols in other case are accepted only if they match a single unit, for ie: "20 kpa".
+     * If the symbol is shared by units of several quantities, the unit of the first registered quantity is used,
+     * and if the unit is shared by several quantity classes, general quantity takes precedence over specialized one,
+     * for ie: "m" is resolved to Distance, "%" to Ratio and "°" to Angle. DMS coordinates with hemisphere are resolved
+     * to Latitude (N, S) or Longitude (E, W). Brackets and parentheses around the value or symbol are ignored, so that
+     * quantities in engineering format, for ie: "20.0 [°C]" or "20 (°C)", are parsed as well. Units of all classes
+     * registered in the factory are resolved with a table built once per factory, and the input is scanned only once.
+     *
+     * @param quantityAsString The string representation of the quantity with unit symbol, i.e.: 3.5 m³/h
+     * @return A new instance of the detected physical quantity.
+     * @throws UnitSystemParseException If parsing fails, symbol is missing, ambiguous or quantity type cannot be
+     *                                  determined.
+     */
+    default PhysicalQuantity<?> parseAny(String quantityAsString) {
+        return AnyQuantityResolver.forFactory(this).parse(this, quantityAsString);
+    }
+
     /**
      * Creates a PhysicalQuantity instance from the provided target class, value, and unit symbol.
      *
@@ -93,4 +198,26 @@ public interface PhysicalQuantityParsingFactory {
         return PhysicalQuantityDefaultParsingFactory.getInstance();
     }
 
+    /**
+     * Creates a caching decorator of the default parsing factory, which returns cached quantities for repeated inputs.
+     *
+     * @param maximumSize The maximum number of cached quantities.
+     * @return A new caching parsing factory.
+     */
+    static PhysicalQuantityCachingParsingFactory getCachingParsingFactory(int maximumSize) {
+        return PhysicalQuantityCachingParsingFactory.of(getDefaultParsingFactory(), maximumSize);
+    }
+
+    private static boolean startsWithNumber(String input) {
+        String trimmedInput = input.strip();
+        int index = 0;
+        if (index < trimmedInput.length() && (trimmedInput.charAt(index) == '-' || trimmedInput.charAt(index) == '+')) {
+            index++;
+        }
+        if (index < trimmedInput.length() && trimmedInput.charAt(index) == '.') {
+            index++;
+        }
+        return index < trimmedInput.length() && Character.isDigit(trimmedInput.charAt(index));
+    }
+
 }
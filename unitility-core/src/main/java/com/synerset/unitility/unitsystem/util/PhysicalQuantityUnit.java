@@ -0,0 +1,9 @@
+package com.synerset.unitility.unitsystem.util;
+
+import com.synerset.unitility.unitsystem.Unit;
+
+public record PhysicalQuantityUnit(
+        Class<?> quantityClass,
+        Unit unit
+) {
+}
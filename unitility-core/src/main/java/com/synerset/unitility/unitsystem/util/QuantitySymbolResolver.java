@@ -0,0 +1,69 @@
+package com.synerset.unitility.unitsystem.util;
+
+import com.synerset.unitility.unitsystem.PhysicalQuantity;
+import com.synerset.unitility.unitsystem.Unit;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Resolves unit symbols of a single quantity class and creates quantities directly from prototypes, bypassing symbol
+ * lookup of the parsing registry. Symbols are matched against normalized symbols and aliases of the
+ * {@link UnitSymbolIndex} provided by {@link Unit#getSymbolIndex()}, with the same normalizer which is used by
+ * {@code XxxUnits.fromSymbol}. Quantity classes with units not providing such index are not supported, and their
+ * symbols are resolved by the parsing registry.
+ */
+final class QuantitySymbolResolver {
+
+    static final QuantitySymbolResolver UNSUPPORTED = new QuantitySymbolResolver(null, Map.of());
+
+    private final UnitSymbolIndex<?> symbolIndex;
+    private final Map<Unit, PhysicalQuantity<Unit>> prototypesByUnit;
+
+    private QuantitySymbolResolver(UnitSymbolIndex<?> symbolIndex, Map<Unit, PhysicalQuantity<Unit>> prototypesByUnit) {
+        this.symbolIndex = symbolIndex;
+        this.prototypesByUnit = prototypesByUnit;
+    }
+
+    /**
+     * Creates a quantity with a unit matching the symbol located within a range of the input.
+     *
+     * @param input The input containing the symbol.
+     * @param start The start index of the symbol, inclusive.
+     * @param end   The end index of the symbol, exclusive.
+     * @param value The value of quantity.
+     * @return A new quantity, or null if the normalized symbol is not matched by any unit symbol or alias.
+     */
+    PhysicalQuantity<Unit> resolve(CharSequence input, int start, int end, double value) {
+        if (symbolIndex == null) {
+            return null;
+        }
+        Unit unit = symbolIndex.find(input, start, end);
+        if (unit == null) {
+            return null;
+        }
+        PhysicalQuantity<Unit> prototype = prototypesByUnit.get(unit);
+        return prototype == null ? null : prototype.withValue(value);
+    }
+
+    static QuantitySymbolResolver of(PhysicalQuantityParsingFactory parsingFactory, Class<?> quantityClass) {
+        Unit defaultUnit = parsingFactory.getDefaultUnitRegistry().get(quantityClass);
+        UnitSymbolIndex<?> symbolIndex = defaultUnit == null ? null : defaultUnit.getSymbolIndex();
+        if (symbolIndex == null) {
+            return UNSUPPORTED;
+        }
+        PhysicalQuantity<Unit> defaultQuantity = createDefaultQuantity(parsingFactory, quantityClass);
+        Map<Unit, PhysicalQuantity<Unit>> prototypesByUnit = new HashMap<>();
+        for (Unit unit : symbolIndex.asMap().values()) {
+            prototypesByUnit.computeIfAbsent(unit, key -> defaultQuantity.toUnit(key).withValue(0));
+        }
+        return new QuantitySymbolResolver(symbolIndex, Map.copyOf(prototypesByUnit));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static PhysicalQuantity<Unit> createDefaultQuantity(PhysicalQuantityParsingFactory parsingFactory, Class<?> quantityClass) {
+        Class<? extends PhysicalQuantity<Unit>> castedClass = (Class<? extends PhysicalQuantity<Unit>>) quantityClass;
+        return parsingFactory.parseValueWithDefaultUnit(castedClass, 0);
+    }
+
+}
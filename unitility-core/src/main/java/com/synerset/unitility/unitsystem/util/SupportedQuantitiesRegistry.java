@@ -21,102 +21,28 @@ import com.synerset.unitility.unitsystem.mechanical.*;
 import com.synerset.unitility.unitsystem.thermodynamic.*;
 
 import java.util.*;
-import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 /**
  * The {@link SupportedQuantitiesRegistry} class provides a registry for physical quantities and their supported units.
  * It allows retrieval of unit information for various physical quantities that are registered within the system.
+ * Registry content is built once, on first query, and cached in immutable form together with indexes of units by
+ * symbol and quantities by base unit. Quantity classes and unit enums are not loaded until the first query.
  */
 public class SupportedQuantitiesRegistry {
 
     private static final SupportedQuantitiesRegistry UNIT_REGISTRY = new SupportedQuantitiesRegistry();
 
-    private final Map<Class<?>, Supplier<List<? extends Unit>>> immutableRegistry;
-
     private SupportedQuantitiesRegistry() {
-        // Initializing immutable registry
-        this.immutableRegistry = Map.ofEntries(
-                // Common
-                Map.entry(Angle.class, () -> Arrays.asList(AngleUnits.values())),
-                Map.entry(Area.class, () -> Arrays.asList(AreaUnits.values())),
-                Map.entry(Distance.class, () -> Arrays.asList(DistanceUnits.values())),
-                Map.entry(Length.class, () -> Arrays.asList(DistanceUnits.values())),
-                Map.entry(Width.class, () -> Arrays.asList(DistanceUnits.values())),
-                Map.entry(Height.class, () -> Arrays.asList(DistanceUnits.values())),
-                Map.entry(Diameter.class, () -> Arrays.asList(DistanceUnits.values())),
-                Map.entry(Perimeter.class, () -> Arrays.asList(DistanceUnits.values())),
-                Map.entry(Thickness.class, () -> Arrays.asList(DistanceUnits.values())),
-                Map.entry(Mass.class, () -> Arrays.asList(MassUnits.values())),
-                Map.entry(LinearMassDensity.class, () -> Arrays.asList(LinearMassDensityUnits.values())),
-                Map.entry(Velocity.class, () -> Arrays.asList(VelocityUnits.values())),
-                Map.entry(AngularVelocity.class, () -> Arrays.asList(AngularVelocityUnits.values())),
-                Map.entry(Volume.class, () -> Arrays.asList(VolumeUnits.values())),
-                Map.entry(Ratio.class, () -> Arrays.asList(RatioUnits.values())),
-                Map.entry(Curvature.class, () -> Arrays.asList(CurvatureUnits.values())),
-                // Dimensionless
-                Map.entry(GenericDimensionless.class, Collections::emptyList),
-                Map.entry(BypassFactor.class, Collections::emptyList),
-                Map.entry(GrashofNumber.class, Collections::emptyList),
-                Map.entry(PrandtlNumber.class, Collections::emptyList),
-                Map.entry(ReynoldsNumber.class, Collections::emptyList),
-                // Flows
-                Map.entry(MassFlow.class, () -> Arrays.asList(MassFlowUnits.values())),
-                Map.entry(VolumetricFlow.class, () -> Arrays.asList(VolumetricFlowUnits.values())),
-                // Humidity
-                Map.entry(HumidityRatio.class, () -> Arrays.asList(HumidityRatioUnits.values())),
-                Map.entry(RelativeHumidity.class, () -> Arrays.asList(RelativeHumidityUnits.values())),
-                // Hydraulic
-                Map.entry(LinearResistance.class, () -> Arrays.asList(LinearResistanceUnits.values())),
-                Map.entry(FrictionFactor.class, Collections::emptyList),
-                Map.entry(LocalLossFactor.class, Collections::emptyList),
-                Map.entry(RotationSpeedToFlowRateRatio.class, () -> Arrays.asList(RotationSpeedToFlowRateRatioUnits.values())),
-                Map.entry(SDR.class, () -> Arrays.asList(RatioUnits.values())),
-                Map.entry(AbsoluteRoughness.class, () -> Arrays.asList(DistanceUnits.values())),
-                // Mechanical
-                Map.entry(Force.class, () -> Arrays.asList(ForceUnits.values())),
-                Map.entry(Momentum.class, () -> Arrays.asList(MomentumUnits.values())),
-                Map.entry(Torque.class, () -> Arrays.asList(TorqueUnits.values())),
-                // Thermodynamic
-                Map.entry(Density.class, () -> Arrays.asList(DensityUnits.values())),
-                Map.entry(DynamicViscosity.class, () -> Arrays.asList(DynamicViscosityUnits.values())),
-                Map.entry(Energy.class, () -> Arrays.asList(EnergyUnits.values())),
-                Map.entry(KinematicViscosity.class, () -> Arrays.asList(KinematicViscosityUnits.values())),
-                Map.entry(Power.class, () -> Arrays.asList(PowerUnits.values())),
-                Map.entry(Pressure.class, () -> Arrays.asList(PressureUnits.values())),
-                Map.entry(SpecificEnthalpy.class, () -> Arrays.asList(SpecificEnthalpyUnits.values())),
-                Map.entry(SpecificHeat.class, () -> Arrays.asList(SpecificHeatUnits.values())),
-                Map.entry(Temperature.class, () -> Arrays.asList(TemperatureUnits.values())),
-                Map.entry(ThermalConductivity.class, () -> Arrays.asList(ThermalConductivityUnits.values())),
-                Map.entry(ThermalDiffusivity.class, () -> Arrays.asList(ThermalDiffusivityUnits.values())),
-                // Geographic
-                Map.entry(Latitude.class, () -> Arrays.asList(AngleUnits.values())),
-                Map.entry(Longitude.class, () -> Arrays.asList(AngleUnits.values())),
-                Map.entry(GeoDistance.class, () -> Arrays.asList(DistanceUnits.values())),
-                Map.entry(Bearing.class, () -> Arrays.asList(AngleUnits.values()))
-        );
     }
 
     /**
      * Retrieves a set of {@link PhysicalQuantityInfo}, representing supported registered physical quantities and associated
      * units including their symbols.
      *
-     * @return A set {@link PhysicalQuantityInfo} representing supported physical quantities.
+     * @return An unmodifiable set {@link PhysicalQuantityInfo} representing supported physical quantities.
      */
     public Set<PhysicalQuantityInfo> findAllSupportedQuantities() {
-        return immutableRegistry.entrySet().stream()
-                .map(entry -> {
-                    Class<?> quantityClass = entry.getKey();
-                    List<PhysicalUnitInfo> supportedUnits = entry.getValue().get().stream()
-                            .map(unit -> {
-                                String name = getEnumName(unit);
-                                String symbol = unit.getSymbol();
-                                return new PhysicalUnitInfo(name, symbol);
-                            })
-                            .toList();
-                    return new PhysicalQuantityInfo(quantityClass, supportedUnits);
-                })
-                .collect(Collectors.toSet());
+        return RegistryIndex.INSTANCE.allQuantityInfos;
     }
 
     /**
@@ -126,17 +52,45 @@ public class SupportedQuantitiesRegistry {
      * @return The {@link PhysicalQuantityInfo} for the given class, or an empty Optional if not found.
      */
     public Optional<PhysicalQuantityInfo> findQuantityInfoByClass(Class<?> clazz) {
-        return Optional.ofNullable(immutableRegistry.get(clazz))
-                .map(supplier -> {
-                    List<PhysicalUnitInfo> supportedUnits = supplier.get().stream()
-                            .map(unit -> {
-                                String name = getEnumName(unit);
-                                String symbol = unit.getSymbol();
-                                return new PhysicalUnitInfo(name, symbol);
-                            })
-                            .toList();
-                    return new PhysicalQuantityInfo(clazz, supportedUnits);
-                });
+        return Optional.ofNullable(RegistryIndex.INSTANCE.quantityInfoByClass.get(clazz));
+    }
+
+    /**
+     * Retrieves units supported by a specific physical quantity class.
+     *
+     * @param clazz The class of the physical quantity.
+     * @return An unmodifiable list of supported units, in declaration order, or an empty list if class is not registered.
+     */
+    public List<Unit> findUnitsByClass(Class<?> clazz) {
+        return RegistryIndex.INSTANCE.unitsByClass.getOrDefault(clazz, Collections.emptyList());
+    }
+
+    /**
+     * Retrieves all registered quantity classes and units with exactly matching unit symbol. The same symbol can be used
+     * by several quantities, for ie: "m" is a unit symbol of {@code Distance}, {@code Length}, {@code Width} and others.
+     *
+     * @param unitSymbol The unit symbol, for ie: "kPa" or "m³/h".
+     * @return An unmodifiable list of matching quantity units, in registration order, or an empty list if not found.
+     */
+    public List<PhysicalQuantityUnit> findQuantityUnitsBySymbol(String unitSymbol) {
+        if (unitSymbol == null) {
+            return Collections.emptyList();
+        }
+        return RegistryIndex.INSTANCE.quantityUnitsBySymbol.getOrDefault(unitSymbol, Collections.emptyList());
+    }
+
+    /**
+     * Retrieves all registered quantity classes, which units are based on provided base unit, for ie: all quantities
+     * expressed in units convertible to meters.
+     *
+     * @param baseUnit The base unit, for ie: {@code DistanceUnits.METER}.
+     * @return An unmodifiable list of matching quantity classes, in registration order, or an empty list if not found.
+     */
+    public List<Class<?>> findQuantityClassesByBaseUnit(Unit baseUnit) {
+        if (baseUnit == null) {
+            return Collections.emptyList();
+        }
+        return RegistryIndex.INSTANCE.quantityClassesByBaseUnit.getOrDefault(baseUnit, Collections.emptyList());
     }
 
     /**
@@ -144,26 +98,141 @@ public class SupportedQuantitiesRegistry {
      *
      * @param <U> The type of unit associated with the physical quantity.
      * @param <Q> The type of physical quantity.
-     * @return A set containing all registered physical quantity classes.
+     * @return An unmodifiable set containing all registered physical quantity classes.
      */
     @SuppressWarnings("unchecked")
     public <U extends Unit, Q extends PhysicalQuantity<U>> Set<Class<Q>> findAllRegisteredClasses() {
-        Set<Class<Q>> quantityClasses = new HashSet<>();
-        immutableRegistry.keySet().forEach(quantityClass -> quantityClasses.add((Class<Q>) quantityClass));
-        return quantityClasses;
-    }
-
-    private String getEnumName(Unit unit) {
-        // Check if the unit is an instance of Enum
-        if (unit instanceof Enum<?>) {
-            return ((Enum<?>) unit).name();
-        }
-        // Handle case where unit is not an Enum
-        return "Unknown";
+        return (Set<Class<Q>>) (Set<?>) RegistryIndex.INSTANCE.quantityClasses;
     }
 
     public static SupportedQuantitiesRegistry getInstance() {
         return UNIT_REGISTRY;
     }
 
-}
\ No newline at end of file
+    /**
+     * Immutable registry content, initialized by the JVM on first access.
+     */
+    private static final class RegistryIndex {
+
+        private static final RegistryIndex INSTANCE = new RegistryIndex(createRegistry());
+
+        private final Map<Class<?>, List<Unit>> unitsByClass;
+        private final Map<Class<?>, PhysicalQuantityInfo> quantityInfoByClass;
+        private final Set<PhysicalQuantityInfo> allQuantityInfos;
+        private final Set<Class<?>> quantityClasses;
+        private final Map<String, List<PhysicalQuantityUnit>> quantityUnitsBySymbol;
+        private final Map<Unit, List<Class<?>>> quantityClassesByBaseUnit;
+
+        private RegistryIndex(Map<Class<?>, List<Unit>> registry) {
+            Map<Class<?>, PhysicalQuantityInfo> infoByClass = new LinkedHashMap<>();
+            Map<String, List<PhysicalQuantityUnit>> unitsBySymbol = new LinkedHashMap<>();
+            Map<Unit, List<Class<?>>> classesByBaseUnit = new LinkedHashMap<>();
+
+            registry.forEach((quantityClass, units) -> {
+                List<PhysicalUnitInfo> supportedUnits = new ArrayList<>(units.size());
+                for (Unit unit : units) {
+                    String symbol = unit.getSymbol();
+                    supportedUnits.add(new PhysicalUnitInfo(getEnumName(unit), symbol));
+                    if (symbol != null && !symbol.isBlank()) {
+                        unitsBySymbol.computeIfAbsent(symbol, key -> new ArrayList<>())
+                                .add(new PhysicalQuantityUnit(quantityClass, unit));
+                    }
+                    Unit baseUnit = unit.getBaseUnit();
+                    if (baseUnit != null) {
+                        List<Class<?>> classes = classesByBaseUnit.computeIfAbsent(baseUnit, key -> new ArrayList<>());
+                        if (!classes.contains(quantityClass)) {
+                            classes.add(quantityClass);
+                        }
+                    }
+                }
+                infoByClass.put(quantityClass, new PhysicalQuantityInfo(quantityClass, List.copyOf(supportedUnits)));
+            });
+            unitsBySymbol.replaceAll((symbol, quantityUnits) -> List.copyOf(quantityUnits));
+            classesByBaseUnit.replaceAll((baseUnit, classes) -> List.copyOf(classes));
+
+            this.unitsByClass = registry;
+            this.quantityInfoByClass = Collections.unmodifiableMap(infoByClass);
+            this.allQuantityInfos = Collections.unmodifiableSet(new LinkedHashSet<>(infoByClass.values()));
+            this.quantityClasses = Collections.unmodifiableSet(registry.keySet());
+            this.quantityUnitsBySymbol = Collections.unmodifiableMap(unitsBySymbol);
+            this.quantityClassesByBaseUnit = Collections.unmodifiableMap(classesByBaseUnit);
+        }
+
+        private static Map<Class<?>, List<Unit>> createRegistry() {
+            Map<Class<?>, List<Unit>> registry = new LinkedHashMap<>();
+            // Common
+            register(registry, Angle.class, AngleUnits.values());
+            register(registry, Area.class, AreaUnits.values());
+            register(registry, Distance.class, DistanceUnits.values());
+            register(registry, Length.class, DistanceUnits.values());
+            register(registry, Width.class, DistanceUnits.values());
+            register(registry, Height.class, DistanceUnits.values());
+            register(registry, Diameter.class, DistanceUnits.values());
+            register(registry, Perimeter.class, DistanceUnits.values());
+            register(registry, Thickness.class, DistanceUnits.values());
+            register(registry, Mass.class, MassUnits.values());
+            register(registry, LinearMassDensity.class, LinearMassDensityUnits.values());
+            register(registry, Velocity.class, VelocityUnits.values());
+            register(registry, AngularVelocity.class, AngularVelocityUnits.values());
+            register(registry, Volume.class, VolumeUnits.values());
+            register(registry, Ratio.class, RatioUnits.values());
+            register(registry, Curvature.class, CurvatureUnits.values());
+            // Dimensionless
+            register(registry, GenericDimensionless.class);
+            register(registry, BypassFactor.class);
+            register(registry, GrashofNumber.class);
+            register(registry, PrandtlNumber.class);
+            register(registry, ReynoldsNumber.class);
+            // Flows
+            register(registry, MassFlow.class, MassFlowUnits.values());
+            register(registry, VolumetricFlow.class, VolumetricFlowUnits.values());
+            // Humidity
+            register(registry, HumidityRatio.class, HumidityRatioUnits.values());
+            register(registry, RelativeHumidity.class, RelativeHumidityUnits.values());
+            // Hydraulic
+            register(registry, LinearResistance.class, LinearResistanceUnits.values());
+            register(registry, FrictionFactor.class);
+            register(registry, LocalLossFactor.class);
+            register(registry, RotationSpeedToFlowRateRatio.class, RotationSpeedToFlowRateRatioUnits.values());
+            register(registry, SDR.class, RatioUnits.values());
+            register(registry, AbsoluteRoughness.class, DistanceUnits.values());
+            // Mechanical
+            register(registry, Force.class, ForceUnits.values());
+            register(registry, Momentum.class, MomentumUnits.values());
+            register(registry, Torque.class, TorqueUnits.values());
+            // Thermodynamic
+            register(registry, Density.class, DensityUnits.values());
+            register(registry, DynamicViscosity.class, DynamicViscosityUnits.values());
+            register(registry, Energy.class, EnergyUnits.values());
+            register(registry, KinematicViscosity.class, KinematicViscosityUnits.values());
+            register(registry, Power.class, PowerUnits.values());
+            register(registry, Pressure.class, PressureUnits.values());
+            register(registry, SpecificEnthalpy.class, SpecificEnthalpyUnits.values());
+            register(registry, SpecificHeat.class, SpecificHeatUnits.values());
+            register(registry, Temperature.class, TemperatureUnits.values());
+            register(registry, ThermalConductivity.class, ThermalConductivityUnits.values());
+            register(registry, ThermalDiffusivity.class, ThermalDiffusivityUnits.values());
+            // Geographic
+            register(registry, Latitude.class, AngleUnits.values());
+            register(registry, Longitude.class, AngleUnits.values());
+            register(registry, GeoDistance.class, DistanceUnits.values());
+            register(registry, Bearing.class, AngleUnits.values());
+            return Collections.unmodifiableMap(registry);
+        }
+
+        private static void register(Map<Class<?>, List<Unit>> registry, Class<?> quantityClass, Unit... units) {
+            registry.put(quantityClass, List.of(units));
+        }
+
+        private static String getEnumName(Unit unit) {
+            // Check if the unit is an instance of Enum
+            if (unit instanceof Enum<?> enumUnit) {
+                return enumUnit.name();
+            }
+            // Handle case where unit is not an Enum
+            return "Unknown";
+        }
+
+    }
+
+}
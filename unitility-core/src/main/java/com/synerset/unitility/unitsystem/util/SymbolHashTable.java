@@ -0,0 +1,57 @@
+package com.synerset.unitility.unitsystem.util;
+
+import java.util.Map;
+
+/**
+ * Immutable open-addressing hash table with string keys, which can be probed with any {@link CharSequence} without
+ * creating a string. Hash of the probe is calculated from its characters the same way as {@link String#hashCode()}.
+ *
+ * @param <V> The value type.
+ */
+final class SymbolHashTable<V> {
+
+    private final String[] keys;
+    private final Object[] values;
+    private final int mask;
+
+    SymbolHashTable(Map<String, ? extends V> entries) {
+        int capacity = Integer.highestOneBit(Math.max(2, entries.size() * 2 - 1)) << 1;
+        this.keys = new String[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+        for (Map.Entry<String, ? extends V> entry : entries.entrySet()) {
+            int index = spread(entry.getKey().hashCode()) & mask;
+            while (keys[index] != null) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = entry.getKey();
+            values[index] = entry.getValue();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(CharSequence key) {
+        int index = spread(hash(key)) & mask;
+        String currentKey;
+        while ((currentKey = keys[index]) != null) {
+            if (currentKey.length() == key.length() && currentKey.contentEquals(key)) {
+                return (V) values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    private static int hash(CharSequence key) {
+        int hash = 0;
+        for (int i = 0; i < key.length(); i++) {
+            hash = 31 * hash + key.charAt(i);
+        }
+        return hash;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+}
@@ -0,0 +1,327 @@
+package com.synerset.unitility.unitsystem.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiled, single-pass equivalent of a {@link StringTransformer} chain. Transformation steps are defined once with
+ * a builder, using the same step names as {@link StringTransformer}, and then applied to any number of inputs.
+ * Each input character is streamed through all steps at once and appended to the output buffer, without creating
+ * intermediate strings. Each replacement step keeps only the number of already matched characters of its target,
+ * so the result is the same as applying {@link String#replace(CharSequence, CharSequence)} sequentially.
+ * <p>
+ * Instances are immutable and thread-safe. Lowercasing is done per character with {@link Character#toLowerCase(char)},
+ * which does not depend on the default locale.
+ */
+public final class SymbolNormalizer {
+
+    private static final String PARENTHESES = "()[]{}<>";
+
+    private final Step[] steps;
+    private final boolean trimInput;
+    private final ThreadLocal<Context> threadContext;
+
+    private SymbolNormalizer(Step[] steps, boolean trimInput) {
+        this.steps = steps;
+        this.trimInput = trimInput;
+        this.threadContext = ThreadLocal.withInitial(() -> new Context(steps.length));
+    }
+
+    /**
+     * Creates a new builder of the normalizer.
+     *
+     * @return A new builder instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Normalizes the input and returns the result as a new string.
+     *
+     * @param input The input to be normalized.
+     * @return The normalized string.
+     */
+    public String normalize(CharSequence input) {
+        Context context = threadContext.get();
+        StringBuilder buffer = context.buffer;
+        buffer.setLength(0);
+        normalize(input, 0, input.length(), buffer, context);
+        return buffer.toString();
+    }
+
+    /**
+     * Normalizes a range of the input and appends the result to the provided output buffer. This method does not
+     * allocate, provided that the output buffer has sufficient capacity.
+     *
+     * @param input  The input to be normalized.
+     * @param start  The start index of the range, inclusive.
+     * @param end    The end index of the range, exclusive.
+     * @param output The buffer to which the result is appended.
+     * @return The output buffer.
+     */
+    public StringBuilder normalize(CharSequence input, int start, int end, StringBuilder output) {
+        return normalize(input, start, end, output, threadContext.get());
+    }
+
+    private StringBuilder normalize(CharSequence input, int start, int end, StringBuilder output, Context context) {
+        if (start < 0 || end > input.length() || start > end) {
+            throw new IndexOutOfBoundsException("Invalid range: [" + start + ", " + end + "), length: " + input.length());
+        }
+        if (trimInput) {
+            while (start < end && input.charAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && input.charAt(end - 1) <= ' ') {
+                end--;
+            }
+        }
+        int[] matched = context.matched;
+        for (int i = 0; i < matched.length; i++) {
+            matched[i] = 0;
+        }
+        for (int i = start; i < end; i++) {
+            accept(0, input.charAt(i), matched, output);
+        }
+        flush(0, matched, output);
+        return output;
+    }
+
+    private void accept(int stepIndex, char character, int[] matched, StringBuilder output) {
+        if (stepIndex == steps.length) {
+            output.append(character);
+            return;
+        }
+        Step step = steps[stepIndex];
+        int nextIndex = stepIndex + 1;
+        switch (step.type) {
+            case LOWERCASE:
+                accept(nextIndex, Character.toLowerCase(character), matched, output);
+                return;
+            case DROP_CHARACTERS:
+                if (step.target.indexOf(character) < 0) {
+                    accept(nextIndex, character, matched, output);
+                }
+                return;
+            default:
+                acceptReplace(stepIndex, step, character, matched, output);
+        }
+    }
+
+    private void acceptReplace(int stepIndex, Step step, char character, int[] matched, StringBuilder output) {
+        String target = step.target;
+        int matchedCount = matched[stepIndex];
+        if (target.charAt(matchedCount) == character) {
+            matchedCount++;
+            if (matchedCount == target.length()) {
+                matched[stepIndex] = 0;
+                String replacement = step.replacement;
+                for (int i = 0; i < replacement.length(); i++) {
+                    accept(stepIndex + 1, replacement.charAt(i), matched, output);
+                }
+            } else {
+                matched[stepIndex] = matchedCount;
+            }
+            return;
+        }
+        if (matchedCount == 0) {
+            accept(stepIndex + 1, character, matched, output);
+            return;
+        }
+        // Partial match failed: release the first pending character and search again from the next one,
+        // which gives the same leftmost, non-overlapping matches as String.replace.
+        matched[stepIndex] = 0;
+        accept(stepIndex + 1, target.charAt(0), matched, output);
+        for (int i = 1; i < matchedCount; i++) {
+            acceptReplace(stepIndex, step, target.charAt(i), matched, output);
+        }
+        acceptReplace(stepIndex, step, character, matched, output);
+    }
+
+    private void flush(int stepIndex, int[] matched, StringBuilder output) {
+        if (stepIndex == steps.length) {
+            return;
+        }
+        int matchedCount = matched[stepIndex];
+        if (matchedCount > 0) {
+            matched[stepIndex] = 0;
+            String target = steps[stepIndex].target;
+            for (int i = 0; i < matchedCount; i++) {
+                accept(stepIndex + 1, target.charAt(i), matched, output);
+            }
+        }
+        flush(stepIndex + 1, matched, output);
+    }
+
+    private enum StepType {
+        LOWERCASE,
+        DROP_CHARACTERS,
+        REPLACE
+    }
+
+    private static final class Step {
+        private final StepType type;
+        private final String target;
+        private final String replacement;
+
+        private Step(StepType type, String target, String replacement) {
+            this.type = type;
+            this.target = target;
+            this.replacement = replacement;
+        }
+    }
+
+    private static final class Context {
+        private final int[] matched;
+        private final StringBuilder buffer = new StringBuilder(32);
+
+        private Context(int stepCount) {
+            this.matched = new int[stepCount];
+        }
+    }
+
+    /**
+     * Builder of {@link SymbolNormalizer}. Steps are applied in the order of definition, with the same semantics
+     * as equally named methods of {@link StringTransformer}.
+     */
+    public static final class Builder {
+
+        private final List<Step> steps = new ArrayList<>();
+        private boolean trimInput;
+
+        private Builder() {
+        }
+
+        /**
+         * Trims the input, converts to lowercase, and removes spaces and underscores. Trimming is applied to the raw
+         * input, therefore this step must be defined first.
+         *
+         * @return This builder.
+         */
+        public Builder trimLowerAndClean() {
+            if (!steps.isEmpty()) {
+                throw new IllegalStateException("trimLowerAndClean() must be the first step of normalization.");
+            }
+            trimInput = true;
+            steps.add(new Step(StepType.LOWERCASE, null, null));
+            return replace(" ", "").replace("_", "");
+        }
+
+        /**
+         * Replaces superscript symbols for cubic and square units with numeric equivalents.
+         *
+         * @return This builder.
+         */
+        public Builder unifyAerialAndVol() {
+            return replace("³", "3").replace("²", "2").replace("₂", "2");
+        }
+
+        /**
+         * Replaces superscript negative exponents with simplified equivalents.
+         *
+         * @return This builder.
+         */
+        public Builder unifyNegativeExponents() {
+            return replace("^", "").replace("⁻¹", "-1").replace("⁻²", "-2").replace("⁻³", "-3");
+        }
+
+        /**
+         * Replaces various multiplication and division symbols with a common representation.
+         *
+         * @return This builder.
+         */
+        public Builder unifyMultiAndDiv() {
+            return replace(".", "").replace("·", "").replace("x", "").replace("*", "").replace("/", "p");
+        }
+
+        /**
+         * Replaces symbols representing angles with standardized representations.
+         *
+         * @return This builder.
+         */
+        public Builder unifySymbolsOfAngle() {
+            return replace("°", "o").replace("deg", "o").replace("radian", "rad");
+        }
+
+        /**
+         * Removes degree symbols and notations.
+         *
+         * @return This builder.
+         */
+        public Builder dropDegreeSymbols() {
+            return replace("°", "").replace("o", "").replace("deg", "");
+        }
+
+        /**
+         * Removes all kinds of parentheses.
+         *
+         * @return This builder.
+         */
+        public Builder dropParentheses() {
+            steps.add(new Step(StepType.DROP_CHARACTERS, PARENTHESES, null));
+            return this;
+        }
+
+        /**
+         * Removes square brackets.
+         *
+         * @return This builder.
+         */
+        public Builder dropSquareBrackets() {
+            return replace("[", "");
+        }
+
+        /**
+         * Removes hyphens.
+         *
+         * @return This builder.
+         */
+        public Builder dropHyphens() {
+            return replace("-", "");
+        }
+
+        /**
+         * Removes water vapour and dry air suffixes.
+         *
+         * @return This builder.
+         */
+        public Builder dropWvAndDaSuffixes() {
+            return replace("\\.wv", "").replace("wv", "").replace("\\.da", "").replace("da", "");
+        }
+
+        /**
+         * Replaces commas with dots.
+         *
+         * @return This builder.
+         */
+        public Builder replaceCommaForDot() {
+            return replace(",", ".");
+        }
+
+        /**
+         * Replaces each occurrence of the literal target with the replacement.
+         *
+         * @param target      The string to be replaced, must not be empty.
+         * @param replacement The replacement string.
+         * @return This builder.
+         */
+        public Builder replace(String target, String replacement) {
+            if (target == null || target.isEmpty() || replacement == null) {
+                throw new IllegalArgumentException("Replacement target must not be empty and replacement must not be null.");
+            }
+            steps.add(new Step(StepType.REPLACE, target, replacement));
+            return this;
+        }
+
+        /**
+         * Compiles the defined steps into an immutable normalizer.
+         *
+         * @return The normalizer.
+         */
+        public SymbolNormalizer build() {
+            return new SymbolNormalizer(steps.toArray(new Step[0]), trimInput);
+        }
+
+    }
+
+}
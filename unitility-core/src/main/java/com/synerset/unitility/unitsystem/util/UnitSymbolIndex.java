@@ -0,0 +1,213 @@
+package com.synerset.unitility.unitsystem.util;
+
+import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.exceptions.UnitSystemArgumentException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable index of units by their normalized symbols, built once per unit type, typically during unit enum class
+ * initialization. Each unit is registered with its own symbol and optional aliases, all normalized with the same
+ * {@link SymbolNormalizer} that is later applied to requested symbols. Resolving a symbol therefore requires a single
+ * normalization pass and one hash table probe, instead of normalizing and comparing symbols of all units.
+ * <p>
+ * When several units or aliases have the same normalized symbol, the one registered first takes precedence, which is
+ * consistent with a sequential search over enum values.
+ *
+ * @param <U> The unit type.
+ */
+public final class UnitSymbolIndex<U extends Unit> {
+
+    private final SymbolNormalizer normalizer;
+    private final Map<String, U> unitsBySymbol;
+    private final List<SymbolEntry<U>> rawSymbols;
+    private final SymbolHashTable<U> hashTable;
+    private final ThreadLocal<StringBuilder> threadBuffer = ThreadLocal.withInitial(() -> new StringBuilder(32));
+
+    private UnitSymbolIndex(SymbolNormalizer normalizer, Map<String, U> unitsBySymbol, List<SymbolEntry<U>> rawSymbols) {
+        this.normalizer = normalizer;
+        this.unitsBySymbol = Collections.unmodifiableMap(unitsBySymbol);
+        this.rawSymbols = Collections.unmodifiableList(rawSymbols);
+        this.hashTable = new SymbolHashTable<>(unitsBySymbol);
+    }
+
+    /**
+     * Creates a new builder of the index.
+     *
+     * @param normalizer The normalizer applied to registered and requested symbols.
+     * @param <U>        The unit type.
+     * @return A new builder instance.
+     */
+    public static <U extends Unit> Builder<U> builder(SymbolNormalizer normalizer) {
+        return new Builder<>(normalizer);
+    }
+
+    /**
+     * Creates an index of provided units, registered with their own symbols only.
+     *
+     * @param normalizer The normalizer applied to registered and requested symbols.
+     * @param units      The units to be indexed.
+     * @param <U>        The unit type.
+     * @return The index of units.
+     */
+    @SafeVarargs
+    public static <U extends Unit> UnitSymbolIndex<U> of(SymbolNormalizer normalizer, U... units) {
+        Builder<U> builder = new Builder<>(normalizer);
+        for (U unit : units) {
+            builder.add(unit);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Finds a unit by raw symbol. The symbol is normalized into a thread-local buffer, therefore no intermediate
+     * strings are created.
+     *
+     * @param rawSymbol The raw symbol, for ie: "kPa" or "m³/h".
+     * @return The matching unit, or null if there is no unit with such symbol.
+     */
+    public U find(CharSequence rawSymbol) {
+        return find(rawSymbol, 0, rawSymbol.length());
+    }
+
+    /**
+     * Finds a unit by a symbol located within a range of the input.
+     *
+     * @param input The input containing the symbol.
+     * @param start The start index of the symbol, inclusive.
+     * @param end   The end index of the symbol, exclusive.
+     * @return The matching unit, or null if there is no unit with such symbol.
+     */
+    public U find(CharSequence input, int start, int end) {
+        StringBuilder buffer = threadBuffer.get();
+        buffer.setLength(0);
+        normalizer.normalize(input, start, end, buffer);
+        return hashTable.get(buffer);
+    }
+
+    /**
+     * Finds a unit by already normalized symbol.
+     *
+     * @param normalizedSymbol The symbol normalized with the normalizer of this index.
+     * @return The matching unit, or null if there is no unit with such symbol.
+     */
+    public U findNormalized(CharSequence normalizedSymbol) {
+        return hashTable.get(normalizedSymbol);
+    }
+
+    /**
+     * Get the normalizer used by this index.
+     *
+     * @return The symbol normalizer.
+     */
+    public SymbolNormalizer getNormalizer() {
+        return normalizer;
+    }
+
+    /**
+     * Get all indexed entries, in registration order.
+     *
+     * @return Unmodifiable map of units by normalized symbols and aliases.
+     */
+    public Map<String, U> asMap() {
+        return unitsBySymbol;
+    }
+
+    /**
+     * Get all registered symbols and aliases before normalization, in registration order.
+     *
+     * @return Unmodifiable list of raw symbol entries.
+     */
+    public List<SymbolEntry<U>> getRawSymbols() {
+        return rawSymbols;
+    }
+
+    /**
+     * Raw symbol or alias registered for a unit.
+     *
+     * @param symbol The raw symbol or alias.
+     * @param unit   The unit.
+     * @param <U>    The unit type.
+     */
+    public record SymbolEntry<U extends Unit>(String symbol, U unit) {
+    }
+
+    /**
+     * Builder of {@link UnitSymbolIndex}.
+     *
+     * @param <U> The unit type.
+     */
+    public static final class Builder<U extends Unit> {
+
+        private final SymbolNormalizer normalizer;
+        private final Map<String, U> unitsBySymbol = new LinkedHashMap<>();
+        private final List<SymbolEntry<U>> rawSymbols = new ArrayList<>();
+
+        private Builder(SymbolNormalizer normalizer) {
+            if (normalizer == null) {
+                throw new UnitSystemArgumentException("Symbol normalizer must not be null.");
+            }
+            this.normalizer = normalizer;
+        }
+
+        /**
+         * Registers units with their own symbols.
+         *
+         * @param units The units to be registered.
+         * @return This builder.
+         */
+        @SafeVarargs
+        public final Builder<U> addAll(U... units) {
+            for (U unit : units) {
+                add(unit);
+            }
+            return this;
+        }
+
+        /**
+         * Registers a unit with its own symbol and optional aliases.
+         *
+         * @param unit    The unit to be registered.
+         * @param aliases The additional raw symbols of the unit.
+         * @return This builder.
+         */
+        public Builder<U> add(U unit, String... aliases) {
+            register(unit.getSymbol(), unit);
+            return addAliases(unit, aliases);
+        }
+
+        /**
+         * Registers additional raw symbols of an already registered unit.
+         *
+         * @param unit    The unit.
+         * @param aliases The additional raw symbols of the unit.
+         * @return This builder.
+         */
+        public Builder<U> addAliases(U unit, String... aliases) {
+            for (String alias : aliases) {
+                register(alias, unit);
+            }
+            return this;
+        }
+
+        /**
+         * Compiles registered symbols into an immutable index.
+         *
+         * @return The index.
+         */
+        public UnitSymbolIndex<U> build() {
+            return new UnitSymbolIndex<>(normalizer, new LinkedHashMap<>(unitsBySymbol), new ArrayList<>(rawSymbols));
+        }
+
+        private void register(String rawSymbol, U unit) {
+            rawSymbols.add(new SymbolEntry<>(rawSymbol, unit));
+            unitsBySymbol.putIfAbsent(normalizer.normalize(rawSymbol), unit);
+        }
+
+    }
+
+}
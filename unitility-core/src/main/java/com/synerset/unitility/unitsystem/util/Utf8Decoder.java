@@ -0,0 +1,86 @@
+package com.synerset.unitility.unitsystem.util;
+
+import com.synerset.unitility.unitsystem.exceptions.UnitSystemParseException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Decodes UTF-8 bytes directly into a reusable character buffer, without creating intermediate strings or arrays.
+ * ASCII input, which is the most common case for quantities, is copied byte by byte. Bytes are read with absolute
+ * access, so the position of the source buffer is not changed.
+ */
+final class Utf8Decoder {
+
+    private Utf8Decoder() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Decodes a range of the source buffer and appends the characters to the output.
+     *
+     * @param source The source buffer.
+     * @param start  The start index of the range, inclusive.
+     * @param end    The end index of the range, exclusive.
+     * @param output The buffer to which decoded characters are appended.
+     * @return The output buffer.
+     * @throws UnitSystemParseException If the range is not a valid UTF-8 sequence.
+     */
+    static StringBuilder decode(ByteBuffer source, int start, int end, StringBuilder output) {
+        int index = start;
+        while (index < end) {
+            int firstByte = source.get(index) & 0xFF;
+            if (firstByte < 0x80) {
+                output.append((char) firstByte);
+                index++;
+                continue;
+            }
+            int sequenceLength;
+            int codePoint;
+            if ((firstByte & 0xE0) == 0xC0) {
+                sequenceLength = 2;
+                codePoint = firstByte & 0x1F;
+            } else if ((firstByte & 0xF0) == 0xE0) {
+                sequenceLength = 3;
+                codePoint = firstByte & 0x0F;
+            } else if ((firstByte & 0xF8) == 0xF0) {
+                sequenceLength = 4;
+                codePoint = firstByte & 0x07;
+            } else {
+                throw malformedInput(index);
+            }
+            if (index + sequenceLength > end) {
+                throw malformedInput(index);
+            }
+            for (int i = 1; i < sequenceLength; i++) {
+                int continuationByte = source.get(index + i) & 0xFF;
+                if ((continuationByte & 0xC0) != 0x80) {
+                    throw malformedInput(index);
+                }
+                codePoint = (codePoint << 6) | (continuationByte & 0x3F);
+            }
+            if (!isValidCodePoint(codePoint, sequenceLength)) {
+                throw malformedInput(index);
+            }
+            output.appendCodePoint(codePoint);
+            index += sequenceLength;
+        }
+        return output;
+    }
+
+    // Rejects overlong encodings, surrogates and code points beyond the Unicode range
+    private static boolean isValidCodePoint(int codePoint, int sequenceLength) {
+        int minimalCodePoint = switch (sequenceLength) {
+            case 2 -> 0x80;
+            case 3 -> 0x800;
+            default -> 0x10000;
+        };
+        return codePoint >= minimalCodePoint
+                && codePoint <= Character.MAX_CODE_POINT
+                && (codePoint < Character.MIN_SURROGATE || codePoint > Character.MAX_SURROGATE);
+    }
+
+    private static UnitSystemParseException malformedInput(int index) {
+        return new UnitSystemParseException(() -> "Invalid input, malformed UTF-8 sequence at index: " + index);
+    }
+
+}
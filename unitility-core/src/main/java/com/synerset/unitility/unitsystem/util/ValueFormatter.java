@@ -1,14 +1,29 @@
 package com.synerset.unitility.unitsystem.util;
 
+import java.io.IOException;
 import java.math.RoundingMode;
 import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
 
 /**
  * The ValueFormatter class provides utility methods for formatting double values with a specified number of
  * relevant digits and decimal places.
+ * <p>
+ * Values are rounded numerically in HALF_EVEN way with {@link ValueRounder} and written directly to the
+ * target buffer, without creating intermediate patterns, formatters or strings. Values for which this cannot be done
+ * exactly (very large or very small magnitudes, NaN, infinities), or locales with non-standard digits or minus sign,
+ * are formatted with a per-thread cached {@link DecimalFormat}. The output is identical in both cases.
  */
 public class ValueFormatter {
 
+    private static final int MAX_CACHED_DECIMAL_PLACES = 64;
+
+    private static final ThreadLocal<StringBuilder> SCRATCH_BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(32));
+    private static final ThreadLocal<FallbackFormats> FALLBACK_FORMATS = new ThreadLocal<>();
+    private static final ThreadLocal<FallbackFormats> ROOT_FALLBACK_FORMATS = new ThreadLocal<>();
+    private static volatile FormatSymbols formatSymbols = FormatSymbols.of(Locale.getDefault(Locale.Category.FORMAT));
+
     private ValueFormatter() {
         throw new IllegalStateException("Utility class");
     }
@@ -24,31 +39,197 @@ public class ValueFormatter {
      * @return A formatted string representation of the double value.
      */
     public static String toStringWithRelevantDigits(double value, int relevantDigits) {
-        relevantDigits = Math.abs(relevantDigits);
-        int doubleScale = (int) Math.log10(Math.abs(value));
-        if (doubleScale >= 0) {
-            return formatValueToDecimalPlaces(value, relevantDigits);
+        return appendWithRelevantDigits(new StringBuilder(24), value, relevantDigits).toString();
+    }
+
+    /**
+     * Appends a double value with the specified number of relevant digits to the target buffer. The output is the same
+     * as of {@link #toStringWithRelevantDigits(double, int)}.
+     *
+     * @param target         The buffer to which the formatted value is appended.
+     * @param value          The double value to be formatted.
+     * @param relevantDigits The number of relevant digits to consider in the formatting.
+     * @return The target buffer.
+     */
+    public static StringBuilder appendWithRelevantDigits(StringBuilder target, double value, int relevantDigits) {
+        int numDecimalPlaces = ValueRounder.decimalPlacesForRelevantDigits(value, relevantDigits);
+        FormatSymbols symbols = currentFormatSymbols();
+        if (!symbols.isPlain() || !appendRounded(target, value, numDecimalPlaces, symbols.decimalSeparator())) {
+            target.append(formatWithDecimalFormat(value, numDecimalPlaces, symbols.locale()));
+        }
+        return target;
+    }
+
+    /**
+     * Appends a double value with the specified number of relevant digits to the target appendable. The output is the
+     * same as of {@link #toStringWithRelevantDigits(double, int)}.
+     *
+     * @param target         The appendable to which the formatted value is appended.
+     * @param value          The double value to be formatted.
+     * @param relevantDigits The number of relevant digits to consider in the formatting.
+     * @return The target appendable.
+     * @throws IOException if the target appendable fails.
+     */
+    public static Appendable appendWithRelevantDigits(Appendable target, double value, int relevantDigits) throws IOException {
+        if (target instanceof StringBuilder builder) {
+            return appendWithRelevantDigits(builder, value, relevantDigits);
+        }
+        StringBuilder buffer = SCRATCH_BUFFER.get();
+        int start = buffer.length();
+        try {
+            appendWithRelevantDigits(buffer, value, relevantDigits);
+            return target.append(buffer, start, buffer.length());
+        } finally {
+            buffer.setLength(start);
         }
-        doubleScale = Math.abs(doubleScale);
-        int numDecimalPlaces = Math.max(relevantDigits, doubleScale + relevantDigits);
-        return formatValueToDecimalPlaces(value, numDecimalPlaces);
     }
 
     /**
-     * Formats a double value to a string with a specified number of decimal places.
+     * Appends a character sequence produced by the writer to the target appendable. StringBuilder targets are written
+     * directly, other appendables receive the content of a reused per-thread buffer.
+     *
+     * @param target The appendable to which the content is appended.
+     * @param writer The writer producing the content.
+     * @return The target appendable.
+     * @throws IOException if the target appendable fails.
+     */
+    public static Appendable appendTo(Appendable target, BufferWriter writer) throws IOException {
+        if (target instanceof StringBuilder builder) {
+            writer.writeTo(builder);
+            return target;
+        }
+        StringBuilder buffer = SCRATCH_BUFFER.get();
+        int start = buffer.length();
+        try {
+            writer.writeTo(buffer);
+            return target.append(buffer, start, buffer.length());
+        } finally {
+            buffer.setLength(start);
+        }
+    }
+
+    /**
+     * Writes formatted content to a {@link StringBuilder}.
+     */
+    @FunctionalInterface
+    public interface BufferWriter {
+
+        /**
+         * Writes formatted content to the target buffer.
+         *
+         * @param target The buffer to which the content is appended.
+         */
+        void writeTo(StringBuilder target);
+
+    }
+
+    // Returns false if the value cannot be rounded exactly with double arithmetic.
+    private static boolean appendRounded(StringBuilder target, double value, int numDecimalPlaces, char decimalSeparator) {
+        double roundedScaledValue = ValueRounder.roundScaledHalfEven(Math.abs(value), numDecimalPlaces);
+        if (roundedScaledValue < 0) {
+            return false;
+        }
+
+        long digits = (long) roundedScaledValue;
+        long scale = ValueRounder.powerOfTen(numDecimalPlaces);
+        long integerPart = digits / scale;
+        long fractionPart = digits % scale;
+        int fractionDigitCount = numDecimalPlaces;
+        while (fractionPart != 0 && fractionPart % 10 == 0) {
+            fractionPart /= 10;
+            fractionDigitCount--;
+        }
+
+        // Negative values rounded to zero keep their sign, as in DecimalFormat
+        if (value < 0 || (value == 0 && Double.doubleToRawLongBits(value) != 0)) {
+            target.append('-');
+        }
+        target.append(integerPart);
+        if (fractionPart != 0) {
+            target.append(decimalSeparator);
+            for (int i = digitCount(fractionPart); i < fractionDigitCount; i++) {
+                target.append('0');
+            }
+            target.append(fractionPart);
+        }
+        return true;
+    }
+
+    private static int digitCount(long value) {
+        int count = 1;
+        while (value >= 10) {
+            value /= 10;
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Formats a double value with a per-thread cached HALF_EVEN decimal format, using symbols of the specified locale.
      *
      * @param value            The double value to be formatted.
      * @param numDecimalPlaces The number of decimal places to use in the formatting.
+     * @param locale           The locale of format symbols.
      * @return A formatted string representation of the double value.
      */
-    private static String formatValueToDecimalPlaces(double value, int numDecimalPlaces) {
+    static String formatWithDecimalFormat(double value, int numDecimalPlaces, Locale locale) {
+        if (numDecimalPlaces < 0 || numDecimalPlaces > MAX_CACHED_DECIMAL_PLACES) {
+            return createDecimalFormat(numDecimalPlaces, locale).format(value);
+        }
+        ThreadLocal<FallbackFormats> formatsCache = Locale.ROOT.equals(locale) ? ROOT_FALLBACK_FORMATS : FALLBACK_FORMATS;
+        FallbackFormats fallbackFormats = formatsCache.get();
+        if (fallbackFormats == null || !fallbackFormats.locale().equals(locale)) {
+            fallbackFormats = new FallbackFormats(locale, new DecimalFormat[MAX_CACHED_DECIMAL_PLACES + 1]);
+            formatsCache.set(fallbackFormats);
+        }
+        DecimalFormat decimalFormat = fallbackFormats.formats()[numDecimalPlaces];
+        if (decimalFormat == null) {
+            decimalFormat = createDecimalFormat(numDecimalPlaces, locale);
+            fallbackFormats.formats()[numDecimalPlaces] = decimalFormat;
+        }
+        return decimalFormat.format(value);
+    }
+
+    /**
+     * Creates a decimal format with a specified number of decimal places.
+     *
+     * @param numDecimalPlaces The number of decimal places to use in the formatting.
+     * @param locale           The locale of format symbols.
+     * @return A decimal format rounding in HALF_EVEN way.
+     */
+    private static DecimalFormat createDecimalFormat(int numDecimalPlaces, Locale locale) {
         String formatString = "#";
         if (numDecimalPlaces > 0) {
             formatString = "#." + "#".repeat(numDecimalPlaces);
         }
-        DecimalFormat decimalFormat = new DecimalFormat(formatString);
+        DecimalFormat decimalFormat = new DecimalFormat(formatString, DecimalFormatSymbols.getInstance(locale));
         decimalFormat.setRoundingMode(RoundingMode.HALF_EVEN);
-        return decimalFormat.format(value);
+        return decimalFormat;
+    }
+
+    private static FormatSymbols currentFormatSymbols() {
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        FormatSymbols symbols = formatSymbols;
+        if (symbols.locale() != locale && !symbols.locale().equals(locale)) {
+            symbols = FormatSymbols.of(locale);
+            formatSymbols = symbols;
+        }
+        return symbols;
+    }
+
+    private record FormatSymbols(Locale locale, char decimalSeparator, boolean isPlain) {
+
+        private static FormatSymbols of(Locale locale) {
+            DecimalFormat decimalFormat = new DecimalFormat("#.#", DecimalFormatSymbols.getInstance(locale));
+            boolean isPlain = decimalFormat.getDecimalFormatSymbols().getZeroDigit() == '0'
+                    && "-".equals(decimalFormat.getNegativePrefix())
+                    && decimalFormat.getNegativeSuffix().isEmpty();
+            return new FormatSymbols(locale, decimalFormat.getDecimalFormatSymbols().getDecimalSeparator(), isPlain);
+        }
+
+    }
+
+    private record FallbackFormats(Locale locale, DecimalFormat[] formats) {
     }
 
-}
\ No newline at end of file
+}
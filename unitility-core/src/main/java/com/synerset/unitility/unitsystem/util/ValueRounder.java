@@ -0,0 +1,142 @@
+package com.synerset.unitility.unitsystem.util;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Numeric HALF_EVEN rounding of double values to a specified number of relevant digits. Results are identical to
+ * formatting the value with {@link ValueFormatter#toStringWithRelevantDigits(double, int)} and parsing it back, but
+ * without creating intermediate strings.
+ * <p>
+ * The value is scaled by an exact power of ten and rounded to an integer, while the exact error of scaling is used to
+ * resolve ties with respect to the exact binary input. The rounded integer is divided back by the same power of ten,
+ * which yields the correctly rounded double, the same as parsed from its decimal representation. Values which cannot
+ * be handled exactly this way (very large or very small magnitudes) are rounded through a decimal format.
+ */
+public final class ValueRounder {
+
+    // Scaled values are kept well below 2^53, so that rounding to an integer is exact and ties are detectable
+    private static final double MAX_FAST_SCALED_VALUE = 1E15;
+    // Largest power of ten exactly representable both as double and long
+    private static final int MAX_FAST_DECIMAL_PLACES = 18;
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18
+    };
+
+    private ValueRounder() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Rounds the value in HALF_EVEN way to the specified number of relevant digits. Absolute value of an input argument
+     * for relevant digits is used. NaN and infinite values are returned unchanged.
+     * Examples: <p>
+     * roundHalfEven(10.123456, 0) -> 10 <p>
+     * roundHalfEven(0.153456, 1) -> 0.2 <p>
+     * roundHalfEven(-10.123456, 2) -> -10.12
+     *
+     * @param value          The value to be rounded.
+     * @param relevantDigits The number of relevant digits to round to.
+     * @return The rounded value.
+     */
+    public static double roundHalfEven(double value, int relevantDigits) {
+        if (!Double.isFinite(value)) {
+            return value;
+        }
+        int numDecimalPlaces = decimalPlacesForRelevantDigits(value, relevantDigits);
+        double roundedScaledValue = roundScaledHalfEven(Math.abs(value), numDecimalPlaces);
+        if (roundedScaledValue < 0) {
+            return Double.parseDouble(ValueFormatter.formatWithDecimalFormat(value, numDecimalPlaces, Locale.ROOT));
+        }
+        return Math.copySign(roundedScaledValue / POWERS_OF_TEN[numDecimalPlaces], value);
+    }
+
+    /**
+     * Rounds all values of the array in place, in HALF_EVEN way to the specified number of relevant digits.
+     *
+     * @param values         The values to be rounded.
+     * @param relevantDigits The number of relevant digits to round to.
+     * @return The same array, with rounded values.
+     * @see #roundHalfEven(double, int)
+     */
+    public static double[] roundHalfEven(double[] values, int relevantDigits) {
+        return roundHalfEven(values, 0, values.length, relevantDigits);
+    }
+
+    /**
+     * Rounds values of the array range in place, in HALF_EVEN way to the specified number of relevant digits.
+     *
+     * @param values         The values to be rounded.
+     * @param fromIndex      The index of the first value to be rounded, inclusive.
+     * @param toIndex        The index of the last value to be rounded, exclusive.
+     * @param relevantDigits The number of relevant digits to round to.
+     * @return The same array, with rounded values in the specified range.
+     * @see #roundHalfEven(double, int)
+     */
+    public static double[] roundHalfEven(double[] values, int fromIndex, int toIndex, int relevantDigits) {
+        Objects.checkFromToIndex(fromIndex, toIndex, values.length);
+        for (int i = fromIndex; i < toIndex; i++) {
+            values[i] = roundHalfEven(values[i], relevantDigits);
+        }
+        return values;
+    }
+
+    /**
+     * Determines the number of decimal places required to show the specified number of relevant digits of the value.
+     *
+     * @param value          The value to be rounded.
+     * @param relevantDigits The number of relevant digits.
+     * @return The number of decimal places.
+     */
+    static int decimalPlacesForRelevantDigits(double value, int relevantDigits) {
+        relevantDigits = Math.abs(relevantDigits);
+        int doubleScale = (int) Math.log10(Math.abs(value));
+        if (doubleScale >= 0) {
+            return relevantDigits;
+        }
+        doubleScale = Math.abs(doubleScale);
+        return Math.max(relevantDigits, doubleScale + relevantDigits);
+    }
+
+    /**
+     * Rounds the absolute value in HALF_EVEN way to the specified number of decimal places and returns it scaled by
+     * the corresponding power of ten, as an integer.
+     *
+     * @param absValue         The non-negative value to be rounded.
+     * @param numDecimalPlaces The number of decimal places.
+     * @return The rounded, scaled value, or -1 if the value cannot be rounded exactly with double arithmetic.
+     */
+    static double roundScaledHalfEven(double absValue, int numDecimalPlaces) {
+        if (numDecimalPlaces < 0 || numDecimalPlaces > MAX_FAST_DECIMAL_PLACES || !Double.isFinite(absValue)) {
+            return -1;
+        }
+        double powerOfTen = POWERS_OF_TEN[numDecimalPlaces];
+        double scaledValue = absValue * powerOfTen;
+        if (scaledValue >= MAX_FAST_SCALED_VALUE) {
+            return -1;
+        }
+        // Exact error of the scaled value, required to resolve ties in HALF_EVEN way according to the exact input.
+        // Math.fma is used for its single rounding, which makes the recovered error exact, not for speed
+        double scalingError = Math.fma(absValue, powerOfTen, -scaledValue);
+        double roundedValue = Math.rint(scaledValue);
+        double remainder = scaledValue - roundedValue;
+        if (remainder == 0.5 && scalingError > 0) {
+            roundedValue += 1;
+        } else if (remainder == -0.5 && scalingError < 0) {
+            roundedValue -= 1;
+        }
+        return roundedValue;
+    }
+
+    /**
+     * Returns the power of ten for the number of decimal places accepted by {@link #roundScaledHalfEven(double, int)}.
+     *
+     * @param numDecimalPlaces The number of decimal places.
+     * @return The power of ten as long value.
+     */
+    static long powerOfTen(int numDecimalPlaces) {
+        return (long) POWERS_OF_TEN[numDecimalPlaces];
+    }
+
+}
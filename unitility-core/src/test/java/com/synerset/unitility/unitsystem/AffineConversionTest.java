@@ -0,0 +1,89 @@
+package com.synerset.unitility.unitsystem;
+
+import com.synerset.unitility.unitsystem.exceptions.UnitSystemArgumentException;
+import com.synerset.unitility.unitsystem.thermodynamic.TemperatureUnits;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+class AffineConversionTest {
+
+    @Test
+    @DisplayName("should provide affine conversion for built-in units, consistent with unit conversion methods")
+    void getAffineConversion_shouldBeConsistentWithUnitConversionMethods() {
+        // Given
+        TemperatureUnits fahrenheit = TemperatureUnits.FAHRENHEIT;
+
+        // When
+        AffineConversion conversion = fahrenheit.getAffineConversion();
+
+        // Then
+        assertThat(conversion.getFactor()).isEqualTo(5.0 / 9.0);
+        assertThat(conversion.getOffset()).isEqualTo(255.3722222222222, withPrecision(1E-12));
+        assertThat(conversion.toBase(32.0)).isEqualTo(fahrenheit.toValueInBaseUnit(32.0));
+        assertThat(conversion.fromBase(373.15)).isEqualTo(fahrenheit.fromValueInBaseUnit(373.15));
+        assertThat(TemperatureUnits.KELVIN.getAffineConversion().isIdentity()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should keep the defining form of divisor and multi-step conversions")
+    void ofDivisorAndThenDivide_shouldKeepDefiningForm() {
+        // Given
+        AffineConversion litrePerHour = AffineConversion.ofDivisor(3600000.0);
+        AffineConversion degreesPerHundredFeet = AffineConversion.ofFactors(Math.PI / 180.0, 180.0 / Math.PI)
+                .thenDivide(0.3048)
+                .thenMultiply(100.0);
+        double valueInBaseUnit = Math.PI * 2.0;
+
+        // When
+        double actualLitrePerHour = litrePerHour.fromBase(0.5);
+        double actualDegreesPerHundredFeet = degreesPerHundredFeet.fromBase(valueInBaseUnit);
+
+        // Then
+        assertThat(litrePerHour.toBase(1.0)).isEqualTo(1.0 / 3600000.0);
+        assertThat(litrePerHour.getFactor()).isEqualTo(1.0 / 3600000.0);
+        assertThat(actualLitrePerHour).isEqualTo(0.5 * 3600000.0);
+        assertThat(actualDegreesPerHundredFeet).isEqualTo(Math.toDegrees(valueInBaseUnit) * 0.3048 / 100.0);
+        assertThat(degreesPerHundredFeet.toBase(1.0)).isEqualTo(Math.toRadians(1.0) / 0.3048 * 100.0);
+        assertThat(degreesPerHundredFeet.inverse().toBase(valueInBaseUnit)).isEqualTo(actualDegreesPerHundredFeet);
+        assertThatThrownBy(() -> AffineConversion.of(1.8, 32.0).thenDivide(2.0))
+                .isInstanceOf(UnitSystemArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should apply offsets and factors in the order of unit definition")
+    void ofOffsetFactorsAndOfProduct_shouldKeepDefiningOrder() {
+        // Given
+        AffineConversion fahrenheit = AffineConversion.ofOffsetFactors(32.0, 5.0 / 9.0, 9.0 / 5.0, 273.15);
+        AffineConversion metreOfWater = AffineConversion.ofProduct(999.5457000320766, 9.80665);
+        double value = 2.5;
+
+        // When
+        double actualKelvins = fahrenheit.toBase(value);
+        double actualFahrenheits = fahrenheit.fromBase(value);
+        double actualPascals = metreOfWater.toBase(value);
+        double actualMetresOfWater = metreOfWater.fromBase(value);
+
+        // Then
+        assertThat(actualKelvins).isEqualTo((value - 32.0) * (5.0 / 9.0) + 273.15);
+        assertThat(actualFahrenheits).isEqualTo((value - 273.15) * (9.0 / 5.0) + 32.0);
+        assertThat(actualPascals).isEqualTo(value * 999.5457000320766 * 9.80665);
+        assertThat(actualMetresOfWater).isEqualTo(value / (999.5457000320766 * 9.80665));
+        assertThat(metreOfWater.getFactor()).isEqualTo(999.5457000320766 * 9.80665);
+        assertThat(fahrenheit.inverse().toBase(value)).isEqualTo(actualFahrenheits);
+        assertThat(AffineConversion.ofFactor(0.3048).toBase(-0.0)).isEqualTo(-0.0);
+    }
+
+    @Test
+    @DisplayName("should throw exception when factor is zero or not finite")
+    void of_shouldThrowException_whenFactorIsInvalid() {
+        // Then
+        assertThatThrownBy(() -> AffineConversion.ofFactor(0.0)).isInstanceOf(UnitSystemArgumentException.class);
+        assertThatThrownBy(() -> AffineConversion.ofFactor(Double.NaN)).isInstanceOf(UnitSystemArgumentException.class);
+        assertThatThrownBy(() -> AffineConversion.of(1.0, Double.POSITIVE_INFINITY)).isInstanceOf(UnitSystemArgumentException.class);
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.synerset.unitility.unitsystem;
+
+import com.synerset.unitility.unitsystem.common.Distance;
+import com.synerset.unitility.unitsystem.geographic.Latitude;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class PhysicalQuantityAllocationTest {
+
+    private static final int ITERATIONS = 100_000;
+
+    private static com.sun.management.ThreadMXBean threadMXBean;
+
+    @BeforeAll
+    static void setUp() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        assumeTrue(threadMXBean.isThreadAllocatedMemoryEnabled());
+    }
+
+    @Test
+    @DisplayName("should not allocate when comparing, checking equality and hashing quantities in different units")
+    void compareEqualsHashCode_shouldNotAllocate_whenQuantitiesAreInDifferentUnits() {
+        // Given
+        Temperature temperatureInCelsius = Temperature.ofCelsius(21.5);
+        Temperature temperatureInFahrenheit = Temperature.ofFahrenheit(68.3);
+        Pressure pressureInKiloPascals = Pressure.ofKiloPascal(101.325);
+        Pressure pressureInBars = Pressure.ofBar(0.98);
+        Distance distanceInKilometers = Distance.ofKilometers(12.75);
+        Distance distanceInMiles = Distance.ofMiles(7.1);
+        Latitude latitudeInDegrees = Latitude.ofDegrees(52.2297);
+        Latitude latitudeInRadians = Latitude.ofRadians(0.9);
+
+        // Warm-up, to exclude class loading and lazy initialization from the measurement
+        long checksum = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            checksum += exercise(temperatureInCelsius, temperatureInFahrenheit);
+            checksum += exercise(pressureInKiloPascals, pressureInBars);
+            checksum += exercise(distanceInKilometers, distanceInMiles);
+            checksum += exercise(latitudeInDegrees, latitudeInRadians);
+        }
+
+        // When
+        long allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            checksum += exercise(temperatureInCelsius, temperatureInFahrenheit);
+            checksum += exercise(pressureInKiloPascals, pressureInBars);
+            checksum += exercise(distanceInKilometers, distanceInMiles);
+            checksum += exercise(latitudeInDegrees, latitudeInRadians);
+        }
+        long allocatedBytes = threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        // Then
+        // A single allocated object would take at least 16 bytes per operation, the budget leaves room only for
+        // measurement noise, not for per-call allocations.
+        assertThat(checksum).isNotZero();
+        assertThat(allocatedBytes).isLessThan(ITERATIONS);
+    }
+
+    private static <U extends Unit> long exercise(PhysicalQuantity<U> first, PhysicalQuantity<U> second) {
+        long result = first.compareTo(second);
+        result += first.isGreaterThan(second) ? 1 : 0;
+        result += first.isEqualOrGreaterThan(second) ? 1 : 0;
+        result += first.isLowerThan(second) ? 1 : 0;
+        result += first.isEqualOrLowerThan(second) ? 1 : 0;
+        result += first.isEqualWithPrecision(second, 1E-10) ? 1 : 0;
+        result += first.equals(second) ? 1 : 0;
+        result += first.hashCode();
+        result += second.hashCode();
+        return result;
+    }
+
+}
@@ -13,6 +13,8 @@ import com.synerset.unitility.unitsystem.thermodynamic.ThermalDiffusivity;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Arrays;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -169,6 +171,26 @@ class PhysicalQuantityTest {
         assertThat(actualFormattedTempVariableDigits).isEqualTo("t_a = 20.12 [°C]");
     }
 
+    @Test
+    @DisplayName("should append engineering format to reused buffer and appendable")
+    void appendTo_shouldAppendEngineeringFormat() throws IOException {
+        // Given
+        Temperature temperature = Temperature.ofCelsius(20.1234567);
+        BypassFactor bypassFactor = BypassFactor.of(20.1234567);
+        StringBuilder buffer = new StringBuilder();
+        StringWriter writer = new StringWriter();
+
+        // When
+        temperature.appendTo(buffer).append("; ");
+        bypassFactor.appendTo(buffer, 2).append("; ");
+        temperature.appendTo(buffer, 2);
+        temperature.appendTo(writer, 3);
+
+        // Then
+        assertThat(buffer).hasToString("20.1234567 [°C]; 20.12; 20.12 [°C]");
+        assertThat(writer).hasToString("20.123 [°C]");
+    }
+
     @Test
     @DisplayName("Should change from quantity sent as argument and convert value to that unit")
     void toUnitFrom_shouldUseUnitFromFromOtherQuantity(){
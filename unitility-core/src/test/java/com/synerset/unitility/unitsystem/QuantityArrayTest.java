@@ -0,0 +1,135 @@
+package com.synerset.unitility.unitsystem;
+
+import com.synerset.unitility.unitsystem.common.Distance;
+import com.synerset.unitility.unitsystem.common.DistanceUnit;
+import com.synerset.unitility.unitsystem.common.DistanceUnits;
+import com.synerset.unitility.unitsystem.exceptions.UnitSystemArgumentException;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import com.synerset.unitility.unitsystem.thermodynamic.TemperatureUnit;
+import com.synerset.unitility.unitsystem.thermodynamic.TemperatureUnits;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+class QuantityArrayTest {
+
+    @Test
+    @DisplayName("should lazily create quantities in array unit")
+    void get_shouldCreateQuantityInArrayUnit() {
+        // Given
+        double[] valuesInCelsius = {20.0, 21.5, 19.0};
+        QuantityArray<TemperatureUnit, Temperature> temperatures = QuantityArray.of(valuesInCelsius, TemperatureUnits.CELSIUS, Temperature::of);
+
+        // When
+        Temperature actualTemperature = temperatures.get(1);
+        valuesInCelsius[1] = 100.0;
+
+        // Then
+        assertThat(temperatures.size()).isEqualTo(3);
+        assertThat(actualTemperature).isEqualTo(Temperature.ofCelsius(21.5));
+        assertThat(temperatures.getValue(1)).isEqualTo(21.5);
+        assertThat(temperatures.getBaseValue(1)).isEqualTo(294.65, withPrecision(1E-12));
+        assertThatThrownBy(() -> temperatures.get(3)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("should convert values to target unit into new array and in place")
+    void toUnit_shouldConvertValuesToTargetUnit() {
+        // Given
+        double[] valuesInKilometers = {1.0, 2.5, 0.25};
+        QuantityArray<DistanceUnit, Distance> distances = QuantityArray.wrap(valuesInKilometers, DistanceUnits.KILOMETER, Distance::of);
+
+        // When
+        QuantityArray<DistanceUnit, Distance> actualInMeters = distances.toUnit(DistanceUnits.METER);
+        double[] valuesBeforeInPlaceConversion = valuesInKilometers.clone();
+        QuantityArray<DistanceUnit, Distance> actualInPlace = distances.toUnitInPlace(DistanceUnits.METER);
+
+        // Then
+        assertThat(actualInMeters.getUnit()).isEqualTo(DistanceUnits.METER);
+        assertThat(actualInMeters.toValuesArray()).containsExactly(1000.0, 2500.0, 250.0);
+        assertThat(valuesBeforeInPlaceConversion).containsExactly(1.0, 2.5, 0.25);
+        assertThat(actualInPlace.getUnit()).isEqualTo(DistanceUnits.METER);
+        assertThat(valuesInKilometers).containsExactly(1000.0, 2500.0, 250.0);
+        assertThat(actualInPlace).isEqualTo(actualInMeters);
+    }
+
+    @Test
+    @DisplayName("should calculate sum, min, max and mean in base unit")
+    void aggregations_shouldBeCalculatedInBaseUnit() {
+        // Given
+        QuantityArray<TemperatureUnit, Temperature> temperatures = QuantityArray.of(new double[]{10.0, -5.0, 25.0, 30.0},
+                TemperatureUnits.CELSIUS, Temperature::of);
+
+        // When
+        Temperature actualSum = temperatures.sum();
+        Temperature actualMin = temperatures.min();
+        Temperature actualMax = temperatures.max();
+        Temperature actualMean = temperatures.mean();
+
+        // Then
+        assertThat(actualSum.getUnit()).isEqualTo(TemperatureUnits.KELVIN);
+        assertThat(actualSum.getValue()).isEqualTo(4 * 273.15 + 60.0, withPrecision(1E-10));
+        assertThat(actualMin.getValue()).isEqualTo(268.15, withPrecision(1E-10));
+        assertThat(actualMax.getValue()).isEqualTo(303.15, withPrecision(1E-10));
+        assertThat(actualMean.getValue()).isEqualTo(288.15, withPrecision(1E-10));
+    }
+
+    @Test
+    @DisplayName("should create slices sharing storage with source array")
+    void slice_shouldShareStorageWithSourceArray() {
+        // Given
+        QuantityArray<DistanceUnit, Distance> distances = QuantityArray.of(new double[]{1.0, 2.0, 3.0, 4.0, 5.0},
+                DistanceUnits.METER, Distance::of);
+
+        // When
+        QuantityArray<DistanceUnit, Distance> slice = distances.slice(1, 4);
+        QuantityArray<DistanceUnit, Distance> nestedSlice = slice.slice(1, 2);
+        slice.set(0, Distance.ofCentimeters(150.0));
+
+        // Then
+        assertThat(slice.size()).isEqualTo(3);
+        assertThat(slice.toValuesArray()).containsExactly(1.5, 3.0, 4.0);
+        assertThat(distances.getValue(1)).isEqualTo(1.5);
+        assertThat(nestedSlice.toValuesArray()).containsExactly(3.0);
+        assertThat(slice.sum().getValue()).isEqualTo(8.5);
+        assertThatThrownBy(() -> slice.getValue(3)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> distances.slice(3, 6)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("should create array from quantities in different units and iterate over quantities")
+    void fromQuantities_shouldConvertQuantitiesToArrayUnit() {
+        // Given
+        List<Distance> inputDistances = List.of(Distance.ofMeters(1.0), Distance.ofKilometers(2.0), Distance.ofMillimeters(500.0));
+
+        // When
+        QuantityArray<DistanceUnit, Distance> distances = QuantityArray.fromQuantities(inputDistances, DistanceUnits.METER, Distance::of);
+        List<Distance> iteratedDistances = new ArrayList<>();
+        distances.forEach(iteratedDistances::add);
+
+        // Then
+        assertThat(distances.toValuesArray()).containsExactly(1.0, 2000.0, 0.5);
+        assertThat(iteratedDistances).containsExactly(Distance.ofMeters(1.0), Distance.ofMeters(2000.0), Distance.ofMeters(0.5));
+    }
+
+    @Test
+    @DisplayName("should throw exception when calculating min, max or mean of an empty array")
+    void aggregations_shouldThrowException_whenArrayIsEmpty() {
+        // Given
+        QuantityArray<DistanceUnit, Distance> distances = QuantityArray.ofSize(0, DistanceUnits.METER, Distance::of);
+
+        // Then
+        assertThat(distances.isEmpty()).isTrue();
+        assertThat(distances.sum().getValue()).isZero();
+        assertThatThrownBy(distances::min).isInstanceOf(UnitSystemArgumentException.class);
+        assertThatThrownBy(distances::max).isInstanceOf(UnitSystemArgumentException.class);
+        assertThatThrownBy(distances::mean).isInstanceOf(UnitSystemArgumentException.class);
+    }
+
+}
@@ -0,0 +1,155 @@
+package com.synerset.unitility.unitsystem;
+
+import com.synerset.unitility.unitsystem.common.DistanceUnit;
+import com.synerset.unitility.unitsystem.common.DistanceUnits;
+import com.synerset.unitility.unitsystem.customunit.CustomTempUnits;
+import com.synerset.unitility.unitsystem.exceptions.UnitSystemArgumentException;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import com.synerset.unitility.unitsystem.thermodynamic.TemperatureUnit;
+import com.synerset.unitility.unitsystem.thermodynamic.TemperatureUnits;
+import com.synerset.unitility.unitsystem.util.PhysicalQuantityParsingFactory;
+import com.synerset.unitility.unitsystem.util.SupportedQuantitiesRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+class UnitConverterTest {
+
+    @Test
+    @DisplayName("should convert single value consistently with quantity conversion")
+    void convert_shouldConvertSingleValue() {
+        // Given
+        UnitConverter<TemperatureUnit> converter = TemperatureUnits.CELSIUS.converterTo(TemperatureUnits.FAHRENHEIT);
+        Temperature temperature = Temperature.ofCelsius(36.6);
+
+        // When
+        double actualInFahrenheit = converter.convert(36.6);
+
+        // Then
+        assertThat(actualInFahrenheit).isEqualTo(temperature.getInFahrenheits());
+        assertThat(UnitConverter.of(TemperatureUnits.CELSIUS, TemperatureUnits.FAHRENHEIT).convert(100.0)).isEqualTo(212.0);
+        assertThat(UnitConverter.of(TemperatureUnits.FAHRENHEIT, TemperatureUnits.CELSIUS).convert(212.0)).isEqualTo(100.0);
+        assertThat(converter.getSourceUnit()).isEqualTo(TemperatureUnits.CELSIUS);
+        assertThat(converter.getTargetUnit()).isEqualTo(TemperatureUnits.FAHRENHEIT);
+    }
+
+    @Test
+    @DisplayName("should convert values exactly as quantity conversion for all pairs of registered units")
+    void convert_shouldMatchQuantityConversionForAllUnitPairs() {
+        // Given
+        PhysicalQuantityParsingFactory parsingFactory = PhysicalQuantityParsingFactory.getDefaultParsingFactory();
+        SupportedQuantitiesRegistry quantitiesRegistry = SupportedQuantitiesRegistry.getInstance();
+        Set<Class<PhysicalQuantity<Unit>>> registeredClasses = parsingFactory.findAllRegisteredClasses();
+        double[] values = {-273.15, -40.0, -1.0E-3, 0.0, 0.1, 1.0, 20.0, 36.6, 100.0, 1234.5678, 1.0E9};
+
+        // Then
+        for (Class<PhysicalQuantity<Unit>> quantityClass : registeredClasses) {
+            PhysicalQuantity<Unit> defaultQuantity = parsingFactory.parseValueWithDefaultUnit(quantityClass, 0);
+            List<Unit> units = quantitiesRegistry.findUnitsByClass(quantityClass);
+            for (Unit sourceUnit : units) {
+                for (Unit targetUnit : units) {
+                    UnitConverter<Unit> converter = UnitConverter.of(sourceUnit, targetUnit);
+                    for (double value : values) {
+                        PhysicalQuantity<Unit> quantity = defaultQuantity.toUnit(sourceUnit).withValue(value);
+                        assertThat(converter.convert(value))
+                                .as("%s -> %s, value = %s", sourceUnit, targetUnit, value)
+                                .isEqualTo(quantity.toUnit(targetUnit).getValue());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("should return the same cached converter instance for the same unit pair")
+    void of_shouldReturnCachedConverter() {
+        // Given
+        UnitConverter<DistanceUnits> first = UnitConverter.of(DistanceUnits.KILOMETER, DistanceUnits.MILE);
+
+        // When
+        UnitConverter<DistanceUnit> second = DistanceUnits.KILOMETER.converterTo(DistanceUnits.MILE);
+
+        // Then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("should convert arrays into new array, in place and within given ranges")
+    void convert_shouldConvertArrays() {
+        // Given
+        UnitConverter<DistanceUnit> converter = DistanceUnits.KILOMETER.converterTo(DistanceUnits.METER);
+        double[] valuesInKilometers = {0.5, 1.0, 2.5};
+        double[] target = new double[5];
+
+        // When
+        double[] actualInMeters = converter.convert(valuesInKilometers);
+        converter.convert(valuesInKilometers, 1, target, 3, 2);
+        double[] convertedInPlace = valuesInKilometers.clone();
+        converter.convertInPlace(convertedInPlace);
+
+        // Then
+        assertThat(actualInMeters).containsExactly(500.0, 1000.0, 2500.0);
+        assertThat(target).containsExactly(0.0, 0.0, 0.0, 1000.0, 2500.0);
+        assertThat(convertedInPlace).containsExactly(500.0, 1000.0, 2500.0);
+        assertThat(valuesInKilometers).containsExactly(0.5, 1.0, 2.5);
+        assertThatThrownBy(() -> converter.convert(valuesInKilometers, 2, target, 0, 2))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("should convert heap and direct double buffers and advance their positions")
+    void convert_shouldConvertDoubleBuffers() {
+        // Given
+        UnitConverter<TemperatureUnit> converter = TemperatureUnits.KELVIN.converterTo(TemperatureUnits.CELSIUS);
+        DoubleBuffer heapSource = DoubleBuffer.wrap(new double[]{273.15, 373.15});
+        DoubleBuffer heapTarget = DoubleBuffer.allocate(2);
+        DoubleBuffer directSource = ByteBuffer.allocateDirect(2 * Double.BYTES).asDoubleBuffer().put(273.15).put(373.15).flip();
+        DoubleBuffer directTarget = ByteBuffer.allocateDirect(2 * Double.BYTES).asDoubleBuffer();
+
+        // When
+        converter.convert(heapSource, heapTarget);
+        converter.convert(directSource, directTarget);
+
+        // Then
+        assertThat(heapSource.remaining()).isZero();
+        assertThat(heapTarget.position()).isEqualTo(2);
+        assertThat(heapTarget.get(0)).isEqualTo(0.0, withPrecision(1E-12));
+        assertThat(heapTarget.get(1)).isEqualTo(100.0, withPrecision(1E-12));
+        assertThat(directTarget.position()).isEqualTo(2);
+        assertThat(directTarget.get(0)).isEqualTo(0.0, withPrecision(1E-12));
+        assertThat(directTarget.get(1)).isEqualTo(100.0, withPrecision(1E-12));
+    }
+
+    @Test
+    @DisplayName("should convert custom units without affine conversion through base unit")
+    void convert_shouldConvertCustomUnitsThroughBaseUnit() {
+        // Given
+        UnitConverter<TemperatureUnit> converter = UnitConverter.of(CustomTempUnits.RANKINE, TemperatureUnits.FAHRENHEIT);
+
+        // When
+        double actualInFahrenheit = converter.convert(671.67);
+
+        // Then
+        assertThat(actualInFahrenheit).isEqualTo(212.0, withPrecision(1E-12));
+        assertThat(UnitConverter.of(CustomTempUnits.RANKINE, TemperatureUnits.FAHRENHEIT)).isNotSameAs(converter);
+    }
+
+    @Test
+    @DisplayName("should throw exception when units are not compatible or null")
+    void of_shouldThrowException_whenUnitsAreNotCompatible() {
+        // Then
+        assertThatThrownBy(() -> UnitConverter.of(DistanceUnits.METER, TemperatureUnits.KELVIN))
+                .isInstanceOf(UnitSystemArgumentException.class);
+        assertThatThrownBy(() -> UnitConverter.of(DistanceUnits.METER, null))
+                .isInstanceOf(UnitSystemArgumentException.class);
+    }
+
+}
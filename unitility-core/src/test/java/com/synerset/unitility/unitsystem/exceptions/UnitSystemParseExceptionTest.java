@@ -0,0 +1,91 @@
+package com.synerset.unitility.unitsystem.exceptions;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UnitSystemParseExceptionTest {
+
+    @Test
+    @DisplayName("should build lazy message only once, when it is requested")
+    void getMessage_shouldBuildLazyMessageOnlyWhenRequested() {
+        // Given
+        AtomicInteger messageBuildCount = new AtomicInteger();
+
+        // When
+        UnitSystemParseException exception = new UnitSystemParseException(() -> {
+            messageBuildCount.incrementAndGet();
+            return "Invalid input: 1 unknown";
+        });
+
+        // Then
+        assertThat(messageBuildCount).hasValue(0);
+        assertThat(exception.getMessage()).isEqualTo("Invalid input: 1 unknown");
+        assertThat(exception.getMessage()).isEqualTo("Invalid input: 1 unknown");
+        assertThat(messageBuildCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("should create exception without stack trace in stackless mode")
+    void constructor_shouldNotCaptureStackTraceInStacklessMode() {
+        // When
+        UnitSystemParseException stacklessException = new UnitSystemParseException("Invalid input", true);
+        UnitSystemParseException lazyStacklessException = new UnitSystemParseException(() -> "Invalid input", true);
+        UnitSystemParseException exception = new UnitSystemParseException("Invalid input", false);
+
+        // Then
+        assertThat(stacklessException.getStackTrace()).isEmpty();
+        assertThat(lazyStacklessException.getStackTrace()).isEmpty();
+        assertThat(exception.getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("should leave cause unset, so that it can be initialized later")
+    void initCause_shouldInitializeCauseOfParseException() {
+        // Given
+        NumberFormatException cause = new NumberFormatException("For input string: \"1.5.5\"");
+        UnitSystemParseException exception = new UnitSystemParseException("Invalid input");
+        UnitSystemParseException lazyException = new UnitSystemParseException(() -> "Invalid input");
+        UnitSystemParseException lazyStacklessException = new UnitSystemParseException(() -> "Invalid input", true);
+
+        // When
+        exception.initCause(cause);
+        lazyException.initCause(cause);
+        lazyStacklessException.initCause(cause);
+
+        // Then
+        assertThat(exception.getCause()).isSameAs(cause);
+        assertThat(lazyException.getCause()).isSameAs(cause);
+        assertThat(lazyStacklessException.getCause()).isSameAs(cause);
+        assertThat(lazyStacklessException.getStackTrace()).isEmpty();
+        assertThat(new UnitSystemParseException("Invalid input").getCause()).isNull();
+    }
+
+    @Test
+    @DisplayName("should read stackless mode from system property")
+    void readStacklessProperty_shouldReadSystemProperty() {
+        // Given
+        String previousValue = System.getProperty(UnitSystemParseException.STACKLESS_PROPERTY);
+
+        try {
+            // When
+            System.setProperty(UnitSystemParseException.STACKLESS_PROPERTY, "true");
+            boolean stacklessEnabled = UnitSystemParseException.readStacklessProperty();
+            System.clearProperty(UnitSystemParseException.STACKLESS_PROPERTY);
+            boolean stacklessDisabled = UnitSystemParseException.readStacklessProperty();
+
+            // Then
+            assertThat(stacklessEnabled).isTrue();
+            assertThat(stacklessDisabled).isFalse();
+            assertThat(UnitSystemParseException.isStackless()).isFalse();
+        } finally {
+            if (previousValue != null) {
+                System.setProperty(UnitSystemParseException.STACKLESS_PROPERTY, previousValue);
+            }
+        }
+    }
+
+}
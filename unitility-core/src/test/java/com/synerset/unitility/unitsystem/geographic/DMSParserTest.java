@@ -0,0 +1,94 @@
+package com.synerset.unitility.unitsystem.geographic;
+
+import com.synerset.unitility.unitsystem.exceptions.UnitSystemParseException;
+import com.synerset.unitility.unitsystem.util.ParsingHelpers;
+import com.synerset.unitility.unitsystem.util.StringTransformer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DMSParserTest {
+
+    private static final Pattern LEGACY_DMS_PATTERN =
+            Pattern.compile("^-?\\d{1,3}(o|°|deg)(\\d{1,2}('|min|m)((\\d{1,2}(\\.\\d+)?)(\"|sec|s))?)?([NnSsWwEe])?$");
+    private static final String ALPHABET = "0123456789.-°odegmins'\"secNSWEnwx";
+
+    @Test
+    @DisplayName("should extract degrees, minutes, seconds and hemisphere in one scan")
+    void parse_shouldExtractAllComponents() {
+        // When
+        DMSCoordinate actualCoordinate = DMSParser.parse("52°14'5.123\"N");
+
+        // Then
+        assertThat(actualCoordinate).isEqualTo(new DMSCoordinate(false, 52, 14, 5.123, PrimaryDirection.NORTH));
+        assertThat(actualCoordinate.toDegrees()).isEqualTo(52.23475638888889);
+        assertThat(actualCoordinate.isValidLatitude()).isTrue();
+        assertThat(actualCoordinate.isValidLongitude()).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"52°14'5.123\"n", "21deg4min3.986secw", "-21°4'3.986\"", "52°14'n", "21o4'w", "52°", "52degn",
+            "180o59m59.999se", "0°0'0\"", "7o5m"})
+    @DisplayName("should convert to the same degrees as legacy DMS parsing")
+    void tryParse_shouldBeEquivalentToLegacyParsing(String input) {
+        // When
+        DMSCoordinate actualCoordinate = DMSParser.tryParse(input, 0, input.length());
+
+        // Then
+        assertThat(actualCoordinate).isNotNull();
+        assertThat(actualCoordinate.toDegrees()).isEqualTo(legacyDegrees(input));
+    }
+
+    @Test
+    @DisplayName("should validate randomly generated inputs the same way as legacy regular expression")
+    void isValidDMSFormat_shouldBeEquivalentToLegacyPattern() {
+        // Given
+        Random random = new Random(11);
+
+        // Then
+        for (int i = 0; i < 100_000; i++) {
+            StringBuilder inputBuilder = new StringBuilder();
+            int length = 1 + random.nextInt(14);
+            for (int j = 0; j < length; j++) {
+                inputBuilder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            String input = inputBuilder.toString();
+            assertThat(DMSParser.isValidDMSFormat(input))
+                    .as("Input: %s", input)
+                    .isEqualTo(LEGACY_DMS_PATTERN.matcher(input).matches());
+        }
+    }
+
+    @Test
+    @DisplayName("should recognize hemisphere after minutes and sign of negative zero degrees")
+    void parse_shouldResolveHemisphereAfterMinutesAndNegativeZero() {
+        // Then
+        assertThat(DMSParser.parse("52°30's").toDegrees()).isEqualTo(-52.5);
+        assertThat(DMSParser.parse("52°30mins").toDegrees()).isEqualTo(-52.5);
+        assertThat(DMSParser.parse("-0°30'").toDegrees()).isEqualTo(-0.5);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "52", "1234°", "52°14'5.123\"X", "52°14'5.123\"NS", "abc", "52°14", "52°1'5.\"", "52 °"})
+    @DisplayName("should reject invalid DMS inputs")
+    void parse_shouldRejectInvalidInputs(String input) {
+        // Then
+        assertThat(DMSParser.isValidDMSFormat(input)).isFalse();
+        assertThatThrownBy(() -> DMSParser.parse(input)).isInstanceOf(UnitSystemParseException.class);
+    }
+
+    private static double legacyDegrees(String input) {
+        String preparedInput = StringTransformer.of(input)
+                .unifyDMSNotationSymbols()
+                .toString();
+        return ParsingHelpers.extractDegreesFromDMSFormat(preparedInput);
+    }
+
+}
@@ -3,6 +3,9 @@ package com.synerset.unitility.unitsystem.geographic;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class GeoCoordinateTest {
@@ -49,6 +52,27 @@ class GeoCoordinateTest {
         assertThat(actualDegreesOutputVarTruncated).isEqualTo("sea_quest = -52.234, -21.567");
     }
 
+    @Test
+    @DisplayName("should append coordinates in DMS and decimal degrees format to reused buffer and appendable")
+    void appendDMSFormat_shouldAppendSameOutputAsToDMSFormat() throws IOException {
+        // Given
+        GeoCoordinate geoCoordinate = GeoCoordinate.of(Latitude.ofDegrees(-52.23411), Longitude.ofDegrees(-21.56711));
+        StringBuilder buffer = new StringBuilder();
+        StringWriter writer = new StringWriter();
+
+        // When
+        geoCoordinate.appendDMSFormat(buffer).append(" | ");
+        geoCoordinate.appendDMSFormat(buffer, 3).append(" | ");
+        geoCoordinate.appendDecimalDegrees(buffer).append(" | ");
+        geoCoordinate.appendDecimalDegrees(buffer, 3);
+        geoCoordinate.appendDMSFormat(writer, 3);
+
+        // Then
+        assertThat(buffer).hasToString(geoCoordinate.toDMSFormat() + " | " + geoCoordinate.toDMSFormat(3) + " | "
+                + geoCoordinate.toDecimalDegrees() + " | " + geoCoordinate.toDecimalDegrees(3));
+        assertThat(writer).hasToString("52°14'2.796\"S, 21°34'1.596\"W");
+    }
+
     @Test
     @DisplayName("should output cin engineering format")
     void toEngineeringFormat_shouldOutputInEngineeringFormat() {
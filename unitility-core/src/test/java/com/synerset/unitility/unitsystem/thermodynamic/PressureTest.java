@@ -300,4 +300,23 @@ class PressureTest {
 
     }
 
+    @Test
+    @DisplayName("should convert water and mercury column units in the order of their defining formula")
+    void shouldConvertLiquidColumnUnitsInDefiningOrder() {
+        for (int i = 1; i <= 1000; i++) {
+            // Given
+            double value = i * 0.37;
+
+            // When
+            double actualInPaFromWater = Pressure.ofMetreOfWater10(value).getInPascals();
+            double actualInPaFromMercury = Pressure.ofMillimetreOfMercury10(value).getInPascals();
+            double actualInWater = Pressure.ofPascal(value).toUnit(PressureUnits.METRE_OF_WATER_10).getValue();
+
+            // Then
+            assertThat(actualInPaFromWater).isEqualTo(value * 999.5457000320766 * 9.80665);
+            assertThat(actualInPaFromMercury).isEqualTo(value * 13570 * 9.80665 * 0.001);
+            assertThat(actualInWater).isEqualTo(value / (999.5457000320766 * 9.80665));
+        }
+    }
+
 }
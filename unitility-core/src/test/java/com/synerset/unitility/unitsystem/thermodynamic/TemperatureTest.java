@@ -46,6 +46,30 @@ class TemperatureTest {
         assertThat(actualInKelvin).isEqualTo(initialTempInKelvin);
     }
 
+    @Test
+    @DisplayName("should convert between °C and °F exactly for round values")
+    void shouldConvertBetweenCelsiusAndFahrenheitExactly() {
+        // When
+        double actualFahrenheitFromZeroCelsius = Temperature.ofCelsius(0).toFahrenheit().getValue();
+        double actualFahrenheitFromTwentyCelsius = Temperature.ofCelsius(20).toFahrenheit().getValue();
+        double actualFahrenheitFromHundredCelsius = Temperature.ofCelsius(100).toFahrenheit().getValue();
+        double actualCelsiusFromFreezingFahrenheit = Temperature.ofFahrenheit(32).toCelsius().getValue();
+        double actualCelsiusFromSixtyEightFahrenheit = Temperature.ofFahrenheit(68).toCelsius().getValue();
+        double actualCelsiusFromBoilingFahrenheit = Temperature.ofFahrenheit(212).toCelsius().getValue();
+        double actualFahrenheitFromKelvins = Temperature.ofFahrenheit(32).toBaseUnit().toFahrenheit().getValue();
+        double actualFahrenheitFromCelsius = Temperature.ofFahrenheit(32).toCelsius().toFahrenheit().getValue();
+
+        // Then
+        assertThat(actualFahrenheitFromZeroCelsius).isEqualTo(32.0);
+        assertThat(actualFahrenheitFromTwentyCelsius).isEqualTo(68.0);
+        assertThat(actualFahrenheitFromHundredCelsius).isEqualTo(212.0);
+        assertThat(actualCelsiusFromFreezingFahrenheit).isEqualTo(0.0);
+        assertThat(actualCelsiusFromSixtyEightFahrenheit).isEqualTo(20.0);
+        assertThat(actualCelsiusFromBoilingFahrenheit).isEqualTo(100.0);
+        assertThat(actualFahrenheitFromKelvins).isEqualTo(32.0);
+        assertThat(actualFahrenheitFromCelsius).isEqualTo(32.0);
+    }
+
     @Test
     @DisplayName("should have K as base unit")
     void shouldHaveKelvinAsBaseUnit() {
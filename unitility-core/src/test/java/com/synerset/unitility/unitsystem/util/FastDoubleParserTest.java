@@ -0,0 +1,82 @@
+package com.synerset.unitility.unitsystem.util;
+
+import com.synerset.unitility.unitsystem.exceptions.UnitSystemParseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FastDoubleParserTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-0", "+0.0", "20.5", "-10.5E-5", "101.325", "1.", ".5", "1e23", "8.41e21", "9007199254740993",
+            "7.3177701707893310e+15", "7.2057594037927933e+16", "2.2250738585072011e-308", "2.2250738585072014e-308",
+            "4.9e-324", "2.4e-324", "1.7976931348623157e308", "1.7976931348623159e308", "1e309", "1e-400",
+            "123456789012345678901234567890", "0.000000000000000000000000000000123", "NaN", "-Infinity", "0x1p3",
+            "1.5d", " 12 ", "1E+2", "00012.5000"})
+    @DisplayName("should parse values exactly as Double.parseDouble")
+    void parseDouble_shouldBeEquivalentToDoubleParseDouble(String input) {
+        // When
+        double actualValue = FastDoubleParser.parseDouble(input);
+
+        // Then
+        assertThat(Double.doubleToRawLongBits(actualValue)).isEqualTo(Double.doubleToRawLongBits(Double.parseDouble(input)));
+    }
+
+    @Test
+    @DisplayName("should parse randomly generated values exactly as Double.parseDouble")
+    void parseDouble_shouldBeEquivalentToDoubleParseDoubleForRandomInputs() {
+        // Given
+        Random random = new Random(7);
+
+        // Then
+        for (int i = 0; i < 300_000; i++) {
+            String input = switch (i % 4) {
+                case 0 -> Double.toString(Double.longBitsToDouble(random.nextLong()));
+                case 1 -> Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20));
+                case 2 -> randomDigits(random, 1 + random.nextInt(19)) + "e" + (random.nextInt(700) - 350);
+                default -> randomDigits(random, 1 + random.nextInt(10)) + "." + randomDigits(random, 1 + random.nextInt(9));
+            };
+            double expectedValue = Double.parseDouble(input);
+            assertThat(Double.doubleToRawLongBits(FastDoubleParser.parseDouble(input)))
+                    .as("Input: %s", input)
+                    .isEqualTo(Double.doubleToRawLongBits(expectedValue));
+        }
+    }
+
+    @Test
+    @DisplayName("should parse value within range of input")
+    void parseDouble_shouldParseValueWithinRange() {
+        // Given
+        String input = "T=-12.75E1kPa";
+
+        // When
+        double actualValue = FastDoubleParser.parseDouble(input, 2, 10);
+
+        // Then
+        assertThat(actualValue).isEqualTo(-127.5);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "-", ".", "e5", "1e", "1e+", "1.2.3", "12abc", "--1"})
+    @DisplayName("should throw exception for invalid inputs")
+    void parseDouble_shouldThrowException_whenInputIsInvalid(String input) {
+        // Then
+        assertThatThrownBy(() -> FastDoubleParser.parseDouble(input)).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> ParsingHelpers.parseToDouble(input, 0, input.length())).isInstanceOf(UnitSystemParseException.class);
+    }
+
+    private static String randomDigits(Random random, int count) {
+        StringBuilder digits = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            digits.append((char) ('0' + random.nextInt(10)));
+        }
+        return digits.toString();
+    }
+
+}
@@ -0,0 +1,153 @@
+package com.synerset.unitility.unitsystem.util;
+
+import com.synerset.unitility.unitsystem.PhysicalQuantity;
+import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.common.Angle;
+import com.synerset.unitility.unitsystem.common.AngleUnits;
+import com.synerset.unitility.unitsystem.exceptions.UnitSystemArgumentException;
+import com.synerset.unitility.unitsystem.flow.VolumetricFlow;
+import com.synerset.unitility.unitsystem.geographic.Latitude;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import com.synerset.unitility.unitsystem.thermodynamic.TemperatureUnits;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PhysicalQuantityBinaryCodecTest {
+
+    private static final PhysicalQuantityBinaryCodec CODEC = PhysicalQuantityBinaryCodec.getDefaultCodec();
+
+    @Test
+    @DisplayName("should encode and decode quantities with bytes arrays, byte buffers and data streams")
+    void encodeAndDecode_shouldRoundTripQuantities() throws IOException {
+        // Given
+        List<PhysicalQuantity<?>> quantities = List.of(
+                Temperature.ofCelsius(-20.5),
+                Temperature.ofFahrenheit(Double.NaN),
+                Pressure.ofBar(1.013_25),
+                VolumetricFlow.ofCubicMetersPerHour(-0.0),
+                Angle.of(Double.MAX_VALUE, AngleUnits.RADIANS),
+                Latitude.ofDegrees(45.5)
+        );
+
+        byte[] array = new byte[quantities.size() * PhysicalQuantityBinaryCodec.MAX_ENCODED_SIZE];
+        ByteBuffer buffer = ByteBuffer.allocate(array.length).order(ByteOrder.LITTLE_ENDIAN);
+        ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+        DataOutputStream dataOutput = new DataOutputStream(byteStream);
+
+        // When
+        int offset = 0;
+        for (PhysicalQuantity<?> quantity : quantities) {
+            offset = CODEC.encode(quantity, array, offset);
+            CODEC.encode(quantity, buffer);
+            CODEC.encode(quantity, dataOutput);
+        }
+        buffer.flip();
+        DataInputStream dataInput = new DataInputStream(new ByteArrayInputStream(byteStream.toByteArray()));
+
+        // Then
+        assertThat(buffer.remaining()).isEqualTo(offset);
+        assertThat(byteStream.size()).isEqualTo(offset);
+        int readOffset = 0;
+        for (PhysicalQuantity<?> expectedQuantity : quantities) {
+            byte[] single = CODEC.encode(expectedQuantity);
+            PhysicalQuantity<?> fromArray = CODEC.decode(array, readOffset);
+            readOffset += CODEC.encodedSize(fromArray);
+            assertThat(single).hasSize(CODEC.encodedSize(expectedQuantity));
+            assertThatIsSameQuantity(CODEC.decode(single), expectedQuantity);
+            assertThatIsSameQuantity(fromArray, expectedQuantity);
+            assertThatIsSameQuantity(CODEC.decode(buffer), expectedQuantity);
+            assertThatIsSameQuantity(CODEC.decode(dataInput), expectedQuantity);
+        }
+        assertThat(readOffset).isEqualTo(offset);
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should assign unique and deterministic ids to all units of registered quantities")
+    void of_shouldAssignUniqueDeterministicIds() {
+        // Given
+        PhysicalQuantityParsingFactory parsingFactory = PhysicalQuantityParsingFactory.getDefaultParsingFactory();
+        PhysicalQuantityBinaryCodec otherCodec = PhysicalQuantityBinaryCodec.of(parsingFactory);
+
+        // When
+        Set<Integer> ids = new HashSet<>();
+        for (Class<?> quantityClass : parsingFactory.getClassRegistry().keySet()) {
+            Unit defaultUnit = parsingFactory.getDefaultUnitRegistry().get(quantityClass);
+            for (Object unit : defaultUnit.getClass().getEnumConstants()) {
+                int id = CODEC.getId(quantityClass, (Unit) unit);
+                assertThat(otherCodec.getId(quantityClass, (Unit) unit)).isEqualTo(id);
+                ids.add(id);
+            }
+        }
+
+        // Then
+        assertThat(ids).hasSize(CODEC.size());
+        assertThat(ids).allMatch(id -> id >= 0 && id < CODEC.size());
+        assertThat(CODEC.getId(Temperature.class, TemperatureUnits.CELSIUS))
+                .isNotEqualTo(CODEC.getId(Temperature.class, TemperatureUnits.KELVIN));
+    }
+
+    @Test
+    @DisplayName("should encode quantities into bytes pinned by permanent ids")
+    void encode_shouldProduceGoldenBytes() {
+        // Given
+        byte[] expectedCelsius = {(byte) 0xDB, 0x01, 0x40, 0x34, 0, 0, 0, 0, 0, 0};
+        byte[] expectedBar = {(byte) 0xCA, 0x01, 0x3F, (byte) 0xF0, 0, 0, 0, 0, 0, 0};
+        byte[] expectedDegrees = {0x01, 0x40, 0x56, (byte) 0x80, 0, 0, 0, 0, 0};
+
+        // When
+        byte[] actualCelsius = CODEC.encode(Temperature.ofCelsius(20.0));
+        byte[] actualBar = CODEC.encode(Pressure.ofBar(1.0));
+        byte[] actualDegrees = CODEC.encode(Angle.ofDegrees(90.0));
+
+        // Then
+        assertThat(actualCelsius).containsExactly(expectedCelsius);
+        assertThat(actualBar).containsExactly(expectedBar);
+        assertThat(actualDegrees).containsExactly(expectedDegrees);
+        assertThatIsSameQuantity(CODEC.decode(expectedCelsius), Temperature.ofCelsius(20.0));
+        assertThatIsSameQuantity(CODEC.decode(expectedBar), Pressure.ofBar(1.0));
+        assertThatIsSameQuantity(CODEC.decode(expectedDegrees), Angle.ofDegrees(90.0));
+    }
+
+    @Test
+    @DisplayName("should throw an exception for unsupported quantities and malformed input")
+    void decode_shouldThrowExceptionForInvalidInput() {
+        // Given
+        byte[] unknownId = {(byte) 0xFF, (byte) 0xFF, 0x7F, 0, 0, 0, 0, 0, 0, 0, 0};
+        byte[] tooLongId = {(byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x01, 0, 0, 0, 0, 0, 0, 0, 0};
+        byte[] truncated = {0x01, 0, 0};
+        byte[] nextFreeId = {(byte) 0xE2, 0x01, 0, 0, 0, 0, 0, 0, 0, 0};
+
+        // Then
+        assertThatThrownBy(() -> CODEC.decode(unknownId)).isInstanceOf(UnitSystemArgumentException.class);
+        assertThatThrownBy(() -> CODEC.decode(tooLongId)).isInstanceOf(UnitSystemArgumentException.class);
+        assertThatThrownBy(() -> CODEC.decode(nextFreeId)).isInstanceOf(UnitSystemArgumentException.class);
+        assertThatThrownBy(() -> CODEC.decode(truncated)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> CODEC.decode(Pressure.class, ByteBuffer.wrap(CODEC.encode(Temperature.ofCelsius(1)))))
+                .isInstanceOf(UnitSystemArgumentException.class);
+        assertThatThrownBy(() -> CODEC.getId(String.class, TemperatureUnits.KELVIN))
+                .isInstanceOf(UnitSystemArgumentException.class);
+    }
+
+    private static void assertThatIsSameQuantity(PhysicalQuantity<?> actual, PhysicalQuantity<?> expected) {
+        assertThat(actual.getClass()).isEqualTo(expected.getClass());
+        assertThat(actual.getUnit()).isEqualTo(expected.getUnit());
+        assertThat(Double.doubleToRawLongBits(actual.getValue())).isEqualTo(Double.doubleToRawLongBits(expected.getValue()));
+    }
+
+}
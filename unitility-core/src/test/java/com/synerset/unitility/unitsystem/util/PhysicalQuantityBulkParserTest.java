@@ -0,0 +1,94 @@
+package com.synerset.unitility.unitsystem.util;
+
+import com.synerset.unitility.unitsystem.exceptions.UnitSystemArgumentException;
+import com.synerset.unitility.unitsystem.exceptions.UnitSystemClassNotSupportedException;
+import com.synerset.unitility.unitsystem.exceptions.UnitSystemParseException;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PhysicalQuantityBulkParserTest {
+
+    private static final PhysicalQuantityParsingFactory PARSING_FACTORY = PhysicalQuantityParsingFactory.getDefaultParsingFactory();
+
+    @Test
+    @DisplayName("should parse large batch in parallel the same way as sequential parsing and collect errors per index")
+    void parseAll_shouldParseLargeBatchInParallel() {
+        // Given
+        List<String> inputs = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            inputs.add(switch (i % 4) {
+                case 0 -> i + " kPa";
+                case 1 -> i + ",5 [psi]";
+                case 2 -> String.valueOf(i);
+                default -> i + " unknown";
+            });
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        PhysicalQuantityBulkParser bulkParser = PhysicalQuantityBulkParser.of(PARSING_FACTORY, pool, 1000);
+
+        // When
+        BulkParseResult<Pressure> bulkResult = bulkParser.parseAll(Pressure.class, inputs);
+        pool.shutdown();
+
+        // Then
+        assertThat(bulkResult.size()).isEqualTo(inputs.size());
+        assertThat(bulkResult.getErrorCount()).isEqualTo(inputs.size() / 4);
+        for (int i = 0; i < inputs.size(); i++) {
+            if (i % 4 == 3) {
+                assertThat(bulkResult.get(i)).isNull();
+                assertThat(bulkResult.getErrorCode(i)).isEqualTo(ParseErrorCode.UNSUPPORTED_SYMBOL);
+            } else {
+                assertThat(bulkResult.get(i)).isEqualTo(PARSING_FACTORY.parse(Pressure.class, inputs.get(i)));
+                assertThat(bulkResult.isSuccess(i)).isTrue();
+            }
+        }
+        assertThat(Arrays.stream(bulkResult.getFailedIndices()).allMatch(index -> index % 4 == 3)).isTrue();
+        assertThat(bulkResult.getFailedIndices()).hasSize(inputs.size() / 4);
+        assertThat(bulkResult.toArray()).isInstanceOf(Pressure[].class);
+    }
+
+    @Test
+    @DisplayName("should parse small batch sequentially with any parsing factory")
+    void parseAll_shouldParseSmallBatchSequentially() {
+        // Given
+        PhysicalQuantityParsingFactory cachingFactory = PhysicalQuantityParsingFactory.getCachingParsingFactory(16);
+        List<String> inputs = new LinkedList<>(Arrays.asList("20 °C", null, "abc", "20 °C", "-5"));
+
+        // When
+        BulkParseResult<Temperature> bulkResult = cachingFactory.parseAll(Temperature.class, inputs);
+
+        // Then
+        assertThat(bulkResult.get(0)).isEqualTo(Temperature.ofCelsius(20));
+        assertThat(bulkResult.getErrorCode(1)).isEqualTo(ParseErrorCode.BLANK_INPUT);
+        assertThat(bulkResult.getErrorCode(2)).isEqualTo(ParseErrorCode.INVALID_NUMBER);
+        assertThat(bulkResult.get(3)).isSameAs(bulkResult.get(0));
+        assertThat(bulkResult.get(4)).isEqualTo(Temperature.ofKelvins(-5));
+        assertThat(bulkResult.hasErrors()).isTrue();
+        assertThat(bulkResult.getFailedIndices()).containsExactly(1, 2);
+        assertThrows(UnitSystemParseException.class, () -> bulkResult.getOrThrow(2));
+        assertThat(PARSING_FACTORY.parseAll(Temperature.class, List.of()).size()).isZero();
+    }
+
+    @Test
+    @DisplayName("should fail for not registered class and invalid configuration")
+    void parseAll_shouldFailForInvalidArguments() {
+        // Then
+        assertThrows(UnitSystemClassNotSupportedException.class,
+                () -> PARSING_FACTORY.parseAll(PhysicalQuantityParsingFactoryTest.TestClass.class, List.of("20")));
+        assertThrows(UnitSystemArgumentException.class,
+                () -> PhysicalQuantityBulkParser.of(PARSING_FACTORY, ForkJoinPool.commonPool(), 0));
+        assertThrows(UnitSystemArgumentException.class, () -> PhysicalQuantityBulkParser.of(null));
+    }
+
+}
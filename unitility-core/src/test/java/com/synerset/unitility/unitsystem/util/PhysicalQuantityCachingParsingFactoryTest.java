@@ -0,0 +1,125 @@
+package com.synerset.unitility.unitsystem.util;
+
+import com.synerset.unitility.unitsystem.common.Distance;
+import com.synerset.unitility.unitsystem.exceptions.UnitSystemArgumentException;
+import com.synerset.unitility.unitsystem.exceptions.UnitSystemParseException;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import com.synerset.unitility.unitsystem.util.PhysicalQuantityCachingParsingFactory.CacheStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PhysicalQuantityCachingParsingFactoryTest {
+
+    @Test
+    @DisplayName("should return cached quantity instance for repeated input and count hits and misses")
+    void parse_shouldReturnCachedInstanceForRepeatedInput() {
+        // Given
+        PhysicalQuantityCachingParsingFactory parsingFactory = PhysicalQuantityParsingFactory.getCachingParsingFactory(100);
+
+        // When
+        Temperature firstTemperature = parsingFactory.parse(Temperature.class, "20°C");
+        Temperature secondTemperature = parsingFactory.parse(Temperature.class, "20°C");
+        Pressure actualPressure = parsingFactory.parse(Pressure.class, "101325 Pa");
+        CacheStats actualStats = parsingFactory.getStats();
+
+        // Then
+        assertThat(firstTemperature).isEqualTo(Temperature.ofCelsius(20));
+        assertThat(secondTemperature).isSameAs(firstTemperature);
+        assertThat(actualPressure).isEqualTo(Pressure.ofPascal(101325));
+        assertThat(actualStats.hitCount()).isEqualTo(1);
+        assertThat(actualStats.missCount()).isEqualTo(2);
+        assertThat(actualStats.evictionCount()).isZero();
+        assertThat(actualStats.size()).isEqualTo(2);
+        assertThat(actualStats.hitRate()).isEqualTo(1.0 / 3.0);
+    }
+
+    @Test
+    @DisplayName("should use target class as part of the cache key")
+    void parse_shouldDistinguishTargetClasses() {
+        // Given
+        PhysicalQuantityCachingParsingFactory parsingFactory = PhysicalQuantityParsingFactory.getCachingParsingFactory(100);
+
+        // When
+        Temperature actualTemperature = parsingFactory.parse(Temperature.class, "15");
+        Distance actualDistance = parsingFactory.parse(Distance.class, "15");
+
+        // Then
+        assertThat(actualTemperature).isEqualTo(Temperature.ofKelvins(15));
+        assertThat(actualDistance).isEqualTo(Distance.ofMeters(15));
+        assertThat(parsingFactory.getStats().missCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should evict entries above maximum size and not cache failed parsing attempts")
+    void parse_shouldEvictEntriesAboveMaximumSize() {
+        // Given
+        PhysicalQuantityCachingParsingFactory parsingFactory = PhysicalQuantityParsingFactory.getCachingParsingFactory(16);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            parsingFactory.parse(Distance.class, i + " m");
+        }
+        CacheStats actualStats = parsingFactory.getStats();
+
+        // Then
+        assertThat(actualStats.size()).isLessThanOrEqualTo(parsingFactory.getMaximumSize());
+        assertThat(actualStats.evictionCount()).isEqualTo(100 - actualStats.size());
+        assertThatThrownBy(() -> parsingFactory.parse(Distance.class, "1 unknown")).isInstanceOf(UnitSystemParseException.class);
+        assertThat(parsingFactory.size()).isEqualTo(actualStats.size());
+        parsingFactory.invalidateAll();
+        assertThat(parsingFactory.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("should return consistent results when accessed concurrently")
+    void parse_shouldBeSafeForConcurrentAccess() throws Exception {
+        // Given
+        PhysicalQuantityCachingParsingFactory parsingFactory = PhysicalQuantityParsingFactory.getCachingParsingFactory(32);
+        List<String> inputs = List.of("20°C", "25 °C", "300K", "68°F", "-5 C");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // When
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int task = 0; task < 4; task++) {
+            results.add(executor.submit(() -> {
+                for (int i = 0; i < 2_000; i++) {
+                    String input = inputs.get(i % inputs.size());
+                    if (!parsingFactory.parse(Temperature.class, input).equals(parsingFactory.getDelegate().parse(Temperature.class, input))) {
+                        return false;
+                    }
+                }
+                return true;
+            }));
+        }
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+
+        // Then
+        for (Future<Boolean> result : results) {
+            assertThat(result.get()).isTrue();
+        }
+        CacheStats actualStats = parsingFactory.getStats();
+        assertThat(actualStats.hitCount() + actualStats.missCount()).isEqualTo(8_000);
+        assertThat(actualStats.size()).isEqualTo(inputs.size());
+    }
+
+    @Test
+    @DisplayName("should throw exception when maximum size is not positive")
+    void of_shouldThrowException_whenMaximumSizeIsNotPositive() {
+        // Then
+        assertThatThrownBy(() -> PhysicalQuantityParsingFactory.getCachingParsingFactory(0))
+                .isInstanceOf(UnitSystemArgumentException.class);
+    }
+
+}
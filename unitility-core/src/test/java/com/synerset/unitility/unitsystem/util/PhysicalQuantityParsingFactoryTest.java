@@ -4,6 +4,8 @@ import com.synerset.unitility.unitsystem.CalculableQuantity;
 import com.synerset.unitility.unitsystem.PhysicalQuantity;
 import com.synerset.unitility.unitsystem.Unit;
 import com.synerset.unitility.unitsystem.common.*;
+import com.synerset.unitility.unitsystem.customunit.CustomAngle;
+import com.synerset.unitility.unitsystem.customunit.CustomAngleUnits;
 import com.synerset.unitility.unitsystem.dimensionless.*;
 import com.synerset.unitility.unitsystem.exceptions.UnitSystemClassNotSupportedException;
 import com.synerset.unitility.unitsystem.exceptions.UnitSystemParseException;
@@ -25,11 +27,16 @@ import com.synerset.unitility.unitsystem.thermodynamic.*;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiFunction;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withPrecision;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class PhysicalQuantityParsingFactoryTest {
@@ -253,6 +260,26 @@ class PhysicalQuantityParsingFactoryTest {
         assertThat(actualBearing).isEqualTo(Bearing.of(expectedValue));
     }
 
+    @Test
+    @DisplayName("should create quantity with default unit for all registered classes and fail for not registered class")
+    void parseValueWithDefaultUnit_shouldCreateQuantityWithDefaultUnit() {
+        // Given
+        Set<Class<PhysicalQuantity<Unit>>> registeredClasses = PARSING_FACTORY.findAllRegisteredClasses();
+        double inputValue = 12.5;
+
+        // Then
+        for (Class<PhysicalQuantity<Unit>> quantityClass : registeredClasses) {
+            PhysicalQuantity<Unit> firstQuantity = PARSING_FACTORY.parseValueWithDefaultUnit(quantityClass, inputValue);
+            PhysicalQuantity<Unit> secondQuantity = PARSING_FACTORY.parseValueWithDefaultUnit(quantityClass, -inputValue);
+            assertThat(firstQuantity).isInstanceOf(quantityClass);
+            assertThat(firstQuantity.getValue()).isEqualTo(inputValue);
+            assertThat(firstQuantity.getUnit()).isEqualTo(PARSING_FACTORY.getDefaultUnit(quantityClass));
+            assertThat(secondQuantity.getValue()).isEqualTo(-inputValue);
+        }
+        assertThrows(UnitSystemClassNotSupportedException.class,
+                () -> PARSING_FACTORY.parseValueWithDefaultUnit(TestClass.class, inputValue));
+    }
+
     /**
      * Test class, non-existent in parsing registry, created to test failure cases.
      */
@@ -294,4 +321,352 @@ class PhysicalQuantityParsingFactoryTest {
         }
     }
 
+    @Test
+    @DisplayName("should detect quantity type from unit symbol when parsing any quantity")
+    void parseAny_shouldDetectQuantityTypeFromUnitSymbol() {
+        // When
+        PhysicalQuantity<?> pressure = PARSING_FACTORY.parseAny("12 kPa");
+        PhysicalQuantity<?> volumetricFlow = PARSING_FACTORY.parseAny("3,5 m³/h");
+        PhysicalQuantity<?> temperature = PARSING_FACTORY.parseAny("-20.5°C");
+        PhysicalQuantity<?> distance = PARSING_FACTORY.parseAny("1.2e3 m");
+        PhysicalQuantity<?> ratio = PARSING_FACTORY.parseAny("50 %");
+        PhysicalQuantity<?> angle = PARSING_FACTORY.parseAny("45°");
+        PhysicalQuantity<?> latitude = PARSING_FACTORY.parseAny("52°14'5.123\"N");
+        PhysicalQuantity<?> longitude = PARSING_FACTORY.parseAny("21°0'0\"W");
+
+        // Then
+        assertThat(pressure).isEqualTo(Pressure.ofKiloPascal(12));
+        assertThat(volumetricFlow).isEqualTo(VolumetricFlow.ofCubicMetersPerHour(3.5));
+        assertThat(temperature).isEqualTo(Temperature.ofCelsius(-20.5));
+        assertThat(distance).isEqualTo(Distance.ofMeters(1200));
+        assertThat(ratio).isEqualTo(Ratio.ofPercentage(50));
+        assertThat(angle).isEqualTo(Angle.ofDegrees(45));
+        assertThat(latitude).isInstanceOf(Latitude.class);
+        assertThat(latitude.getValue()).isCloseTo(52.234756, withPrecision(1E-6));
+        assertThat(longitude).isEqualTo(Longitude.ofDegrees(-21));
+        assertThat(PARSING_FACTORY.parseAny("20 kpa")).isEqualTo(PARSING_FACTORY.parse(Pressure.class, "20 kpa"));
+        assertThrows(UnitSystemParseException.class, () -> PARSING_FACTORY.parseAny("12.5"));
+        assertThrows(UnitSystemParseException.class, () -> PARSING_FACTORY.parseAny("12 unknown"));
+        assertThrows(UnitSystemParseException.class, () -> PARSING_FACTORY.parseAny(" "));
+    }
+
+    @Test
+    @DisplayName("should match unit symbols case-sensitively when parsing any quantity")
+    void parseAny_shouldMatchUnitSymbolsCaseSensitively() {
+        // When
+        PhysicalQuantity<?> force = PARSING_FACTORY.parseAny("5 kN");
+        PhysicalQuantity<?> velocity = PARSING_FACTORY.parseAny("5 kn");
+        PhysicalQuantity<?> power = PARSING_FACTORY.parseAny("1 MW");
+        PhysicalQuantity<?> megaJoules = PARSING_FACTORY.parseAny("1 MJ");
+        PhysicalQuantity<?> milliJoules = PARSING_FACTORY.parseAny("1 mJ");
+        PhysicalQuantity<?> milligrams = PARSING_FACTORY.parseAny("5 mg");
+
+        // Then
+        assertThat(force).isEqualTo(Force.ofKiloNewtons(5));
+        assertThat(velocity).isEqualTo(Velocity.ofKnots(5));
+        assertThat(power).isEqualTo(Power.ofMegaWatts(1));
+        assertThat(megaJoules).isEqualTo(Energy.ofMegaJoules(1));
+        assertThat(milliJoules).isEqualTo(Energy.ofMilliJoules(1));
+        assertThat(milligrams).isEqualTo(Mass.ofMilligrams(5));
+        assertThrows(UnitSystemParseException.class, () -> PARSING_FACTORY.parseAny("5 KN"));
+        assertThrows(UnitSystemParseException.class, () -> PARSING_FACTORY.parseAny("1 mW"));
+        assertThrows(UnitSystemParseException.class, () -> PARSING_FACTORY.parseAny("1 mPa"));
+        assertThrows(UnitSystemParseException.class, () -> PARSING_FACTORY.parseAny("5 Mg"));
+    }
+
+    @Test
+    @DisplayName("should parse any quantity in engineering format with brackets and parentheses")
+    void parseAny_shouldParseEngineeringFormatWithBracketsAndParentheses() {
+        // Given
+        SupportedQuantitiesRegistry quantitiesRegistry = SupportedQuantitiesRegistry.getInstance();
+        Set<Class<PhysicalQuantity<Unit>>> registeredClasses = PARSING_FACTORY.findAllRegisteredClasses();
+
+        // When
+        PhysicalQuantity<?> attachedBrackets = PARSING_FACTORY.parseAny("20.0[°C]");
+        PhysicalQuantity<?> separatedBrackets = PARSING_FACTORY.parseAny("20.0 [°C]");
+        PhysicalQuantity<?> parenthesizedValue = PARSING_FACTORY.parseAny("(20) [°C]");
+        PhysicalQuantity<?> parenthesizedSymbol = PARSING_FACTORY.parseAny("20 (°C)");
+        PhysicalQuantity<?> pressure = PARSING_FACTORY.parseAny("12 [kPa]");
+        PhysicalQuantity<?> thermalConductivity = PARSING_FACTORY.parseAny("0.5 [W/(m·K)]");
+
+        // Then
+        assertThat(attachedBrackets).isEqualTo(Temperature.ofCelsius(20));
+        assertThat(separatedBrackets).isEqualTo(Temperature.ofCelsius(20));
+        assertThat(parenthesizedValue).isEqualTo(Temperature.ofCelsius(20));
+        assertThat(parenthesizedSymbol).isEqualTo(Temperature.ofCelsius(20));
+        assertThat(pressure).isEqualTo(Pressure.ofKiloPascal(12));
+        assertThat(thermalConductivity).isEqualTo(ThermalConductivity.ofWattsPerMeterKelvin(0.5));
+        for (Class<PhysicalQuantity<Unit>> quantityClass : registeredClasses) {
+            for (Unit unit : quantitiesRegistry.findUnitsByClass(quantityClass)) {
+                if (unit.getSymbol().isBlank()) {
+                    continue;
+                }
+                String input = PARSING_FACTORY.parseValueAndSymbol(quantityClass, -12.5, unit.getSymbol()).toEngineeringFormat();
+                assertThat(PARSING_FACTORY.parseAny(input).toEngineeringFormat())
+                        .as("class = %s, input = %s", quantityClass.getSimpleName(), input)
+                        .isEqualTo(input);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("should detect quantities of custom classes registered in parsing factory when parsing any quantity")
+    void parseAny_shouldDetectCustomQuantitiesRegisteredInFactory() {
+        // Given
+        PhysicalQuantityParsingFactory customParsingFactory = new CustomAngleParsingFactory(PARSING_FACTORY);
+
+        // When
+        PhysicalQuantity<?> customAngle = customParsingFactory.parseAny("2 [rev]");
+        PhysicalQuantity<?> pressure = customParsingFactory.parseAny("12 kPa");
+
+        // Then
+        assertThat(customAngle).isInstanceOf(CustomAngle.class);
+        assertThat(customAngle.getUnit()).isEqualTo(CustomAngleUnits.REVOLUTIONS);
+        assertThat(customAngle.getValue()).isEqualTo(2);
+        assertThat(pressure).isEqualTo(Pressure.ofKiloPascal(12));
+        assertThrows(UnitSystemParseException.class, () -> PARSING_FACTORY.parseAny("2 [rev]"));
+    }
+
+    @Test
+    @DisplayName("should resolve symbols of all units the same way as parsing registry")
+    void parse_shouldResolveAllUnitSymbolsSameAsParsingRegistry() {
+        // Given
+        SupportedQuantitiesRegistry quantitiesRegistry = SupportedQuantitiesRegistry.getInstance();
+        Set<Class<PhysicalQuantity<Unit>>> registeredClasses = PARSING_FACTORY.findAllRegisteredClasses();
+
+        // Then
+        for (Class<PhysicalQuantity<Unit>> quantityClass : registeredClasses) {
+            for (Unit unit : quantitiesRegistry.findUnitsByClass(quantityClass)) {
+                String symbol = unit.getSymbol();
+                if (symbol.isBlank()) {
+                    continue;
+                }
+                PhysicalQuantity<Unit> expectedQuantity = PARSING_FACTORY.parseValueAndSymbol(quantityClass, -12.5E-3, symbol);
+                assertThat(PARSING_FACTORY.parse(quantityClass, "-12.5e-3 " + symbol))
+                        .as("class = %s, symbol = %s", quantityClass.getSimpleName(), symbol)
+                        .isEqualTo(expectedQuantity);
+                assertThat(PARSING_FACTORY.parse(quantityClass, "-0,0125[" + symbol.toUpperCase() + "]").getUnit())
+                        .as("class = %s, symbol = %s", quantityClass.getSimpleName(), symbol)
+                        .isEqualTo(PARSING_FACTORY.parseValueAndSymbol(quantityClass, 0, symbol.toUpperCase()).getUnit());
+            }
+        }
+        assertThat(PARSING_FACTORY.parse(Pressure.class, "+1e3pa")).isEqualTo(Pressure.ofPascal(1000));
+        assertThat(PARSING_FACTORY.parse(Temperature.class, "20")).isEqualTo(Temperature.ofKelvins(20));
+        assertThrows(UnitSystemParseException.class, () -> PARSING_FACTORY.parse(Pressure.class, "1e unknown"));
+        assertThrows(UnitSystemParseException.class, () -> PARSING_FACTORY.parse(Pressure.class, "1.5.5 pa"));
+    }
+
+    @Test
+    @DisplayName("should try to parse quantities and report error codes without throwing exceptions")
+    void tryParse_shouldReturnResultWithErrorCodeForInvalidInput() {
+        // Given
+        SupportedQuantitiesRegistry quantitiesRegistry = SupportedQuantitiesRegistry.getInstance();
+        Set<Class<PhysicalQuantity<Unit>>> registeredClasses = PARSING_FACTORY.findAllRegisteredClasses();
+
+        // When
+        ParseResult<Pressure> pressureResult = PARSING_FACTORY.tryParse(Pressure.class, "1,5 [kPa]");
+        ParseResult<Temperature> defaultUnitResult = PARSING_FACTORY.tryParse(Temperature.class, "20");
+        ParseResult<Latitude> latitudeResult = PARSING_FACTORY.tryParse(Latitude.class, "52°14'5.123\"N");
+
+        // Then
+        assertThat(pressureResult.isSuccess()).isTrue();
+        assertThat(pressureResult.getValue()).isEqualTo(Pressure.ofKiloPascal(1.5));
+        assertThat(pressureResult.getErrorCode()).isNull();
+        assertThat(defaultUnitResult.toOptional()).contains(Temperature.ofKelvins(20));
+        assertThat(latitudeResult.getValue()).isEqualTo(PARSING_FACTORY.parse(Latitude.class, "52°14'5.123\"N"));
+        for (Class<PhysicalQuantity<Unit>> quantityClass : registeredClasses) {
+            for (Unit unit : quantitiesRegistry.findUnitsByClass(quantityClass)) {
+                String input = "-12.5e-3 " + unit.getSymbol();
+                assertThat(PARSING_FACTORY.tryParse(quantityClass, input).getValue())
+                        .as("class = %s, input = %s", quantityClass.getSimpleName(), input)
+                        .isEqualTo(PARSING_FACTORY.parse(quantityClass, input));
+            }
+        }
+
+        assertThat(PARSING_FACTORY.tryParse(Pressure.class, " ").getErrorCode()).isEqualTo(ParseErrorCode.BLANK_INPUT);
+        assertThat(PARSING_FACTORY.tryParse(Pressure.class, null).getErrorCode()).isEqualTo(ParseErrorCode.BLANK_INPUT);
+        assertThat(PARSING_FACTORY.tryParse(Pressure.class, "abc pa").getErrorCode()).isEqualTo(ParseErrorCode.INVALID_NUMBER);
+        assertThat(PARSING_FACTORY.tryParse(Pressure.class, "-.e5").getErrorCode()).isEqualTo(ParseErrorCode.INVALID_NUMBER);
+        assertThat(PARSING_FACTORY.tryParse(Pressure.class, "1e unknown").getErrorCode()).isEqualTo(ParseErrorCode.UNSUPPORTED_SYMBOL);
+        assertThat(PARSING_FACTORY.tryParse(Pressure.class, "1.5.5 pa").getErrorCode()).isEqualTo(ParseErrorCode.UNSUPPORTED_SYMBOL);
+        assertThat(PARSING_FACTORY.tryParse(Latitude.class, "21°4'3.986\"W").getErrorCode()).isEqualTo(ParseErrorCode.INVALID_HEMISPHERE);
+        assertThat(PARSING_FACTORY.tryParse(TestClass.class, "20C").getErrorCode()).isEqualTo(ParseErrorCode.CLASS_NOT_SUPPORTED);
+        ParseResult<Pressure> failedResult = PARSING_FACTORY.tryParse(Pressure.class, "1 unknown");
+        assertThat(failedResult).isSameAs(PARSING_FACTORY.tryParse(Pressure.class, "2 other"));
+        assertThat(failedResult.toOptional()).isEmpty();
+        assertThat(failedResult.orElse(Pressure.ofPascal(0))).isEqualTo(Pressure.ofPascal(0));
+        assertThrows(UnitSystemParseException.class, failedResult::getValue);
+    }
+
+    @Test
+    @DisplayName("should map parse exceptions to error codes by default when trying to parse quantities")
+    void tryParse_shouldMapParseExceptionsToErrorCodesByDefault() {
+        // Given
+        PhysicalQuantityParsingFactory delegatingFactory = new DelegatingParsingFactory(PARSING_FACTORY);
+
+        // When
+        ParseResult<Pressure> pressureResult = delegatingFactory.tryParse(Pressure.class, "1,5 [kPa]");
+
+        // Then
+        assertThat(pressureResult.getValue()).isEqualTo(Pressure.ofKiloPascal(1.5));
+        assertThat(delegatingFactory.tryParse(Pressure.class, " ").getErrorCode()).isEqualTo(ParseErrorCode.BLANK_INPUT);
+        assertThat(delegatingFactory.tryParse(Pressure.class, null).getErrorCode()).isEqualTo(ParseErrorCode.BLANK_INPUT);
+        assertThat(delegatingFactory.tryParse(Pressure.class, "abc pa").getErrorCode()).isEqualTo(ParseErrorCode.INVALID_NUMBER);
+        assertThat(delegatingFactory.tryParse(Pressure.class, "-.e5").getErrorCode()).isEqualTo(ParseErrorCode.INVALID_NUMBER);
+        assertThat(delegatingFactory.tryParse(Pressure.class, "1e unknown").getErrorCode()).isEqualTo(ParseErrorCode.UNSUPPORTED_SYMBOL);
+        assertThat(delegatingFactory.tryParse(TestClass.class, "20C").getErrorCode()).isEqualTo(ParseErrorCode.CLASS_NOT_SUPPORTED);
+    }
+
+    @Test
+    @DisplayName("should parse quantities from ranges of char sequences and from UTF-8 encoded byte buffers")
+    void parse_shouldParseFromCharSequenceRangeAndByteBuffer() {
+        // Given
+        String line = "t1=20.5 °C;p1=1,5 [kPa];v1=3 m³/h;lat=52°14'5.123\"N";
+        CharBuffer charBuffer = CharBuffer.wrap(line.toCharArray());
+        byte[] lineBytes = line.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer byteBuffer = ByteBuffer.wrap(lineBytes);
+        int temperatureStart = line.indexOf('=') + 1;
+        int temperatureEnd = line.indexOf(';');
+        int temperatureBytesEnd = temperatureEnd + 1; // "°" is encoded with two bytes
+        int latitudeBytesStart = lineBytes.length - "52°14'5.123\"N".getBytes(StandardCharsets.UTF_8).length;
+
+        // When
+        Temperature temperatureFromString = PARSING_FACTORY.parse(Temperature.class, line, temperatureStart, temperatureEnd);
+        Pressure pressureFromBuilder = PARSING_FACTORY.parse(Pressure.class, new StringBuilder(line), line.indexOf("1,5"), line.indexOf(";v1"));
+        VolumetricFlow flowFromCharBuffer = PARSING_FACTORY.parse(VolumetricFlow.class, charBuffer, line.indexOf("3 m"), line.indexOf(";lat"));
+        Latitude latitudeFromBytes = PARSING_FACTORY.parse(Latitude.class, byteBuffer.duplicate().position(latitudeBytesStart));
+        Temperature temperatureFromBytes = PARSING_FACTORY.parse(Temperature.class, byteBuffer.limit(temperatureBytesEnd).position(temperatureStart));
+
+        // Then
+        assertThat(temperatureFromString).isEqualTo(Temperature.ofCelsius(20.5));
+        assertThat(pressureFromBuilder).isEqualTo(Pressure.ofKiloPascal(1.5));
+        assertThat(flowFromCharBuffer).isEqualTo(VolumetricFlow.ofCubicMetersPerHour(3));
+        assertThat(latitudeFromBytes).isEqualTo(PARSING_FACTORY.parse(Latitude.class, "52°14'5.123\"N"));
+        assertThat(temperatureFromBytes).isEqualTo(Temperature.ofCelsius(20.5));
+        assertThat(byteBuffer.position()).isEqualTo(temperatureStart);
+        assertThrows(UnitSystemParseException.class, () -> PARSING_FACTORY.parse(Temperature.class, ByteBuffer.wrap(new byte[]{'2', (byte) 0xC2})));
+        assertThrows(UnitSystemParseException.class, () -> PARSING_FACTORY.parse(Temperature.class, ByteBuffer.wrap(new byte[]{'2', (byte) 0xC0, (byte) 0x80})));
+        assertThrows(IndexOutOfBoundsException.class, () -> PARSING_FACTORY.parse(Temperature.class, line, 5, line.length() + 1));
+        UnitSystemParseException exception = assertThrows(UnitSystemParseException.class,
+                () -> PARSING_FACTORY.parse(Latitude.class, new StringBuilder("21°4'3.986\"W"), 0, 12));
+        PARSING_FACTORY.parse(Pressure.class, "1 kPa");
+        assertThat(exception.getMessage()).endsWith("21°4'3.986\"w");
+    }
+
+    @Test
+    @DisplayName("should parse ranges of char sequences and UTF-8 encoded byte buffers by default")
+    void parse_shouldParseFromCharSequenceRangeAndByteBufferByDefault() {
+        // Given
+        PhysicalQuantityParsingFactory delegatingFactory = new DelegatingParsingFactory(PARSING_FACTORY);
+        String line = "t1=20.5 °C;p1=1,5 [kPa]";
+        ByteBuffer byteBuffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+        int pressureBytesStart = line.indexOf("1,5") + 1; // "°" is encoded with two bytes
+
+        // When
+        Temperature temperatureFromString = delegatingFactory.parse(Temperature.class, line, 3, line.indexOf(';'));
+        Pressure pressureFromBytes = delegatingFactory.parse(Pressure.class, byteBuffer.position(pressureBytesStart));
+
+        // Then
+        assertThat(temperatureFromString).isEqualTo(Temperature.ofCelsius(20.5));
+        assertThat(pressureFromBytes).isEqualTo(Pressure.ofKiloPascal(1.5));
+        assertThat(byteBuffer.position()).isEqualTo(pressureBytesStart);
+        assertThrows(UnitSystemParseException.class, () -> delegatingFactory.parse(Temperature.class, ByteBuffer.wrap(new byte[]{'2', (byte) 0xC2})));
+        assertThrows(IndexOutOfBoundsException.class, () -> delegatingFactory.parse(Temperature.class, line, 5, line.length() + 1));
+    }
+
+    /**
+     * Parsing factory implementing only abstract methods, created to test default methods of the interface.
+     */
+    static class DelegatingParsingFactory implements PhysicalQuantityParsingFactory {
+
+        private final PhysicalQuantityParsingFactory delegate;
+
+        DelegatingParsingFactory(PhysicalQuantityParsingFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Map<Class<?>, BiFunction<Double, String, ? extends PhysicalQuantity<?>>> getClassRegistry() {
+            return delegate.getClassRegistry();
+        }
+
+        @Override
+        public <U extends Unit, Q extends PhysicalQuantity<U>> Q parse(Class<Q> targetClass, String quantityInEngFormat) {
+            return delegate.parse(targetClass, quantityInEngFormat);
+        }
+
+        @Override
+        public <U extends Unit, Q extends PhysicalQuantity<U>> Q parseValueAndSymbol(Class<Q> targetClass, double value, String symbolAsString) {
+            return delegate.parseValueAndSymbol(targetClass, value, symbolAsString);
+        }
+
+        @Override
+        public <U extends Unit, Q extends PhysicalQuantity<U>> U getDefaultUnit(Class<Q> targetClass) {
+            return delegate.getDefaultUnit(targetClass);
+        }
+
+        @Override
+        public <U extends Unit, Q extends PhysicalQuantity<U>> Q parseValueWithDefaultUnit(Class<Q> targetClass, double value) {
+            return delegate.parseValueWithDefaultUnit(targetClass, value);
+        }
+
+        @Override
+        public boolean containsClass(Class<?> targetClass) {
+            return delegate.containsClass(targetClass);
+        }
+
+        @Override
+        public <U extends Unit, Q extends PhysicalQuantity<U>> Set<Class<Q>> findAllRegisteredClasses() {
+            return delegate.findAllRegisteredClasses();
+        }
+
+        @Override
+        public Map<Class<?>, Unit> getDefaultUnitRegistry() {
+            return delegate.getDefaultUnitRegistry();
+        }
+    }
+
+    /**
+     * Parsing factory registering a custom quantity class in addition to classes of the delegate, created to test
+     * detection of custom quantities.
+     */
+    static class CustomAngleParsingFactory extends DelegatingParsingFactory {
+
+        private final Map<Class<?>, BiFunction<Double, String, ? extends PhysicalQuantity<?>>> classRegistry;
+        private final Map<Class<?>, Unit> defaultUnitRegistry;
+
+        CustomAngleParsingFactory(PhysicalQuantityParsingFactory delegate) {
+            super(delegate);
+            Map<Class<?>, BiFunction<Double, String, ? extends PhysicalQuantity<?>>> customClassRegistry = new HashMap<>(delegate.getClassRegistry());
+            customClassRegistry.put(CustomAngle.class, CustomAngle::of);
+            Map<Class<?>, Unit> customDefaultUnitRegistry = new HashMap<>(delegate.getDefaultUnitRegistry());
+            customDefaultUnitRegistry.put(CustomAngle.class, CustomAngleUnits.REVOLUTIONS);
+            this.classRegistry = Map.copyOf(customClassRegistry);
+            this.defaultUnitRegistry = Map.copyOf(customDefaultUnitRegistry);
+        }
+
+        @Override
+        public Map<Class<?>, BiFunction<Double, String, ? extends PhysicalQuantity<?>>> getClassRegistry() {
+            return classRegistry;
+        }
+
+        @Override
+        public Map<Class<?>, Unit> getDefaultUnitRegistry() {
+            return defaultUnitRegistry;
+        }
+
+        @Override
+        public boolean containsClass(Class<?> targetClass) {
+            return classRegistry.containsKey(targetClass);
+        }
+
+        @Override
+        public <U extends Unit, Q extends PhysicalQuantity<U>> Q parseValueWithDefaultUnit(Class<Q> targetClass, double value) {
+            if (targetClass == CustomAngle.class) {
+                return targetClass.cast(CustomAngle.of(value, CustomAngleUnits.REVOLUTIONS));
+            }
+            return super.parseValueWithDefaultUnit(targetClass, value);
+        }
+    }
+
 }
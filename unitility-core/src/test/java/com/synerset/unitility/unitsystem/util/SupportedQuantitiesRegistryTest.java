@@ -2,6 +2,16 @@ package com.synerset.unitility.unitsystem.util;
 
 import com.synerset.unitility.unitsystem.PhysicalQuantity;
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.common.Area;
+import com.synerset.unitility.unitsystem.common.Diameter;
+import com.synerset.unitility.unitsystem.common.Distance;
+import com.synerset.unitility.unitsystem.common.DistanceUnits;
+import com.synerset.unitility.unitsystem.common.Length;
+import com.synerset.unitility.unitsystem.common.Width;
+import com.synerset.unitility.unitsystem.geographic.GeoDistance;
+import com.synerset.unitility.unitsystem.hydraulic.AbsoluteRoughness;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.PressureUnits;
 import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
 import com.synerset.unitility.unitsystem.thermodynamic.TemperatureUnits;
 import org.junit.jupiter.api.DisplayName;
@@ -12,6 +22,7 @@ import java.util.List;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class SupportedQuantitiesRegistryTest {
 
@@ -58,4 +69,29 @@ class SupportedQuantitiesRegistryTest {
         assertThat(physicalQuantityInfo.supportedUnits()).extracting(PhysicalUnitInfo::unitSymbol).containsAll(temperatureSymbols);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Supported quantity registry: should find cached units and indexed quantities by symbol and base unit")
+    void findQuantityUnitsBySymbol_shouldFindIndexedQuantitiesAndUnits() {
+        // Given
+        // When
+        List<Unit> temperatureUnits = QUANTITY_REGISTRY.findUnitsByClass(Temperature.class);
+        List<PhysicalQuantityUnit> meterQuantityUnits = QUANTITY_REGISTRY.findQuantityUnitsBySymbol("m");
+        List<PhysicalQuantityUnit> kiloPascalQuantityUnits = QUANTITY_REGISTRY.findQuantityUnitsBySymbol("kPa");
+        List<Class<?>> meterBasedQuantities = QUANTITY_REGISTRY.findQuantityClassesByBaseUnit(DistanceUnits.METER);
+
+        // Then
+        assertThat(temperatureUnits).containsExactly(TemperatureUnits.values())
+                .isSameAs(QUANTITY_REGISTRY.findUnitsByClass(Temperature.class));
+        assertThat(QUANTITY_REGISTRY.findAllSupportedQuantities()).isSameAs(QUANTITY_REGISTRY.findAllSupportedQuantities());
+        assertThat(meterQuantityUnits).extracting(PhysicalQuantityUnit::unit).containsOnly(DistanceUnits.METER);
+        assertThat(meterQuantityUnits).extracting(PhysicalQuantityUnit::quantityClass)
+                .contains(Distance.class, Length.class, Width.class, GeoDistance.class);
+        assertThat(kiloPascalQuantityUnits).containsExactly(new PhysicalQuantityUnit(Pressure.class, PressureUnits.KILOPASCAL));
+        assertThat(meterBasedQuantities).contains(Distance.class, Diameter.class, AbsoluteRoughness.class)
+                .doesNotContain(Temperature.class, Area.class);
+        assertThat(QUANTITY_REGISTRY.findQuantityUnitsBySymbol("unknown")).isEmpty();
+        assertThat(QUANTITY_REGISTRY.findUnitsByClass(String.class)).isEmpty();
+        assertThatThrownBy(() -> temperatureUnits.add(TemperatureUnits.KELVIN)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+}
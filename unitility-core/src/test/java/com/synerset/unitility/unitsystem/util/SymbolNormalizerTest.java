@@ -0,0 +1,122 @@
+package com.synerset.unitility.unitsystem.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SymbolNormalizerTest {
+
+    private static final String ALPHABET = " _.,·x*/^°³²₂⁻¹²³()[]{}<>-\\degradianominsecwvdacfm1ps KGM\tkPa";
+
+    @ParameterizedTest
+    @ValueSource(strings = {" °C ", "DEG", "kg·m/s", "m³/h", "W/(m·K)", "gal/min_UK", "ft3pmin", "rad/s", "ddegg",
+            "radiann", "g/kg.wv", "dada", "1,25", "rpm/gpm", "s⁻¹", "^m-3", "\t 10 PSI \n", "", "   "})
+    @DisplayName("should normalize symbols the same way as StringTransformer chains")
+    void normalize_shouldBeEquivalentToStringTransformerChains(String input) {
+        // Given
+        List<Chain> chains = allChains();
+
+        // Then
+        for (Chain chain : chains) {
+            assertThat(chain.normalizer.normalize(input))
+                    .as("Input: [%s]", input)
+                    .isEqualTo(chain.transformer.apply(input));
+        }
+    }
+
+    @Test
+    @DisplayName("should normalize randomly generated inputs the same way as StringTransformer chains")
+    void normalize_shouldBeEquivalentToStringTransformerChainsForRandomInputs() {
+        // Given
+        Random random = new Random(42);
+        List<Chain> chains = allChains();
+
+        // Then
+        for (int i = 0; i < 5_000; i++) {
+            int length = random.nextInt(12);
+            StringBuilder inputBuilder = new StringBuilder(length);
+            for (int j = 0; j < length; j++) {
+                inputBuilder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            String input = inputBuilder.toString();
+            for (Chain chain : chains) {
+                assertThat(chain.normalizer.normalize(input))
+                        .as("Input: [%s]", input)
+                        .isEqualTo(chain.transformer.apply(input));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("should normalize range of input and append result to provided buffer")
+    void normalize_shouldAppendNormalizedRangeToBuffer() {
+        // Given
+        SymbolNormalizer normalizer = SymbolNormalizer.builder()
+                .trimLowerAndClean()
+                .unifyMultiAndDiv()
+                .build();
+        StringBuilder output = new StringBuilder("symbol=");
+
+        // When
+        normalizer.normalize("12.5 KG / S ", 4, 12, output);
+
+        // Then
+        assertThat(output).hasToString("symbol=kgps");
+    }
+
+    @Test
+    @DisplayName("should throw exception when trimLowerAndClean is not the first step")
+    void builder_shouldThrowException_whenTrimIsNotFirstStep() {
+        // Given
+        SymbolNormalizer.Builder builder = SymbolNormalizer.builder().dropHyphens();
+
+        // Then
+        assertThatThrownBy(builder::trimLowerAndClean).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static List<Chain> allChains() {
+        return List.of(
+                new Chain(SymbolNormalizer.builder().trimLowerAndClean().build(),
+                        input -> StringTransformer.of(input).trimLowerAndClean().toString()),
+                new Chain(SymbolNormalizer.builder().trimLowerAndClean().dropDegreeSymbols().build(),
+                        input -> StringTransformer.of(input).trimLowerAndClean().dropDegreeSymbols().toString()),
+                new Chain(SymbolNormalizer.builder().trimLowerAndClean().unifySymbolsOfAngle().unifyMultiAndDiv().build(),
+                        input -> StringTransformer.of(input).trimLowerAndClean().unifySymbolsOfAngle().unifyMultiAndDiv().toString()),
+                new Chain(SymbolNormalizer.builder().trimLowerAndClean().unifyMultiAndDiv().dropParentheses().unifySymbolsOfAngle().build(),
+                        input -> StringTransformer.of(input).trimLowerAndClean().unifyMultiAndDiv().dropParentheses().unifySymbolsOfAngle().toString()),
+                new Chain(SymbolNormalizer.builder().trimLowerAndClean().unifyMultiAndDiv().dropParentheses().dropDegreeSymbols().build(),
+                        input -> StringTransformer.of(input).trimLowerAndClean().unifyMultiAndDiv().dropParentheses().dropDegreeSymbols().toString()),
+                new Chain(SymbolNormalizer.builder().trimLowerAndClean().dropWvAndDaSuffixes().unifyMultiAndDiv().build(),
+                        input -> StringTransformer.of(input).trimLowerAndClean().dropWvAndDaSuffixes().unifyMultiAndDiv().toString()),
+                new Chain(SymbolNormalizer.builder().trimLowerAndClean().unifyMultiAndDiv().unifyAerialAndVol().replace("cfm", "ft3pmin").build(),
+                        input -> StringTransformer.of(input).trimLowerAndClean().unifyMultiAndDiv().unifyAerialAndVol().replace("cfm", "ft3pmin").toString()),
+                new Chain(SymbolNormalizer.builder().trimLowerAndClean().replace("1/s", "s-1").replace("1ps", "s-1").unifyAerialAndVol()
+                        .dropParentheses().unifyNegativeExponents().unifyMultiAndDiv().build(),
+                        input -> StringTransformer.of(input).trimLowerAndClean().replace("1/s", "s-1").replace("1ps", "s-1").unifyAerialAndVol()
+                                .dropParentheses().unifyNegativeExponents().unifyMultiAndDiv().toString()),
+                new Chain(SymbolNormalizer.builder().trimLowerAndClean().replaceCommaForDot().dropParentheses().build(),
+                        input -> StringTransformer.of(input).trimLowerAndClean().replaceCommaForDot().dropParentheses().toString()),
+                new Chain(SymbolNormalizer.builder().trimLowerAndClean().dropHyphens().dropSquareBrackets().build(),
+                        input -> StringTransformer.of(input).trimLowerAndClean().dropHyphens().dropSquareBrackets().toString())
+        );
+    }
+
+    private static final class Chain {
+        private final SymbolNormalizer normalizer;
+        private final UnaryOperator<String> transformer;
+
+        private Chain(SymbolNormalizer normalizer, UnaryOperator<String> transformer) {
+            this.normalizer = normalizer;
+            this.transformer = transformer;
+        }
+    }
+
+}
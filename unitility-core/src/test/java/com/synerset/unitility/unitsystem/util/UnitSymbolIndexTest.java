@@ -0,0 +1,109 @@
+package com.synerset.unitility.unitsystem.util;
+
+import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.common.AngleUnits;
+import com.synerset.unitility.unitsystem.common.RatioUnits;
+import com.synerset.unitility.unitsystem.common.VolumeUnits;
+import com.synerset.unitility.unitsystem.customunit.CustomAngleUnits;
+import com.synerset.unitility.unitsystem.flow.VolumetricFlowUnits;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidityUnits;
+import com.synerset.unitility.unitsystem.thermodynamic.PressureUnit;
+import com.synerset.unitility.unitsystem.thermodynamic.PressureUnits;
+import com.synerset.unitility.unitsystem.thermodynamic.TemperatureUnits;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UnitSymbolIndexTest {
+
+    @Test
+    @DisplayName("should resolve each unit symbol to the first unit with the same normalized symbol")
+    void find_shouldResolveSymbolsInEnumOrder() {
+        // Given
+        SymbolNormalizer normalizer = PressureUnits.symbolIndex().getNormalizer();
+
+        // Then
+        for (PressureUnits unit : PressureUnits.values()) {
+            String normalizedSymbol = normalizer.normalize(unit.getSymbol());
+            PressureUnits expectedUnit = null;
+            for (PressureUnits candidate : PressureUnits.values()) {
+                if (normalizer.normalize(candidate.getSymbol()).equals(normalizedSymbol)) {
+                    expectedUnit = candidate;
+                    break;
+                }
+            }
+            assertThat(PressureUnits.symbolIndex().find(unit.getSymbol())).isEqualTo(expectedUnit);
+            assertThat(PressureUnits.fromSymbol(" " + unit.getSymbol().toUpperCase() + " ")).isEqualTo(expectedUnit);
+        }
+        assertThat(VolumeUnits.fromSymbol("ft³")).isEqualTo(VolumeUnits.CUBIC_FEET);
+    }
+
+    @Test
+    @DisplayName("should try to find unit by symbol without throwing exception for unsupported symbols")
+    void tryFromSymbol_shouldReturnEmptyOptionalForUnsupportedSymbol() {
+        // Then
+        assertThat(PressureUnits.tryFromSymbol("kPa")).contains(PressureUnits.KILOPASCAL);
+        assertThat(PressureUnits.tryFromSymbol(" ")).contains(PressureUnits.PASCAL);
+        assertThat(PressureUnits.tryFromSymbol("unknown")).isEmpty();
+        assertThat(TemperatureUnits.tryFromSymbol("°C")).contains(TemperatureUnits.CELSIUS);
+    }
+
+    @Test
+    @DisplayName("should resolve aliases registered in the index")
+    void find_shouldResolveAliases() {
+        // Then
+        assertThat(AngleUnits.fromSymbol("deg")).isEqualTo(AngleUnits.DEGREES);
+        assertThat(AngleUnits.fromSymbol("o")).isEqualTo(AngleUnits.DEGREES);
+        assertThat(AngleUnits.fromSymbol("°")).isEqualTo(AngleUnits.DEGREES);
+        assertThat(VolumeUnits.fromSymbol("gal")).isEqualTo(VolumeUnits.GALLON_UK);
+        assertThat(VolumeUnits.fromSymbol("gal_US")).isEqualTo(VolumeUnits.GALLON_US);
+        assertThat(VolumetricFlowUnits.fromSymbol("gal/min")).isEqualTo(VolumetricFlowUnits.GALLONS_PER_MINUTE_UK);
+        assertThat(PressureUnits.fromSymbol("mH2O")).isEqualTo(PressureUnits.METRE_OF_WATER_10);
+        assertThat(PressureUnits.fromSymbol("mmHg")).isEqualTo(PressureUnits.MILLIMETRE_OF_MERCURY_10);
+    }
+
+    @Test
+    @DisplayName("should find unit by symbol within a range of input and return null for unknown symbols")
+    void find_shouldFindSymbolInRange() {
+        // Given
+        String input = "20.5 °C";
+
+        // When
+        TemperatureUnits actualUnit = TemperatureUnits.symbolIndex().find(input, 4, input.length());
+        TemperatureUnits actualUnknownUnit = TemperatureUnits.symbolIndex().find("kPa");
+
+        // Then
+        assertThat(actualUnit).isEqualTo(TemperatureUnits.CELSIUS);
+        assertThat(actualUnknownUnit).isNull();
+    }
+
+    @Test
+    @DisplayName("should provide symbol index of unit type by each built-in unit and none by custom units")
+    void getSymbolIndex_shouldProvideIndexOfUnitType() {
+        // Then
+        for (PressureUnits unit : PressureUnits.values()) {
+            assertThat(unit.getSymbolIndex()).isSameAs(PressureUnits.symbolIndex());
+        }
+        assertThat(TemperatureUnits.CELSIUS.getSymbolIndex()).isSameAs(TemperatureUnits.symbolIndex());
+        assertThat(CustomAngleUnits.values()[0].getSymbolIndex()).isNull();
+    }
+
+    @Test
+    @DisplayName("should find units of all quantities matching symbol in global index")
+    void findUnits_shouldFindUnitsOfAllQuantities() {
+        // When
+        List<Unit> actualPercentUnits = GlobalUnitSymbolIndex.findUnits(" % ");
+        PressureUnit actualPressureUnit = GlobalUnitSymbolIndex.findUnit("KPA", PressureUnit.class);
+        List<Unit> actualDegreeUnits = GlobalUnitSymbolIndex.findUnits("deg");
+
+        // Then
+        assertThat(actualPercentUnits).containsExactly(RatioUnits.PERCENT, RelativeHumidityUnits.PERCENT);
+        assertThat(actualPressureUnit).isEqualTo(PressureUnits.KILOPASCAL);
+        assertThat(actualDegreeUnits).contains(AngleUnits.DEGREES);
+        assertThat(GlobalUnitSymbolIndex.findUnits("unknown")).isEmpty();
+    }
+
+}
@@ -1,10 +1,16 @@
 package com.synerset.unitility.unitsystem.util;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.util.Random;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -61,4 +67,68 @@ class ValueFormatterTest {
         assertThat(actualFormattedDoubleAsString).isEqualTo(expectedFormattedDoubleAsString);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("should format values the same way as HALF_EVEN decimal format with relevant digits")
+    void toStringWithRelevantDigits_shouldBeEquivalentToDecimalFormat() {
+        // Given
+        Random random = new Random(42);
+        double[] specialValues = {0.0, -0.0, 0.5, 1.5, 2.5, -2.5, 0.125, 0.375, -0.0625, 1.005, 2.675, 0.045,
+                1E15, 123456789012.5, 1E-300, Double.MIN_VALUE, Double.MAX_VALUE, Double.NaN,
+                Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, -0.0004, -0.49, 9.9995, 0.99999999};
+
+        // Then
+        for (double value : specialValues) {
+            for (int relevantDigits = -4; relevantDigits <= 12; relevantDigits++) {
+                assertThat(ValueFormatter.toStringWithRelevantDigits(value, relevantDigits))
+                        .as("value = %s, relevant digits = %d", value, relevantDigits)
+                        .isEqualTo(formatWithDecimalFormat(value, relevantDigits));
+            }
+        }
+        for (int i = 0; i < 200_000; i++) {
+            int relevantDigits = random.nextInt(10);
+            double value = switch (i % 4) {
+                // Random magnitudes
+                case 0 -> (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(30) - 15);
+                // Short decimals, for which ties are frequent
+                case 1 -> (random.nextInt(2_000_001) - 1_000_000) / Math.pow(10, random.nextInt(8));
+                // Exact binary ties
+                case 2 -> (random.nextInt(2_000_001) - 1_000_000) / Math.pow(2, random.nextInt(12));
+                // Arbitrary bit patterns
+                default -> Double.longBitsToDouble(random.nextLong());
+            };
+            assertThat(ValueFormatter.toStringWithRelevantDigits(value, relevantDigits))
+                    .as("value = %s, relevant digits = %d", value, relevantDigits)
+                    .isEqualTo(formatWithDecimalFormat(value, relevantDigits));
+        }
+    }
+
+    @Test
+    @DisplayName("should append formatted value to string builder and appendable")
+    void appendWithRelevantDigits_shouldAppendToTarget() throws IOException {
+        // Given
+        StringBuilder builder = new StringBuilder("t = ");
+        StringWriter writer = new StringWriter();
+
+        // When
+        ValueFormatter.appendWithRelevantDigits(builder, 10.123556789, 3).append(';');
+        ValueFormatter.appendWithRelevantDigits(writer, -0.000000123556789, 3).append(';');
+
+        // Then
+        assertThat(builder).hasToString("t = 10.124;");
+        assertThat(writer).hasToString("-0.000000124;");
+    }
+
+    // Formatting approach used before introducing the numeric rounding
+    private static String formatWithDecimalFormat(double value, int relevantDigits) {
+        relevantDigits = Math.abs(relevantDigits);
+        int doubleScale = (int) Math.log10(Math.abs(value));
+        int numDecimalPlaces = doubleScale >= 0
+                ? relevantDigits
+                : Math.max(relevantDigits, Math.abs(doubleScale) + relevantDigits);
+        String formatString = numDecimalPlaces > 0 ? "#." + "#".repeat(numDecimalPlaces) : "#";
+        DecimalFormat decimalFormat = new DecimalFormat(formatString);
+        decimalFormat.setRoundingMode(RoundingMode.HALF_EVEN);
+        return decimalFormat.format(value);
+    }
+
+}
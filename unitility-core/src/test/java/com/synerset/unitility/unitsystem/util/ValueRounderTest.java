@@ -0,0 +1,84 @@
+package com.synerset.unitility.unitsystem.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValueRounderTest {
+
+    @Test
+    @DisplayName("should round values the same way as formatting with relevant digits and parsing back")
+    void roundHalfEven_shouldBeEquivalentToFormattingAndParsing() {
+        // Given
+        Random random = new Random(7);
+        double[] specialValues = {0.0, -0.0, 0.5, 1.5, 2.5, -2.5, 0.125, -0.0625, 1.005, 2.675, 0.045, 1E15,
+                123456789012.5, 1E-300, Double.MIN_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE, Double.NaN, -0.0004,
+                -0.49, 9.9995, 0.99999999};
+
+        // Then
+        for (double value : specialValues) {
+            for (int relevantDigits = -4; relevantDigits <= 12; relevantDigits++) {
+                assertThat(Double.doubleToLongBits(ValueRounder.roundHalfEven(value, relevantDigits)))
+                        .as("value = %s, relevant digits = %d", value, relevantDigits)
+                        .isEqualTo(Double.doubleToLongBits(roundByFormattingAndParsing(value, relevantDigits)));
+            }
+        }
+        for (int i = 0; i < 1_000_000; i++) {
+            int relevantDigits = random.nextInt(12);
+            double value = switch (i % 4) {
+                // Random magnitudes
+                case 0 -> (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(40) - 20);
+                // Short decimals, for which ties are frequent
+                case 1 -> (random.nextInt(2_000_001) - 1_000_000) / Math.pow(10, random.nextInt(8));
+                // Exact binary ties
+                case 2 -> (random.nextInt(2_000_001) - 1_000_000) / Math.pow(2, random.nextInt(12));
+                // Arbitrary bit patterns
+                default -> Double.longBitsToDouble(random.nextLong());
+            };
+            if (Double.isInfinite(value)) {
+                continue;
+            }
+            double expectedValue = roundByFormattingAndParsing(value, relevantDigits);
+            double actualValue = ValueRounder.roundHalfEven(value, relevantDigits);
+            assertThat(Double.doubleToLongBits(actualValue))
+                    .as("value = %s, relevant digits = %d, expected = %s, actual = %s", value, relevantDigits, expectedValue, actualValue)
+                    .isEqualTo(Double.doubleToLongBits(expectedValue));
+        }
+    }
+
+    @Test
+    @DisplayName("should round array values in place and return infinite values unchanged")
+    void roundHalfEven_shouldRoundArrayInPlace() {
+        // Given
+        double[] values = {10.123456, 0.153456, -10.123456, Double.POSITIVE_INFINITY, 2.5};
+
+        // When
+        double[] actualValues = ValueRounder.roundHalfEven(values, 1, values.length, 2);
+
+        // Then
+        assertThat(actualValues).isSameAs(values)
+                .containsExactly(10.123456, 0.15, -10.12, Double.POSITIVE_INFINITY, 2.5);
+        assertThat(ValueRounder.roundHalfEven(new double[]{2.5, 3.5, 0.125}, 0)).containsExactly(2, 4, 0);
+    }
+
+    // Rounding approach used before introducing the numeric rounding, with locale-independent symbols
+    private static double roundByFormattingAndParsing(double value, int relevantDigits) {
+        relevantDigits = Math.abs(relevantDigits);
+        int doubleScale = (int) Math.log10(Math.abs(value));
+        int numDecimalPlaces = doubleScale >= 0
+                ? relevantDigits
+                : Math.max(relevantDigits, Math.abs(doubleScale) + relevantDigits);
+        String formatString = numDecimalPlaces > 0 ? "#." + "#".repeat(numDecimalPlaces) : "#";
+        DecimalFormat decimalFormat = new DecimalFormat(formatString, DecimalFormatSymbols.getInstance(Locale.ROOT));
+        decimalFormat.setRoundingMode(RoundingMode.HALF_EVEN);
+        return Double.parseDouble(decimalFormat.format(value));
+    }
+
+}
@@ -1,41 +1,128 @@
 package com.synerset.unitility.jackson.module;
 
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.type.CollectionType;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.synerset.unitility.jackson.serialization.ColumnarQuantityCollectionDeserializer;
+import com.synerset.unitility.jackson.serialization.ColumnarQuantityCollectionSerializer;
+import com.synerset.unitility.jackson.serialization.GeoCoordinateDeserializer;
+import com.synerset.unitility.jackson.serialization.GeoCoordinateSerializer;
 import com.synerset.unitility.jackson.serialization.GeoDistanceDeserializer;
 import com.synerset.unitility.jackson.serialization.GeoDistanceSerializer;
 import com.synerset.unitility.jackson.serialization.PhysicalQuantityDeserializer;
+import com.synerset.unitility.jackson.serialization.PhysicalQuantityDeserializers;
 import com.synerset.unitility.jackson.serialization.PhysicalQuantitySerializer;
+import com.synerset.unitility.jackson.serialization.UnitSymbolTable;
 import com.synerset.unitility.unitsystem.PhysicalQuantity;
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.geographic.GeoCoordinate;
 import com.synerset.unitility.unitsystem.geographic.GeoDistance;
 import com.synerset.unitility.unitsystem.util.PhysicalQuantityParsingFactory;
 
 /**
  * The PhysicalQuantityJacksonModule class is a Jackson module that provides serializers and deserializers for
- * handling {@link PhysicalQuantity} instances during JSON serialization and deserialization.
+ * handling {@link PhysicalQuantity} instances during JSON serialization and deserialization. Optionally, collections of
+ * quantities can be handled in columnar form, see {@link QuantityCollectionFormat#COLUMNAR}. Columnar form applies only
+ * to collections with element type known to Jackson, such as typed fields or values written with
+ * {@code ObjectMapper.writerFor(...)}; root collections written with {@code writeValueAsString} are written per element.
  */
 public class PhysicalQuantityJacksonModule extends SimpleModule {
 
+    private final transient PhysicalQuantityDeserializers quantityDeserializers;
+
     public PhysicalQuantityJacksonModule(PhysicalQuantityParsingFactory parsingRegistry) {
+        this(parsingRegistry, QuantityCollectionFormat.PER_ELEMENT);
+    }
+
+    /**
+     * Creates the module with a given format of quantity collections.
+     *
+     * @param parsingRegistry  The parsing factory used to deserialize quantities.
+     * @param collectionFormat The format of quantity collections. {@link QuantityCollectionFormat#COLUMNAR} applies only
+     *                         when the element type is known to Jackson, for ie: typed fields or values written with
+     *                         {@code writerFor(...)}. Root collections written with {@code writeValueAsString} are
+     *                         written per element.
+     */
+    public PhysicalQuantityJacksonModule(PhysicalQuantityParsingFactory parsingRegistry, QuantityCollectionFormat collectionFormat) {
         super("PhysicalQuantityJacksonModule");
 
         /* SERIALIZERS */
         JavaType type = TypeFactory.defaultInstance().constructParametricType(PhysicalQuantity.class, Unit.class);
+        // Unit symbols are encoded once per unit type, when it is serialized for the first time
+        UnitSymbolTable unitSymbolTable = UnitSymbolTable.cached();
         // Handles all PhysicalQuantity implementations
-        addSerializer(new PhysicalQuantitySerializer(type));
+        addSerializer(new PhysicalQuantitySerializer(type, unitSymbolTable));
         // Special type
         addSerializer(new GeoDistanceSerializer(GeoDistance.class));
+        addSerializer(new GeoCoordinateSerializer(GeoCoordinate.class));
 
         /* DESERIALIZERS */
-        parsingRegistry.findAllRegisteredClasses()
-                .forEach(quantityClass -> addDeserializer(
-                        quantityClass,
-                        new PhysicalQuantityDeserializer<>(quantityClass, parsingRegistry))
-                );
+        // Quantity deserializers are created on demand, when quantity type is encountered for the first time
+        this.quantityDeserializers = new PhysicalQuantityDeserializers(parsingRegistry, PhysicalQuantityDeserializer::new);
 
         addDeserializer(GeoDistance.class, new GeoDistanceDeserializer(parsingRegistry));
+        addDeserializer(GeoCoordinate.class, new GeoCoordinateDeserializer());
+
+        /* COLLECTIONS */
+        if (collectionFormat == QuantityCollectionFormat.COLUMNAR) {
+            setSerializerModifier(new ColumnarCollectionSerializerModifier(unitSymbolTable));
+            setDeserializerModifier(new ColumnarCollectionDeserializerModifier(parsingRegistry));
+        }
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        context.addDeserializers(quantityDeserializers);
+    }
+
+    private static final class ColumnarCollectionSerializerModifier extends BeanSerializerModifier {
+
+        private final transient UnitSymbolTable unitSymbolTable;
+
+        private ColumnarCollectionSerializerModifier(UnitSymbolTable unitSymbolTable) {
+            this.unitSymbolTable = unitSymbolTable;
+        }
+
+        @Override
+        public JsonSerializer<?> modifyCollectionSerializer(SerializationConfig config, CollectionType valueType,
+                                                            BeanDescription beanDesc, JsonSerializer<?> serializer) {
+            if (PhysicalQuantity.class.isAssignableFrom(valueType.getContentType().getRawClass())) {
+                return new ColumnarQuantityCollectionSerializer(serializer, unitSymbolTable);
+            }
+            return serializer;
+        }
+
+    }
+
+    private static final class ColumnarCollectionDeserializerModifier extends BeanDeserializerModifier {
+
+        private final transient PhysicalQuantityParsingFactory parsingFactory;
+
+        private ColumnarCollectionDeserializerModifier(PhysicalQuantityParsingFactory parsingFactory) {
+            this.parsingFactory = parsingFactory;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public JsonDeserializer<?> modifyCollectionDeserializer(DeserializationConfig config, CollectionType type,
+                                                                BeanDescription beanDesc, JsonDeserializer<?> deserializer) {
+            Class<?> contentClass = type.getContentType().getRawClass();
+            if (PhysicalQuantity.class.isAssignableFrom(contentClass) && parsingFactory.containsClass(contentClass)) {
+                return new ColumnarQuantityCollectionDeserializer(deserializer,
+                        (Class<? extends PhysicalQuantity<?>>) contentClass, parsingFactory);
+            }
+            return deserializer;
+        }
+
     }
 
 }
\ No newline at end of file
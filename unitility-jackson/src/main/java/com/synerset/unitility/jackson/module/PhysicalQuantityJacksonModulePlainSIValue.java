@@ -3,12 +3,16 @@ package com.synerset.unitility.jackson.module;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.synerset.unitility.jackson.serialization.GeoCoordinateDeserializer;
+import com.synerset.unitility.jackson.serialization.GeoCoordinateSerializer;
 import com.synerset.unitility.jackson.serialization.GeoDistanceDeserializer;
 import com.synerset.unitility.jackson.serialization.GeoDistanceSerializer;
 import com.synerset.unitility.jackson.serialization.PhysicalQuantityDeserializerPlainSiValue;
+import com.synerset.unitility.jackson.serialization.PhysicalQuantityDeserializers;
 import com.synerset.unitility.jackson.serialization.PhysicalQuantitySerializerPlainSiValue;
 import com.synerset.unitility.unitsystem.PhysicalQuantity;
 import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.geographic.GeoCoordinate;
 import com.synerset.unitility.unitsystem.geographic.GeoDistance;
 import com.synerset.unitility.unitsystem.util.PhysicalQuantityParsingFactory;
 
@@ -19,6 +23,8 @@ import com.synerset.unitility.unitsystem.util.PhysicalQuantityParsingFactory;
  */
 public class PhysicalQuantityJacksonModulePlainSIValue extends SimpleModule {
 
+    private final transient PhysicalQuantityDeserializers quantityDeserializers;
+
     public PhysicalQuantityJacksonModulePlainSIValue(PhysicalQuantityParsingFactory parsingRegistry) {
         super("PhysicalQuantityJacksonModulePlainSiValue");
 
@@ -28,15 +34,20 @@ public class PhysicalQuantityJacksonModulePlainSIValue extends SimpleModule {
         addSerializer(new PhysicalQuantitySerializerPlainSiValue(type));
         // Special type
         addSerializer(new GeoDistanceSerializer(GeoDistance.class));
+        addSerializer(new GeoCoordinateSerializer(GeoCoordinate.class));
 
         /* DESERIALIZERS */
-        parsingRegistry.findAllRegisteredClasses()
-                .forEach(quantityClass -> addDeserializer(
-                        quantityClass,
-                        new PhysicalQuantityDeserializerPlainSiValue<>(quantityClass, parsingRegistry))
-                );
+        // Quantity deserializers are created on demand, when quantity type is encountered for the first time
+        this.quantityDeserializers = new PhysicalQuantityDeserializers(parsingRegistry, PhysicalQuantityDeserializerPlainSiValue::new);
 
         addDeserializer(GeoDistance.class, new GeoDistanceDeserializer(parsingRegistry));
+        addDeserializer(GeoCoordinate.class, new GeoCoordinateDeserializer());
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        context.addDeserializers(quantityDeserializers);
     }
 
 }
\ No newline at end of file
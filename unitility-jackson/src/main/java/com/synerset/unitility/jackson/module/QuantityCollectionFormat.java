@@ -0,0 +1,27 @@
+package com.synerset.unitility.jackson.module;
+
+import com.synerset.unitility.unitsystem.PhysicalQuantity;
+
+/**
+ * JSON representation of collections of {@link PhysicalQuantity} instances, used by {@link PhysicalQuantityJacksonModule}.
+ */
+public enum QuantityCollectionFormat {
+
+    /**
+     * Each quantity is written as a separate object, for ie: [{"value":20.0,"unit":"°C"},{"value":21.0,"unit":"°C"}].
+     */
+    PER_ELEMENT,
+
+    /**
+     * Collections of quantities of the same type are written with a single unit symbol and an array of values,
+     * converted to the unit of the first element when needed, for ie: {"unit":"°C","values":[20.0,21.0]}. Collections
+     * containing null elements or different quantity types are written per element. Both forms are accepted when reading.
+     * <p>
+     * Columnar form requires the element type to be known to Jackson, for ie: a field declared as
+     * {@code List<Temperature>} or a root value written with {@code writerFor(new TypeReference<List<Temperature>>() {})}.
+     * Due to type erasure, a root collection written with {@code writeValueAsString(List.of(...))} is written per
+     * element.
+     */
+    COLUMNAR
+
+}
@@ -0,0 +1,125 @@
+package com.synerset.unitility.jackson.serialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.ValueInstantiator;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.synerset.unitility.unitsystem.PhysicalQuantity;
+import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.util.PhysicalQuantityParsingFactory;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * The ColumnarQuantityCollectionDeserializer class is a Jackson JSON deserializer for collections of
+ * {@link PhysicalQuantity} instances, which accepts both columnar form, for ie: {"unit":"°C","values":[20.0,21.5]},
+ * and default per-element array form, which is handled by the wrapped default collection deserializer. The unit symbol
+ * of columnar form is resolved only once, for the first value, other quantities are created with the same unit.
+ */
+public class ColumnarQuantityCollectionDeserializer extends DelegatingDeserializer {
+
+    private final Class<? extends PhysicalQuantity<?>> quantityClass;
+    private final transient PhysicalQuantityParsingFactory parsingFactory;
+
+    public ColumnarQuantityCollectionDeserializer(JsonDeserializer<?> defaultDeserializer,
+                                                  Class<? extends PhysicalQuantity<?>> quantityClass,
+                                                  PhysicalQuantityParsingFactory parsingFactory) {
+        super(defaultDeserializer);
+        this.quantityClass = quantityClass;
+        this.parsingFactory = parsingFactory;
+    }
+
+    @Override
+    protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+        return new ColumnarQuantityCollectionDeserializer(newDelegatee, quantityClass, parsingFactory);
+    }
+
+    /**
+     * Deserializes a JSON representation to a collection of {@link PhysicalQuantity} instances. Objects are read in
+     * columnar form, all other representations are delegated to the default collection deserializer.
+     *
+     * @param jsonParser             The {@link JsonParser} used to read JSON data.
+     * @param deserializationContext The {@link DeserializationContext} used during deserialization.
+     * @return A collection of {@link PhysicalQuantity} instances.
+     * @throws IOException If an I/O error occurs during the deserialization process.
+     */
+    @Override
+    public Object deserialize(JsonParser jsonParser, DeserializationContext deserializationContext) throws IOException {
+        JsonToken token = jsonParser.currentToken();
+        if (token != JsonToken.START_OBJECT && token != JsonToken.FIELD_NAME) {
+            return _delegatee.deserialize(jsonParser, deserializationContext);
+        }
+
+        String unitSymbol = null;
+        double[] values = null;
+        int valueCount = 0;
+
+        if (token == JsonToken.START_OBJECT) {
+            token = jsonParser.nextToken();
+        }
+        for (; token == JsonToken.FIELD_NAME; token = jsonParser.nextToken()) {
+            String fieldName = jsonParser.currentName();
+            JsonToken valueToken = jsonParser.nextToken();
+            if (FieldNames.JSON_FIELD_UNIT_SYMBOL.equals(fieldName)) {
+                unitSymbol = valueToken == JsonToken.VALUE_NULL ? null : jsonParser.getText();
+            } else if (FieldNames.JSON_FIELD_VALUES.equals(fieldName)) {
+                if (valueToken != JsonToken.START_ARRAY) {
+                    throw new IOException("Deserialization failure. Field is not an array: " + FieldNames.JSON_FIELD_VALUES);
+                }
+                values = new double[16];
+                valueCount = 0;
+                while ((valueToken = jsonParser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (!valueToken.isNumeric()) {
+                        throw new IOException("Deserialization failure. Unsupported value in "
+                                + FieldNames.JSON_FIELD_VALUES + ": " + valueToken);
+                    }
+                    if (valueCount == values.length) {
+                        values = Arrays.copyOf(values, valueCount * 2);
+                    }
+                    values[valueCount++] = jsonParser.getDoubleValue();
+                }
+            } else {
+                jsonParser.skipChildren();
+            }
+        }
+
+        if (values == null) {
+            throw new IOException("Deserialization failure. Field not found: " + FieldNames.JSON_FIELD_VALUES);
+        }
+
+        Collection<Object> quantities = createCollection(deserializationContext);
+        if (valueCount == 0) {
+            return quantities;
+        }
+        PhysicalQuantity<Unit> firstQuantity = unitSymbol == null || unitSymbol.isBlank()
+                ? parsingFactory.parseValueWithDefaultUnit(castQuantityClass(), values[0])
+                : parsingFactory.parseValueAndSymbol(castQuantityClass(), values[0], unitSymbol);
+        quantities.add(firstQuantity);
+        for (int i = 1; i < valueCount; i++) {
+            quantities.add(firstQuantity.withValue(values[i]));
+        }
+        return quantities;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection<Object> createCollection(DeserializationContext deserializationContext) throws IOException {
+        if (_delegatee instanceof ValueInstantiator.Gettable gettable) {
+            ValueInstantiator valueInstantiator = gettable.getValueInstantiator();
+            if (valueInstantiator != null && valueInstantiator.canCreateUsingDefault()) {
+                return (Collection<Object>) valueInstantiator.createUsingDefault(deserializationContext);
+            }
+        }
+        throw new IOException("Deserialization failure. Cannot create collection for columnar format: "
+                + _delegatee.handledType());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <Q extends PhysicalQuantity<Unit>> Class<Q> castQuantityClass() {
+        return (Class<Q>) quantityClass;
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.synerset.unitility.jackson.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.synerset.unitility.unitsystem.PhysicalQuantity;
+import com.synerset.unitility.unitsystem.Unit;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * The ColumnarQuantityCollectionSerializer class is a Jackson JSON serializer for collections of {@link PhysicalQuantity}
+ * instances. Collections of quantities of the same type are written in columnar form, with a single unit symbol and
+ * an array of values converted to the unit of the first element, for ie: {"unit":"°C","values":[20.0,21.5]}.
+ * Empty collections, collections with null elements or mixed quantity types are written by the default serializer.
+ */
+public class ColumnarQuantityCollectionSerializer extends StdSerializer<Collection<?>> implements ContextualSerializer, ResolvableSerializer {
+
+    private final transient JsonSerializer<Object> defaultSerializer;
+    private final transient UnitSymbolTable unitSymbolTable;
+
+    public ColumnarQuantityCollectionSerializer(JsonSerializer<?> defaultSerializer) {
+        this(defaultSerializer, UnitSymbolTable.empty());
+    }
+
+    @SuppressWarnings("unchecked")
+    public ColumnarQuantityCollectionSerializer(JsonSerializer<?> defaultSerializer, UnitSymbolTable unitSymbolTable) {
+        super(Collection.class, false);
+        this.defaultSerializer = (JsonSerializer<Object>) defaultSerializer;
+        this.unitSymbolTable = unitSymbolTable;
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider serializerProvider, BeanProperty property) throws JsonMappingException {
+        if (defaultSerializer instanceof ContextualSerializer contextualSerializer) {
+            JsonSerializer<?> contextualDefaultSerializer = contextualSerializer.createContextual(serializerProvider, property);
+            if (contextualDefaultSerializer != defaultSerializer) {
+                return new ColumnarQuantityCollectionSerializer(contextualDefaultSerializer, unitSymbolTable);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public void resolve(SerializerProvider serializerProvider) throws JsonMappingException {
+        if (defaultSerializer instanceof ResolvableSerializer resolvableSerializer) {
+            resolvableSerializer.resolve(serializerProvider);
+        }
+    }
+
+    @Override
+    public boolean isEmpty(SerializerProvider serializerProvider, Collection<?> collection) {
+        return defaultSerializer.isEmpty(serializerProvider, collection);
+    }
+
+    /**
+     * Serializes a collection of {@link PhysicalQuantity} instances in columnar form, if all elements are quantities of
+     * the same type, otherwise delegates to the default serializer.
+     *
+     * @param collection         The collection to be serialized.
+     * @param jsonGenerator      The JSON generator used for writing JSON content.
+     * @param serializerProvider The serializer provider that can be used for accessing serializers for
+     *                           object types.
+     * @throws IOException If an I/O error occurs during serialization.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void serialize(Collection<?> collection, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
+        if (!isHomogeneous(collection)) {
+            defaultSerializer.serialize(collection, jsonGenerator, serializerProvider);
+            return;
+        }
+        PhysicalQuantity<Unit> firstQuantity = (PhysicalQuantity<Unit>) collection.iterator().next();
+        Unit commonUnit = firstQuantity.getUnit();
+        SerializableString unitSymbol = unitSymbolTable.findEncodedSymbol(commonUnit);
+
+        jsonGenerator.writeStartObject(collection);
+        if (unitSymbol != null) {
+            jsonGenerator.writeFieldName(FieldNames.SERIALIZED_FIELD_UNIT_SYMBOL);
+            jsonGenerator.writeString(unitSymbol);
+        }
+        jsonGenerator.writeFieldName(FieldNames.SERIALIZED_FIELD_VALUES);
+        jsonGenerator.writeStartArray(collection, collection.size());
+        for (Object element : collection) {
+            PhysicalQuantity<Unit> quantity = (PhysicalQuantity<Unit>) element;
+            double value = commonUnit.equals(quantity.getUnit())
+                    ? quantity.getValue()
+                    : quantity.getInUnit(commonUnit);
+            jsonGenerator.writeNumber(value);
+        }
+        jsonGenerator.writeEndArray();
+        jsonGenerator.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(Collection<?> collection, JsonGenerator jsonGenerator, SerializerProvider serializerProvider,
+                                  TypeSerializer typeSerializer) throws IOException {
+        defaultSerializer.serializeWithType(collection, jsonGenerator, serializerProvider, typeSerializer);
+    }
+
+    private static boolean isHomogeneous(Collection<?> collection) {
+        if (collection.isEmpty()) {
+            return false;
+        }
+        Class<?> quantityClass = null;
+        for (Object element : collection) {
+            if (!(element instanceof PhysicalQuantity<?>)) {
+                return false;
+            }
+            if (quantityClass == null) {
+                quantityClass = element.getClass();
+            } else if (quantityClass != element.getClass()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
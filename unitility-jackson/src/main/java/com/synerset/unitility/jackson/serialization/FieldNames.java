@@ -1,5 +1,7 @@
 package com.synerset.unitility.jackson.serialization;
 
+import com.fasterxml.jackson.core.io.SerializedString;
+
 /**
  * Fields names used in serialized JSON from PhysicalQuantity class.
  */
@@ -9,12 +11,32 @@ final class FieldNames {
     static final String JSON_FIELD_VALUE = "value";
     static final String JSON_FIELD_UNIT_SYMBOL = "unit";
 
+    // Columnar quantity collections
+    static final String JSON_FIELD_VALUES = "values";
+
+    // GeoCoordinate specific
+    static final String JSON_FIELD_LATITUDE = "latitude";
+    static final String JSON_FIELD_LONGITUDE = "longitude";
+    static final String JSON_FIELD_NAME = "name";
+
     // GeoDistance specific
     static final String JSON_FIELD_START_COORD = "startCoordinate";
     static final String JSON_FIELD_TARGET_COORD = "targetCoordinate";
     static final String JSON_FIELD_TRUE_BEARING = "trueBearing";
     static final String JSON_FIELD_DISTANCE = "distance";
 
+    // Pre-encoded field names, written by serializers without repeated quoting and escaping
+    static final SerializedString SERIALIZED_FIELD_VALUE = new SerializedString(JSON_FIELD_VALUE);
+    static final SerializedString SERIALIZED_FIELD_UNIT_SYMBOL = new SerializedString(JSON_FIELD_UNIT_SYMBOL);
+    static final SerializedString SERIALIZED_FIELD_VALUES = new SerializedString(JSON_FIELD_VALUES);
+    static final SerializedString SERIALIZED_FIELD_LATITUDE = new SerializedString(JSON_FIELD_LATITUDE);
+    static final SerializedString SERIALIZED_FIELD_LONGITUDE = new SerializedString(JSON_FIELD_LONGITUDE);
+    static final SerializedString SERIALIZED_FIELD_NAME = new SerializedString(JSON_FIELD_NAME);
+    static final SerializedString SERIALIZED_FIELD_START_COORD = new SerializedString(JSON_FIELD_START_COORD);
+    static final SerializedString SERIALIZED_FIELD_TARGET_COORD = new SerializedString(JSON_FIELD_TARGET_COORD);
+    static final SerializedString SERIALIZED_FIELD_TRUE_BEARING = new SerializedString(JSON_FIELD_TRUE_BEARING);
+    static final SerializedString SERIALIZED_FIELD_DISTANCE = new SerializedString(JSON_FIELD_DISTANCE);
+
     private FieldNames() {
         throw new IllegalStateException("Utility class");
     }
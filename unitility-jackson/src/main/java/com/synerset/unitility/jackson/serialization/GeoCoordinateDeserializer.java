@@ -0,0 +1,99 @@
+package com.synerset.unitility.jackson.serialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.synerset.unitility.unitsystem.geographic.GeoCoordinate;
+import com.synerset.unitility.unitsystem.geographic.Latitude;
+import com.synerset.unitility.unitsystem.geographic.Longitude;
+
+import java.io.IOException;
+
+/**
+ * The GeoCoordinateDeserializer class is a Jackson JSON deserializer for {@link GeoCoordinate} instances. The object is
+ * read in a single pass directly from the {@link JsonParser}, latitude and longitude are read with deserializers
+ * resolved once for the context, therefore both unit-aware and plain SI representations are supported.
+ */
+public class GeoCoordinateDeserializer extends JsonDeserializer<GeoCoordinate> implements ContextualDeserializer {
+
+    private final JsonDeserializer<Object> latitudeDeserializer;
+    private final JsonDeserializer<Object> longitudeDeserializer;
+
+    public GeoCoordinateDeserializer() {
+        this(null, null);
+    }
+
+    private GeoCoordinateDeserializer(JsonDeserializer<Object> latitudeDeserializer, JsonDeserializer<Object> longitudeDeserializer) {
+        super();
+        this.latitudeDeserializer = latitudeDeserializer;
+        this.longitudeDeserializer = longitudeDeserializer;
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext context, BeanProperty property) throws JsonMappingException {
+        return new GeoCoordinateDeserializer(
+                context.findContextualValueDeserializer(context.constructType(Latitude.class), property),
+                context.findContextualValueDeserializer(context.constructType(Longitude.class), property)
+        );
+    }
+
+    /**
+     * Deserializes a JSON object to a {@link GeoCoordinate} instance.
+     *
+     * @param parser  The {@link JsonParser} used to read JSON data.
+     * @param context The {@link DeserializationContext} used during deserialization.
+     * @return A {@link GeoCoordinate} instance.
+     * @throws IOException If an I/O error occurs during the deserialization process, or required field is missing.
+     */
+    @Override
+    public GeoCoordinate deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        Latitude latitude = null;
+        Longitude longitude = null;
+        String name = null;
+
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        }
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String fieldName = parser.currentName();
+            JsonToken valueToken = parser.nextToken();
+            switch (fieldName) {
+                case FieldNames.JSON_FIELD_LATITUDE -> latitude = (Latitude) readValue(parser, context,
+                        resolveDeserializer(latitudeDeserializer, context, Latitude.class));
+                case FieldNames.JSON_FIELD_LONGITUDE -> longitude = (Longitude) readValue(parser, context,
+                        resolveDeserializer(longitudeDeserializer, context, Longitude.class));
+                case FieldNames.JSON_FIELD_NAME -> name = valueToken == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+                default -> context.handleUnknownProperty(parser, this, GeoCoordinate.class, fieldName);
+            }
+        }
+
+        if (latitude == null) {
+            throw new IOException("Deserialization failure. Missing field: " + FieldNames.JSON_FIELD_LATITUDE);
+        }
+        if (longitude == null) {
+            throw new IOException("Deserialization failure. Missing field: " + FieldNames.JSON_FIELD_LONGITUDE);
+        }
+        return GeoCoordinate.of(latitude, longitude, name);
+    }
+
+    static Object readValue(JsonParser parser, DeserializationContext context, JsonDeserializer<Object> deserializer) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return deserializer.getNullValue(context);
+        }
+        return deserializer.deserialize(parser, context);
+    }
+
+    static JsonDeserializer<Object> resolveDeserializer(JsonDeserializer<Object> deserializer, DeserializationContext context,
+                                                        Class<?> valueClass) throws JsonMappingException {
+        if (deserializer != null) {
+            return deserializer;
+        }
+        return context.findRootValueDeserializer(context.constructType(valueClass));
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.synerset.unitility.jackson.serialization;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.synerset.unitility.unitsystem.geographic.GeoCoordinate;
+
+import java.io.IOException;
+
+/**
+ * The GeoCoordinateSerializer class is a Jackson JSON serializer for serializing {@link GeoCoordinate} instances
+ * to their JSON representations. The output is the same as the default record representation: latitude, longitude
+ * and name. A missing name is omitted only if the default property inclusion excludes null values.
+ */
+public class GeoCoordinateSerializer extends StdSerializer<GeoCoordinate> {
+
+    public GeoCoordinateSerializer(Class<GeoCoordinate> clazz) {
+        super(clazz);
+    }
+
+    /**
+     * Serializes a {@link GeoCoordinate} instance to its JSON representation.
+     *
+     * @param geoCoordinate      The {@link GeoCoordinate} instance to be serialized.
+     * @param jsonGenerator      The JSON generator used for writing JSON content.
+     * @param serializerProvider The serializer provider that can be used for accessing serializers for
+     *                           object types.
+     * @throws IOException If an I/O error occurs during serialization.
+     */
+    @Override
+    public void serialize(GeoCoordinate geoCoordinate, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeFieldName(FieldNames.SERIALIZED_FIELD_LATITUDE);
+        serializerProvider.defaultSerializeValue(geoCoordinate.latitude(), jsonGenerator);
+        jsonGenerator.writeFieldName(FieldNames.SERIALIZED_FIELD_LONGITUDE);
+        serializerProvider.defaultSerializeValue(geoCoordinate.longitude(), jsonGenerator);
+        String name = geoCoordinate.name();
+        if (name != null) {
+            jsonGenerator.writeFieldName(FieldNames.SERIALIZED_FIELD_NAME);
+            jsonGenerator.writeString(name);
+        } else if (includesNullValues(serializerProvider)) {
+            jsonGenerator.writeFieldName(FieldNames.SERIALIZED_FIELD_NAME);
+            jsonGenerator.writeNull();
+        }
+        jsonGenerator.writeEndObject();
+    }
+
+    private static boolean includesNullValues(SerializerProvider serializerProvider) {
+        JsonInclude.Include inclusion = serializerProvider.getConfig()
+                .getDefaultPropertyInclusion(GeoCoordinate.class)
+                .getValueInclusion();
+        return inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS;
+    }
+
+}
@@ -1,9 +1,12 @@
 package com.synerset.unitility.jackson.serialization;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
 import com.synerset.unitility.unitsystem.common.Distance;
 import com.synerset.unitility.unitsystem.common.DistanceUnit;
 import com.synerset.unitility.unitsystem.common.DistanceUnits;
@@ -14,41 +17,100 @@ import com.synerset.unitility.unitsystem.util.PhysicalQuantityParsingFactory;
 
 import java.io.IOException;
 
-public class GeoDistanceDeserializer extends JsonDeserializer<GeoDistance> {
+import static com.synerset.unitility.jackson.serialization.GeoCoordinateDeserializer.readValue;
+import static com.synerset.unitility.jackson.serialization.GeoCoordinateDeserializer.resolveDeserializer;
+
+/**
+ * The GeoDistanceDeserializer class is a Jackson JSON deserializer for {@link GeoDistance} instances. The object is read
+ * in a single pass directly from the {@link JsonParser}, nested coordinates and quantities are read with deserializers
+ * resolved once for the context. If the target coordinate is present, distance is calculated from coordinates, and
+ * true bearing and distance fields which follow it are skipped without deserialization.
+ */
+public class GeoDistanceDeserializer extends JsonDeserializer<GeoDistance> implements ContextualDeserializer {
 
     protected final PhysicalQuantityParsingFactory parsingFactory;
+    private final JsonDeserializer<Object> coordinateDeserializer;
+    private final JsonDeserializer<Object> bearingDeserializer;
+    private final JsonDeserializer<Object> distanceDeserializer;
 
     public GeoDistanceDeserializer(PhysicalQuantityParsingFactory parsingFactory) {
+        this(parsingFactory, null, null, null);
+    }
+
+    private GeoDistanceDeserializer(PhysicalQuantityParsingFactory parsingFactory,
+                                    JsonDeserializer<Object> coordinateDeserializer,
+                                    JsonDeserializer<Object> bearingDeserializer,
+                                    JsonDeserializer<Object> distanceDeserializer) {
         super();
         this.parsingFactory = parsingFactory;
+        this.coordinateDeserializer = coordinateDeserializer;
+        this.bearingDeserializer = bearingDeserializer;
+        this.distanceDeserializer = distanceDeserializer;
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext context, BeanProperty property) throws JsonMappingException {
+        return new GeoDistanceDeserializer(
+                parsingFactory,
+                context.findContextualValueDeserializer(context.constructType(GeoCoordinate.class), property),
+                context.findContextualValueDeserializer(context.constructType(Bearing.class), property),
+                context.findContextualValueDeserializer(context.constructType(Distance.class), property)
+        );
     }
 
     @Override
     public GeoDistance deserialize(JsonParser parser, DeserializationContext context) throws IOException {
-        JsonNode node = parser.getCodec().readTree(parser);
+        boolean hasStartCoordinate = false;
+        GeoCoordinate startCoordinate = null;
+        GeoCoordinate targetCoordinate = null;
+        Bearing trueBearing = null;
+        Distance distance = null;
+        String unitSymbol = null;
 
-        JsonNode startCoordinateNode = node.get(FieldNames.JSON_FIELD_START_COORD);
-        if (startCoordinateNode == null) {
-            throw new IOException("Deserialization failure. Missing field: " + FieldNames.JSON_FIELD_START_COORD);
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        }
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String fieldName = parser.currentName();
+            JsonToken valueToken = parser.nextToken();
+            switch (fieldName) {
+                case FieldNames.JSON_FIELD_START_COORD -> {
+                    hasStartCoordinate = true;
+                    startCoordinate = readCoordinate(parser, context);
+                }
+                case FieldNames.JSON_FIELD_TARGET_COORD -> targetCoordinate = readCoordinate(parser, context);
+                case FieldNames.JSON_FIELD_TRUE_BEARING -> {
+                    if (targetCoordinate == null) {
+                        trueBearing = (Bearing) readValue(parser, context,
+                                resolveDeserializer(bearingDeserializer, context, Bearing.class));
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                case FieldNames.JSON_FIELD_DISTANCE -> {
+                    if (targetCoordinate == null) {
+                        distance = (Distance) readValue(parser, context,
+                                resolveDeserializer(distanceDeserializer, context, Distance.class));
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                case FieldNames.JSON_FIELD_UNIT_SYMBOL -> unitSymbol = valueToken.isStructStart() ? null : parser.getText();
+                default -> parser.skipChildren();
+            }
         }
 
-        GeoCoordinate startCoordinate = startCoordinateNode.traverse(parser.getCodec()).readValueAs(GeoCoordinate.class);
+        if (!hasStartCoordinate) {
+            throw new IOException("Deserialization failure. Missing field: " + FieldNames.JSON_FIELD_START_COORD);
+        }
 
         if (startCoordinate == null) {
             throw new IOException("Deserialization failure. Could not extract: " + FieldNames.JSON_FIELD_START_COORD);
         }
 
-        JsonNode targetCoordinateNode = node.get(FieldNames.JSON_FIELD_TARGET_COORD);
-
-        GeoCoordinate targetCoordinate = null;
-        if (targetCoordinateNode != null) {
-            targetCoordinate = targetCoordinateNode.traverse(parser.getCodec()).readValueAs(GeoCoordinate.class);
-        }
-
-        JsonNode unitTypeNode = node.get(FieldNames.JSON_FIELD_UNIT_SYMBOL);
-
-        if (targetCoordinate != null && unitTypeNode != null) {
-            DistanceUnit distanceUnit = DistanceUnits.fromSymbol(unitTypeNode.asText());
+        if (targetCoordinate != null && unitSymbol != null) {
+            DistanceUnit distanceUnit = DistanceUnits.fromSymbol(unitSymbol);
             return GeoDistance.of(startCoordinate, targetCoordinate, distanceUnit);
         }
 
@@ -56,10 +118,19 @@ public class GeoDistanceDeserializer extends JsonDeserializer<GeoDistance> {
             return GeoDistance.ofKilometers(startCoordinate, targetCoordinate);
         }
 
-        Bearing trueBearing = node.get(FieldNames.JSON_FIELD_TRUE_BEARING).traverse(parser.getCodec()).readValueAs(Bearing.class);
-        Distance distance = node.get(FieldNames.JSON_FIELD_DISTANCE).traverse(parser.getCodec()).readValueAs(Distance.class);
+        if (trueBearing == null) {
+            throw new IOException("Deserialization failure. Missing field: " + FieldNames.JSON_FIELD_TRUE_BEARING);
+        }
+
+        if (distance == null) {
+            throw new IOException("Deserialization failure. Missing field: " + FieldNames.JSON_FIELD_DISTANCE);
+        }
 
         return GeoDistance.of(startCoordinate, trueBearing, distance);
     }
 
-}
\ No newline at end of file
+    private GeoCoordinate readCoordinate(JsonParser parser, DeserializationContext context) throws IOException {
+        return (GeoCoordinate) readValue(parser, context, resolveDeserializer(coordinateDeserializer, context, GeoCoordinate.class));
+    }
+
+}
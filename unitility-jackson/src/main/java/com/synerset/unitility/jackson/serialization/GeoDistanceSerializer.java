@@ -29,13 +29,13 @@ public class GeoDistanceSerializer extends StdSerializer<GeoDistance> {
     @Override
     public void serialize(GeoDistance geoDistance, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
         jsonGenerator.writeStartObject();
-        jsonGenerator.writeFieldName(FieldNames.JSON_FIELD_START_COORD);
+        jsonGenerator.writeFieldName(FieldNames.SERIALIZED_FIELD_START_COORD);
         serializerProvider.defaultSerializeValue(geoDistance.getStartCoordinate(), jsonGenerator);
-        jsonGenerator.writeFieldName(FieldNames.JSON_FIELD_TARGET_COORD);
+        jsonGenerator.writeFieldName(FieldNames.SERIALIZED_FIELD_TARGET_COORD);
         serializerProvider.defaultSerializeValue(geoDistance.getTargetCoordinate(), jsonGenerator);
-        jsonGenerator.writeFieldName(FieldNames.JSON_FIELD_TRUE_BEARING);
+        jsonGenerator.writeFieldName(FieldNames.SERIALIZED_FIELD_TRUE_BEARING);
         serializerProvider.defaultSerializeValue(geoDistance.getBearing(), jsonGenerator);
-        jsonGenerator.writeFieldName(FieldNames.JSON_FIELD_DISTANCE);
+        jsonGenerator.writeFieldName(FieldNames.SERIALIZED_FIELD_DISTANCE);
         serializerProvider.defaultSerializeValue(geoDistance.getDistance(), jsonGenerator);
         jsonGenerator.writeEndObject();
     }
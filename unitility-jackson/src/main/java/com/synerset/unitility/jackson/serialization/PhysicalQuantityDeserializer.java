@@ -1,10 +1,10 @@
 package com.synerset.unitility.jackson.serialization;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.NumberInput;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.JsonNodeType;
 import com.synerset.unitility.unitsystem.PhysicalQuantity;
 import com.synerset.unitility.unitsystem.Unit;
 import com.synerset.unitility.unitsystem.util.ParsingHelpers;
@@ -14,7 +14,9 @@ import java.io.IOException;
 
 /**
  * The {@link PhysicalQuantityDeserializer} class is a Jackson JSON deserializer for deserializing JSON representations
- * of {@link PhysicalQuantity} instances.
+ * of {@link PhysicalQuantity} instances. Tokens are consumed directly from the {@link JsonParser}, without building
+ * an intermediate tree. Supported forms: plain number (default unit), string in engineering format, and an object with
+ * value and optional unit symbol.
  *
  * @param <U> The type of unit associated with the PhysicalQuantity.
  * @param <Q> The type of PhysicalQuantity.
@@ -42,31 +44,74 @@ public class PhysicalQuantityDeserializer<U extends Unit, Q extends PhysicalQuan
      */
     @Override
     public Q deserialize(JsonParser jsonParser, DeserializationContext deserializationContext) throws IOException {
+        JsonToken token = jsonParser.currentToken();
+        if (token == null) {
+            throw new IOException("Deserialization failure. No content to deserialize.");
+        }
+        return switch (token) {
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT ->
+                    parsingFactory.parseValueWithDefaultUnit(quantityClass, jsonParser.getDoubleValue());
+            case VALUE_STRING -> parsingFactory.parse(quantityClass, jsonParser.getText());
+            case START_OBJECT, FIELD_NAME, END_OBJECT -> deserializeObject(jsonParser);
+            default -> throw new IOException("Deserialization failure. Unsupported token: " + token);
+        };
+    }
 
-        JsonNode node = jsonParser.getCodec().readTree(jsonParser);
+    private Q deserializeObject(JsonParser jsonParser) throws IOException {
+        boolean hasValueField = false;
+        boolean isNumericValue = false;
+        double numericValue = 0;
+        String valueAsString = null;
+        String unitSymbol = null;
 
-        if(node.getNodeType().equals(JsonNodeType.NUMBER)) {
-            return parsingFactory.parseValueWithDefaultUnit(quantityClass, node.asDouble());
+        JsonToken token = jsonParser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = jsonParser.nextToken();
+        }
+        for (; token == JsonToken.FIELD_NAME; token = jsonParser.nextToken()) {
+            String fieldName = jsonParser.currentName();
+            JsonToken valueToken = jsonParser.nextToken();
+            if (FieldNames.JSON_FIELD_VALUE.equals(fieldName)) {
+                hasValueField = true;
+                isNumericValue = valueToken.isNumeric();
+                if (isNumericValue) {
+                    numericValue = jsonParser.getDoubleValue();
+                } else {
+                    valueAsString = readScalarText(jsonParser, valueToken);
+                }
+            } else if (FieldNames.JSON_FIELD_UNIT_SYMBOL.equals(fieldName)) {
+                unitSymbol = readScalarText(jsonParser, valueToken);
+            } else {
+                jsonParser.skipChildren();
+            }
         }
 
-        JsonNode valueFieldNode = node.get(FieldNames.JSON_FIELD_VALUE);
-        JsonNode symbolFieldNode = node.get(FieldNames.JSON_FIELD_UNIT_SYMBOL);
-
-        if (valueFieldNode == null) {
+        if (!hasValueField) {
             throw new IOException("Deserialization failure. Field not found: " + FieldNames.JSON_FIELD_VALUE);
         }
 
-        String inputQuantityAsString = valueFieldNode.asText();
-
-        if (symbolFieldNode == null || ParsingHelpers.containsNonDigitChars(inputQuantityAsString)) {
-            return parsingFactory.parse(quantityClass, inputQuantityAsString);
+        if (isNumericValue) {
+            if (unitSymbol == null) {
+                return parsingFactory.parseValueWithDefaultUnit(quantityClass, numericValue);
+            }
+            return parsingFactory.parseValueAndSymbol(quantityClass, numericValue, unitSymbol);
         }
 
-        double value = node.get(FieldNames.JSON_FIELD_VALUE).asDouble();
-        String unitSymbol = node.get(FieldNames.JSON_FIELD_UNIT_SYMBOL).asText();
+        if (unitSymbol == null || ParsingHelpers.containsNonDigitChars(valueAsString)) {
+            return parsingFactory.parse(quantityClass, valueAsString);
+        }
 
+        double value = NumberInput.parseAsDouble(valueAsString, 0.0);
         return parsingFactory.parseValueAndSymbol(quantityClass, value, unitSymbol);
+    }
 
+    // Text of scalar tokens, for ie: "null" or "true". Structured values are skipped and represented as empty text.
+    private static String readScalarText(JsonParser jsonParser, JsonToken valueToken) throws IOException {
+        if (valueToken.isStructStart()) {
+            jsonParser.skipChildren();
+            return "";
+        }
+        return jsonParser.getText();
     }
 
-}
\ No newline at end of file
+}
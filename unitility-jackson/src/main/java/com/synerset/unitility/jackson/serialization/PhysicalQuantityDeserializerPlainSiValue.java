@@ -1,10 +1,9 @@
 package com.synerset.unitility.jackson.serialization;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.JsonNodeType;
 import com.synerset.unitility.unitsystem.PhysicalQuantity;
 import com.synerset.unitility.unitsystem.Unit;
 import com.synerset.unitility.unitsystem.util.PhysicalQuantityParsingFactory;
@@ -14,6 +13,7 @@ import java.io.IOException;
 /**
  * The {@link PhysicalQuantityDeserializerPlainSiValue} class is a Jackson JSON deserializer for deserializing JSON representations
  * of {@link PhysicalQuantity} instances. Deserializer dedicated for handling plain SI single value quantity representation.
+ * Tokens are consumed directly from the {@link JsonParser}, without building an intermediate tree.
  *
  * @param <U> The type of unit associated with the PhysicalQuantity.
  * @param <Q> The type of PhysicalQuantity.
@@ -41,19 +41,17 @@ public class PhysicalQuantityDeserializerPlainSiValue<U extends Unit, Q extends
      */
     @Override
     public Q deserialize(JsonParser jsonParser, DeserializationContext deserializationContext) throws IOException {
+        JsonToken token = jsonParser.currentToken();
 
-        JsonNode node = jsonParser.getCodec().readTree(jsonParser);
-
-        if(node.getNodeType().equals(JsonNodeType.NUMBER)) {
-            return parsingFactory.parseValueWithDefaultUnit(quantityClass, node.asDouble());
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parsingFactory.parseValueWithDefaultUnit(quantityClass, jsonParser.getDoubleValue());
         }
 
-        if(node.getNodeType().equals(JsonNodeType.STRING)) {
-            String inputQuantityAsString = node.asText();
-            return parsingFactory.parse(quantityClass, inputQuantityAsString);
+        if (token == JsonToken.VALUE_STRING) {
+            return parsingFactory.parse(quantityClass, jsonParser.getText());
         }
 
-        throw new IOException("Deserialization failure. Unsupported node type: " + node.getNodeType());
+        throw new IOException("Deserialization failure. Unsupported token: " + token);
     }
 
 }
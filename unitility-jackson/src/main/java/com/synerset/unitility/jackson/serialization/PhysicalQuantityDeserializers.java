@@ -0,0 +1,60 @@
+package com.synerset.unitility.jackson.serialization;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.synerset.unitility.unitsystem.PhysicalQuantity;
+import com.synerset.unitility.unitsystem.Unit;
+import com.synerset.unitility.unitsystem.util.PhysicalQuantityParsingFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The PhysicalQuantityDeserializers class resolves deserializers for {@link PhysicalQuantity} classes registered in the
+ * {@link PhysicalQuantityParsingFactory} on demand. A deserializer is created only when Jackson first encounters a
+ * given quantity type and is cached afterward, therefore building an ObjectMapper does not require creating
+ * deserializers for all supported quantities.
+ */
+public class PhysicalQuantityDeserializers extends Deserializers.Base {
+
+    private final PhysicalQuantityParsingFactory parsingFactory;
+    private final DeserializerFactory deserializerFactory;
+    private final Map<Class<?>, JsonDeserializer<?>> deserializerCache = new ConcurrentHashMap<>();
+
+    public PhysicalQuantityDeserializers(PhysicalQuantityParsingFactory parsingFactory, DeserializerFactory deserializerFactory) {
+        this.parsingFactory = parsingFactory;
+        this.deserializerFactory = deserializerFactory;
+    }
+
+    @Override
+    public JsonDeserializer<?> findBeanDeserializer(JavaType type, DeserializationConfig config, BeanDescription beanDesc) {
+        Class<?> rawClass = type.getRawClass();
+        if (!parsingFactory.containsClass(rawClass)) {
+            return null;
+        }
+        return deserializerCache.computeIfAbsent(rawClass, this::createDeserializer);
+    }
+
+    @Override
+    public boolean hasDeserializerFor(DeserializationConfig config, Class<?> valueType) {
+        return parsingFactory.containsClass(valueType);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <U extends Unit, Q extends PhysicalQuantity<U>> JsonDeserializer<?> createDeserializer(Class<?> quantityClass) {
+        return deserializerFactory.create((Class<Q>) quantityClass, parsingFactory);
+    }
+
+    /**
+     * Creates a deserializer for a given quantity class, for ie: {@code PhysicalQuantityDeserializer::new}.
+     */
+    @FunctionalInterface
+    public interface DeserializerFactory {
+        <U extends Unit, Q extends PhysicalQuantity<U>> JsonDeserializer<Q> create(Class<Q> quantityClass,
+                                                                                    PhysicalQuantityParsingFactory parsingFactory);
+    }
+
+}
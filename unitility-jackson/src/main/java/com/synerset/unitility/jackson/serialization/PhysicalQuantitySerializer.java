@@ -1,6 +1,7 @@
 package com.synerset.unitility.jackson.serialization;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
@@ -11,12 +12,20 @@ import java.io.IOException;
 
 /**
  * The PhysicalQuantitySerializer class is a Jackson JSON serializer for serializing {@link PhysicalQuantity} instances
- * to their JSON representations.
+ * to their JSON representations. Field names and unit symbols are written in pre-encoded form, see
+ * {@link UnitSymbolTable}.
  */
 public class PhysicalQuantitySerializer extends StdSerializer<PhysicalQuantity<Unit>> {
 
+    private final transient UnitSymbolTable unitSymbolTable;
+
     public PhysicalQuantitySerializer(JavaType type) {
+        this(type, UnitSymbolTable.empty());
+    }
+
+    public PhysicalQuantitySerializer(JavaType type, UnitSymbolTable unitSymbolTable) {
         super(type);
+        this.unitSymbolTable = unitSymbolTable;
     }
 
     /**
@@ -31,11 +40,14 @@ public class PhysicalQuantitySerializer extends StdSerializer<PhysicalQuantity<U
     @Override
     public void serialize(PhysicalQuantity<Unit> quantity, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
         jsonGenerator.writeStartObject();
-        jsonGenerator.writeNumberField(FieldNames.JSON_FIELD_VALUE, quantity.getValue());
-        if (quantity.getUnitSymbol() != null && !quantity.getUnitSymbol().isBlank()) {
-            jsonGenerator.writeStringField(FieldNames.JSON_FIELD_UNIT_SYMBOL, quantity.getUnitSymbol());
+        jsonGenerator.writeFieldName(FieldNames.SERIALIZED_FIELD_VALUE);
+        jsonGenerator.writeNumber(quantity.getValue());
+        SerializableString unitSymbol = unitSymbolTable.findEncodedSymbol(quantity.getUnit());
+        if (unitSymbol != null) {
+            jsonGenerator.writeFieldName(FieldNames.SERIALIZED_FIELD_UNIT_SYMBOL);
+            jsonGenerator.writeString(unitSymbol);
         }
         jsonGenerator.writeEndObject();
     }
 
-}
\ No newline at end of file
+}
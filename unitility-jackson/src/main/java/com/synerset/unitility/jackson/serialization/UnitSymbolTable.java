@@ -0,0 +1,99 @@
+package com.synerset.unitility.jackson.serialization;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.synerset.unitility.unitsystem.Unit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The UnitSymbolTable class holds pre-encoded JSON string values of unit symbols, so that serializers can write them
+ * without repeated quoting and escaping. The table fills itself lazily: symbols of all constants of a unit enum are
+ * encoded once, when any unit of this enum is requested for the first time. Therefore, creating the table is cheap and
+ * only unit types which are actually serialized are encoded. Symbols of units which are not enum constants are encoded
+ * on each write.
+ */
+public final class UnitSymbolTable {
+
+    private static final UnitSymbolTable EMPTY = new UnitSymbolTable(null);
+
+    private final Map<Class<?>, SerializableString[]> encodedSymbolsByUnitClass;
+
+    private UnitSymbolTable(Map<Class<?>, SerializableString[]> encodedSymbolsByUnitClass) {
+        this.encodedSymbolsByUnitClass = encodedSymbolsByUnitClass;
+    }
+
+    /**
+     * Returns pre-encoded symbol of provided unit.
+     *
+     * @param unit The unit for which the symbol is requested.
+     * @return pre-encoded unit symbol, or null if the unit has no symbol or symbol is blank.
+     */
+    public SerializableString findEncodedSymbol(Unit unit) {
+        if (encodedSymbolsByUnitClass == null || !(unit instanceof Enum<?> enumUnit)) {
+            return encodeSymbol(unit);
+        }
+        Class<?> unitClass = enumUnit.getDeclaringClass();
+        SerializableString[] encodedSymbols = encodedSymbolsByUnitClass.get(unitClass);
+        if (encodedSymbols == null) {
+            encodedSymbols = encodedSymbolsByUnitClass.computeIfAbsent(unitClass, UnitSymbolTable::encodeSymbols);
+        }
+        return encodedSymbols[enumUnit.ordinal()];
+    }
+
+    /**
+     * @return number of pre-encoded unit symbols.
+     */
+    public int size() {
+        if (encodedSymbolsByUnitClass == null) {
+            return 0;
+        }
+        int size = 0;
+        for (SerializableString[] encodedSymbols : encodedSymbolsByUnitClass.values()) {
+            for (SerializableString encodedSymbol : encodedSymbols) {
+                if (encodedSymbol != null) {
+                    size++;
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Creates a table, which encodes symbols of unit enums on first use and keeps them for subsequent writes.
+     *
+     * @return a new UnitSymbolTable instance.
+     */
+    public static UnitSymbolTable cached() {
+        return new UnitSymbolTable(new ConcurrentHashMap<>());
+    }
+
+    /**
+     * @return an empty table, where all symbols are encoded on each write.
+     */
+    public static UnitSymbolTable empty() {
+        return EMPTY;
+    }
+
+    private static SerializableString[] encodeSymbols(Class<?> unitClass) {
+        Object[] enumConstants = unitClass.getEnumConstants();
+        SerializableString[] encodedSymbols = new SerializableString[enumConstants.length];
+        for (int i = 0; i < enumConstants.length; i++) {
+            encodedSymbols[i] = encodeSymbol((Unit) enumConstants[i]);
+        }
+        return encodedSymbols;
+    }
+
+    private static SerializableString encodeSymbol(Unit unit) {
+        if (unit == null) {
+            return null;
+        }
+        String symbol = unit.getSymbol();
+        if (symbol == null || symbol.isBlank()) {
+            return null;
+        }
+        return new SerializedString(symbol);
+    }
+
+}
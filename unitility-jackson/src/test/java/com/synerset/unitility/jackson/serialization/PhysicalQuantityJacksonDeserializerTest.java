@@ -1,18 +1,25 @@
 package com.synerset.unitility.jackson.serialization;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.synerset.unitility.jackson.module.PhysicalQuantityJacksonModule;
 import com.synerset.unitility.jackson.module.PhysicalQuantityJacksonModulePlainSIValue;
+import com.synerset.unitility.jackson.module.QuantityCollectionFormat;
 import com.synerset.unitility.unitsystem.common.Angle;
 import com.synerset.unitility.unitsystem.common.AngularVelocity;
 import com.synerset.unitility.unitsystem.common.Curvature;
 import com.synerset.unitility.unitsystem.common.Distance;
+import com.synerset.unitility.unitsystem.common.DistanceUnits;
 import com.synerset.unitility.unitsystem.dimensionless.BypassFactor;
 import com.synerset.unitility.unitsystem.dimensionless.GenericDimensionless;
 import com.synerset.unitility.unitsystem.flow.VolumetricFlow;
 import com.synerset.unitility.unitsystem.geographic.Bearing;
 import com.synerset.unitility.unitsystem.geographic.GeoCoordinate;
+import com.synerset.unitility.unitsystem.geographic.GeoDistance;
 import com.synerset.unitility.unitsystem.geographic.Latitude;
 import com.synerset.unitility.unitsystem.geographic.Longitude;
 import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
@@ -24,7 +31,11 @@ import com.synerset.unitility.unitsystem.thermodynamic.ThermalConductivity;
 import com.synerset.unitility.unitsystem.util.PhysicalQuantityParsingFactory;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Set;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class PhysicalQuantityJacksonDeserializerTest {
 
@@ -267,4 +278,136 @@ class PhysicalQuantityJacksonDeserializerTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    void deserialize_shouldDeserializeQuantitiesFromTokenStream() throws JsonProcessingException {
+        // Given
+        PhysicalQuantityParsingFactory parsingFactory = PhysicalQuantityParsingFactory.getDefaultParsingFactory();
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new PhysicalQuantityJacksonModule(parsingFactory));
+
+        String unitBeforeValue = "{\"unit\":\"°C\",\"value\":20}";
+        String unknownFields = "{\"meta\":{\"source\":[1,2,{\"value\":5}]},\"value\":20,\"tags\":[\"a\"],\"unit\":\"°C\"}";
+        String valueAsNumericString = "{\"value\":\"20\",\"unit\":\"°C\"}";
+        String engFormatString = "\"20 °C\"";
+        String quantityList = "[{\"value\":20,\"unit\":\"°C\"},293.15,\"20 °C\",{\"value\":\"20 °C\"}]";
+
+        // When
+        Temperature actualUnitBeforeValue = objectMapper.readValue(unitBeforeValue, Temperature.class);
+        Temperature actualUnknownFields = objectMapper.readValue(unknownFields, Temperature.class);
+        Temperature actualValueAsNumericString = objectMapper.readValue(valueAsNumericString, Temperature.class);
+        Temperature actualEngFormatString = objectMapper.readValue(engFormatString, Temperature.class);
+        Temperature[] actualQuantityList = objectMapper.readValue(quantityList, Temperature[].class);
+
+        // Then
+        Temperature expectedTemperature = Temperature.ofCelsius(20);
+        assertThat(actualUnitBeforeValue).isEqualTo(expectedTemperature);
+        assertThat(actualUnknownFields).isEqualTo(expectedTemperature);
+        assertThat(actualValueAsNumericString).isEqualTo(expectedTemperature);
+        assertThat(actualEngFormatString).isEqualTo(expectedTemperature);
+        assertThat(actualQuantityList).hasSize(4)
+                .contains(expectedTemperature, Temperature.ofKelvins(293.15));
+        assertThatThrownBy(() -> objectMapper.readValue("{\"unit\":\"°C\"}", Temperature.class))
+                .hasMessageContaining("Field not found: value");
+    }
+
+    @Test
+    void deserialize_shouldDeserializeGeoDistanceAndGeoCoordinateInSinglePass() throws JsonProcessingException {
+        // Given
+        PhysicalQuantityParsingFactory parsingFactory = PhysicalQuantityParsingFactory.getDefaultParsingFactory();
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new PhysicalQuantityJacksonModule(parsingFactory));
+
+        GeoCoordinate start = GeoCoordinate.of(Latitude.ofDegrees(20), Longitude.ofDegrees(-20), "start");
+        GeoCoordinate target = GeoCoordinate.of(Latitude.ofDegrees(40), Longitude.ofDegrees(60));
+        GeoDistance expectedGeoDistance = GeoDistance.ofKilometers(start, target);
+        String geoDistanceJson = objectMapper.writeValueAsString(expectedGeoDistance);
+        String bearingAndDistanceJson = "{\"distance\":{\"value\":100,\"unit\":\"km\"},\"trueBearing\":90," +
+                "\"startCoordinate\":{\"name\":\"start\",\"longitude\":\"20°W\",\"latitude\":{\"value\":20}}}";
+        String targetWithUnitJson = "{\"unit\":\"mi\",\"startCoordinate\":{\"latitude\":20,\"longitude\":-20}," +
+                "\"extra\":[1,{\"a\":2}],\"targetCoordinate\":{\"latitude\":40,\"longitude\":60}}";
+
+        // When
+        GeoDistance actualGeoDistance = objectMapper.readValue(geoDistanceJson, GeoDistance.class);
+        GeoDistance actualBearingAndDistance = objectMapper.readValue(bearingAndDistanceJson, GeoDistance.class);
+        GeoDistance actualTargetWithUnit = objectMapper.readValue(targetWithUnitJson, GeoDistance.class);
+        GeoDistance[] actualGeoDistances = objectMapper.readValue("[" + geoDistanceJson + "," + geoDistanceJson + "]", GeoDistance[].class);
+
+        // Then
+        assertThat(actualGeoDistance.getStartCoordinate()).isEqualTo(start);
+        assertThat(actualGeoDistance.getTargetCoordinate()).isEqualTo(target);
+        assertThat(actualGeoDistance.getDistance()).isEqualTo(expectedGeoDistance.getDistance());
+        assertThat(actualGeoDistances).hasSize(2);
+        assertThat(actualGeoDistances[1].getStartCoordinate()).isEqualTo(start);
+        assertThat(actualBearingAndDistance.getStartCoordinate()).isEqualTo(start);
+        assertThat(actualBearingAndDistance.getBearing()).isEqualTo(Bearing.of(90));
+        assertThat(actualBearingAndDistance.getDistance()).isEqualTo(Distance.ofKilometers(100));
+        assertThat(actualTargetWithUnit.getDistance().getUnit()).isEqualTo(DistanceUnits.MILE);
+        assertThatThrownBy(() -> objectMapper.readValue("{\"latitude\":20,\"longitude\":20,\"other\":1}", GeoCoordinate.class))
+                .isInstanceOf(UnrecognizedPropertyException.class);
+        assertThatThrownBy(() -> objectMapper.readValue("{\"trueBearing\":90}", GeoDistance.class))
+                .hasMessageContaining("Missing field: startCoordinate");
+    }
+
+    @Test
+    void deserialize_shouldDeserializeQuantityCollectionFromColumnarFormat() throws JsonProcessingException {
+        // Given
+        PhysicalQuantityParsingFactory parsingFactory = PhysicalQuantityParsingFactory.getDefaultParsingFactory();
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new PhysicalQuantityJacksonModule(parsingFactory, QuantityCollectionFormat.COLUMNAR));
+        TypeReference<List<Temperature>> temperatureListType = new TypeReference<>() {};
+
+        List<Temperature> expectedTemperatures = List.of(Temperature.ofCelsius(20), Temperature.ofKelvins(294.65), Temperature.ofCelsius(-5));
+        String columnarJson = objectMapper.writerFor(temperatureListType).writeValueAsString(expectedTemperatures);
+        String valuesFirstJson = "{\"values\":[1,2.5],\"extra\":{\"a\":1},\"unit\":\"K\"}";
+        String perElementJson = "[{\"value\":20.0,\"unit\":\"°C\"},\"21.5°C\"]";
+
+        // When
+        List<Temperature> actualTemperatures = objectMapper.readValue(columnarJson, temperatureListType);
+        Set<Temperature> actualValuesFirst = objectMapper.readValue(valuesFirstJson, new TypeReference<>() {});
+        List<Temperature> actualPerElement = objectMapper.readValue(perElementJson, temperatureListType);
+        List<Temperature> actualWithoutUnit = objectMapper.readValue("{\"values\":[273.15]}", temperatureListType);
+        List<Temperature> actualEmpty = objectMapper.readValue("{\"unit\":\"°C\",\"values\":[]}", temperatureListType);
+
+        // Then
+        assertThat(actualTemperatures).hasSize(3);
+        for (int i = 0; i < expectedTemperatures.size(); i++) {
+            assertThat(actualTemperatures.get(i).getUnit()).isEqualTo(TemperatureUnits.CELSIUS);
+            assertThat(actualTemperatures.get(i).isEqualWithPrecision(expectedTemperatures.get(i), 1E-10)).isTrue();
+        }
+        assertThat(actualValuesFirst).containsExactlyInAnyOrder(Temperature.ofKelvins(1), Temperature.ofKelvins(2.5));
+        assertThat(actualPerElement).containsExactly(Temperature.ofCelsius(20), Temperature.ofCelsius(21.5));
+        assertThat(actualWithoutUnit).containsExactly(Temperature.ofKelvins(273.15));
+        assertThat(actualEmpty).isEmpty();
+        assertThatThrownBy(() -> objectMapper.readValue("{\"unit\":\"°C\"}", temperatureListType))
+                .hasMessageContaining("Field not found: values");
+        assertThatThrownBy(() -> objectMapper.readValue("{\"values\":[\"1\"]}", temperatureListType))
+                .hasMessageContaining("Unsupported value in values");
+    }
+
+    @Test
+    void deserialize_shouldResolveQuantityDeserializersOnDemand() throws JsonProcessingException {
+        // Given
+        PhysicalQuantityParsingFactory parsingFactory = PhysicalQuantityParsingFactory.getDefaultParsingFactory();
+        PhysicalQuantityDeserializers quantityDeserializers = new PhysicalQuantityDeserializers(parsingFactory, PhysicalQuantityDeserializer::new);
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new PhysicalQuantityJacksonModule(parsingFactory));
+        TypeFactory typeFactory = objectMapper.getTypeFactory();
+
+        // When
+        JsonDeserializer<?> firstDeserializer = quantityDeserializers.findBeanDeserializer(
+                typeFactory.constructType(Temperature.class), objectMapper.getDeserializationConfig(), null);
+        JsonDeserializer<?> secondDeserializer = quantityDeserializers.findBeanDeserializer(
+                typeFactory.constructType(Temperature.class), objectMapper.getDeserializationConfig(), null);
+        JsonDeserializer<?> otherDeserializer = quantityDeserializers.findBeanDeserializer(
+                typeFactory.constructType(String.class), objectMapper.getDeserializationConfig(), null);
+        Temperature actualTemperature = objectMapper.readValue("{\"value\":20,\"unit\":\"°C\"}", Temperature.class);
+        ThermalConductivity actualConductivity = objectMapper.readValue("0.5", ThermalConductivity.class);
+
+        // Then
+        assertThat(firstDeserializer).isInstanceOf(PhysicalQuantityDeserializer.class).isSameAs(secondDeserializer);
+        assertThat(otherDeserializer).isNull();
+        assertThat(actualTemperature).isEqualTo(Temperature.ofCelsius(20));
+        assertThat(actualConductivity).isEqualTo(ThermalConductivity.ofWattsPerMeterKelvin(0.5));
+    }
+
+}
@@ -1,9 +1,17 @@
 package com.synerset.unitility.jackson.serialization;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.synerset.unitility.jackson.module.PhysicalQuantityJacksonModule;
 import com.synerset.unitility.jackson.module.PhysicalQuantityJacksonModulePlainSIValue;
+import com.synerset.unitility.jackson.module.QuantityCollectionFormat;
+import com.synerset.unitility.unitsystem.dimensionless.BypassFactor;
+import com.synerset.unitility.unitsystem.dimensionless.BypassFactorUnits;
+import com.synerset.unitility.unitsystem.flow.VolumetricFlow;
+import com.synerset.unitility.unitsystem.flow.VolumetricFlowUnits;
 import com.synerset.unitility.unitsystem.geographic.GeoCoordinate;
 import com.synerset.unitility.unitsystem.geographic.GeoDistance;
 import com.synerset.unitility.unitsystem.geographic.Latitude;
@@ -12,6 +20,8 @@ import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
 import com.synerset.unitility.unitsystem.util.PhysicalQuantityParsingFactory;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class PhysicalQuantityJacksonSerializerTest {
@@ -98,4 +108,80 @@ class PhysicalQuantityJacksonSerializerTest {
         assertThat(geoCoordinateAsString).isEqualTo(expectedJsonGeoDistance);
     }
 
-}
\ No newline at end of file
+    @Test
+    void serialize_shouldSerializeQuantityCollectionInColumnarFormat() throws JsonProcessingException {
+        // Given
+        List<Temperature> temperatures = List.of(Temperature.ofCelsius(20), Temperature.ofKelvins(294.65), Temperature.ofCelsius(-5));
+        List<Temperature> emptyTemperatures = List.of();
+
+        PhysicalQuantityParsingFactory defaultParsingFactory = PhysicalQuantityParsingFactory.getDefaultParsingFactory();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new PhysicalQuantityJacksonModule(defaultParsingFactory, QuantityCollectionFormat.COLUMNAR));
+        ObjectWriter temperatureListWriter = objectMapper.writerFor(new TypeReference<List<Temperature>>() {});
+
+        // When
+        String temperaturesAsJson = temperatureListWriter.writeValueAsString(temperatures);
+        String emptyTemperaturesAsJson = temperatureListWriter.writeValueAsString(emptyTemperatures);
+        String singleTemperatureAsJson = objectMapper.writeValueAsString(temperatures.get(0));
+
+        // Then
+        assertThat(temperaturesAsJson).isEqualTo("{\"unit\":\"°C\",\"values\":[20.0,21.5,-5.0]}");
+        assertThat(emptyTemperaturesAsJson).isEqualTo("[]");
+        assertThat(singleTemperatureAsJson).isEqualTo("{\"value\":20.0,\"unit\":\"°C\"}");
+    }
+
+    @Test
+    void serialize_shouldSerializeRootCollectionPerElement_whenElementTypeIsUnknown() throws JsonProcessingException {
+        // Given
+        List<Temperature> temperatures = List.of(Temperature.ofCelsius(20), Temperature.ofCelsius(21.5));
+        TemperatureSeries temperatureSeries = new TemperatureSeries(temperatures);
+
+        PhysicalQuantityParsingFactory defaultParsingFactory = PhysicalQuantityParsingFactory.getDefaultParsingFactory();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new PhysicalQuantityJacksonModule(defaultParsingFactory, QuantityCollectionFormat.COLUMNAR));
+
+        // When
+        String rootTemperaturesAsJson = objectMapper.writeValueAsString(temperatures);
+        String temperatureSeriesAsJson = objectMapper.writeValueAsString(temperatureSeries);
+
+        // Then
+        assertThat(rootTemperaturesAsJson).isEqualTo("[{\"value\":20.0,\"unit\":\"°C\"},{\"value\":21.5,\"unit\":\"°C\"}]");
+        assertThat(temperatureSeriesAsJson).isEqualTo("{\"temperatures\":{\"unit\":\"°C\",\"values\":[20.0,21.5]}}");
+    }
+
+    @Test
+    void serialize_shouldSerializeQuantitiesWithPreEncodedUnitSymbols() throws JsonProcessingException {
+        // Given
+        VolumetricFlow volumetricFlow = VolumetricFlow.ofCubicMetersPerHour(12.5);
+        BypassFactor bypassFactor = BypassFactor.of(0.5);
+
+        PhysicalQuantityParsingFactory defaultParsingFactory = PhysicalQuantityParsingFactory.getDefaultParsingFactory();
+        UnitSymbolTable unitSymbolTable = UnitSymbolTable.cached();
+        int initialSize = unitSymbolTable.size();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new PhysicalQuantityJacksonModule(defaultParsingFactory));
+
+        // When
+        String volumetricFlowAsJson = objectMapper.writeValueAsString(volumetricFlow);
+        String bypassFactorAsJson = objectMapper.writeValueAsString(bypassFactor);
+        SerializableString encodedSymbol = unitSymbolTable.findEncodedSymbol(VolumetricFlowUnits.CUBIC_METERS_PER_HOUR);
+
+        // Then
+        assertThat(volumetricFlowAsJson).isEqualTo("{\"value\":12.5,\"unit\":\"m³/h\"}");
+        assertThat(bypassFactorAsJson).isEqualTo("{\"value\":0.5}");
+        assertThat(initialSize).isZero();
+        assertThat(unitSymbolTable.size()).isEqualTo(VolumetricFlowUnits.values().length);
+        assertThat(encodedSymbol.getValue()).isEqualTo("m³/h");
+        assertThat(unitSymbolTable.findEncodedSymbol(VolumetricFlowUnits.CUBIC_METERS_PER_HOUR)).isSameAs(encodedSymbol);
+        assertThat(unitSymbolTable.findEncodedSymbol(BypassFactorUnits.DIMENSIONLESS)).isNull();
+        assertThat(UnitSymbolTable.empty().findEncodedSymbol(VolumetricFlowUnits.CUBIC_METERS_PER_HOUR).getValue())
+                .isEqualTo("m³/h");
+    }
+
+    record TemperatureSeries(List<Temperature> temperatures) {
+    }
+
+}